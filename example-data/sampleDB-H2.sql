@@ -5,7 +5,16 @@ DROP ALL OBJECTS;
 SET DB_CLOSE_DELAY -1;
 ;
 CREATE USER IF NOT EXISTS "SA" SALT 'a49186356ece10dc' HASH '8cbd15963e3d59df9c610d489168f66a1c065dfb6c999b6b33e12e84b9d6ab9d' ADMIN;
-CREATE SEQUENCE "PUBLIC"."HIBERNATE_SEQUENCE" START WITH 526;
+CREATE SEQUENCE "PUBLIC"."AREA_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."BALLOT_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."COMMENT_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."DELEGATION_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."KEY_VALUE_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."LAW_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."ONE_TIME_TOKEN_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."POLL_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."TEAM_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE "PUBLIC"."USER_MODEL_SEQ" START WITH 1000 INCREMENT BY 50;
 CREATE MEMORY TABLE "PUBLIC"."AREAS"(
 "ID" BIGINT NOT NULL,
 "CREATED_AT" TIMESTAMP NOT NULL,
@@ -1126,272 +1135,242 @@ CREATE MEMORY TABLE "PUBLIC"."LAWS"(
 "TITLE" VARCHAR(255) NOT NULL,
 "AREA_ID" BIGINT NOT NULL,
 "CREATED_BY_ID" BIGINT,
-"POLL_ID" BIGINT
+"POLL_ID" BIGINT,
+"NUM_COMMENTS" INTEGER DEFAULT 0 NOT NULL,
+"NUM_SUPPORTERS" INTEGER DEFAULT 0 NOT NULL
 );
 ALTER TABLE "PUBLIC"."LAWS" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_23" PRIMARY KEY("ID");
 -- 208 +/- SELECT COUNT(*) FROM PUBLIC.LAWS;
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(135, TIMESTAMP '2023-02-12 11:37:28.128', TIMESTAMP '2023-02-12 11:37:28.128', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', 'map-marked', NULL, 2, 'Proposal 0 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(136, TIMESTAMP '2023-02-12 11:37:28.135', TIMESTAMP '2023-02-12 11:37:28.135', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis au', 'mail-bulk', NULL, 2, 'Proposal 1 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(137, TIMESTAMP '2023-02-12 11:37:28.141', TIMESTAMP '2023-02-12 11:37:28.141', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliq', 'magnet', NULL, 2, 'Proposal 2 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(138, TIMESTAMP '2023-02-12 11:37:28.146', TIMESTAMP '2023-02-12 11:37:28.146', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commo', 'male', NULL, 2, 'Proposal 3 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(139, TIMESTAMP '2023-02-12 11:37:28.151', TIMESTAMP '2023-02-12 11:37:28.151', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore mag', 'magic', NULL, 2, 'Proposal 4 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(140, TIMESTAMP '2023-02-12 11:37:28.157', TIMESTAMP '2023-02-12 11:37:28.157', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dol', 'chair', NULL, 2, 'Proposal 5 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134),
-(142, TIMESTAMP '2023-02-12 11:37:28.168', TIMESTAMP '2023-02-12 11:37:28.168', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim', 'tag', NULL, 2, 'Proposal 0 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141),
-(143, TIMESTAMP '2023-02-12 11:37:28.173', TIMESTAMP '2023-02-12 11:37:28.173', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', 'tape', NULL, 2, 'Proposal 1 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141),
-(144, TIMESTAMP '2023-02-12 11:37:28.177', TIMESTAMP '2023-02-12 11:37:28.177', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis ', 'chalkboard', NULL, 2, 'Proposal 2 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141),
-(146, TIMESTAMP '2023-02-12 11:37:28.185', TIMESTAMP '2023-02-12 11:37:28.185', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'temperature-high', NULL, 2, 'Proposal 0 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145),
-(147, TIMESTAMP '2023-02-12 11:37:28.189', TIMESTAMP '2023-02-12 11:37:28.189', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', 'chair', NULL, 2, 'Proposal 1 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145);
+(135, TIMESTAMP '2023-02-12 11:37:28.128', TIMESTAMP '2023-02-12 11:37:28.128', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', 'map-marked', NULL, 2, 'Proposal 0 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(136, TIMESTAMP '2023-02-12 11:37:28.135', TIMESTAMP '2023-02-12 11:37:28.135', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis au', 'mail-bulk', NULL, 2, 'Proposal 1 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(137, TIMESTAMP '2023-02-12 11:37:28.141', TIMESTAMP '2023-02-12 11:37:28.141', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliq', 'magnet', NULL, 2, 'Proposal 2 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(138, TIMESTAMP '2023-02-12 11:37:28.146', TIMESTAMP '2023-02-12 11:37:28.146', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commo', 'male', NULL, 2, 'Proposal 3 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(139, TIMESTAMP '2023-02-12 11:37:28.151', TIMESTAMP '2023-02-12 11:37:28.151', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore mag', 'magic', NULL, 2, 'Proposal 4 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(140, TIMESTAMP '2023-02-12 11:37:28.157', TIMESTAMP '2023-02-12 11:37:28.157', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dol', 'chair', NULL, 2, 'Proposal 5 in Poll ''First poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 134, 0, 0),
+(142, TIMESTAMP '2023-02-12 11:37:28.168', TIMESTAMP '2023-02-12 11:37:28.168', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim', 'tag', NULL, 2, 'Proposal 0 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141, 0, 0),
+(143, TIMESTAMP '2023-02-12 11:37:28.173', TIMESTAMP '2023-02-12 11:37:28.173', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', 'tape', NULL, 2, 'Proposal 1 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141, 0, 0),
+(144, TIMESTAMP '2023-02-12 11:37:28.177', TIMESTAMP '2023-02-12 11:37:28.177', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis ', 'chalkboard', NULL, 2, 'Proposal 2 in Poll ''Second poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 141, 0, 0),
+(146, TIMESTAMP '2023-02-12 11:37:28.185', TIMESTAMP '2023-02-12 11:37:28.185', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'temperature-high', NULL, 2, 'Proposal 0 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145, 0, 0),
+(147, TIMESTAMP '2023-02-12 11:37:28.189', TIMESTAMP '2023-02-12 11:37:28.189', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', 'chair', NULL, 2, 'Proposal 1 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(148, TIMESTAMP '2023-02-12 11:37:28.193', TIMESTAMP '2023-02-12 11:37:28.193', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in r', 'teeth', NULL, 2, 'Proposal 2 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145),
-(150, TIMESTAMP '2023-02-12 11:37:28.202', TIMESTAMP '2023-02-12 11:37:28.202', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo con', 'chalkboard', NULL, 2, 'Proposal 0 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149),
-(151, TIMESTAMP '2023-02-12 11:37:28.206', TIMESTAMP '2023-02-12 11:37:28.206', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', 'chart-area', NULL, 2, 'Proposal 1 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149),
-(152, TIMESTAMP '2023-02-12 11:37:28.21', TIMESTAMP '2023-02-12 11:37:28.21', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullam', 'map-marked', NULL, 2, 'Proposal 2 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149),
-(154, TIMESTAMP '2023-02-12 11:37:28.217', TIMESTAMP '2023-02-12 11:37:28.242', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi', 'teeth', NULL, 3, 'Proposal 0 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153),
-(155, TIMESTAMP '2023-02-12 11:37:28.221', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolor', 'teeth', NULL, 3, 'Proposal 1 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153),
-(156, TIMESTAMP '2023-02-12 11:37:28.225', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et d', 'teeth', NULL, 3, 'Proposal 2 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153),
-(157, TIMESTAMP '2023-02-12 11:37:28.23', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliq', 'tasks', NULL, 3, 'Proposal 3 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153),
-(158, TIMESTAMP '2023-02-12 11:37:28.234', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, qu', 'tasks', NULL, 3, 'Proposal 4 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153),
-(164, TIMESTAMP '2023-02-11 11:37:29.405896', TIMESTAMP '2023-02-12 11:37:29.406183', 'RPMkQnG6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, ', NULL, NULL, 0, 'Idea 0 title from TestFixtures', 101, 92, NULL),
-(165, TIMESTAMP '2023-02-10 11:37:29.407484', TIMESTAMP '2023-02-11 11:37:29.407703', 'rf4SkY7T Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in ', NULL, NULL, 0, 'Idea 1 that suggest that we definitely need a longer title for ideas', 101, 92, NULL);
+(148, TIMESTAMP '2023-02-12 11:37:28.193', TIMESTAMP '2023-02-12 11:37:28.193', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in r', 'teeth', NULL, 2, 'Proposal 2 in Poll ''And a third very nice poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 145, 0, 0),
+(150, TIMESTAMP '2023-02-12 11:37:28.202', TIMESTAMP '2023-02-12 11:37:28.202', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo con', 'chalkboard', NULL, 2, 'Proposal 0 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149, 0, 0),
+(151, TIMESTAMP '2023-02-12 11:37:28.206', TIMESTAMP '2023-02-12 11:37:28.206', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', 'chart-area', NULL, 2, 'Proposal 1 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149, 0, 0),
+(152, TIMESTAMP '2023-02-12 11:37:28.21', TIMESTAMP '2023-02-12 11:37:28.21', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullam', 'map-marked', NULL, 2, 'Proposal 2 in Poll ''Fourth important poll in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 149, 0, 0),
+(154, TIMESTAMP '2023-02-12 11:37:28.217', TIMESTAMP '2023-02-12 11:37:28.242', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi', 'teeth', NULL, 3, 'Proposal 0 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153, 0, 0),
+(155, TIMESTAMP '2023-02-12 11:37:28.221', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolor', 'teeth', NULL, 3, 'Proposal 1 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153, 0, 0),
+(156, TIMESTAMP '2023-02-12 11:37:28.225', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et d', 'teeth', NULL, 3, 'Proposal 2 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153, 0, 0),
+(157, TIMESTAMP '2023-02-12 11:37:28.23', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliq', 'tasks', NULL, 3, 'Proposal 3 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153, 0, 0),
+(158, TIMESTAMP '2023-02-12 11:37:28.234', TIMESTAMP '2023-02-12 11:37:28.243', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, qu', 'tasks', NULL, 3, 'Proposal 4 in Poll ''Poll in Voting in test_TeamXCCv33D'' in Team test_TeamXCCv33D', 101, 1, 153, 0, 0),
+(164, TIMESTAMP '2023-02-11 11:37:29.405896', TIMESTAMP '2023-02-12 11:37:29.406183', 'RPMkQnG6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, ', NULL, NULL, 0, 'Idea 0 title from TestFixtures', 101, 92, NULL, 0, 0),
+(165, TIMESTAMP '2023-02-10 11:37:29.407484', TIMESTAMP '2023-02-11 11:37:29.407703', 'rf4SkY7T Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in ', NULL, NULL, 0, 'Idea 1 that suggest that we definitely need a longer title for ideas', 101, 92, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(166, TIMESTAMP '2023-02-09 11:37:29.408557', TIMESTAMP '2023-02-10 11:37:29.408882', 'zeBPWxAz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mini', NULL, NULL, 0, 'Idea 2 that suggest that we definitely need a longer title for ideas', 101, 97, NULL),
-(167, TIMESTAMP '2023-02-08 11:37:29.40993', TIMESTAMP '2023-02-09 11:37:29.410092', '0MDxU2wN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', NULL, NULL, 0, 'Idea 3 that suggest that we definitely need a longer title for ideas', 101, 62, NULL),
-(168, TIMESTAMP '2023-02-07 11:37:29.411189', TIMESTAMP '2023-02-08 11:37:29.411351', 'HcXv0MhV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla', NULL, NULL, 0, 'Idea 4 that suggest that we definitely need a longer title for ideas', 101, 43, NULL),
-(169, TIMESTAMP '2023-02-06 11:37:29.41254', TIMESTAMP '2023-02-07 11:37:29.412705', 'tXGy58gg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', NULL, NULL, 0, 'Idea 5 that suggest that we definitely need a longer title for ideas', 101, 38, NULL),
-(170, TIMESTAMP '2023-02-05 11:37:29.413496', TIMESTAMP '2023-02-06 11:37:29.413628', '3TSpW87t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptat', NULL, NULL, 0, 'Idea 6 that suggest that we definitely need a longer title for ideas', 101, 35, NULL),
-(171, TIMESTAMP '2023-02-04 11:37:29.41443', TIMESTAMP '2023-02-05 11:37:29.41457', 'gmSY3sK6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamc', NULL, NULL, 0, 'Idea 7 that suggest that we definitely need a longer title for ideas', 101, 83, NULL),
-(172, TIMESTAMP '2023-02-03 11:37:29.415405', TIMESTAMP '2023-02-04 11:37:29.415528', '26LMdzzK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim v', NULL, NULL, 0, 'Idea 8 that suggest that we definitely need a longer title for ideas', 101, 38, NULL),
-(173, TIMESTAMP '2023-02-02 11:37:29.416224', TIMESTAMP '2023-02-03 11:37:29.416351', 'ZfHmqwmP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim venia', NULL, NULL, 0, 'Idea 9 that suggest that we definitely need a longer title for ideas', 101, 68, NULL),
-(174, TIMESTAMP '2023-02-01 11:37:29.41703', TIMESTAMP '2023-02-02 11:37:29.417243', 'UrGnRysf Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris n', NULL, NULL, 0, 'Idea 10 that suggest that we definitely need a longer title for ideas', 101, 5, NULL),
-(175, TIMESTAMP '2023-01-31 11:37:29.418066', TIMESTAMP '2023-02-01 11:37:29.41821', 'v9TWGVQD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ul', NULL, NULL, 0, 'Idea 11 that suggest that we definitely need a longer title for ideas', 101, 1, NULL);
+(166, TIMESTAMP '2023-02-09 11:37:29.408557', TIMESTAMP '2023-02-10 11:37:29.408882', 'zeBPWxAz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mini', NULL, NULL, 0, 'Idea 2 that suggest that we definitely need a longer title for ideas', 101, 97, NULL, 0, 0),
+(167, TIMESTAMP '2023-02-08 11:37:29.40993', TIMESTAMP '2023-02-09 11:37:29.410092', '0MDxU2wN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', NULL, NULL, 0, 'Idea 3 that suggest that we definitely need a longer title for ideas', 101, 62, NULL, 0, 0),
+(168, TIMESTAMP '2023-02-07 11:37:29.411189', TIMESTAMP '2023-02-08 11:37:29.411351', 'HcXv0MhV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla', NULL, NULL, 0, 'Idea 4 that suggest that we definitely need a longer title for ideas', 101, 43, NULL, 0, 0),
+(169, TIMESTAMP '2023-02-06 11:37:29.41254', TIMESTAMP '2023-02-07 11:37:29.412705', 'tXGy58gg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', NULL, NULL, 0, 'Idea 5 that suggest that we definitely need a longer title for ideas', 101, 38, NULL, 0, 0),
+(170, TIMESTAMP '2023-02-05 11:37:29.413496', TIMESTAMP '2023-02-06 11:37:29.413628', '3TSpW87t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptat', NULL, NULL, 0, 'Idea 6 that suggest that we definitely need a longer title for ideas', 101, 35, NULL, 0, 0),
+(171, TIMESTAMP '2023-02-04 11:37:29.41443', TIMESTAMP '2023-02-05 11:37:29.41457', 'gmSY3sK6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamc', NULL, NULL, 0, 'Idea 7 that suggest that we definitely need a longer title for ideas', 101, 83, NULL, 0, 0),
+(172, TIMESTAMP '2023-02-03 11:37:29.415405', TIMESTAMP '2023-02-04 11:37:29.415528', '26LMdzzK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim v', NULL, NULL, 0, 'Idea 8 that suggest that we definitely need a longer title for ideas', 101, 38, NULL, 0, 0),
+(173, TIMESTAMP '2023-02-02 11:37:29.416224', TIMESTAMP '2023-02-03 11:37:29.416351', 'ZfHmqwmP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim venia', NULL, NULL, 0, 'Idea 9 that suggest that we definitely need a longer title for ideas', 101, 68, NULL, 0, 0),
+(174, TIMESTAMP '2023-02-01 11:37:29.41703', TIMESTAMP '2023-02-02 11:37:29.417243', 'UrGnRysf Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris n', NULL, NULL, 0, 'Idea 10 that suggest that we definitely need a longer title for ideas', 101, 5, NULL, 0, 0),
+(175, TIMESTAMP '2023-01-31 11:37:29.418066', TIMESTAMP '2023-02-01 11:37:29.41821', 'v9TWGVQD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ul', NULL, NULL, 0, 'Idea 11 that suggest that we definitely need a longer title for ideas', 101, 1, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(176, TIMESTAMP '2023-01-30 11:37:29.419075', TIMESTAMP '2023-01-31 11:37:29.419229', 'AuBb0VbK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ', NULL, NULL, 0, 'Idea 12 that suggest that we definitely need a longer title for ideas', 101, 18, NULL),
-(177, TIMESTAMP '2023-01-29 11:37:29.420181', TIMESTAMP '2023-01-30 11:37:29.420328', 'vncfrh9V Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cil', NULL, NULL, 0, 'Idea 13 that suggest that we definitely need a longer title for ideas', 101, 75, NULL),
-(178, TIMESTAMP '2023-01-28 11:37:29.421293', TIMESTAMP '2023-01-29 11:37:29.421457', 'dtG64wKD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco labori', NULL, NULL, 0, 'Idea 14 that suggest that we definitely need a longer title for ideas', 101, 59, NULL),
-(179, TIMESTAMP '2023-01-27 11:37:29.422455', TIMESTAMP '2023-01-28 11:37:29.4226', 'DzcRGvHa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute', NULL, NULL, 0, 'Idea 15 that suggest that we definitely need a longer title for ideas', 101, 9, NULL),
-(180, TIMESTAMP '2023-01-26 11:37:29.423353', TIMESTAMP '2023-01-27 11:37:29.423478', 'bLhZDgGN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua', NULL, NULL, 0, 'Idea 16 that suggest that we definitely need a longer title for ideas', 101, 44, NULL),
-(181, TIMESTAMP '2023-01-25 11:37:29.424088', TIMESTAMP '2023-01-26 11:37:29.424213', 'vA9gLXpz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo conseq', NULL, NULL, 0, 'Idea 17 that suggest that we definitely need a longer title for ideas', 101, 27, NULL),
-(182, TIMESTAMP '2023-01-24 11:37:29.424856', TIMESTAMP '2023-01-25 11:37:29.424982', 'e7su9CL4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip e', NULL, NULL, 0, 'Idea 18 that suggest that we definitely need a longer title for ideas', 101, 15, NULL),
-(183, TIMESTAMP '2023-01-23 11:37:29.425657', TIMESTAMP '2023-01-24 11:37:29.425781', '6SL3pycx Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dol', NULL, NULL, 0, 'Idea 19 that suggest that we definitely need a longer title for ideas', 101, 60, NULL),
-(184, TIMESTAMP '2023-01-22 11:37:29.426634', TIMESTAMP '2023-01-23 11:37:29.426791', 'BcrARBBp Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat', NULL, NULL, 0, 'Idea 20 that suggest that we definitely need a longer title for ideas', 101, 72, NULL),
-(185, TIMESTAMP '2023-01-21 11:37:29.427568', TIMESTAMP '2023-01-22 11:37:29.427697', 'aWtwyd9A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in re', NULL, NULL, 0, 'Idea 21 that suggest that we definitely need a longer title for ideas', 101, 100, NULL);
+(176, TIMESTAMP '2023-01-30 11:37:29.419075', TIMESTAMP '2023-01-31 11:37:29.419229', 'AuBb0VbK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ', NULL, NULL, 0, 'Idea 12 that suggest that we definitely need a longer title for ideas', 101, 18, NULL, 0, 0),
+(177, TIMESTAMP '2023-01-29 11:37:29.420181', TIMESTAMP '2023-01-30 11:37:29.420328', 'vncfrh9V Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cil', NULL, NULL, 0, 'Idea 13 that suggest that we definitely need a longer title for ideas', 101, 75, NULL, 0, 0),
+(178, TIMESTAMP '2023-01-28 11:37:29.421293', TIMESTAMP '2023-01-29 11:37:29.421457', 'dtG64wKD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco labori', NULL, NULL, 0, 'Idea 14 that suggest that we definitely need a longer title for ideas', 101, 59, NULL, 0, 0),
+(179, TIMESTAMP '2023-01-27 11:37:29.422455', TIMESTAMP '2023-01-28 11:37:29.4226', 'DzcRGvHa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute', NULL, NULL, 0, 'Idea 15 that suggest that we definitely need a longer title for ideas', 101, 9, NULL, 0, 0),
+(180, TIMESTAMP '2023-01-26 11:37:29.423353', TIMESTAMP '2023-01-27 11:37:29.423478', 'bLhZDgGN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua', NULL, NULL, 0, 'Idea 16 that suggest that we definitely need a longer title for ideas', 101, 44, NULL, 0, 0),
+(181, TIMESTAMP '2023-01-25 11:37:29.424088', TIMESTAMP '2023-01-26 11:37:29.424213', 'vA9gLXpz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo conseq', NULL, NULL, 0, 'Idea 17 that suggest that we definitely need a longer title for ideas', 101, 27, NULL, 0, 0),
+(182, TIMESTAMP '2023-01-24 11:37:29.424856', TIMESTAMP '2023-01-25 11:37:29.424982', 'e7su9CL4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip e', NULL, NULL, 0, 'Idea 18 that suggest that we definitely need a longer title for ideas', 101, 15, NULL, 0, 0),
+(183, TIMESTAMP '2023-01-23 11:37:29.425657', TIMESTAMP '2023-01-24 11:37:29.425781', '6SL3pycx Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dol', NULL, NULL, 0, 'Idea 19 that suggest that we definitely need a longer title for ideas', 101, 60, NULL, 0, 0),
+(184, TIMESTAMP '2023-01-22 11:37:29.426634', TIMESTAMP '2023-01-23 11:37:29.426791', 'BcrARBBp Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat', NULL, NULL, 0, 'Idea 20 that suggest that we definitely need a longer title for ideas', 101, 72, NULL, 0, 0),
+(185, TIMESTAMP '2023-01-21 11:37:29.427568', TIMESTAMP '2023-01-22 11:37:29.427697', 'aWtwyd9A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in re', NULL, NULL, 0, 'Idea 21 that suggest that we definitely need a longer title for ideas', 101, 100, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(186, TIMESTAMP '2023-01-20 11:37:29.428673', TIMESTAMP '2023-01-21 11:37:29.428813', 'adrtBTVw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fug', NULL, NULL, 0, 'Idea 22 that suggest that we definitely need a longer title for ideas', 101, 88, NULL),
-(187, TIMESTAMP '2023-01-19 11:37:29.429593', TIMESTAMP '2023-01-20 11:37:29.429737', '3UuHu85s Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute iru', NULL, NULL, 0, 'Idea 23 that suggest that we definitely need a longer title for ideas', 101, 27, NULL),
-(188, TIMESTAMP '2023-01-18 11:37:29.43052', TIMESTAMP '2023-01-19 11:37:29.430665', 'A5ZPD9pA Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehender', NULL, NULL, 0, 'Idea 24 that suggest that we definitely need a longer title for ideas', 101, 9, NULL),
-(189, TIMESTAMP '2023-01-17 11:37:29.431505', TIMESTAMP '2023-01-18 11:37:29.43165', 'L9AXpTR0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non pro', NULL, NULL, 0, 'Idea 25 that suggest that we definitely need a longer title for ideas', 101, 26, NULL),
-(190, TIMESTAMP '2023-01-16 11:37:29.43243', TIMESTAMP '2023-01-17 11:37:29.432588', 'CyRAu3d0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis a', NULL, NULL, 0, 'Idea 26 that suggest that we definitely need a longer title for ideas', 101, 87, NULL),
-(191, TIMESTAMP '2023-01-15 11:37:29.433449', TIMESTAMP '2023-01-16 11:37:29.433612', '89RWMrK4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', NULL, NULL, 0, 'Idea 27 that suggest that we definitely need a longer title for ideas', 101, 96, NULL),
-(192, TIMESTAMP '2023-01-14 11:37:29.434728', TIMESTAMP '2023-01-15 11:37:29.434895', 'BZ8ERUMA Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute', NULL, NULL, 0, 'Idea 28 that suggest that we definitely need a longer title for ideas', 101, 43, NULL),
-(193, TIMESTAMP '2023-01-13 11:37:29.43588', TIMESTAMP '2023-01-14 11:37:29.436024', 'zDmpHwvQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis', NULL, NULL, 0, 'Idea 29 that suggest that we definitely need a longer title for ideas', 101, 14, NULL),
-(194, TIMESTAMP '2023-01-12 11:37:29.436867', TIMESTAMP '2023-01-13 11:37:29.437019', 'NXdSQvmK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupi', NULL, NULL, 0, 'Idea 30 that suggest that we definitely need a longer title for ideas', 101, 81, NULL);
+(186, TIMESTAMP '2023-01-20 11:37:29.428673', TIMESTAMP '2023-01-21 11:37:29.428813', 'adrtBTVw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fug', NULL, NULL, 0, 'Idea 22 that suggest that we definitely need a longer title for ideas', 101, 88, NULL, 0, 0),
+(187, TIMESTAMP '2023-01-19 11:37:29.429593', TIMESTAMP '2023-01-20 11:37:29.429737', '3UuHu85s Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute iru', NULL, NULL, 0, 'Idea 23 that suggest that we definitely need a longer title for ideas', 101, 27, NULL, 0, 0),
+(188, TIMESTAMP '2023-01-18 11:37:29.43052', TIMESTAMP '2023-01-19 11:37:29.430665', 'A5ZPD9pA Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehender', NULL, NULL, 0, 'Idea 24 that suggest that we definitely need a longer title for ideas', 101, 9, NULL, 0, 0),
+(189, TIMESTAMP '2023-01-17 11:37:29.431505', TIMESTAMP '2023-01-18 11:37:29.43165', 'L9AXpTR0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non pro', NULL, NULL, 0, 'Idea 25 that suggest that we definitely need a longer title for ideas', 101, 26, NULL, 0, 0),
+(190, TIMESTAMP '2023-01-16 11:37:29.43243', TIMESTAMP '2023-01-17 11:37:29.432588', 'CyRAu3d0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis a', NULL, NULL, 0, 'Idea 26 that suggest that we definitely need a longer title for ideas', 101, 87, NULL, 0, 0),
+(191, TIMESTAMP '2023-01-15 11:37:29.433449', TIMESTAMP '2023-01-16 11:37:29.433612', '89RWMrK4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ven', NULL, NULL, 0, 'Idea 27 that suggest that we definitely need a longer title for ideas', 101, 96, NULL, 0, 0),
+(192, TIMESTAMP '2023-01-14 11:37:29.434728', TIMESTAMP '2023-01-15 11:37:29.434895', 'BZ8ERUMA Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute', NULL, NULL, 0, 'Idea 28 that suggest that we definitely need a longer title for ideas', 101, 43, NULL, 0, 0),
+(193, TIMESTAMP '2023-01-13 11:37:29.43588', TIMESTAMP '2023-01-14 11:37:29.436024', 'zDmpHwvQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis', NULL, NULL, 0, 'Idea 29 that suggest that we definitely need a longer title for ideas', 101, 14, NULL, 0, 0),
+(194, TIMESTAMP '2023-01-12 11:37:29.436867', TIMESTAMP '2023-01-13 11:37:29.437019', 'NXdSQvmK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupi', NULL, NULL, 0, 'Idea 30 that suggest that we definitely need a longer title for ideas', 101, 81, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(195, TIMESTAMP '2023-01-11 11:37:29.437957', TIMESTAMP '2023-01-12 11:37:29.438111', 'HFX9QVmN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volupta', NULL, NULL, 0, 'Idea 31 that suggest that we definitely need a longer title for ideas', 101, 91, NULL),
-(196, TIMESTAMP '2023-01-10 11:37:29.439288', TIMESTAMP '2023-01-11 11:37:29.439437', 'CCB5DFyn Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et do', NULL, NULL, 0, 'Idea 32 that suggest that we definitely need a longer title for ideas', 101, 61, NULL),
-(197, TIMESTAMP '2023-01-09 11:37:29.440433', TIMESTAMP '2023-01-10 11:37:29.440577', 'HsgUVEan Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. E', NULL, NULL, 0, 'Idea 33 that suggest that we definitely need a longer title for ideas', 101, 58, NULL),
-(198, TIMESTAMP '2023-01-08 11:37:29.44144', TIMESTAMP '2023-01-09 11:37:29.44157', '32dqQv2A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut a', NULL, NULL, 0, 'Idea 34 that suggest that we definitely need a longer title for ideas', 101, 70, NULL),
-(199, TIMESTAMP '2023-01-07 11:37:29.442354', TIMESTAMP '2023-01-08 11:37:29.442482', 'r9aeUB0G Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat', NULL, NULL, 0, 'Idea 35 that suggest that we definitely need a longer title for ideas', 101, 49, NULL),
-(200, TIMESTAMP '2023-01-06 11:37:29.443421', TIMESTAMP '2023-01-07 11:37:29.443567', 'HGrTt9pz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehend', NULL, NULL, 0, 'Idea 36 that suggest that we definitely need a longer title for ideas', 101, 35, NULL),
-(201, TIMESTAMP '2023-01-05 11:37:29.444602', TIMESTAMP '2023-01-06 11:37:29.444756', 'Ha6cucDn Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehender', NULL, NULL, 0, 'Idea 37 that suggest that we definitely need a longer title for ideas', 101, 72, NULL),
-(202, TIMESTAMP '2023-01-04 11:37:29.446112', TIMESTAMP '2023-01-05 11:37:29.446315', 'wXyrfPDp Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea c', NULL, NULL, 0, 'Idea 38 that suggest that we definitely need a longer title for ideas', 101, 63, NULL),
-(203, TIMESTAMP '2023-01-03 11:37:29.447262', TIMESTAMP '2023-01-04 11:37:29.447394', 'S97tenWs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 39 that suggest that we definitely need a longer title for ideas', 101, 100, NULL),
-(204, TIMESTAMP '2023-01-02 11:37:29.448141', TIMESTAMP '2023-01-03 11:37:29.44826', 'ChKKkrv9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', NULL, NULL, 0, 'Idea 40 that suggest that we definitely need a longer title for ideas', 101, 40, NULL);
+(195, TIMESTAMP '2023-01-11 11:37:29.437957', TIMESTAMP '2023-01-12 11:37:29.438111', 'HFX9QVmN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volupta', NULL, NULL, 0, 'Idea 31 that suggest that we definitely need a longer title for ideas', 101, 91, NULL, 0, 0),
+(196, TIMESTAMP '2023-01-10 11:37:29.439288', TIMESTAMP '2023-01-11 11:37:29.439437', 'CCB5DFyn Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et do', NULL, NULL, 0, 'Idea 32 that suggest that we definitely need a longer title for ideas', 101, 61, NULL, 0, 0),
+(197, TIMESTAMP '2023-01-09 11:37:29.440433', TIMESTAMP '2023-01-10 11:37:29.440577', 'HsgUVEan Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. E', NULL, NULL, 0, 'Idea 33 that suggest that we definitely need a longer title for ideas', 101, 58, NULL, 0, 0),
+(198, TIMESTAMP '2023-01-08 11:37:29.44144', TIMESTAMP '2023-01-09 11:37:29.44157', '32dqQv2A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut a', NULL, NULL, 0, 'Idea 34 that suggest that we definitely need a longer title for ideas', 101, 70, NULL, 0, 0),
+(199, TIMESTAMP '2023-01-07 11:37:29.442354', TIMESTAMP '2023-01-08 11:37:29.442482', 'r9aeUB0G Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat', NULL, NULL, 0, 'Idea 35 that suggest that we definitely need a longer title for ideas', 101, 49, NULL, 0, 0),
+(200, TIMESTAMP '2023-01-06 11:37:29.443421', TIMESTAMP '2023-01-07 11:37:29.443567', 'HGrTt9pz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehend', NULL, NULL, 0, 'Idea 36 that suggest that we definitely need a longer title for ideas', 101, 35, NULL, 0, 0),
+(201, TIMESTAMP '2023-01-05 11:37:29.444602', TIMESTAMP '2023-01-06 11:37:29.444756', 'Ha6cucDn Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehender', NULL, NULL, 0, 'Idea 37 that suggest that we definitely need a longer title for ideas', 101, 72, NULL, 0, 0),
+(202, TIMESTAMP '2023-01-04 11:37:29.446112', TIMESTAMP '2023-01-05 11:37:29.446315', 'wXyrfPDp Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea c', NULL, NULL, 0, 'Idea 38 that suggest that we definitely need a longer title for ideas', 101, 63, NULL, 0, 0),
+(203, TIMESTAMP '2023-01-03 11:37:29.447262', TIMESTAMP '2023-01-04 11:37:29.447394', 'S97tenWs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 39 that suggest that we definitely need a longer title for ideas', 101, 100, NULL, 0, 0),
+(204, TIMESTAMP '2023-01-02 11:37:29.448141', TIMESTAMP '2023-01-03 11:37:29.44826', 'ChKKkrv9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', NULL, NULL, 0, 'Idea 40 that suggest that we definitely need a longer title for ideas', 101, 40, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(205, TIMESTAMP '2023-01-01 11:37:29.448923', TIMESTAMP '2023-01-02 11:37:29.449038', 'PD9R37Mv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proid', NULL, NULL, 0, 'Idea 41 that suggest that we definitely need a longer title for ideas', 101, 79, NULL),
-(206, TIMESTAMP '2022-12-31 11:37:29.449774', TIMESTAMP '2023-01-01 11:37:29.449939', '8h5u2xcC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magn', NULL, NULL, 0, 'Idea 42 that suggest that we definitely need a longer title for ideas', 101, 56, NULL),
-(207, TIMESTAMP '2022-12-30 11:37:29.450674', TIMESTAMP '2022-12-31 11:37:29.450798', 'Zk5CGQAd Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', NULL, NULL, 0, 'Idea 43 that suggest that we definitely need a longer title for ideas', 101, 13, NULL),
-(208, TIMESTAMP '2022-12-29 11:37:29.451554', TIMESTAMP '2022-12-30 11:37:29.45168', 'KYydcZ8x Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mi', NULL, NULL, 0, 'Idea 44 that suggest that we definitely need a longer title for ideas', 101, 44, NULL),
-(209, TIMESTAMP '2022-12-28 11:37:29.452445', TIMESTAMP '2022-12-29 11:37:29.452576', 'qc7Bvvws Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitatio', NULL, NULL, 0, 'Idea 45 that suggest that we definitely need a longer title for ideas', 101, 11, NULL),
-(210, TIMESTAMP '2022-12-27 11:37:29.453423', TIMESTAMP '2022-12-28 11:37:29.453573', '3NN2LmCG Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat ', NULL, NULL, 0, 'Idea 46 that suggest that we definitely need a longer title for ideas', 101, 59, NULL),
-(211, TIMESTAMP '2022-12-26 11:37:29.454429', TIMESTAMP '2022-12-27 11:37:29.454549', 'zq2w0y6t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, su', NULL, NULL, 0, 'Idea 47 that suggest that we definitely need a longer title for ideas', 101, 12, NULL),
-(212, TIMESTAMP '2022-12-25 11:37:29.455372', TIMESTAMP '2022-12-26 11:37:29.455496', 'svzXE6Kw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cil', NULL, NULL, 0, 'Idea 48 that suggest that we definitely need a longer title for ideas', 101, 46, NULL),
-(213, TIMESTAMP '2022-12-24 11:37:29.45615', TIMESTAMP '2022-12-25 11:37:29.456262', 'K96CSmuU Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure', NULL, NULL, 0, 'Idea 49 that suggest that we definitely need a longer title for ideas', 101, 61, NULL);
+(205, TIMESTAMP '2023-01-01 11:37:29.448923', TIMESTAMP '2023-01-02 11:37:29.449038', 'PD9R37Mv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proid', NULL, NULL, 0, 'Idea 41 that suggest that we definitely need a longer title for ideas', 101, 79, NULL, 0, 0),
+(206, TIMESTAMP '2022-12-31 11:37:29.449774', TIMESTAMP '2023-01-01 11:37:29.449939', '8h5u2xcC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magn', NULL, NULL, 0, 'Idea 42 that suggest that we definitely need a longer title for ideas', 101, 56, NULL, 0, 0),
+(207, TIMESTAMP '2022-12-30 11:37:29.450674', TIMESTAMP '2022-12-31 11:37:29.450798', 'Zk5CGQAd Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', NULL, NULL, 0, 'Idea 43 that suggest that we definitely need a longer title for ideas', 101, 13, NULL, 0, 0),
+(208, TIMESTAMP '2022-12-29 11:37:29.451554', TIMESTAMP '2022-12-30 11:37:29.45168', 'KYydcZ8x Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mi', NULL, NULL, 0, 'Idea 44 that suggest that we definitely need a longer title for ideas', 101, 44, NULL, 0, 0),
+(209, TIMESTAMP '2022-12-28 11:37:29.452445', TIMESTAMP '2022-12-29 11:37:29.452576', 'qc7Bvvws Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitatio', NULL, NULL, 0, 'Idea 45 that suggest that we definitely need a longer title for ideas', 101, 11, NULL, 0, 0),
+(210, TIMESTAMP '2022-12-27 11:37:29.453423', TIMESTAMP '2022-12-28 11:37:29.453573', '3NN2LmCG Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat ', NULL, NULL, 0, 'Idea 46 that suggest that we definitely need a longer title for ideas', 101, 59, NULL, 0, 0),
+(211, TIMESTAMP '2022-12-26 11:37:29.454429', TIMESTAMP '2022-12-27 11:37:29.454549', 'zq2w0y6t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, su', NULL, NULL, 0, 'Idea 47 that suggest that we definitely need a longer title for ideas', 101, 12, NULL, 0, 0),
+(212, TIMESTAMP '2022-12-25 11:37:29.455372', TIMESTAMP '2022-12-26 11:37:29.455496', 'svzXE6Kw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cil', NULL, NULL, 0, 'Idea 48 that suggest that we definitely need a longer title for ideas', 101, 46, NULL, 0, 0),
+(213, TIMESTAMP '2022-12-24 11:37:29.45615', TIMESTAMP '2022-12-25 11:37:29.456262', 'K96CSmuU Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure', NULL, NULL, 0, 'Idea 49 that suggest that we definitely need a longer title for ideas', 101, 61, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(214, TIMESTAMP '2022-12-23 11:37:29.456879', TIMESTAMP '2022-12-24 11:37:29.456999', 'mZPRBwTa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint', NULL, NULL, 0, 'Idea 50 that suggest that we definitely need a longer title for ideas', 101, 59, NULL),
-(215, TIMESTAMP '2022-12-22 11:37:29.457631', TIMESTAMP '2022-12-23 11:37:29.457748', 'Gg5h6V3H Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', NULL, NULL, 0, 'Idea 51 that suggest that we definitely need a longer title for ideas', 101, 35, NULL),
-(216, TIMESTAMP '2022-12-21 11:37:29.45841', TIMESTAMP '2022-12-22 11:37:29.458522', 'eUDTHuhF Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupid', NULL, NULL, 0, 'Idea 52 that suggest that we definitely need a longer title for ideas', 101, 55, NULL),
-(217, TIMESTAMP '2022-12-20 11:37:29.459226', TIMESTAMP '2022-12-21 11:37:29.459356', 'StxtCm6W Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis no', NULL, NULL, 0, 'Idea 53 that suggest that we definitely need a longer title for ideas', 101, 60, NULL),
-(218, TIMESTAMP '2022-12-19 11:37:29.460089', TIMESTAMP '2022-12-20 11:37:29.460391', 'nMaFt3Ev Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolo', NULL, NULL, 0, 'Idea 54 that suggest that we definitely need a longer title for ideas', 101, 24, NULL),
-(219, TIMESTAMP '2022-12-18 11:37:29.461479', TIMESTAMP '2022-12-19 11:37:29.461646', 'yrVn2F4R Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse', NULL, NULL, 0, 'Idea 55 that suggest that we definitely need a longer title for ideas', 101, 15, NULL),
-(220, TIMESTAMP '2022-12-17 11:37:29.462622', TIMESTAMP '2022-12-18 11:37:29.462726', 'fmxgsN4W Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut ali', NULL, NULL, 0, 'Idea 56 that suggest that we definitely need a longer title for ideas', 101, 97, NULL),
-(221, TIMESTAMP '2022-12-16 11:37:29.463257', TIMESTAMP '2022-12-17 11:37:29.463358', 's6rGAqzV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad m', NULL, NULL, 0, 'Idea 57 that suggest that we definitely need a longer title for ideas', 101, 9, NULL),
-(222, TIMESTAMP '2022-12-15 11:37:29.463872', TIMESTAMP '2022-12-16 11:37:29.463983', 'Sb3g5fSP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non pro', NULL, NULL, 0, 'Idea 58 that suggest that we definitely need a longer title for ideas', 101, 61, NULL);
+(214, TIMESTAMP '2022-12-23 11:37:29.456879', TIMESTAMP '2022-12-24 11:37:29.456999', 'mZPRBwTa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint', NULL, NULL, 0, 'Idea 50 that suggest that we definitely need a longer title for ideas', 101, 59, NULL, 0, 0),
+(215, TIMESTAMP '2022-12-22 11:37:29.457631', TIMESTAMP '2022-12-23 11:37:29.457748', 'Gg5h6V3H Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', NULL, NULL, 0, 'Idea 51 that suggest that we definitely need a longer title for ideas', 101, 35, NULL, 0, 0),
+(216, TIMESTAMP '2022-12-21 11:37:29.45841', TIMESTAMP '2022-12-22 11:37:29.458522', 'eUDTHuhF Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupid', NULL, NULL, 0, 'Idea 52 that suggest that we definitely need a longer title for ideas', 101, 55, NULL, 0, 0),
+(217, TIMESTAMP '2022-12-20 11:37:29.459226', TIMESTAMP '2022-12-21 11:37:29.459356', 'StxtCm6W Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis no', NULL, NULL, 0, 'Idea 53 that suggest that we definitely need a longer title for ideas', 101, 60, NULL, 0, 0),
+(218, TIMESTAMP '2022-12-19 11:37:29.460089', TIMESTAMP '2022-12-20 11:37:29.460391', 'nMaFt3Ev Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolo', NULL, NULL, 0, 'Idea 54 that suggest that we definitely need a longer title for ideas', 101, 24, NULL, 0, 0),
+(219, TIMESTAMP '2022-12-18 11:37:29.461479', TIMESTAMP '2022-12-19 11:37:29.461646', 'yrVn2F4R Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse', NULL, NULL, 0, 'Idea 55 that suggest that we definitely need a longer title for ideas', 101, 15, NULL, 0, 0),
+(220, TIMESTAMP '2022-12-17 11:37:29.462622', TIMESTAMP '2022-12-18 11:37:29.462726', 'fmxgsN4W Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut ali', NULL, NULL, 0, 'Idea 56 that suggest that we definitely need a longer title for ideas', 101, 97, NULL, 0, 0),
+(221, TIMESTAMP '2022-12-16 11:37:29.463257', TIMESTAMP '2022-12-17 11:37:29.463358', 's6rGAqzV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad m', NULL, NULL, 0, 'Idea 57 that suggest that we definitely need a longer title for ideas', 101, 9, NULL, 0, 0),
+(222, TIMESTAMP '2022-12-15 11:37:29.463872', TIMESTAMP '2022-12-16 11:37:29.463983', 'Sb3g5fSP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non pro', NULL, NULL, 0, 'Idea 58 that suggest that we definitely need a longer title for ideas', 101, 61, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(223, TIMESTAMP '2022-12-14 11:37:29.464473', TIMESTAMP '2022-12-15 11:37:29.464573', 'DZ7Ykmhy Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehende', NULL, NULL, 0, 'Idea 59 that suggest that we definitely need a longer title for ideas', 101, 32, NULL),
-(224, TIMESTAMP '2022-12-13 11:37:29.465118', TIMESTAMP '2022-12-14 11:37:29.465218', 'T7M8Yhz4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint', NULL, NULL, 0, 'Idea 60 that suggest that we definitely need a longer title for ideas', 101, 60, NULL),
-(225, TIMESTAMP '2022-12-12 11:37:29.465726', TIMESTAMP '2022-12-13 11:37:29.465823', 'A2gfmcMS Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ', NULL, NULL, 0, 'Idea 61 that suggest that we definitely need a longer title for ideas', 101, 59, NULL),
-(226, TIMESTAMP '2022-12-11 11:37:29.466299', TIMESTAMP '2022-12-12 11:37:29.466398', 't2hpPHdM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu', NULL, NULL, 0, 'Idea 62 that suggest that we definitely need a longer title for ideas', 101, 56, NULL),
-(227, TIMESTAMP '2022-12-10 11:37:29.466882', TIMESTAMP '2022-12-11 11:37:29.466984', 'BFdNfq68 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', NULL, NULL, 0, 'Idea 63 that suggest that we definitely need a longer title for ideas', 101, 89, NULL),
-(228, TIMESTAMP '2022-12-09 11:37:29.467453', TIMESTAMP '2022-12-10 11:37:29.467551', 'FYgLAvRV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ', NULL, NULL, 0, 'Idea 64 that suggest that we definitely need a longer title for ideas', 101, 12, NULL),
-(229, TIMESTAMP '2022-12-08 11:37:29.468066', TIMESTAMP '2022-12-09 11:37:29.468163', 'BMDFtzsw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor', NULL, NULL, 0, 'Idea 65 that suggest that we definitely need a longer title for ideas', 101, 91, NULL),
-(230, TIMESTAMP '2022-12-07 11:37:29.468646', TIMESTAMP '2022-12-08 11:37:29.468746', 'rMx6BgeQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco lab', NULL, NULL, 0, 'Idea 66 that suggest that we definitely need a longer title for ideas', 101, 60, NULL),
-(231, TIMESTAMP '2022-12-06 11:37:29.469238', TIMESTAMP '2022-12-07 11:37:29.469341', 'BZGBWLhV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillu', NULL, NULL, 0, 'Idea 67 that suggest that we definitely need a longer title for ideas', 101, 77, NULL);
+(223, TIMESTAMP '2022-12-14 11:37:29.464473', TIMESTAMP '2022-12-15 11:37:29.464573', 'DZ7Ykmhy Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehende', NULL, NULL, 0, 'Idea 59 that suggest that we definitely need a longer title for ideas', 101, 32, NULL, 0, 0),
+(224, TIMESTAMP '2022-12-13 11:37:29.465118', TIMESTAMP '2022-12-14 11:37:29.465218', 'T7M8Yhz4 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint', NULL, NULL, 0, 'Idea 60 that suggest that we definitely need a longer title for ideas', 101, 60, NULL, 0, 0),
+(225, TIMESTAMP '2022-12-12 11:37:29.465726', TIMESTAMP '2022-12-13 11:37:29.465823', 'A2gfmcMS Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ', NULL, NULL, 0, 'Idea 61 that suggest that we definitely need a longer title for ideas', 101, 59, NULL, 0, 0),
+(226, TIMESTAMP '2022-12-11 11:37:29.466299', TIMESTAMP '2022-12-12 11:37:29.466398', 't2hpPHdM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu', NULL, NULL, 0, 'Idea 62 that suggest that we definitely need a longer title for ideas', 101, 56, NULL, 0, 0),
+(227, TIMESTAMP '2022-12-10 11:37:29.466882', TIMESTAMP '2022-12-11 11:37:29.466984', 'BFdNfq68 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', NULL, NULL, 0, 'Idea 63 that suggest that we definitely need a longer title for ideas', 101, 89, NULL, 0, 0),
+(228, TIMESTAMP '2022-12-09 11:37:29.467453', TIMESTAMP '2022-12-10 11:37:29.467551', 'FYgLAvRV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ', NULL, NULL, 0, 'Idea 64 that suggest that we definitely need a longer title for ideas', 101, 12, NULL, 0, 0),
+(229, TIMESTAMP '2022-12-08 11:37:29.468066', TIMESTAMP '2022-12-09 11:37:29.468163', 'BMDFtzsw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor', NULL, NULL, 0, 'Idea 65 that suggest that we definitely need a longer title for ideas', 101, 91, NULL, 0, 0),
+(230, TIMESTAMP '2022-12-07 11:37:29.468646', TIMESTAMP '2022-12-08 11:37:29.468746', 'rMx6BgeQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco lab', NULL, NULL, 0, 'Idea 66 that suggest that we definitely need a longer title for ideas', 101, 60, NULL, 0, 0),
+(231, TIMESTAMP '2022-12-06 11:37:29.469238', TIMESTAMP '2022-12-07 11:37:29.469341', 'BZGBWLhV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillu', NULL, NULL, 0, 'Idea 67 that suggest that we definitely need a longer title for ideas', 101, 77, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(232, TIMESTAMP '2022-12-05 11:37:29.469814', TIMESTAMP '2022-12-06 11:37:29.469914', 'srrvbaBP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in c', NULL, NULL, 0, 'Idea 68 that suggest that we definitely need a longer title for ideas', 101, 20, NULL),
-(233, TIMESTAMP '2022-12-04 11:37:29.470837', TIMESTAMP '2022-12-05 11:37:29.470993', 'U9EdBAmw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 69 that suggest that we definitely need a longer title for ideas', 101, 77, NULL),
-(234, TIMESTAMP '2022-12-03 11:37:29.472059', TIMESTAMP '2022-12-04 11:37:29.472191', 'R7z57M73 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco ', NULL, NULL, 0, 'Idea 70 that suggest that we definitely need a longer title for ideas', 101, 71, NULL),
-(235, TIMESTAMP '2022-12-02 11:37:29.473105', TIMESTAMP '2022-12-03 11:37:29.473244', 'n8CmBWA8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate vel', NULL, NULL, 0, 'Idea 71 that suggest that we definitely need a longer title for ideas', 101, 7, NULL),
-(236, TIMESTAMP '2022-12-01 11:37:29.474037', TIMESTAMP '2022-12-02 11:37:29.474162', '2QwRtVtm Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 72 that suggest that we definitely need a longer title for ideas', 101, 64, NULL),
-(237, TIMESTAMP '2022-11-30 11:37:29.475002', TIMESTAMP '2022-12-01 11:37:29.475128', '0LxuEGEK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ', NULL, NULL, 0, 'Idea 73 that suggest that we definitely need a longer title for ideas', 101, 80, NULL),
-(238, TIMESTAMP '2022-11-29 11:37:29.47597', TIMESTAMP '2022-11-30 11:37:29.476108', 'G3egCHpg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in vo', NULL, NULL, 0, 'Idea 74 that suggest that we definitely need a longer title for ideas', 101, 36, NULL),
-(239, TIMESTAMP '2022-11-28 11:37:29.476926', TIMESTAMP '2022-11-29 11:37:29.47707', 'SgsQ0yCZ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proid', NULL, NULL, 0, 'Idea 75 that suggest that we definitely need a longer title for ideas', 101, 2, NULL),
-(240, TIMESTAMP '2022-11-27 11:37:29.477904', TIMESTAMP '2022-11-28 11:37:29.478036', 'S9pbLtGs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate ve', NULL, NULL, 0, 'Idea 76 that suggest that we definitely need a longer title for ideas', 101, 96, NULL);
+(232, TIMESTAMP '2022-12-05 11:37:29.469814', TIMESTAMP '2022-12-06 11:37:29.469914', 'srrvbaBP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in c', NULL, NULL, 0, 'Idea 68 that suggest that we definitely need a longer title for ideas', 101, 20, NULL, 0, 0),
+(233, TIMESTAMP '2022-12-04 11:37:29.470837', TIMESTAMP '2022-12-05 11:37:29.470993', 'U9EdBAmw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 69 that suggest that we definitely need a longer title for ideas', 101, 77, NULL, 0, 0),
+(234, TIMESTAMP '2022-12-03 11:37:29.472059', TIMESTAMP '2022-12-04 11:37:29.472191', 'R7z57M73 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco ', NULL, NULL, 0, 'Idea 70 that suggest that we definitely need a longer title for ideas', 101, 71, NULL, 0, 0),
+(235, TIMESTAMP '2022-12-02 11:37:29.473105', TIMESTAMP '2022-12-03 11:37:29.473244', 'n8CmBWA8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate vel', NULL, NULL, 0, 'Idea 71 that suggest that we definitely need a longer title for ideas', 101, 7, NULL, 0, 0),
+(236, TIMESTAMP '2022-12-01 11:37:29.474037', TIMESTAMP '2022-12-02 11:37:29.474162', '2QwRtVtm Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ', NULL, NULL, 0, 'Idea 72 that suggest that we definitely need a longer title for ideas', 101, 64, NULL, 0, 0),
+(237, TIMESTAMP '2022-11-30 11:37:29.475002', TIMESTAMP '2022-12-01 11:37:29.475128', '0LxuEGEK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim ', NULL, NULL, 0, 'Idea 73 that suggest that we definitely need a longer title for ideas', 101, 80, NULL, 0, 0),
+(238, TIMESTAMP '2022-11-29 11:37:29.47597', TIMESTAMP '2022-11-30 11:37:29.476108', 'G3egCHpg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in vo', NULL, NULL, 0, 'Idea 74 that suggest that we definitely need a longer title for ideas', 101, 36, NULL, 0, 0),
+(239, TIMESTAMP '2022-11-28 11:37:29.476926', TIMESTAMP '2022-11-29 11:37:29.47707', 'SgsQ0yCZ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proid', NULL, NULL, 0, 'Idea 75 that suggest that we definitely need a longer title for ideas', 101, 2, NULL, 0, 0),
+(240, TIMESTAMP '2022-11-27 11:37:29.477904', TIMESTAMP '2022-11-28 11:37:29.478036', 'S9pbLtGs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate ve', NULL, NULL, 0, 'Idea 76 that suggest that we definitely need a longer title for ideas', 101, 96, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(241, TIMESTAMP '2022-11-26 11:37:29.478926', TIMESTAMP '2022-11-27 11:37:29.479042', 'E8t9MeEg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaec', NULL, NULL, 0, 'Idea 77 that suggest that we definitely need a longer title for ideas', 101, 10, NULL),
-(242, TIMESTAMP '2022-11-25 11:37:29.479711', TIMESTAMP '2022-11-26 11:37:29.479823', 'Zndkyn0V Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dol', NULL, NULL, 0, 'Idea 78 that suggest that we definitely need a longer title for ideas', 101, 90, NULL),
-(243, TIMESTAMP '2022-11-24 11:37:29.48036', TIMESTAMP '2022-11-25 11:37:29.480765', 'UnnmLECM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostr', NULL, NULL, 0, 'Idea 79 that suggest that we definitely need a longer title for ideas', 101, 93, NULL),
-(244, TIMESTAMP '2022-11-23 11:37:29.481661', TIMESTAMP '2022-11-24 11:37:29.481824', 'wt8BtqEm Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ul', NULL, NULL, 0, 'Idea 80 that suggest that we definitely need a longer title for ideas', 101, 66, NULL),
-(245, TIMESTAMP '2022-11-22 11:37:29.482474', TIMESTAMP '2022-11-23 11:37:29.482593', 'ERtYGTk9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam,', NULL, NULL, 0, 'Idea 81 that suggest that we definitely need a longer title for ideas', 101, 13, NULL),
-(246, TIMESTAMP '2022-11-21 11:37:29.483222', TIMESTAMP '2022-11-22 11:37:29.483329', 'YUZmvgUV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidat', NULL, NULL, 0, 'Idea 82 that suggest that we definitely need a longer title for ideas', 101, 42, NULL),
-(247, TIMESTAMP '2022-11-20 11:37:29.483951', TIMESTAMP '2022-11-21 11:37:29.484057', 'rm7WMc2A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore', NULL, NULL, 0, 'Idea 83 that suggest that we definitely need a longer title for ideas', 101, 24, NULL),
-(248, TIMESTAMP '2022-11-19 11:37:29.484782', TIMESTAMP '2022-11-20 11:37:29.484896', 'MbKuZvCD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occa', NULL, NULL, 0, 'Idea 84 that suggest that we definitely need a longer title for ideas', 101, 63, NULL),
-(249, TIMESTAMP '2022-11-18 11:37:29.485668', TIMESTAMP '2022-11-19 11:37:29.485777', 'TvB5ubkQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate veli', NULL, NULL, 0, 'Idea 85 that suggest that we definitely need a longer title for ideas', 101, 87, NULL);
+(241, TIMESTAMP '2022-11-26 11:37:29.478926', TIMESTAMP '2022-11-27 11:37:29.479042', 'E8t9MeEg Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaec', NULL, NULL, 0, 'Idea 77 that suggest that we definitely need a longer title for ideas', 101, 10, NULL, 0, 0),
+(242, TIMESTAMP '2022-11-25 11:37:29.479711', TIMESTAMP '2022-11-26 11:37:29.479823', 'Zndkyn0V Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dol', NULL, NULL, 0, 'Idea 78 that suggest that we definitely need a longer title for ideas', 101, 90, NULL, 0, 0),
+(243, TIMESTAMP '2022-11-24 11:37:29.48036', TIMESTAMP '2022-11-25 11:37:29.480765', 'UnnmLECM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostr', NULL, NULL, 0, 'Idea 79 that suggest that we definitely need a longer title for ideas', 101, 93, NULL, 0, 0),
+(244, TIMESTAMP '2022-11-23 11:37:29.481661', TIMESTAMP '2022-11-24 11:37:29.481824', 'wt8BtqEm Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ul', NULL, NULL, 0, 'Idea 80 that suggest that we definitely need a longer title for ideas', 101, 66, NULL, 0, 0),
+(245, TIMESTAMP '2022-11-22 11:37:29.482474', TIMESTAMP '2022-11-23 11:37:29.482593', 'ERtYGTk9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam,', NULL, NULL, 0, 'Idea 81 that suggest that we definitely need a longer title for ideas', 101, 13, NULL, 0, 0),
+(246, TIMESTAMP '2022-11-21 11:37:29.483222', TIMESTAMP '2022-11-22 11:37:29.483329', 'YUZmvgUV Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidat', NULL, NULL, 0, 'Idea 82 that suggest that we definitely need a longer title for ideas', 101, 42, NULL, 0, 0),
+(247, TIMESTAMP '2022-11-20 11:37:29.483951', TIMESTAMP '2022-11-21 11:37:29.484057', 'rm7WMc2A Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore', NULL, NULL, 0, 'Idea 83 that suggest that we definitely need a longer title for ideas', 101, 24, NULL, 0, 0),
+(248, TIMESTAMP '2022-11-19 11:37:29.484782', TIMESTAMP '2022-11-20 11:37:29.484896', 'MbKuZvCD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occa', NULL, NULL, 0, 'Idea 84 that suggest that we definitely need a longer title for ideas', 101, 63, NULL, 0, 0),
+(249, TIMESTAMP '2022-11-18 11:37:29.485668', TIMESTAMP '2022-11-19 11:37:29.485777', 'TvB5ubkQ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate veli', NULL, NULL, 0, 'Idea 85 that suggest that we definitely need a longer title for ideas', 101, 87, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(250, TIMESTAMP '2022-11-17 11:37:29.486442', TIMESTAMP '2022-11-18 11:37:29.486546', 'MBBSXhhx Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequa', NULL, NULL, 0, 'Idea 86 that suggest that we definitely need a longer title for ideas', 101, 21, NULL),
-(251, TIMESTAMP '2022-11-16 11:37:29.487242', TIMESTAMP '2022-11-17 11:37:29.48735', 'rs8Qgb8N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur ', NULL, NULL, 0, 'Idea 87 that suggest that we definitely need a longer title for ideas', 101, 48, NULL),
-(252, TIMESTAMP '2022-11-15 11:37:29.488086', TIMESTAMP '2022-11-16 11:37:29.488193', 'APCcDf2T Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation u', NULL, NULL, 0, 'Idea 88 that suggest that we definitely need a longer title for ideas', 101, 66, NULL),
-(253, TIMESTAMP '2022-11-14 11:37:29.488962', TIMESTAMP '2022-11-15 11:37:29.489073', '9DwrTkgw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse ', NULL, NULL, 0, 'Idea 89 that suggest that we definitely need a longer title for ideas', 101, 86, NULL),
-(254, TIMESTAMP '2022-11-13 11:37:29.489809', TIMESTAMP '2022-11-14 11:37:29.489917', 'FGUvZVxZ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit ', NULL, NULL, 0, 'Idea 90 that suggest that we definitely need a longer title for ideas', 101, 39, NULL),
-(255, TIMESTAMP '2022-11-12 11:37:29.490518', TIMESTAMP '2022-11-13 11:37:29.490633', 'H4R00FH9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostru', NULL, NULL, 0, 'Idea 91 that suggest that we definitely need a longer title for ideas', 101, 38, NULL),
-(256, TIMESTAMP '2022-11-11 11:37:29.491312', TIMESTAMP '2022-11-12 11:37:29.491422', 'uEvh76VM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et ', NULL, NULL, 0, 'Idea 92 that suggest that we definitely need a longer title for ideas', 101, 39, NULL),
-(257, TIMESTAMP '2022-11-10 11:37:29.492091', TIMESTAMP '2022-11-11 11:37:29.492195', 'CTKCevpv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volup', NULL, NULL, 0, 'Idea 93 that suggest that we definitely need a longer title for ideas', 101, 68, NULL),
-(258, TIMESTAMP '2022-11-09 11:37:29.492918', TIMESTAMP '2022-11-10 11:37:29.493021', 'eaEFY62N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostru', NULL, NULL, 0, 'Idea 94 that suggest that we definitely need a longer title for ideas', 101, 44, NULL),
-(259, TIMESTAMP '2022-11-08 11:37:29.49362', TIMESTAMP '2022-11-09 11:37:29.493721', 'HSH6HkCE Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ', NULL, NULL, 0, 'Idea 95 that suggest that we definitely need a longer title for ideas', 101, 36, NULL);
+(250, TIMESTAMP '2022-11-17 11:37:29.486442', TIMESTAMP '2022-11-18 11:37:29.486546', 'MBBSXhhx Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequa', NULL, NULL, 0, 'Idea 86 that suggest that we definitely need a longer title for ideas', 101, 21, NULL, 0, 0),
+(251, TIMESTAMP '2022-11-16 11:37:29.487242', TIMESTAMP '2022-11-17 11:37:29.48735', 'rs8Qgb8N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur ', NULL, NULL, 0, 'Idea 87 that suggest that we definitely need a longer title for ideas', 101, 48, NULL, 0, 0),
+(252, TIMESTAMP '2022-11-15 11:37:29.488086', TIMESTAMP '2022-11-16 11:37:29.488193', 'APCcDf2T Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation u', NULL, NULL, 0, 'Idea 88 that suggest that we definitely need a longer title for ideas', 101, 66, NULL, 0, 0),
+(253, TIMESTAMP '2022-11-14 11:37:29.488962', TIMESTAMP '2022-11-15 11:37:29.489073', '9DwrTkgw Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse ', NULL, NULL, 0, 'Idea 89 that suggest that we definitely need a longer title for ideas', 101, 86, NULL, 0, 0),
+(254, TIMESTAMP '2022-11-13 11:37:29.489809', TIMESTAMP '2022-11-14 11:37:29.489917', 'FGUvZVxZ Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit ', NULL, NULL, 0, 'Idea 90 that suggest that we definitely need a longer title for ideas', 101, 39, NULL, 0, 0),
+(255, TIMESTAMP '2022-11-12 11:37:29.490518', TIMESTAMP '2022-11-13 11:37:29.490633', 'H4R00FH9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostru', NULL, NULL, 0, 'Idea 91 that suggest that we definitely need a longer title for ideas', 101, 38, NULL, 0, 0),
+(256, TIMESTAMP '2022-11-11 11:37:29.491312', TIMESTAMP '2022-11-12 11:37:29.491422', 'uEvh76VM Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et ', NULL, NULL, 0, 'Idea 92 that suggest that we definitely need a longer title for ideas', 101, 39, NULL, 0, 0),
+(257, TIMESTAMP '2022-11-10 11:37:29.492091', TIMESTAMP '2022-11-11 11:37:29.492195', 'CTKCevpv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volup', NULL, NULL, 0, 'Idea 93 that suggest that we definitely need a longer title for ideas', 101, 68, NULL, 0, 0),
+(258, TIMESTAMP '2022-11-09 11:37:29.492918', TIMESTAMP '2022-11-10 11:37:29.493021', 'eaEFY62N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostru', NULL, NULL, 0, 'Idea 94 that suggest that we definitely need a longer title for ideas', 101, 44, NULL, 0, 0),
+(259, TIMESTAMP '2022-11-08 11:37:29.49362', TIMESTAMP '2022-11-09 11:37:29.493721', 'HSH6HkCE Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ', NULL, NULL, 0, 'Idea 95 that suggest that we definitely need a longer title for ideas', 101, 36, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(260, TIMESTAMP '2022-11-07 11:37:29.494407', TIMESTAMP '2022-11-08 11:37:29.49455', 'FBXmhBnv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit', NULL, NULL, 0, 'Idea 96 that suggest that we definitely need a longer title for ideas', 101, 9, NULL),
-(261, TIMESTAMP '2022-11-06 11:37:29.495336', TIMESTAMP '2022-11-07 11:37:29.495432', '5QFCsLTW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum', NULL, NULL, 0, 'Idea 97 that suggest that we definitely need a longer title for ideas', 101, 43, NULL),
-(262, TIMESTAMP '2022-11-05 11:37:29.495966', TIMESTAMP '2022-11-06 11:37:29.496059', 'mb2TyaSL Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullam', NULL, NULL, 0, 'Idea 98 that suggest that we definitely need a longer title for ideas', 101, 18, NULL),
-(263, TIMESTAMP '2022-11-04 11:37:29.496525', TIMESTAMP '2022-11-05 11:37:29.496615', '9vw9WDvT Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sin', NULL, NULL, 0, 'Idea 99 that suggest that we definitely need a longer title for ideas', 101, 2, NULL),
-(264, TIMESTAMP '2022-11-03 11:37:29.497065', TIMESTAMP '2022-11-04 11:37:29.497165', '5LRYR6ct Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud ex', NULL, NULL, 0, 'Idea 100 that suggest that we definitely need a longer title for ideas', 101, 32, NULL),
-(265, TIMESTAMP '2022-11-02 11:37:29.497604', TIMESTAMP '2022-11-03 11:37:29.497694', '79bTNHBS Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco la', NULL, NULL, 0, 'Idea 101 that suggest that we definitely need a longer title for ideas', 101, 21, NULL),
-(266, TIMESTAMP '2022-11-01 11:37:29.49845', TIMESTAMP '2022-11-02 11:37:29.498587', '2e5FDqTX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim', NULL, NULL, 0, 'Idea 102 that suggest that we definitely need a longer title for ideas', 101, 4, NULL),
-(267, TIMESTAMP '2022-10-31 11:37:29.499463', TIMESTAMP '2022-11-01 11:37:29.499577', 'qwKnvYVa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris n', NULL, NULL, 0, 'Idea 103 that suggest that we definitely need a longer title for ideas', 101, 87, NULL),
-(268, TIMESTAMP '2022-10-30 11:37:29.500834', TIMESTAMP '2022-10-31 11:37:29.501035', 'XkdTQMBP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillu', NULL, NULL, 0, 'Idea 104 that suggest that we definitely need a longer title for ideas', 101, 27, NULL),
-(269, TIMESTAMP '2022-10-29 12:37:29.501779', TIMESTAMP '2022-10-30 11:37:29.501913', 'W3BES8xz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna ', NULL, NULL, 0, 'Idea 105 that suggest that we definitely need a longer title for ideas', 101, 25, NULL);
+(260, TIMESTAMP '2022-11-07 11:37:29.494407', TIMESTAMP '2022-11-08 11:37:29.49455', 'FBXmhBnv Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit', NULL, NULL, 0, 'Idea 96 that suggest that we definitely need a longer title for ideas', 101, 9, NULL, 0, 0),
+(261, TIMESTAMP '2022-11-06 11:37:29.495336', TIMESTAMP '2022-11-07 11:37:29.495432', '5QFCsLTW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum', NULL, NULL, 0, 'Idea 97 that suggest that we definitely need a longer title for ideas', 101, 43, NULL, 0, 0),
+(262, TIMESTAMP '2022-11-05 11:37:29.495966', TIMESTAMP '2022-11-06 11:37:29.496059', 'mb2TyaSL Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullam', NULL, NULL, 0, 'Idea 98 that suggest that we definitely need a longer title for ideas', 101, 18, NULL, 0, 0),
+(263, TIMESTAMP '2022-11-04 11:37:29.496525', TIMESTAMP '2022-11-05 11:37:29.496615', '9vw9WDvT Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sin', NULL, NULL, 0, 'Idea 99 that suggest that we definitely need a longer title for ideas', 101, 2, NULL, 0, 0),
+(264, TIMESTAMP '2022-11-03 11:37:29.497065', TIMESTAMP '2022-11-04 11:37:29.497165', '5LRYR6ct Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud ex', NULL, NULL, 0, 'Idea 100 that suggest that we definitely need a longer title for ideas', 101, 32, NULL, 0, 0),
+(265, TIMESTAMP '2022-11-02 11:37:29.497604', TIMESTAMP '2022-11-03 11:37:29.497694', '79bTNHBS Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco la', NULL, NULL, 0, 'Idea 101 that suggest that we definitely need a longer title for ideas', 101, 21, NULL, 0, 0),
+(266, TIMESTAMP '2022-11-01 11:37:29.49845', TIMESTAMP '2022-11-02 11:37:29.498587', '2e5FDqTX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim', NULL, NULL, 0, 'Idea 102 that suggest that we definitely need a longer title for ideas', 101, 4, NULL, 0, 0),
+(267, TIMESTAMP '2022-10-31 11:37:29.499463', TIMESTAMP '2022-11-01 11:37:29.499577', 'qwKnvYVa Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris n', NULL, NULL, 0, 'Idea 103 that suggest that we definitely need a longer title for ideas', 101, 87, NULL, 0, 0),
+(268, TIMESTAMP '2022-10-30 11:37:29.500834', TIMESTAMP '2022-10-31 11:37:29.501035', 'XkdTQMBP Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillu', NULL, NULL, 0, 'Idea 104 that suggest that we definitely need a longer title for ideas', 101, 27, NULL, 0, 0),
+(269, TIMESTAMP '2022-10-29 12:37:29.501779', TIMESTAMP '2022-10-30 11:37:29.501913', 'W3BES8xz Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna ', NULL, NULL, 0, 'Idea 105 that suggest that we definitely need a longer title for ideas', 101, 25, NULL, 0, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(270, TIMESTAMP '2022-10-28 12:37:29.502569', TIMESTAMP '2022-10-29 12:37:29.502676', 'vZsPqCG6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute i', NULL, NULL, 0, 'Idea 106 that suggest that we definitely need a longer title for ideas', 101, 48, NULL),
-(271, TIMESTAMP '2022-10-27 12:37:29.503271', TIMESTAMP '2022-10-28 12:37:29.503371', '37A9y5YE Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis', NULL, NULL, 0, 'Idea 107 that suggest that we definitely need a longer title for ideas', 101, 93, NULL),
-(272, TIMESTAMP '2022-10-26 12:37:29.503969', TIMESTAMP '2022-10-27 12:37:29.504225', 'kUCdbmwy Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in', NULL, NULL, 0, 'Idea 108 that suggest that we definitely need a longer title for ideas', 101, 6, NULL),
-(273, TIMESTAMP '2022-10-25 12:37:29.504877', TIMESTAMP '2022-10-26 12:37:29.50497', 'uAPDtBna Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nost', NULL, NULL, 0, 'Idea 109 that suggest that we definitely need a longer title for ideas', 101, 20, NULL),
-(274, TIMESTAMP '2022-10-24 12:37:29.505645', TIMESTAMP '2022-10-25 12:37:29.505747', 'Ae8f2qNc Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nul', NULL, NULL, 0, 'Idea 110 that suggest that we definitely need a longer title for ideas', 101, 62, NULL),
-(275, TIMESTAMP '2023-02-05 11:37:29.509', TIMESTAMP '2023-02-12 11:37:29.509', 'DZT7Bwt0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', 'tag', TIMESTAMP '2023-02-06 11:37:29.507677', 1, 'Proposal 0 that reached its quorum', 101, 63, NULL),
-(276, TIMESTAMP '2023-02-12 11:37:29.512', TIMESTAMP '2023-02-12 11:37:29.513', 'CYUBrKmC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat n', 'teeth-open', TIMESTAMP '2023-02-12 11:37:29.511286', 1, 'Proposal 1 that reached its quorum', 101, 17, NULL),
-(277, TIMESTAMP '2023-02-07 11:37:29.516', TIMESTAMP '2023-02-12 11:37:29.516', 'E7wDEXdX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mi', 'map-marked', TIMESTAMP '2023-02-08 11:37:29.514964', 1, 'Proposal 2 that reached its quorum', 101, 10, NULL),
-(278, TIMESTAMP '2023-02-10 11:37:29.519', TIMESTAMP '2023-02-12 11:37:29.519', 'MqKHLAN0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo ', 'tasks', TIMESTAMP '2023-02-10 11:37:29.51801', 1, 'Proposal 3 that reached its quorum', 101, 60, NULL),
-(279, TIMESTAMP '2023-02-11 11:37:29.522', TIMESTAMP '2023-02-12 11:37:29.523', 'mFKZYErN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volupta', 'chair', TIMESTAMP '2023-02-12 11:37:29.521283', 1, 'Proposal 4 that reached its quorum', 101, 57, NULL);
+(270, TIMESTAMP '2022-10-28 12:37:29.502569', TIMESTAMP '2022-10-29 12:37:29.502676', 'vZsPqCG6 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute i', NULL, NULL, 0, 'Idea 106 that suggest that we definitely need a longer title for ideas', 101, 48, NULL, 0, 0),
+(271, TIMESTAMP '2022-10-27 12:37:29.503271', TIMESTAMP '2022-10-28 12:37:29.503371', '37A9y5YE Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis', NULL, NULL, 0, 'Idea 107 that suggest that we definitely need a longer title for ideas', 101, 93, NULL, 0, 0),
+(272, TIMESTAMP '2022-10-26 12:37:29.503969', TIMESTAMP '2022-10-27 12:37:29.504225', 'kUCdbmwy Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in', NULL, NULL, 0, 'Idea 108 that suggest that we definitely need a longer title for ideas', 101, 6, NULL, 0, 0),
+(273, TIMESTAMP '2022-10-25 12:37:29.504877', TIMESTAMP '2022-10-26 12:37:29.50497', 'uAPDtBna Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nost', NULL, NULL, 0, 'Idea 109 that suggest that we definitely need a longer title for ideas', 101, 20, NULL, 0, 0),
+(274, TIMESTAMP '2022-10-24 12:37:29.505645', TIMESTAMP '2022-10-25 12:37:29.505747', 'Ae8f2qNc Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nul', NULL, NULL, 0, 'Idea 110 that suggest that we definitely need a longer title for ideas', 101, 62, NULL, 0, 0),
+(275, TIMESTAMP '2023-02-05 11:37:29.509', TIMESTAMP '2023-02-12 11:37:29.509', 'DZT7Bwt0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cill', 'tag', TIMESTAMP '2023-02-06 11:37:29.507677', 1, 'Proposal 0 that reached its quorum', 101, 63, NULL, 0, 1),
+(276, TIMESTAMP '2023-02-12 11:37:29.512', TIMESTAMP '2023-02-12 11:37:29.513', 'CYUBrKmC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat n', 'teeth-open', TIMESTAMP '2023-02-12 11:37:29.511286', 1, 'Proposal 1 that reached its quorum', 101, 17, NULL, 0, 1),
+(277, TIMESTAMP '2023-02-07 11:37:29.516', TIMESTAMP '2023-02-12 11:37:29.516', 'E7wDEXdX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad mi', 'map-marked', TIMESTAMP '2023-02-08 11:37:29.514964', 1, 'Proposal 2 that reached its quorum', 101, 10, NULL, 0, 1),
+(278, TIMESTAMP '2023-02-10 11:37:29.519', TIMESTAMP '2023-02-12 11:37:29.519', 'MqKHLAN0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo ', 'tasks', TIMESTAMP '2023-02-10 11:37:29.51801', 1, 'Proposal 3 that reached its quorum', 101, 60, NULL, 0, 1),
+(279, TIMESTAMP '2023-02-11 11:37:29.522', TIMESTAMP '2023-02-12 11:37:29.523', 'mFKZYErN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in volupta', 'chair', TIMESTAMP '2023-02-12 11:37:29.521283', 1, 'Proposal 4 that reached its quorum', 101, 57, NULL, 0, 1);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(280, TIMESTAMP '2023-02-12 11:37:29.525', TIMESTAMP '2023-02-12 11:37:29.526', 'YXaVF8gd Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud ex', 'map-marked', TIMESTAMP '2023-02-12 11:37:29.524625', 1, 'Proposal 5 that reached its quorum', 101, 34, NULL),
-(281, TIMESTAMP '2023-02-08 11:37:29.529', TIMESTAMP '2023-02-12 11:37:29.53', 'Avu303UK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culp', 'magic', TIMESTAMP '2023-02-09 11:37:29.527524', 1, 'Proposal 6 that reached its quorum', 101, 30, NULL),
-(282, TIMESTAMP '2023-02-06 11:37:29.532', TIMESTAMP '2023-02-12 11:37:29.532', '9x0E6nfW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor ', 'chart-area', TIMESTAMP '2023-02-10 11:37:29.5311', 1, 'Proposal 7 that reached its quorum', 101, 59, NULL),
-(283, TIMESTAMP '2023-02-05 11:37:29.535', TIMESTAMP '2023-02-12 11:37:29.535', 'Y2AtNFDR Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa q', 'magic', TIMESTAMP '2023-02-08 11:37:29.533958', 1, 'Proposal 8 that reached its quorum', 101, 69, NULL),
-(284, TIMESTAMP '2023-02-07 11:37:29.539', TIMESTAMP '2023-02-12 11:37:29.539', 'fratkqE2 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Exce', 'magic', TIMESTAMP '2023-02-11 11:37:29.537343', 1, 'Proposal 9 that reached its quorum', 101, 32, NULL),
-(285, TIMESTAMP '2023-02-12 11:37:29.542', TIMESTAMP '2023-02-12 11:37:29.543', 'kg0qa0R5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip', 'tape', TIMESTAMP '2023-02-12 11:37:29.541222', 1, 'Proposal 10 that reached its quorum', 101, 67, NULL),
-(286, TIMESTAMP '2023-02-11 11:37:29.546', TIMESTAMP '2023-02-12 11:37:29.546', 'dg3sXtMN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aut', 'chart-bar', TIMESTAMP '2023-02-12 11:37:29.544261', 1, 'Proposal 11 that reached its quorum', 101, 96, NULL),
-(287, TIMESTAMP '2023-02-05 11:37:29.548', TIMESTAMP '2023-02-12 11:37:29.548', 'MFTqGU48 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in repr', 'chair', TIMESTAMP '2023-02-08 11:37:29.547605', 1, 'Proposal 12 that reached its quorum', 101, 59, NULL),
-(288, TIMESTAMP '2023-02-04 11:37:29.55', TIMESTAMP '2023-02-12 11:37:29.55', 'WvHWh5tX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pa', 'chalkboard-teacher', TIMESTAMP '2023-02-05 11:37:29.549628', 1, 'Proposal 13 that reached its quorum', 101, 7, NULL);
+(280, TIMESTAMP '2023-02-12 11:37:29.525', TIMESTAMP '2023-02-12 11:37:29.526', 'YXaVF8gd Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud ex', 'map-marked', TIMESTAMP '2023-02-12 11:37:29.524625', 1, 'Proposal 5 that reached its quorum', 101, 34, NULL, 0, 1),
+(281, TIMESTAMP '2023-02-08 11:37:29.529', TIMESTAMP '2023-02-12 11:37:29.53', 'Avu303UK Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culp', 'magic', TIMESTAMP '2023-02-09 11:37:29.527524', 1, 'Proposal 6 that reached its quorum', 101, 30, NULL, 0, 1),
+(282, TIMESTAMP '2023-02-06 11:37:29.532', TIMESTAMP '2023-02-12 11:37:29.532', '9x0E6nfW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor ', 'chart-area', TIMESTAMP '2023-02-10 11:37:29.5311', 1, 'Proposal 7 that reached its quorum', 101, 59, NULL, 0, 1),
+(283, TIMESTAMP '2023-02-05 11:37:29.535', TIMESTAMP '2023-02-12 11:37:29.535', 'Y2AtNFDR Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa q', 'magic', TIMESTAMP '2023-02-08 11:37:29.533958', 1, 'Proposal 8 that reached its quorum', 101, 69, NULL, 0, 1),
+(284, TIMESTAMP '2023-02-07 11:37:29.539', TIMESTAMP '2023-02-12 11:37:29.539', 'fratkqE2 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Exce', 'magic', TIMESTAMP '2023-02-11 11:37:29.537343', 1, 'Proposal 9 that reached its quorum', 101, 32, NULL, 0, 1),
+(285, TIMESTAMP '2023-02-12 11:37:29.542', TIMESTAMP '2023-02-12 11:37:29.543', 'kg0qa0R5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip', 'tape', TIMESTAMP '2023-02-12 11:37:29.541222', 1, 'Proposal 10 that reached its quorum', 101, 67, NULL, 0, 1),
+(286, TIMESTAMP '2023-02-11 11:37:29.546', TIMESTAMP '2023-02-12 11:37:29.546', 'dg3sXtMN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aut', 'chart-bar', TIMESTAMP '2023-02-12 11:37:29.544261', 1, 'Proposal 11 that reached its quorum', 101, 96, NULL, 0, 1),
+(287, TIMESTAMP '2023-02-05 11:37:29.548', TIMESTAMP '2023-02-12 11:37:29.548', 'MFTqGU48 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in repr', 'chair', TIMESTAMP '2023-02-08 11:37:29.547605', 1, 'Proposal 12 that reached its quorum', 101, 59, NULL, 0, 1),
+(288, TIMESTAMP '2023-02-04 11:37:29.55', TIMESTAMP '2023-02-12 11:37:29.55', 'WvHWh5tX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pa', 'chalkboard-teacher', TIMESTAMP '2023-02-05 11:37:29.549628', 1, 'Proposal 13 that reached its quorum', 101, 7, NULL, 0, 1);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(289, TIMESTAMP '2023-02-09 11:37:29.552', TIMESTAMP '2023-02-12 11:37:29.552', 'ZQsP9ayD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum ', 'chart-bar', TIMESTAMP '2023-02-09 11:37:29.551689', 1, 'Proposal 14 that reached its quorum', 101, 93, NULL),
-(290, TIMESTAMP '2023-02-04 11:37:29.555', TIMESTAMP '2023-02-12 11:37:29.556', '65z9r60D Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exerci', 'teeth-open', TIMESTAMP '2023-02-07 11:37:29.553933', 1, 'Proposal 15 that reached its quorum', 101, 11, NULL),
-(291, TIMESTAMP '2023-02-12 11:37:29.558', TIMESTAMP '2023-02-12 11:37:29.559', '5vUyguDX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Dui', 'charging-station', TIMESTAMP '2023-02-12 11:37:29.557615', 1, 'Proposal 16 that reached its quorum', 101, 87, NULL),
-(292, TIMESTAMP '2023-02-12 11:37:29.562', TIMESTAMP '2023-02-12 11:37:29.563', 'zu0Vq4X8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse ', 'chalkboard', TIMESTAMP '2023-02-12 11:37:29.56123', 1, 'Proposal 17 that reached its quorum', 101, 40, NULL),
-(293, TIMESTAMP '2023-02-06 11:37:29.565', TIMESTAMP '2023-02-12 11:37:29.568', 'NVHpQTZb Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo co', 'chalkboard', TIMESTAMP '2023-02-07 11:37:29.564524', 1, 'Proposal 18 that reached its quorum', 101, 40, NULL),
-(294, TIMESTAMP '2023-02-05 11:37:29.57', TIMESTAMP '2023-02-12 11:37:29.571', 'AB5xEm6e Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culp', 'teeth', TIMESTAMP '2023-02-06 11:37:29.569611', 1, 'Proposal 19 that reached its quorum', 101, 65, NULL),
-(295, TIMESTAMP '2023-02-10 11:37:29.574', TIMESTAMP '2023-02-12 11:37:29.574', '4z07wU5f Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation u', 'chart-area', TIMESTAMP '2023-02-12 11:37:29.57285', 1, 'Proposal 20 that reached its quorum', 101, 46, NULL),
-(296, TIMESTAMP '2023-02-05 11:37:29.576', TIMESTAMP '2023-02-12 11:37:29.577', 'bqaamUXD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum do', 'map-marker', TIMESTAMP '2023-02-10 11:37:29.575725', 1, 'Proposal 21 that reached its quorum', 101, 74, NULL),
-(297, TIMESTAMP '2023-02-04 11:37:29.579', TIMESTAMP '2023-02-12 11:37:29.58', 'Tc2NCCYs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum ', 'chalkboard', TIMESTAMP '2023-02-10 11:37:29.578523', 1, 'Proposal 22 that reached its quorum', 101, 65, NULL);
+(289, TIMESTAMP '2023-02-09 11:37:29.552', TIMESTAMP '2023-02-12 11:37:29.552', 'ZQsP9ayD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum ', 'chart-bar', TIMESTAMP '2023-02-09 11:37:29.551689', 1, 'Proposal 14 that reached its quorum', 101, 93, NULL, 0, 1),
+(290, TIMESTAMP '2023-02-04 11:37:29.555', TIMESTAMP '2023-02-12 11:37:29.556', '65z9r60D Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exerci', 'teeth-open', TIMESTAMP '2023-02-07 11:37:29.553933', 1, 'Proposal 15 that reached its quorum', 101, 11, NULL, 0, 1),
+(291, TIMESTAMP '2023-02-12 11:37:29.558', TIMESTAMP '2023-02-12 11:37:29.559', '5vUyguDX Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Dui', 'charging-station', TIMESTAMP '2023-02-12 11:37:29.557615', 1, 'Proposal 16 that reached its quorum', 101, 87, NULL, 0, 1),
+(292, TIMESTAMP '2023-02-12 11:37:29.562', TIMESTAMP '2023-02-12 11:37:29.563', 'zu0Vq4X8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse ', 'chalkboard', TIMESTAMP '2023-02-12 11:37:29.56123', 1, 'Proposal 17 that reached its quorum', 101, 40, NULL, 0, 1),
+(293, TIMESTAMP '2023-02-06 11:37:29.565', TIMESTAMP '2023-02-12 11:37:29.568', 'NVHpQTZb Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo co', 'chalkboard', TIMESTAMP '2023-02-07 11:37:29.564524', 1, 'Proposal 18 that reached its quorum', 101, 40, NULL, 0, 1),
+(294, TIMESTAMP '2023-02-05 11:37:29.57', TIMESTAMP '2023-02-12 11:37:29.571', 'AB5xEm6e Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culp', 'teeth', TIMESTAMP '2023-02-06 11:37:29.569611', 1, 'Proposal 19 that reached its quorum', 101, 65, NULL, 0, 1),
+(295, TIMESTAMP '2023-02-10 11:37:29.574', TIMESTAMP '2023-02-12 11:37:29.574', '4z07wU5f Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation u', 'chart-area', TIMESTAMP '2023-02-12 11:37:29.57285', 1, 'Proposal 20 that reached its quorum', 101, 46, NULL, 0, 1),
+(296, TIMESTAMP '2023-02-05 11:37:29.576', TIMESTAMP '2023-02-12 11:37:29.577', 'bqaamUXD Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum do', 'map-marker', TIMESTAMP '2023-02-10 11:37:29.575725', 1, 'Proposal 21 that reached its quorum', 101, 74, NULL, 0, 1),
+(297, TIMESTAMP '2023-02-04 11:37:29.579', TIMESTAMP '2023-02-12 11:37:29.58', 'Tc2NCCYs Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum ', 'chalkboard', TIMESTAMP '2023-02-10 11:37:29.578523', 1, 'Proposal 22 that reached its quorum', 101, 65, NULL, 0, 1);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(298, TIMESTAMP '2023-02-10 11:37:29.582', TIMESTAMP '2023-02-12 11:37:29.583', '2Qe4qMg5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis n', 'tags', TIMESTAMP '2023-02-10 11:37:29.581817', 1, 'Proposal 23 that reached its quorum', 101, 25, NULL),
-(299, TIMESTAMP '2023-02-10 11:37:29.585', TIMESTAMP '2023-02-12 11:37:29.586', 'c0Z9FP0N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dol', 'map-marked', TIMESTAMP '2023-02-10 11:37:29.584355', 1, 'Proposal 24 that reached its quorum', 101, 44, NULL),
-(300, TIMESTAMP '2023-02-04 11:37:29.589114', TIMESTAMP '2023-02-05 11:37:29.589228', 'whU6Rd0M Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'tasks', TIMESTAMP '2023-02-08 11:37:29.587965', 1, 'Proposal 25 that reached its quorum', 101, 1, NULL),
-(301, TIMESTAMP '2023-02-12 11:37:29.591', TIMESTAMP '2023-02-12 11:37:29.591', 'N86LtmY9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore mag', 'tags', TIMESTAMP '2023-02-12 11:37:29.590098', 1, 'Proposal 26 that reached its quorum', 101, 6, NULL),
-(302, TIMESTAMP '2023-02-09 11:37:29.593', TIMESTAMP '2023-02-12 11:37:29.594', 'YmyZncE0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veni', 'map-marked', TIMESTAMP '2023-02-11 11:37:29.592808', 1, 'Proposal 27 that reached its quorum', 101, 87, NULL),
-(303, TIMESTAMP '2023-02-10 11:37:29.597', TIMESTAMP '2023-02-12 11:37:29.597', 'TTg096S5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim', 'magnet', TIMESTAMP '2023-02-11 11:37:29.595977', 1, 'Proposal 28 that reached its quorum', 101, 94, NULL),
-(304, TIMESTAMP '2023-02-08 11:37:29.599', TIMESTAMP '2023-02-12 11:37:29.6', 'Q5Wrmdpe Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation', 'chart-bar', TIMESTAMP '2023-02-09 11:37:29.598771', 1, 'Proposal 29 that reached its quorum', 101, 59, NULL),
-(305, TIMESTAMP '2023-02-04 11:37:29.602', TIMESTAMP '2023-02-12 11:37:29.603', 'REMAbc5t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugi', 'taxi', TIMESTAMP '2023-02-04 11:37:29.601468', 1, 'Proposal 30 that reached its quorum', 101, 72, NULL),
-(306, TIMESTAMP '2023-02-08 11:37:29.605', TIMESTAMP '2023-02-12 11:37:29.606', 'Xyxx4zpN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occ', 'chalkboard-teacher', TIMESTAMP '2023-02-08 11:37:29.604261', 1, 'Proposal 31 that reached its quorum', 101, 42, NULL),
-(307, TIMESTAMP '2023-02-11 11:37:29.608', TIMESTAMP '2023-02-12 11:37:29.609', 'XFCe4hAY Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea com', 'chart-area', TIMESTAMP '2023-02-11 11:37:29.607367', 1, 'Proposal 32 that reached its quorum', 101, 22, NULL);
+(298, TIMESTAMP '2023-02-10 11:37:29.582', TIMESTAMP '2023-02-12 11:37:29.583', '2Qe4qMg5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis n', 'tags', TIMESTAMP '2023-02-10 11:37:29.581817', 1, 'Proposal 23 that reached its quorum', 101, 25, NULL, 0, 1),
+(299, TIMESTAMP '2023-02-10 11:37:29.585', TIMESTAMP '2023-02-12 11:37:29.586', 'c0Z9FP0N Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dol', 'map-marked', TIMESTAMP '2023-02-10 11:37:29.584355', 1, 'Proposal 24 that reached its quorum', 101, 44, NULL, 0, 1),
+(300, TIMESTAMP '2023-02-04 11:37:29.589114', TIMESTAMP '2023-02-05 11:37:29.589228', 'whU6Rd0M Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'tasks', TIMESTAMP '2023-02-08 11:37:29.587965', 1, 'Proposal 25 that reached its quorum', 101, 1, NULL, 0, 0),
+(301, TIMESTAMP '2023-02-12 11:37:29.591', TIMESTAMP '2023-02-12 11:37:29.591', 'N86LtmY9 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore mag', 'tags', TIMESTAMP '2023-02-12 11:37:29.590098', 1, 'Proposal 26 that reached its quorum', 101, 6, NULL, 0, 1),
+(302, TIMESTAMP '2023-02-09 11:37:29.593', TIMESTAMP '2023-02-12 11:37:29.594', 'YmyZncE0 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veni', 'map-marked', TIMESTAMP '2023-02-11 11:37:29.592808', 1, 'Proposal 27 that reached its quorum', 101, 87, NULL, 0, 1),
+(303, TIMESTAMP '2023-02-10 11:37:29.597', TIMESTAMP '2023-02-12 11:37:29.597', 'TTg096S5 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim', 'magnet', TIMESTAMP '2023-02-11 11:37:29.595977', 1, 'Proposal 28 that reached its quorum', 101, 94, NULL, 0, 1),
+(304, TIMESTAMP '2023-02-08 11:37:29.599', TIMESTAMP '2023-02-12 11:37:29.6', 'Q5Wrmdpe Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation', 'chart-bar', TIMESTAMP '2023-02-09 11:37:29.598771', 1, 'Proposal 29 that reached its quorum', 101, 59, NULL, 0, 1),
+(305, TIMESTAMP '2023-02-04 11:37:29.602', TIMESTAMP '2023-02-12 11:37:29.603', 'REMAbc5t Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugi', 'taxi', TIMESTAMP '2023-02-04 11:37:29.601468', 1, 'Proposal 30 that reached its quorum', 101, 72, NULL, 0, 1),
+(306, TIMESTAMP '2023-02-08 11:37:29.605', TIMESTAMP '2023-02-12 11:37:29.606', 'Xyxx4zpN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occ', 'chalkboard-teacher', TIMESTAMP '2023-02-08 11:37:29.604261', 1, 'Proposal 31 that reached its quorum', 101, 42, NULL, 0, 1),
+(307, TIMESTAMP '2023-02-11 11:37:29.608', TIMESTAMP '2023-02-12 11:37:29.609', 'XFCe4hAY Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea com', 'chart-area', TIMESTAMP '2023-02-11 11:37:29.607367', 1, 'Proposal 32 that reached its quorum', 101, 22, NULL, 0, 1);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(308, TIMESTAMP '2023-02-06 11:37:29.611', TIMESTAMP '2023-02-12 11:37:29.612', 'KbSNNhhk Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', 'taxi', TIMESTAMP '2023-02-12 11:37:29.610261', 1, 'Proposal 33 that reached its quorum', 101, 73, NULL),
-(309, TIMESTAMP '2023-02-09 11:37:29.614', TIMESTAMP '2023-02-12 11:37:29.615', 'mt9f4fxN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptat', 'map-marker', TIMESTAMP '2023-02-09 11:37:29.613481', 1, 'Proposal 34 that reached its quorum', 101, 34, NULL),
-(310, TIMESTAMP '2023-02-12 11:37:29.617', TIMESTAMP '2023-02-12 11:37:29.618', 'WN8H3VzW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commod', 'chart-area', TIMESTAMP '2023-02-12 11:37:29.61642', 1, 'Proposal 35 that reached its quorum', 101, 100, NULL),
-(311, TIMESTAMP '2023-02-06 11:37:29.621', TIMESTAMP '2023-02-12 11:37:29.621', 'ZKwdzq0c Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris ni', 'teeth', TIMESTAMP '2023-02-06 11:37:29.619754', 1, 'Proposal 36 that reached its quorum', 101, 59, NULL),
-(312, TIMESTAMP '2023-02-05 11:37:29.623', TIMESTAMP '2023-02-12 11:37:29.624', 'NqpRZnbF Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aut', 'tag', TIMESTAMP '2023-02-09 11:37:29.622881', 1, 'Proposal 37 that reached its quorum', 101, 21, NULL),
-(313, TIMESTAMP '2023-02-11 11:37:29.625', TIMESTAMP '2023-02-12 11:37:29.626', 'gf6cdnf8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non ', 'tags', TIMESTAMP '2023-02-12 11:37:29.625096', 1, 'Proposal 38 that reached its quorum', 101, 7, NULL),
-(314, TIMESTAMP '2023-02-12 11:37:29.628', TIMESTAMP '2023-02-12 11:37:29.629', 'TyrBDq7b Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa', 'male', TIMESTAMP '2023-02-12 11:37:29.627237', 1, 'Proposal 39 that reached its quorum', 101, 57, NULL),
-(315, TIMESTAMP '2023-02-08 11:37:29.631', TIMESTAMP '2023-02-12 11:37:29.631', 'TRYAfLaW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.', 'magic', TIMESTAMP '2023-02-10 11:37:29.630435', 1, 'Proposal 40 that reached its quorum', 101, 25, NULL),
-(316, TIMESTAMP '2023-02-04 11:37:29.633', TIMESTAMP '2023-02-12 11:37:29.633', 'bknBftrh Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ', 'map-marker', TIMESTAMP '2023-02-11 11:37:29.632649', 1, 'Proposal 41 that reached its quorum', 101, 67, NULL);
+(308, TIMESTAMP '2023-02-06 11:37:29.611', TIMESTAMP '2023-02-12 11:37:29.612', 'KbSNNhhk Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa ', 'taxi', TIMESTAMP '2023-02-12 11:37:29.610261', 1, 'Proposal 33 that reached its quorum', 101, 73, NULL, 0, 1),
+(309, TIMESTAMP '2023-02-09 11:37:29.614', TIMESTAMP '2023-02-12 11:37:29.615', 'mt9f4fxN Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptat', 'map-marker', TIMESTAMP '2023-02-09 11:37:29.613481', 1, 'Proposal 34 that reached its quorum', 101, 34, NULL, 0, 1),
+(310, TIMESTAMP '2023-02-12 11:37:29.617', TIMESTAMP '2023-02-12 11:37:29.618', 'WN8H3VzW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commod', 'chart-area', TIMESTAMP '2023-02-12 11:37:29.61642', 1, 'Proposal 35 that reached its quorum', 101, 100, NULL, 0, 1),
+(311, TIMESTAMP '2023-02-06 11:37:29.621', TIMESTAMP '2023-02-12 11:37:29.621', 'ZKwdzq0c Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris ni', 'teeth', TIMESTAMP '2023-02-06 11:37:29.619754', 1, 'Proposal 36 that reached its quorum', 101, 59, NULL, 0, 1),
+(312, TIMESTAMP '2023-02-05 11:37:29.623', TIMESTAMP '2023-02-12 11:37:29.624', 'NqpRZnbF Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aut', 'tag', TIMESTAMP '2023-02-09 11:37:29.622881', 1, 'Proposal 37 that reached its quorum', 101, 21, NULL, 0, 1),
+(313, TIMESTAMP '2023-02-11 11:37:29.625', TIMESTAMP '2023-02-12 11:37:29.626', 'gf6cdnf8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non ', 'tags', TIMESTAMP '2023-02-12 11:37:29.625096', 1, 'Proposal 38 that reached its quorum', 101, 7, NULL, 0, 1),
+(314, TIMESTAMP '2023-02-12 11:37:29.628', TIMESTAMP '2023-02-12 11:37:29.629', 'TyrBDq7b Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa', 'male', TIMESTAMP '2023-02-12 11:37:29.627237', 1, 'Proposal 39 that reached its quorum', 101, 57, NULL, 0, 1),
+(315, TIMESTAMP '2023-02-08 11:37:29.631', TIMESTAMP '2023-02-12 11:37:29.631', 'TRYAfLaW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.', 'magic', TIMESTAMP '2023-02-10 11:37:29.630435', 1, 'Proposal 40 that reached its quorum', 101, 25, NULL, 0, 1),
+(316, TIMESTAMP '2023-02-04 11:37:29.633', TIMESTAMP '2023-02-12 11:37:29.633', 'bknBftrh Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ', 'map-marker', TIMESTAMP '2023-02-11 11:37:29.632649', 1, 'Proposal 41 that reached its quorum', 101, 67, NULL, 0, 1);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(317, TIMESTAMP '2023-02-06 11:37:29.636', TIMESTAMP '2023-02-12 11:37:29.636', 'fGreW7sk Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate vel', 'tape', TIMESTAMP '2023-02-10 11:37:29.635182', 1, 'Proposal 42 that reached its quorum', 101, 21, NULL),
-(318, TIMESTAMP '2023-02-11 11:37:29.638', TIMESTAMP '2023-02-12 11:37:29.639', 'z9ntuXFr Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaeca', 'chalkboard-teacher', TIMESTAMP '2023-02-11 11:37:29.637972', 1, 'Proposal 43 that reached its quorum', 101, 81, NULL),
-(319, TIMESTAMP '2023-02-12 11:37:29.641', TIMESTAMP '2023-02-12 11:37:29.642', 'TKP8p0zC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolo', 'chair', TIMESTAMP '2023-02-12 11:37:29.640615', 1, 'Proposal 44 that reached its quorum', 101, 86, NULL),
-(320, TIMESTAMP '2023-02-07 11:37:29.644', TIMESTAMP '2023-02-12 11:37:29.646', 'ZrPEkgdW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupida', 'temperature-high', TIMESTAMP '2023-02-11 11:37:29.643591', 1, 'Proposal 45 that reached its quorum', 101, 64, NULL),
-(321, TIMESTAMP '2023-02-05 11:37:29.648', TIMESTAMP '2023-02-12 11:37:29.649', 'AL6XNWeH Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'chalkboard-teacher', TIMESTAMP '2023-02-11 11:37:29.647459', 1, 'Proposal 46 that reached its quorum', 101, 78, NULL),
-(322, TIMESTAMP '2023-02-12 11:37:29.651061', TIMESTAMP '2023-02-12 11:37:29.651158', 'f8nXgQ9m Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dol', 'tape', TIMESTAMP '2023-02-12 11:37:29.650155', 1, 'Proposal 47 that reached its quorum', 101, 87, NULL),
-(323, TIMESTAMP '2023-02-10 11:37:29.653', TIMESTAMP '2023-02-12 11:37:29.654', 'ZMCWMnv8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut ali', 'temperature-high', TIMESTAMP '2023-02-10 11:37:29.652928', 1, 'Proposal 48 that reached its quorum', 101, 90, NULL),
-(324, TIMESTAMP '2023-02-09 11:37:29.657', TIMESTAMP '2023-02-12 11:37:29.657', 'MPQ8ZC88 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolor', 'map-marked-alt', TIMESTAMP '2023-02-10 11:37:29.655711', 1, 'Proposal 49 that reached its quorum', 101, 67, NULL),
-(325, TIMESTAMP '2023-02-11 11:37:29.66', TIMESTAMP '2023-02-12 11:37:29.672', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et ', 'teeth-open', TIMESTAMP '2023-02-12 11:37:29.659137', 1, 'Proposal 0 for user test_1@liquido.vote', 101, 1, NULL);
+(317, TIMESTAMP '2023-02-06 11:37:29.636', TIMESTAMP '2023-02-12 11:37:29.636', 'fGreW7sk Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate vel', 'tape', TIMESTAMP '2023-02-10 11:37:29.635182', 1, 'Proposal 42 that reached its quorum', 101, 21, NULL, 0, 1),
+(318, TIMESTAMP '2023-02-11 11:37:29.638', TIMESTAMP '2023-02-12 11:37:29.639', 'z9ntuXFr Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaeca', 'chalkboard-teacher', TIMESTAMP '2023-02-11 11:37:29.637972', 1, 'Proposal 43 that reached its quorum', 101, 81, NULL, 0, 1),
+(319, TIMESTAMP '2023-02-12 11:37:29.641', TIMESTAMP '2023-02-12 11:37:29.642', 'TKP8p0zC Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolo', 'chair', TIMESTAMP '2023-02-12 11:37:29.640615', 1, 'Proposal 44 that reached its quorum', 101, 86, NULL, 0, 1),
+(320, TIMESTAMP '2023-02-07 11:37:29.644', TIMESTAMP '2023-02-12 11:37:29.646', 'ZrPEkgdW Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupida', 'temperature-high', TIMESTAMP '2023-02-11 11:37:29.643591', 1, 'Proposal 45 that reached its quorum', 101, 64, NULL, 0, 1),
+(321, TIMESTAMP '2023-02-05 11:37:29.648', TIMESTAMP '2023-02-12 11:37:29.649', 'AL6XNWeH Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut', 'chalkboard-teacher', TIMESTAMP '2023-02-11 11:37:29.647459', 1, 'Proposal 46 that reached its quorum', 101, 78, NULL, 0, 1),
+(322, TIMESTAMP '2023-02-12 11:37:29.651061', TIMESTAMP '2023-02-12 11:37:29.651158', 'f8nXgQ9m Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dol', 'tape', TIMESTAMP '2023-02-12 11:37:29.650155', 1, 'Proposal 47 that reached its quorum', 101, 87, NULL, 0, 1),
+(323, TIMESTAMP '2023-02-10 11:37:29.653', TIMESTAMP '2023-02-12 11:37:29.654', 'ZMCWMnv8 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut ali', 'temperature-high', TIMESTAMP '2023-02-10 11:37:29.652928', 1, 'Proposal 48 that reached its quorum', 101, 90, NULL, 0, 1),
+(324, TIMESTAMP '2023-02-09 11:37:29.657', TIMESTAMP '2023-02-12 11:37:29.657', 'MPQ8ZC88 Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolor', 'map-marked-alt', TIMESTAMP '2023-02-10 11:37:29.655711', 1, 'Proposal 49 that reached its quorum', 101, 67, NULL, 0, 1),
+(325, TIMESTAMP '2023-02-11 11:37:29.66', TIMESTAMP '2023-02-12 11:37:29.672', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et ', 'teeth-open', TIMESTAMP '2023-02-12 11:37:29.659137', 1, 'Proposal 0 for user test_1@liquido.vote', 101, 1, NULL, 6, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(332, TIMESTAMP '2023-02-04 11:37:29.675', TIMESTAMP '2023-02-12 11:37:29.681', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea ', 'map-marker', TIMESTAMP '2023-02-04 11:37:29.674658', 1, 'Proposal 1 for user test_1@liquido.vote', 101, 1, NULL),
-(338, TIMESTAMP '2023-02-10 11:37:29.684', TIMESTAMP '2023-02-12 11:37:29.688', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', 'tags', TIMESTAMP '2023-02-11 11:37:29.683561', 1, 'Proposal 2 for user test_1@liquido.vote', 101, 1, NULL),
-(342, TIMESTAMP '2023-02-07 11:37:29.69', TIMESTAMP '2023-02-12 11:37:29.696', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco la', 'tasks', TIMESTAMP '2023-02-09 11:37:29.689582', 1, 'Proposal 3 for user test_1@liquido.vote', 101, 1, NULL),
-(348, TIMESTAMP '2023-02-09 11:37:29.699', TIMESTAMP '2023-02-12 11:37:29.704', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qu', 'charging-station', TIMESTAMP '2023-02-11 11:37:29.697965', 1, 'Proposal 4 for user test_1@liquido.vote', 101, 1, NULL),
-(363, TIMESTAMP '2023-02-03 11:37:36.6', TIMESTAMP '2023-02-12 11:37:36.609', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exerc', 'chart-area', TIMESTAMP '2023-02-05 11:37:36.599189', 2, 'Initial Proposal in a poll that is in elaboration 1676198256598', 101, 1, 371),
-(372, TIMESTAMP '2023-01-24 11:37:36.612', TIMESTAMP '2023-02-12 11:37:36.621', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', 'chalkboard-teacher', TIMESTAMP '2023-01-25 11:37:36.611064', 2, 'Alternative Proposal1 in a poll that is in elaboration1676198256610', 101, 2, 371),
-(379, TIMESTAMP '2023-01-24 11:37:36.623', TIMESTAMP '2023-02-12 11:37:36.631', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim', 'taxi', TIMESTAMP '2023-01-25 11:37:36.622508', 2, 'Alternative Proposal2 in a poll that is in elaboration1676198256621', 101, 3, 371),
-(385, TIMESTAMP '2023-01-24 11:37:36.633', TIMESTAMP '2023-02-12 11:37:36.641', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim venia', 'chart-area', TIMESTAMP '2023-01-25 11:37:36.632763', 2, 'Alternative Proposal3 in a poll that is in elaboration1676198256632', 101, 4, 371),
-(390, TIMESTAMP '2023-01-24 11:37:36.643', TIMESTAMP '2023-02-12 11:37:36.654', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore m', 'teeth-open', TIMESTAMP '2023-01-25 11:37:36.642936', 2, 'Alternative Proposal4 in a poll that is in elaboration1676198256642', 101, 5, 371),
-(397, TIMESTAMP '2023-02-03 11:37:36.657', TIMESTAMP '2023-02-12 11:37:36.718', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et d', 'taxi', TIMESTAMP '2023-02-05 11:37:36.656077', 3, 'Proposal 3 in voting phase 1676198256705', 101, 1, 402);
+(332, TIMESTAMP '2023-02-04 11:37:29.675', TIMESTAMP '2023-02-12 11:37:29.681', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea ', 'map-marker', TIMESTAMP '2023-02-04 11:37:29.674658', 1, 'Proposal 1 for user test_1@liquido.vote', 101, 1, NULL, 5, 0),
+(338, TIMESTAMP '2023-02-10 11:37:29.684', TIMESTAMP '2023-02-12 11:37:29.688', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident', 'tags', TIMESTAMP '2023-02-11 11:37:29.683561', 1, 'Proposal 2 for user test_1@liquido.vote', 101, 1, NULL, 3, 0),
+(342, TIMESTAMP '2023-02-07 11:37:29.69', TIMESTAMP '2023-02-12 11:37:29.696', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco la', 'tasks', TIMESTAMP '2023-02-09 11:37:29.689582', 1, 'Proposal 3 for user test_1@liquido.vote', 101, 1, NULL, 5, 0),
+(348, TIMESTAMP '2023-02-09 11:37:29.699', TIMESTAMP '2023-02-12 11:37:29.704', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qu', 'charging-station', TIMESTAMP '2023-02-11 11:37:29.697965', 1, 'Proposal 4 for user test_1@liquido.vote', 101, 1, NULL, 5, 0),
+(363, TIMESTAMP '2023-02-03 11:37:36.6', TIMESTAMP '2023-02-12 11:37:36.609', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exerc', 'chart-area', TIMESTAMP '2023-02-05 11:37:36.599189', 2, 'Initial Proposal in a poll that is in elaboration 1676198256598', 101, 1, 371, 7, 0),
+(372, TIMESTAMP '2023-01-24 11:37:36.612', TIMESTAMP '2023-02-12 11:37:36.621', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud', 'chalkboard-teacher', TIMESTAMP '2023-01-25 11:37:36.611064', 2, 'Alternative Proposal1 in a poll that is in elaboration1676198256610', 101, 2, 371, 6, 0),
+(379, TIMESTAMP '2023-01-24 11:37:36.623', TIMESTAMP '2023-02-12 11:37:36.631', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim', 'taxi', TIMESTAMP '2023-01-25 11:37:36.622508', 2, 'Alternative Proposal2 in a poll that is in elaboration1676198256621', 101, 3, 371, 5, 0),
+(385, TIMESTAMP '2023-01-24 11:37:36.633', TIMESTAMP '2023-02-12 11:37:36.641', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim venia', 'chart-area', TIMESTAMP '2023-01-25 11:37:36.632763', 2, 'Alternative Proposal3 in a poll that is in elaboration1676198256632', 101, 4, 371, 4, 0),
+(390, TIMESTAMP '2023-01-24 11:37:36.643', TIMESTAMP '2023-02-12 11:37:36.654', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore m', 'teeth-open', TIMESTAMP '2023-01-25 11:37:36.642936', 2, 'Alternative Proposal4 in a poll that is in elaboration1676198256642', 101, 5, 371, 6, 0),
+(397, TIMESTAMP '2023-02-03 11:37:36.657', TIMESTAMP '2023-02-12 11:37:36.718', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et d', 'taxi', TIMESTAMP '2023-02-05 11:37:36.656077', 3, 'Proposal 3 in voting phase 1676198256705', 101, 1, 402, 4, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(403, TIMESTAMP '2023-01-24 11:37:36.664', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint o', 'charging-station', TIMESTAMP '2023-01-25 11:37:36.66336', 3, 'Proposal 5 in voting phase 1676198256705', 101, 2, 402),
-(411, TIMESTAMP '2023-01-24 11:37:36.673', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint ', 'teeth-open', TIMESTAMP '2023-01-25 11:37:36.672842', 3, 'Proposal 2 in voting phase 1676198256705', 101, 3, 402),
-(416, TIMESTAMP '2023-01-24 11:37:36.683', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in v', 'mail-bulk', TIMESTAMP '2023-01-25 11:37:36.682254', 3, 'Proposal 4 in voting phase 1676198256705', 101, 4, 402),
-(423, TIMESTAMP '2023-01-24 11:37:36.697', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur', 'mail-bulk', TIMESTAMP '2023-01-25 11:37:36.695741', 3, 'Proposal 1 in voting phase 1676198256705', 101, 5, 402),
-(427, TIMESTAMP '2023-02-03 11:37:36.722', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolo', 'taxi', TIMESTAMP '2023-02-05 11:37:36.721675', 3, 'Proposal 3 in voting phase 1676198256777', 101, 1, 433),
-(434, TIMESTAMP '2023-01-24 11:37:36.732', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex e', 'tag', TIMESTAMP '2023-01-25 11:37:36.730635', 3, 'Proposal 5 in voting phase 1676198256777', 101, 2, 433),
-(441, TIMESTAMP '2023-01-24 11:37:36.741', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris ', 'magic', TIMESTAMP '2023-01-25 11:37:36.740199', 3, 'Proposal 2 in voting phase 1676198256777', 101, 3, 433),
-(446, TIMESTAMP '2023-01-24 11:37:36.753', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo', 'chalkboard-teacher', TIMESTAMP '2023-01-25 11:37:36.751625', 3, 'Proposal 4 in voting phase 1676198256777', 101, 4, 433),
-(454, TIMESTAMP '2023-01-24 11:37:36.766', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint o', 'chart-bar', TIMESTAMP '2023-01-25 11:37:36.766037', 3, 'Proposal 1 in voting phase 1676198256777', 101, 5, 433);
+(403, TIMESTAMP '2023-01-24 11:37:36.664', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint o', 'charging-station', TIMESTAMP '2023-01-25 11:37:36.66336', 3, 'Proposal 5 in voting phase 1676198256705', 101, 2, 402, 7, 0),
+(411, TIMESTAMP '2023-01-24 11:37:36.673', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint ', 'teeth-open', TIMESTAMP '2023-01-25 11:37:36.672842', 3, 'Proposal 2 in voting phase 1676198256705', 101, 3, 402, 4, 0),
+(416, TIMESTAMP '2023-01-24 11:37:36.683', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in v', 'mail-bulk', TIMESTAMP '2023-01-25 11:37:36.682254', 3, 'Proposal 4 in voting phase 1676198256705', 101, 4, 402, 6, 0),
+(423, TIMESTAMP '2023-01-24 11:37:36.697', TIMESTAMP '2023-02-12 11:37:36.719', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur', 'mail-bulk', TIMESTAMP '2023-01-25 11:37:36.695741', 3, 'Proposal 1 in voting phase 1676198256705', 101, 5, 402, 3, 0),
+(427, TIMESTAMP '2023-02-03 11:37:36.722', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolo', 'taxi', TIMESTAMP '2023-02-05 11:37:36.721675', 3, 'Proposal 3 in voting phase 1676198256777', 101, 1, 433, 5, 0),
+(434, TIMESTAMP '2023-01-24 11:37:36.732', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex e', 'tag', TIMESTAMP '2023-01-25 11:37:36.730635', 3, 'Proposal 5 in voting phase 1676198256777', 101, 2, 433, 6, 0),
+(441, TIMESTAMP '2023-01-24 11:37:36.741', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris ', 'magic', TIMESTAMP '2023-01-25 11:37:36.740199', 3, 'Proposal 2 in voting phase 1676198256777', 101, 3, 433, 4, 0),
+(446, TIMESTAMP '2023-01-24 11:37:36.753', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo', 'chalkboard-teacher', TIMESTAMP '2023-01-25 11:37:36.751625', 3, 'Proposal 4 in voting phase 1676198256777', 101, 4, 433, 7, 0),
+(454, TIMESTAMP '2023-01-24 11:37:36.766', TIMESTAMP '2023-02-12 11:37:36.793', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint o', 'chart-bar', TIMESTAMP '2023-01-25 11:37:36.766037', 3, 'Proposal 1 in voting phase 1676198256777', 101, 5, 433, 5, 0);
 INSERT INTO "PUBLIC"."LAWS" VALUES
-(479, TIMESTAMP '2023-02-03 11:37:43.562', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint oc', 'charging-station', TIMESTAMP '2023-02-05 11:37:43.561012', 5, 'Proposal 4 in voting phase 1676198263596', 101, 1, 485),
-(486, TIMESTAMP '2023-01-24 11:37:43.568', TIMESTAMP '2023-02-12 11:37:50.354', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore', 'chart-bar', TIMESTAMP '2023-01-25 11:37:43.568261', 4, 'This winning Proposal is now a Law', 101, 2, 485),
-(492, TIMESTAMP '2023-01-24 11:37:43.576', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna a', 'charging-station', TIMESTAMP '2023-01-25 11:37:43.57626', 5, 'Proposal 3 in voting phase 1676198263596', 101, 3, 485),
-(496, TIMESTAMP '2023-01-24 11:37:43.583', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute ir', 'tag', TIMESTAMP '2023-01-25 11:37:43.582991', 5, 'Proposal 5 in voting phase 1676198263596', 101, 4, 485),
-(501, TIMESTAMP '2023-01-24 11:37:43.59', TIMESTAMP '2023-02-12 11:37:50.347', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ma', 'chalkboard', TIMESTAMP '2023-01-25 11:37:43.590034', 5, 'Proposal 1 in voting phase 1676198263596', 101, 5, 485),
-(524, TIMESTAMP '2023-01-23 11:37:50.358886', TIMESTAMP '2023-02-12 11:37:50.358', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commo', 'chart-bar', TIMESTAMP '2023-02-02 11:37:50.357729', 4, 'Law 0', 101, 1, NULL),
-(525, TIMESTAMP '2023-01-22 11:37:50.365376', TIMESTAMP '2023-02-12 11:37:50.364', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolo', 'map-marked-alt', TIMESTAMP '2023-02-02 11:37:50.360756', 4, 'Law 1', 101, 1, NULL);
-CREATE MEMORY TABLE "PUBLIC"."LAWS_COMMENTS"(
-"LAW_MODEL_ID" BIGINT NOT NULL,
-"COMMENTS_ID" BIGINT NOT NULL
-);
-ALTER TABLE "PUBLIC"."LAWS_COMMENTS" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_A0" PRIMARY KEY("LAW_MODEL_ID", "COMMENTS_ID");
--- 25 +/- SELECT COUNT(*) FROM PUBLIC.LAWS_COMMENTS;
-INSERT INTO "PUBLIC"."LAWS_COMMENTS" VALUES
-(325, 326),
-(332, 333),
-(338, 339),
-(342, 343),
-(348, 349),
-(363, 364),
-(372, 373),
-(379, 380),
-(385, 386),
-(390, 391),
-(397, 398),
-(403, 404),
-(411, 412),
-(416, 417),
-(423, 424),
-(427, 428),
-(434, 435),
-(441, 442),
-(446, 447),
-(454, 455),
-(479, 480),
-(486, 487),
-(492, 493),
-(496, 497),
-(501, 502);
+(479, TIMESTAMP '2023-02-03 11:37:43.562', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint oc', 'charging-station', TIMESTAMP '2023-02-05 11:37:43.561012', 5, 'Proposal 4 in voting phase 1676198263596', 101, 1, 485, 5, 0),
+(486, TIMESTAMP '2023-01-24 11:37:43.568', TIMESTAMP '2023-02-12 11:37:50.354', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore', 'chart-bar', TIMESTAMP '2023-01-25 11:37:43.568261', 4, 'This winning Proposal is now a Law', 101, 2, 485, 5, 0),
+(492, TIMESTAMP '2023-01-24 11:37:43.576', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna a', 'charging-station', TIMESTAMP '2023-01-25 11:37:43.57626', 5, 'Proposal 3 in voting phase 1676198263596', 101, 3, 485, 3, 0),
+(496, TIMESTAMP '2023-01-24 11:37:43.583', TIMESTAMP '2023-02-12 11:37:50.348', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute ir', 'tag', TIMESTAMP '2023-01-25 11:37:43.582991', 5, 'Proposal 5 in voting phase 1676198263596', 101, 4, 485, 4, 0),
+(501, TIMESTAMP '2023-01-24 11:37:43.59', TIMESTAMP '2023-02-12 11:37:50.347', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore ma', 'chalkboard', TIMESTAMP '2023-01-25 11:37:43.590034', 5, 'Proposal 1 in voting phase 1676198263596', 101, 5, 485, 3, 0),
+(524, TIMESTAMP '2023-01-23 11:37:50.358886', TIMESTAMP '2023-02-12 11:37:50.358', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commo', 'chart-bar', TIMESTAMP '2023-02-02 11:37:50.357729', 4, 'Law 0', 101, 1, NULL, 0, 1),
+(525, TIMESTAMP '2023-01-22 11:37:50.365376', TIMESTAMP '2023-02-12 11:37:50.364', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolo', 'map-marked-alt', TIMESTAMP '2023-02-02 11:37:50.360756', 4, 'Law 1', 101, 1, NULL, 0, 1);
 CREATE MEMORY TABLE "PUBLIC"."LAWS_SUPPORTERS"(
 "LAW_MODEL_ID" BIGINT NOT NULL,
 "SUPPORTERS_ID" BIGINT NOT NULL
@@ -1460,6 +1439,22 @@ CREATE MEMORY TABLE "PUBLIC"."ONE_TIME_TOKEN"(
 );
 ALTER TABLE "PUBLIC"."ONE_TIME_TOKEN" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_4" PRIMARY KEY("ID");
 -- 0 +/- SELECT COUNT(*) FROM PUBLIC.ONE_TIME_TOKEN;
+CREATE MEMORY TABLE "PUBLIC"."POLL_ARCHIVES"(
+"POLL_ID" BIGINT NOT NULL,
+"ARCHIVED_AT" TIMESTAMP NOT NULL,
+"BALLOTS" BINARY LARGE OBJECT NOT NULL,
+"NUM_BALLOTS" INTEGER NOT NULL
+);
+ALTER TABLE "PUBLIC"."POLL_ARCHIVES" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_POLL_ARCHIVES" PRIMARY KEY("POLL_ID");
+-- 0 +/- SELECT COUNT(*) FROM PUBLIC.POLL_ARCHIVES;
+CREATE MEMORY TABLE "PUBLIC"."POLL_RESULTS"(
+"POLL_ID" BIGINT NOT NULL,
+"HASH" VARCHAR(255) NOT NULL,
+"JSON" BINARY LARGE OBJECT NOT NULL,
+"RENDERED_AT" TIMESTAMP NOT NULL
+);
+ALTER TABLE "PUBLIC"."POLL_RESULTS" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_POLL_RESULTS" PRIMARY KEY("POLL_ID");
+-- 0 +/- SELECT COUNT(*) FROM PUBLIC.POLL_RESULTS;
 CREATE MEMORY TABLE "PUBLIC"."POLLS"(
 "ID" BIGINT NOT NULL,
 "CREATED_AT" TIMESTAMP NOT NULL,
@@ -1471,20 +1466,21 @@ CREATE MEMORY TABLE "PUBLIC"."POLLS"(
 "VOTING_START_AT" TIMESTAMP,
 "AREA_ID" BIGINT NOT NULL,
 "TEAM_ID" BIGINT,
-"WINNER_ID" BIGINT
+"WINNER_ID" BIGINT,
+"NUM_BALLOTS" INTEGER DEFAULT 0 NOT NULL
 );
 ALTER TABLE "PUBLIC"."POLLS" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_48" PRIMARY KEY("ID");
 -- 9 +/- SELECT COUNT(*) FROM PUBLIC.POLLS;
 INSERT INTO "PUBLIC"."POLLS" VALUES
-(134, TIMESTAMP '2023-02-05 11:37:28.160327', TIMESTAMP '2023-02-05 11:37:28.160565', '', 0, 'First poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL),
-(141, TIMESTAMP '2023-02-05 11:37:28.179491', TIMESTAMP '2023-02-05 11:37:28.179704', '', 0, 'Second poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL),
-(145, TIMESTAMP '2023-02-05 11:37:28.195797', TIMESTAMP '2023-02-05 11:37:28.195981', '', 0, 'And a third very nice poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL),
-(149, TIMESTAMP '2023-02-05 11:37:28.211522', TIMESTAMP '2023-02-05 11:37:28.211716', '', 0, 'Fourth important poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL),
-(153, TIMESTAMP '2023-02-05 11:37:28.236', TIMESTAMP '2023-02-12 11:37:28.242', '', 1, 'Poll in Voting in test_TeamXCCv33D', TIMESTAMP '2023-02-26 00:00:00', TIMESTAMP '2023-02-12 11:37:28.236719', 101, 112, NULL),
-(371, TIMESTAMP '2023-02-05 11:37:36.654772', TIMESTAMP '2023-02-05 11:37:36.654864', '', 0, 'Poll from TestDataCreator 6610', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, NULL, NULL),
-(402, TIMESTAMP '2023-02-05 11:37:36.71', TIMESTAMP '2023-02-12 11:37:36.719', '', 1, 'Poll in voting phase 6715', TIMESTAMP '2023-02-25 00:00:00', TIMESTAMP '2023-02-11 11:37:36.715236', 101, NULL, NULL),
-(433, TIMESTAMP '2023-02-05 11:37:36.783', TIMESTAMP '2023-02-12 11:37:36.793', '', 1, 'Poll in voting phase 6789', TIMESTAMP '2023-02-25 00:00:00', TIMESTAMP '2023-02-11 11:37:36.789048', 101, NULL, NULL),
-(485, TIMESTAMP '2023-02-11 11:37:43.611', TIMESTAMP '2023-02-12 11:37:50.348', '[[0,9,11,9,10],[10,0,13,10,15],[8,6,0,8,10],[10,7,11,0,8],[7,4,9,11,0]]', 2, 'Finished Poll 3608', TIMESTAMP '2023-02-12 11:37:50.337575', TIMESTAMP '2023-01-24 11:37:43.608165', 101, NULL, 486);
+(134, TIMESTAMP '2023-02-05 11:37:28.160327', TIMESTAMP '2023-02-05 11:37:28.160565', '', 0, 'First poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL, 0),
+(141, TIMESTAMP '2023-02-05 11:37:28.179491', TIMESTAMP '2023-02-05 11:37:28.179704', '', 0, 'Second poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL, 0),
+(145, TIMESTAMP '2023-02-05 11:37:28.195797', TIMESTAMP '2023-02-05 11:37:28.195981', '', 0, 'And a third very nice poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL, 0),
+(149, TIMESTAMP '2023-02-05 11:37:28.211522', TIMESTAMP '2023-02-05 11:37:28.211716', '', 0, 'Fourth important poll in test_TeamXCCv33D', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, 112, NULL, 0),
+(153, TIMESTAMP '2023-02-05 11:37:28.236', TIMESTAMP '2023-02-12 11:37:28.242', '', 1, 'Poll in Voting in test_TeamXCCv33D', TIMESTAMP '2023-02-26 00:00:00', TIMESTAMP '2023-02-12 11:37:28.236719', 101, 112, NULL, 5),
+(371, TIMESTAMP '2023-02-05 11:37:36.654772', TIMESTAMP '2023-02-05 11:37:36.654864', '', 0, 'Poll from TestDataCreator 6610', TIMESTAMP '2023-03-12 00:00:00', TIMESTAMP '2023-02-26 00:00:00', 101, NULL, NULL, 0),
+(402, TIMESTAMP '2023-02-05 11:37:36.71', TIMESTAMP '2023-02-12 11:37:36.719', '', 1, 'Poll in voting phase 6715', TIMESTAMP '2023-02-25 00:00:00', TIMESTAMP '2023-02-11 11:37:36.715236', 101, NULL, NULL, 0),
+(433, TIMESTAMP '2023-02-05 11:37:36.783', TIMESTAMP '2023-02-12 11:37:36.793', '', 1, 'Poll in voting phase 6789', TIMESTAMP '2023-02-25 00:00:00', TIMESTAMP '2023-02-11 11:37:36.789048', 101, NULL, NULL, 19),
+(485, TIMESTAMP '2023-02-11 11:37:43.611', TIMESTAMP '2023-02-12 11:37:50.348', '[[0,9,11,9,10],[10,0,13,10,15],[8,6,0,8,10],[10,7,11,0,8],[7,4,9,11,0]]', 2, 'Finished Poll 3608', TIMESTAMP '2023-02-12 11:37:50.337575', TIMESTAMP '2023-01-24 11:37:43.608165', 101, NULL, 486, 19);
 CREATE MEMORY TABLE "PUBLIC"."RIGHT_TO_VOTE"(
 "HASHED_VOTER_TOKEN" VARCHAR(255) NOT NULL,
 "EXPIRES_AT" TIMESTAMP,
@@ -1523,6 +1519,13 @@ INSERT INTO "PUBLIC"."RIGHT_TO_VOTE" VALUES
 ('$2a$10$1X562rR7N2Wp3U7QI.JIzu9RtfBjfqRAeTehBM/JGekhApmsxxUom', TIMESTAMP '2023-02-13 11:37:49.145923', 101, NULL, 93),
 ('$2a$10$1X562rR7N2Wp3U7QI.JIzusAThT.HsksmwvgdKQ5NrKOU7YTsPBtq', TIMESTAMP '2023-02-13 11:37:49.592434', 101, NULL, 40),
 ('$2a$10$1X562rR7N2Wp3U7QI.JIzuGd57Owp5Ax9TxAx.00NLpYZdJCFRp2O', TIMESTAMP '2023-02-13 11:37:50.038387', 101, NULL, 94);
+CREATE MEMORY TABLE "PUBLIC"."SCHEDULER_LEASES"(
+"NAME" VARCHAR(255) NOT NULL,
+"EXPIRES_AT" TIMESTAMP NOT NULL,
+"OWNER" VARCHAR(255) NOT NULL
+);
+ALTER TABLE "PUBLIC"."SCHEDULER_LEASES" ADD CONSTRAINT "PUBLIC"."CONSTRAINT_SCHEDULER_LEASES" PRIMARY KEY("NAME");
+-- 0 +/- SELECT COUNT(*) FROM PUBLIC.SCHEDULER_LEASES;
 CREATE MEMORY TABLE "PUBLIC"."TEAMS"(
 "ID" BIGINT NOT NULL,
 "CREATED_AT" TIMESTAMP NOT NULL,
@@ -1717,8 +1720,19 @@ ALTER TABLE "PUBLIC"."LAWS" ADD CONSTRAINT "PUBLIC"."UK_BS516OPV3HONTPTWVPIOOS72
 ALTER TABLE "PUBLIC"."RIGHT_TO_VOTE" ADD CONSTRAINT "PUBLIC"."UKBM9SWUV2TL574P4GH3YUHX41W" UNIQUE("AREA_ID", "PUBLIC_PROXY_ID");
 ALTER TABLE "PUBLIC"."POLLS" ADD CONSTRAINT "PUBLIC"."UKJ8CL20OEBALVGYWXU4MKTF8L5" UNIQUE("TITLE", "TEAM_ID");
 ALTER TABLE "PUBLIC"."DELEGATIONS" ADD CONSTRAINT "PUBLIC"."UK2WYH7POIF8NPDWLUR8DFORD0J" UNIQUE("AREA_ID", "FROM_USER_ID");
-ALTER TABLE "PUBLIC"."LAWS_COMMENTS" ADD CONSTRAINT "PUBLIC"."UK_OF3YV6X3MAHJPHJBJE5XHRXC8" UNIQUE("COMMENTS_ID");
 ALTER TABLE "PUBLIC"."BALLOTS" ADD CONSTRAINT "PUBLIC"."UKQSJUULAMH27U4SL74LP4V54D2" UNIQUE("POLL_ID", "HASHED_VOTER_TOKEN");
+CREATE INDEX "PUBLIC"."IDX_BALLOTS_CHECKSUM" ON "PUBLIC"."BALLOTS"("CHECKSUM");
+CREATE INDEX "PUBLIC"."IDX_COMMENTS_CREATED_AT" ON "PUBLIC"."COMMENTS"("CREATED_AT");
+CREATE INDEX "PUBLIC"."IDX_COMMENTS_PROPOSAL_CREATED_AT" ON "PUBLIC"."COMMENTS"("PROPOSAL_ID", "CREATED_AT");
+CREATE INDEX "PUBLIC"."IDX_COMMENTS_PARENT" ON "PUBLIC"."COMMENTS"("PARENT_ID");
+CREATE INDEX "PUBLIC"."IDX_DELEGATIONS_AREA_TO_PROXY" ON "PUBLIC"."DELEGATIONS"("AREA_ID", "TO_PROXY_ID");
+CREATE INDEX "PUBLIC"."IDX_LAWS_STATUS_AREA" ON "PUBLIC"."LAWS"("STATUS", "AREA_ID");
+CREATE INDEX "PUBLIC"."IDX_ONE_TIME_TOKEN_NONCE" ON "PUBLIC"."ONE_TIME_TOKEN"("NONCE");
+CREATE INDEX "PUBLIC"."IDX_POLLS_STATUS_VOTING_END" ON "PUBLIC"."POLLS"("STATUS", "VOTING_END_AT");
+CREATE INDEX "PUBLIC"."IDX_RIGHT_TO_VOTE_DELEGATED_TO" ON "PUBLIC"."RIGHT_TO_VOTE"("DELEGATED_TO_HASHED_VOTER_TOKEN");
+CREATE INDEX "PUBLIC"."IDX_TEAMS_INVITE_CODE" ON "PUBLIC"."TEAMS"("INVITE_CODE");
+CREATE INDEX "PUBLIC"."IDX_USERS_EMAIL" ON "PUBLIC"."USERS"("EMAIL");
+CREATE INDEX "PUBLIC"."IDX_USERS_MOBILEPHONE" ON "PUBLIC"."USERS"("MOBILEPHONE");
 ALTER TABLE "PUBLIC"."AREAS" ADD CONSTRAINT "PUBLIC"."FKP9N0U4HM2Q1O7V0068C8GD4EL" FOREIGN KEY("CREATED_BY_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."DELEGATIONS" ADD CONSTRAINT "PUBLIC"."FKSWBDEOVC7HSQ5EX30PBMDU9D4" FOREIGN KEY("AREA_ID") REFERENCES "PUBLIC"."AREAS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."LAWS" ADD CONSTRAINT "PUBLIC"."FK4QUHD81MM84X6RQ0CCBXSEYXX" FOREIGN KEY("POLL_ID") REFERENCES "PUBLIC"."POLLS"("ID") NOCHECK;
@@ -1737,14 +1751,12 @@ ALTER TABLE "PUBLIC"."BALLOTS_VOTE_ORDER" ADD CONSTRAINT "PUBLIC"."FKOWD5MAD84QV
 ALTER TABLE "PUBLIC"."COMMENTS" ADD CONSTRAINT "PUBLIC"."FKAKKM6QFYDU7VGNFNE1YO0XMED" FOREIGN KEY("CREATED_BY_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."DELEGATIONS" ADD CONSTRAINT "PUBLIC"."FK21A6LG8FU2JS6E0JU41WJ2GQP" FOREIGN KEY("TO_PROXY_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."RIGHT_TO_VOTE" ADD CONSTRAINT "PUBLIC"."FK8D3FB8GYI0KOYMFJY79CF20U3" FOREIGN KEY("PUBLIC_PROXY_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
-ALTER TABLE "PUBLIC"."LAWS_COMMENTS" ADD CONSTRAINT "PUBLIC"."FK36FBKIUITRV0YRVY8S0IG46IX" FOREIGN KEY("LAW_MODEL_ID") REFERENCES "PUBLIC"."LAWS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."POLLS" ADD CONSTRAINT "PUBLIC"."FKQADOVSMQ4UOK58SP9HKHWJQIS" FOREIGN KEY("WINNER_ID") REFERENCES "PUBLIC"."LAWS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."DELEGATIONS" ADD CONSTRAINT "PUBLIC"."FK9KOYA2MI6T18VF7U1FROBKNIQ" FOREIGN KEY("FROM_USER_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."RIGHT_TO_VOTE" ADD CONSTRAINT "PUBLIC"."FKFH4TMXPY725SAXY9M562R5HLC" FOREIGN KEY("AREA_ID") REFERENCES "PUBLIC"."AREAS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."POLLS" ADD CONSTRAINT "PUBLIC"."FK6DT31YYGUWL253BOSPR7GGPLB" FOREIGN KEY("AREA_ID") REFERENCES "PUBLIC"."AREAS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."LAWS" ADD CONSTRAINT "PUBLIC"."FK9VIQDJ5LDUN0AHWQDFF1WUY39" FOREIGN KEY("AREA_ID") REFERENCES "PUBLIC"."AREAS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."DELEGATIONS" ADD CONSTRAINT "PUBLIC"."FKGBYHIRQCWSQLMH9EHS8R6Y8Q1" FOREIGN KEY("REQUESTED_DELEGATION_FROM_HASHED_VOTER_TOKEN") REFERENCES "PUBLIC"."RIGHT_TO_VOTE"("HASHED_VOTER_TOKEN") NOCHECK;
-ALTER TABLE "PUBLIC"."LAWS_COMMENTS" ADD CONSTRAINT "PUBLIC"."FKFL0Y4QFVFPF9YNMMFJ0JEVXFF" FOREIGN KEY("COMMENTS_ID") REFERENCES "PUBLIC"."COMMENTS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."RIGHT_TO_VOTE" ADD CONSTRAINT "PUBLIC"."FK44PJH5SRGAA08F3R1PF16BYQQ" FOREIGN KEY("DELEGATED_TO_HASHED_VOTER_TOKEN") REFERENCES "PUBLIC"."RIGHT_TO_VOTE"("HASHED_VOTER_TOKEN") NOCHECK;
 ALTER TABLE "PUBLIC"."TEAMS_ADMINS" ADD CONSTRAINT "PUBLIC"."FKEX3BU9TFHWLSU7WQ6TI2RVIH3" FOREIGN KEY("TEAM_MODEL_ID") REFERENCES "PUBLIC"."TEAMS"("ID") NOCHECK;
 ALTER TABLE "PUBLIC"."TEAMS_MEMBERS" ADD CONSTRAINT "PUBLIC"."FKGKDWLBKPN9KLDRDKXW2ON0II4" FOREIGN KEY("MEMBERS_ID") REFERENCES "PUBLIC"."USERS"("ID") NOCHECK;
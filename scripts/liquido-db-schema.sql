@@ -1,4 +1,13 @@
-create sequence hibernate_sequence start with 1 increment by 1
+create sequence area_model_seq start with 1 increment by 50
+create sequence ballot_model_seq start with 1 increment by 50
+create sequence comment_model_seq start with 1 increment by 50
+create sequence delegation_model_seq start with 1 increment by 50
+create sequence key_value_model_seq start with 1 increment by 50
+create sequence law_model_seq start with 1 increment by 50
+create sequence one_time_token_seq start with 1 increment by 50
+create sequence poll_model_seq start with 1 increment by 50
+create sequence team_model_seq start with 1 increment by 50
+create sequence user_model_seq start with 1 increment by 50
 create table areas (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(255) not null, title varchar(255) not null, created_by_id bigint not null, primary key (id))
 create table ballots (id bigint not null, checksum varchar(255), level integer not null, poll_id bigint not null, hashed_voter_token varchar(255) not null, primary key (id))
 create table ballots_vote_order (ballot_model_id bigint not null, vote_order_id bigint not null, law_model_order integer not null, primary key (ballot_model_id, law_model_order))
@@ -7,22 +16,35 @@ create table comments_down_voters (comment_model_id bigint not null, down_voters
 create table comments_up_voters (comment_model_id bigint not null, up_voters_id bigint not null, primary key (comment_model_id, up_voters_id))
 create table delegations (id bigint not null, created_at timestamp not null, updated_at timestamp not null, requested_delegation_at timestamp, area_id bigint not null, from_user_id bigint not null, requested_delegation_from_hashed_voter_token varchar(255), to_proxy_id bigint not null, primary key (id))
 create table key_value (id bigint not null, key_col varchar(255) not null, value_col varchar(255), primary key (id))
-create table laws (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(1000) not null, reached_quorum_at timestamp, status integer not null, title varchar(255) not null, area_id bigint not null, created_by_id bigint, poll_id bigint, primary key (id))
-create table laws_comments (law_model_id bigint not null, comments_id bigint not null, primary key (law_model_id, comments_id))
+create table laws (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(1000) not null, num_comments integer default 0 not null, num_supporters integer default 0 not null, reached_quorum_at timestamp, status integer not null, title varchar(255) not null, area_id bigint not null, created_by_id bigint, poll_id bigint, primary key (id))
 create table laws_supporters (law_model_id bigint not null, supporters_id bigint not null, primary key (law_model_id, supporters_id))
 create table one_time_token (id bigint not null, created_at timestamp not null, updated_at timestamp not null, nonce varchar(255) not null, valid_until timestamp not null, user_id bigint not null, primary key (id))
-create table polls (id bigint not null, created_at timestamp not null, updated_at timestamp not null, duel_matrix varchar(255), status integer, title varchar(255) not null, voting_end_at timestamp, voting_start_at timestamp, area_id bigint not null, team_id bigint, winner_id bigint, primary key (id))
+create table poll_archives (poll_id bigint not null, archived_at timestamp not null, ballots blob not null, num_ballots integer not null, primary key (poll_id))
+create table poll_results (poll_id bigint not null, hash varchar(255) not null, json blob not null, rendered_at timestamp not null, primary key (poll_id))
+create table polls (id bigint not null, created_at timestamp not null, updated_at timestamp not null, duel_matrix varchar(255), num_ballots integer default 0 not null, status integer, title varchar(255) not null, voting_end_at timestamp, voting_start_at timestamp, area_id bigint not null, team_id bigint, winner_id bigint, primary key (id))
 create table right_to_vote (hashed_voter_token varchar(255) not null, expires_at timestamp, area_id bigint, delegated_to_hashed_voter_token varchar(255), public_proxy_id bigint, primary key (hashed_voter_token))
+create table scheduler_leases (name varchar(255) not null, expires_at timestamp not null, owner varchar(255) not null, primary key (name))
 create table teams (id bigint not null, created_at timestamp not null, updated_at timestamp not null, invite_code varchar(255), team_name varchar(255) not null, primary key (id))
 create table teams_admins (team_model_id bigint not null, admins_id bigint not null, primary key (team_model_id, admins_id))
 create table teams_members (team_model_id bigint not null, members_id bigint not null, primary key (team_model_id, members_id))
 create table users (id bigint not null, created_at timestamp not null, updated_at timestamp not null, authy_id bigint not null, email varchar(255) not null, last_login timestamp, last_team_id bigint not null, mobilephone varchar(255), name varchar(255) not null, picture varchar(255), website varchar(255), primary key (id))
+create index idx_ballots_checksum on ballots (checksum)
+create index idx_comments_created_at on comments (created_at)
+create index idx_comments_proposal_created_at on comments (proposal_id, created_at)
+create index idx_comments_parent on comments (parent_id)
+create index idx_delegations_area_to_proxy on delegations (area_id, to_proxy_id)
+create index idx_laws_status_area on laws (status, area_id)
+create index idx_one_time_token_nonce on one_time_token (nonce)
+create index idx_polls_status_voting_end on polls (status, voting_end_at)
+create index idx_right_to_vote_delegated_to on right_to_vote (delegated_to_hashed_voter_token)
+create index idx_teams_invite_code on teams (invite_code)
+create index idx_users_email on users (email)
+create index idx_users_mobilephone on users (mobilephone)
 alter table areas add constraint UK_p61hnj1m450knduscxoldchfj unique (title)
 alter table ballots add constraint UKqsjuulamh27u4sl74lp4v54d2 unique (poll_id, hashed_voter_token)
 alter table delegations add constraint UK2wyh7poif8npdwlur8dford0j unique (area_id, from_user_id)
 alter table key_value add constraint UK_8te0dhiexeowa1rgva302to1l unique (key_col)
 alter table laws add constraint UK_bs516opv3hontptwvpioos72b unique (title)
-alter table laws_comments add constraint UK_of3yv6x3mahjphjbje5xhrxc8 unique (comments_id)
 alter table polls add constraint UKj8cl20oebalvgywxu4mktf8l5 unique (title, team_id)
 alter table right_to_vote add constraint UKbm9swuv2tl574p4gh3yuhx41w unique (area_id, public_proxy_id)
 alter table teams add constraint UK_dsqu2wx93en6lbl2bnrjy7kol unique (team_name)
@@ -45,8 +67,6 @@ alter table delegations add constraint FK21a6lg8fu2js6e0ju41wj2gqp foreign key (
 alter table laws add constraint FK9viqdj5ldun0ahwqdff1wuy39 foreign key (area_id) references areas
 alter table laws add constraint FKtr1pll46q50shwbffyiyuavgn foreign key (created_by_id) references users
 alter table laws add constraint FK4quhd81mm84x6rq0ccbxseyxx foreign key (poll_id) references polls
-alter table laws_comments add constraint FKfl0y4qfvfpf9ynmmfj0jevxff foreign key (comments_id) references comments
-alter table laws_comments add constraint FK36fbkiuitrv0yrvy8s0ig46ix foreign key (law_model_id) references laws
 alter table laws_supporters add constraint FKk8mvjc4rq970ojavyfia9bqve foreign key (supporters_id) references users
 alter table laws_supporters add constraint FK9b4i87yikuchrirfjaymgohe3 foreign key (law_model_id) references laws
 alter table one_time_token add constraint FK4o21xt1rmricb3ea4to5nkr8d foreign key (user_id) references users
@@ -60,7 +80,16 @@ alter table teams_admins add constraint FKlam5a42i278waum42496a0vb foreign key (
 alter table teams_admins add constraint FKex3bu9tfhwlsu7wq6ti2rvih3 foreign key (team_model_id) references teams
 alter table teams_members add constraint FKgkdwlbkpn9kldrdkxw2on0ii4 foreign key (members_id) references users
 alter table teams_members add constraint FKlyc4xdau3mwnx3vptaxv7k955 foreign key (team_model_id) references teams
-create sequence hibernate_sequence start with 1 increment by 1
+create sequence area_model_seq start with 1 increment by 50
+create sequence ballot_model_seq start with 1 increment by 50
+create sequence comment_model_seq start with 1 increment by 50
+create sequence delegation_model_seq start with 1 increment by 50
+create sequence key_value_model_seq start with 1 increment by 50
+create sequence law_model_seq start with 1 increment by 50
+create sequence one_time_token_seq start with 1 increment by 50
+create sequence poll_model_seq start with 1 increment by 50
+create sequence team_model_seq start with 1 increment by 50
+create sequence user_model_seq start with 1 increment by 50
 create table areas (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(255) not null, title varchar(255) not null, created_by_id bigint not null, primary key (id))
 create table ballots (id bigint not null, checksum varchar(255), level integer not null, poll_id bigint not null, hashed_voter_token varchar(255) not null, primary key (id))
 create table ballots_vote_order (ballot_model_id bigint not null, vote_order_id bigint not null, law_model_order integer not null, primary key (ballot_model_id, law_model_order))
@@ -69,22 +98,35 @@ create table comments_down_voters (comment_model_id bigint not null, down_voters
 create table comments_up_voters (comment_model_id bigint not null, up_voters_id bigint not null, primary key (comment_model_id, up_voters_id))
 create table delegations (id bigint not null, created_at timestamp not null, updated_at timestamp not null, requested_delegation_at timestamp, area_id bigint not null, from_user_id bigint not null, requested_delegation_from_hashed_voter_token varchar(255), to_proxy_id bigint not null, primary key (id))
 create table key_value (id bigint not null, key_col varchar(255) not null, value_col varchar(255), primary key (id))
-create table laws (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(1000) not null, reached_quorum_at timestamp, status integer not null, title varchar(255) not null, area_id bigint not null, created_by_id bigint, poll_id bigint, primary key (id))
-create table laws_comments (law_model_id bigint not null, comments_id bigint not null, primary key (law_model_id, comments_id))
+create table laws (id bigint not null, created_at timestamp not null, updated_at timestamp not null, description varchar(1000) not null, num_comments integer default 0 not null, num_supporters integer default 0 not null, reached_quorum_at timestamp, status integer not null, title varchar(255) not null, area_id bigint not null, created_by_id bigint, poll_id bigint, primary key (id))
 create table laws_supporters (law_model_id bigint not null, supporters_id bigint not null, primary key (law_model_id, supporters_id))
 create table one_time_token (id bigint not null, created_at timestamp not null, updated_at timestamp not null, nonce varchar(255) not null, valid_until timestamp not null, user_id bigint not null, primary key (id))
-create table polls (id bigint not null, created_at timestamp not null, updated_at timestamp not null, duel_matrix varchar(255), status integer, title varchar(255) not null, voting_end_at timestamp, voting_start_at timestamp, area_id bigint not null, team_id bigint, winner_id bigint, primary key (id))
+create table poll_archives (poll_id bigint not null, archived_at timestamp not null, ballots blob not null, num_ballots integer not null, primary key (poll_id))
+create table poll_results (poll_id bigint not null, hash varchar(255) not null, json blob not null, rendered_at timestamp not null, primary key (poll_id))
+create table polls (id bigint not null, created_at timestamp not null, updated_at timestamp not null, duel_matrix varchar(255), num_ballots integer default 0 not null, status integer, title varchar(255) not null, voting_end_at timestamp, voting_start_at timestamp, area_id bigint not null, team_id bigint, winner_id bigint, primary key (id))
 create table right_to_vote (hashed_voter_token varchar(255) not null, expires_at timestamp, area_id bigint, delegated_to_hashed_voter_token varchar(255), public_proxy_id bigint, primary key (hashed_voter_token))
+create table scheduler_leases (name varchar(255) not null, expires_at timestamp not null, owner varchar(255) not null, primary key (name))
 create table teams (id bigint not null, created_at timestamp not null, updated_at timestamp not null, invite_code varchar(255), team_name varchar(255) not null, primary key (id))
 create table teams_admins (team_model_id bigint not null, admins_id bigint not null, primary key (team_model_id, admins_id))
 create table teams_members (team_model_id bigint not null, members_id bigint not null, primary key (team_model_id, members_id))
 create table users (id bigint not null, created_at timestamp not null, updated_at timestamp not null, authy_id bigint not null, email varchar(255) not null, last_login timestamp, last_team_id bigint not null, mobilephone varchar(255), name varchar(255) not null, picture varchar(255), website varchar(255), primary key (id))
+create index idx_ballots_checksum on ballots (checksum)
+create index idx_comments_created_at on comments (created_at)
+create index idx_comments_proposal_created_at on comments (proposal_id, created_at)
+create index idx_comments_parent on comments (parent_id)
+create index idx_delegations_area_to_proxy on delegations (area_id, to_proxy_id)
+create index idx_laws_status_area on laws (status, area_id)
+create index idx_one_time_token_nonce on one_time_token (nonce)
+create index idx_polls_status_voting_end on polls (status, voting_end_at)
+create index idx_right_to_vote_delegated_to on right_to_vote (delegated_to_hashed_voter_token)
+create index idx_teams_invite_code on teams (invite_code)
+create index idx_users_email on users (email)
+create index idx_users_mobilephone on users (mobilephone)
 alter table areas add constraint UK_p61hnj1m450knduscxoldchfj unique (title)
 alter table ballots add constraint UKqsjuulamh27u4sl74lp4v54d2 unique (poll_id, hashed_voter_token)
 alter table delegations add constraint UK2wyh7poif8npdwlur8dford0j unique (area_id, from_user_id)
 alter table key_value add constraint UK_8te0dhiexeowa1rgva302to1l unique (key_col)
 alter table laws add constraint UK_bs516opv3hontptwvpioos72b unique (title)
-alter table laws_comments add constraint UK_of3yv6x3mahjphjbje5xhrxc8 unique (comments_id)
 alter table polls add constraint UKj8cl20oebalvgywxu4mktf8l5 unique (title, team_id)
 alter table right_to_vote add constraint UKbm9swuv2tl574p4gh3yuhx41w unique (area_id, public_proxy_id)
 alter table teams add constraint UK_dsqu2wx93en6lbl2bnrjy7kol unique (team_name)
@@ -107,8 +149,6 @@ alter table delegations add constraint FK21a6lg8fu2js6e0ju41wj2gqp foreign key (
 alter table laws add constraint FK9viqdj5ldun0ahwqdff1wuy39 foreign key (area_id) references areas
 alter table laws add constraint FKtr1pll46q50shwbffyiyuavgn foreign key (created_by_id) references users
 alter table laws add constraint FK4quhd81mm84x6rq0ccbxseyxx foreign key (poll_id) references polls
-alter table laws_comments add constraint FKfl0y4qfvfpf9ynmmfj0jevxff foreign key (comments_id) references comments
-alter table laws_comments add constraint FK36fbkiuitrv0yrvy8s0ig46ix foreign key (law_model_id) references laws
 alter table laws_supporters add constraint FKk8mvjc4rq970ojavyfia9bqve foreign key (supporters_id) references users
 alter table laws_supporters add constraint FK9b4i87yikuchrirfjaymgohe3 foreign key (law_model_id) references laws
 alter table one_time_token add constraint FK4o21xt1rmricb3ea4to5nkr8d foreign key (user_id) references users
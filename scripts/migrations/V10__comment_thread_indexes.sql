@@ -0,0 +1,6 @@
+-- Liquido DB migration V10: indexes for paging over the threads of comments of a proposal
+--
+-- CommentService.getCommentThreads only loads the requested page of top level comments and then their replies level by level.
+
+CREATE INDEX idx_comments_proposal_created_at ON comments (proposal_id, created_at);  -- CommentService.getCommentThreads: page of top level comments, newest first
+CREATE INDEX idx_comments_parent ON comments (parent_id);                             -- CommentRepo.findThreadElemsByParentIds, countRepliesByParentIds
@@ -0,0 +1,6 @@
+-- Liquido DB migration V11: re-render the results of finished polls
+--
+-- Results now only contain the id and title of the winner, not the whole law, which still changes after the poll is finished.
+-- Stored results are rendered again on their next request.
+
+DELETE FROM poll_results;
@@ -0,0 +1,38 @@
+-- Liquido DB migration V2: one pooled-lo ID sequence per entity instead of the global hibernate_sequence
+--
+-- MariaDB/MySQL have no sequences (before MariaDB 10.3), so hibernate emulates each sequence with a table that has one "next_val" row.
+-- Every new sequence continues with the current value of the old hibernate_sequence, so that new IDs cannot collide with existing ones.
+-- The IDs are handed out in blocks of 50 (BaseModel.ID_BLOCK_SIZE).
+
+CREATE TABLE area_model_seq (next_val BIGINT);
+INSERT INTO area_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE ballot_model_seq (next_val BIGINT);
+INSERT INTO ballot_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE comment_model_seq (next_val BIGINT);
+INSERT INTO comment_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE delegation_model_seq (next_val BIGINT);
+INSERT INTO delegation_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE key_value_model_seq (next_val BIGINT);
+INSERT INTO key_value_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE law_model_seq (next_val BIGINT);
+INSERT INTO law_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE one_time_token_seq (next_val BIGINT);
+INSERT INTO one_time_token_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE poll_model_seq (next_val BIGINT);
+INSERT INTO poll_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE team_model_seq (next_val BIGINT);
+INSERT INTO team_model_seq SELECT next_val FROM hibernate_sequence;
+
+CREATE TABLE user_model_seq (next_val BIGINT);
+INSERT INTO user_model_seq SELECT next_val FROM hibernate_sequence;
+
+-- hibernate_sequence is not used anymore. Drop it, after the new version is deployed successfully.
+-- DROP TABLE hibernate_sequence;
@@ -0,0 +1,14 @@
+-- Liquido DB migration V3: indexes for frequent lookups
+--
+-- These are the same indexes that are declared with @Table(indexes = ...) on the models.
+-- The lookups for ballots(poll_id, hashed_voter_token) and right_to_vote(area_id, public_proxy_id) already use their unique constraints.
+-- QueryPlanTests checks that none of these lookups does a full table scan.
+
+CREATE INDEX idx_ballots_checksum ON ballots (checksum);                                         -- BallotRepo.findByPollAndChecksum
+CREATE INDEX idx_comments_created_at ON comments (created_at);                                   -- LawRepo.getRecentlyDiscussed
+CREATE INDEX idx_delegations_area_to_proxy ON delegations (area_id, to_proxy_id);                -- DelegationRepo.findByAreaAndToProxy, findDelegationRequests
+CREATE INDEX idx_laws_status_area ON laws (status, area_id);                                     -- LawRepo.findByStatusAndArea
+CREATE INDEX idx_one_time_token_nonce ON one_time_token (nonce);                                 -- OneTimeTokenRepo.findByNonce
+CREATE INDEX idx_right_to_vote_delegated_to ON right_to_vote (delegated_to_hashed_voter_token);  -- RightToVoteRepo.findByDelegatedTo
+CREATE INDEX idx_users_email ON users (email);                                                   -- UserRepo.findByEmail
+CREATE INDEX idx_users_mobilephone ON users (mobilephone);                                       -- UserRepo.findByMobilephone
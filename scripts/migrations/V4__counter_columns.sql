@@ -0,0 +1,12 @@
+-- Liquido DB migration V4: denormalized counters for supporters, comments and ballots
+--
+-- These columns are maintained by CounterService with atomic "SET x = x + 1" updates.
+-- Initially they are filled with the current counts.
+
+ALTER TABLE laws ADD COLUMN num_supporters INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE laws ADD COLUMN num_comments INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE polls ADD COLUMN num_ballots INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE laws SET num_supporters = (SELECT count(*) FROM laws_supporters s WHERE s.law_model_id = laws.id);
+UPDATE laws SET num_comments = (SELECT count(*) FROM comments c WHERE c.proposal_id = laws.id);
+UPDATE polls SET num_ballots = (SELECT count(*) FROM ballots b WHERE b.poll_id = polls.id);
@@ -0,0 +1,6 @@
+-- Liquido DB migration V5: comments are only linked to their proposal via comments.proposal_id
+--
+-- The join table laws_comments duplicated this information for top level comments.
+-- Top level comments are the ones with parent_id IS NULL.
+
+DROP TABLE laws_comments;
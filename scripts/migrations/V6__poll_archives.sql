@@ -0,0 +1,11 @@
+-- Liquido DB migration V6: cold storage for the ballots of old finished polls
+--
+-- PollArchiveService compresses all ballots of a poll into one blob and then deletes them from ballots and ballots_vote_order.
+
+CREATE TABLE poll_archives (
+  poll_id BIGINT NOT NULL,
+  archived_at TIMESTAMP NOT NULL,
+  ballots BLOB NOT NULL,
+  num_ballots INTEGER NOT NULL,
+  PRIMARY KEY (poll_id)
+);
@@ -0,0 +1,10 @@
+-- Liquido DB migration V7: leases for background jobs that must only run on one node
+--
+-- SchedulerLeaseService: The node that holds an unexpired lease is the leader and runs the job, e.g. finishing polls.
+
+CREATE TABLE scheduler_leases (
+  name VARCHAR(255) NOT NULL,
+  expires_at TIMESTAMP NOT NULL,
+  owner VARCHAR(255) NOT NULL,
+  PRIMARY KEY (name)
+);
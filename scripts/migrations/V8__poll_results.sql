@@ -0,0 +1,12 @@
+-- Liquido DB migration V8: pre-rendered results of finished polls
+--
+-- PollService renders the JSON result of a poll once, when its voting phase is finished.
+-- Results of polls that were finished before are rendered on their first request.
+
+CREATE TABLE poll_results (
+  poll_id BIGINT NOT NULL,
+  hash VARCHAR(255) NOT NULL,
+  json BLOB NOT NULL,
+  rendered_at TIMESTAMP NOT NULL,
+  PRIMARY KEY (poll_id)
+);
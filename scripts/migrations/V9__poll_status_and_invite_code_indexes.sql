@@ -0,0 +1,6 @@
+-- Liquido DB migration V9: indexes for the remaining repository lookups
+--
+-- QueryPlanTests now checks every repository query. These two were still full table scans.
+
+CREATE INDEX idx_polls_status_voting_end ON polls (status, voting_end_at);  -- PollRepo.findByStatus, findIdsOfDuePolls, findIdsOfPollsToStart, findIdsOfPollsToArchive
+CREATE INDEX idx_teams_invite_code ON teams (invite_code);                  -- TeamRepo.findByInviteCode
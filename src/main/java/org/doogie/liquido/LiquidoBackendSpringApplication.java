@@ -6,7 +6,6 @@ import org.doogie.liquido.datarepos.UserRepo;
 import org.doogie.liquido.model.AreaModel;
 import org.doogie.liquido.model.UserModel;
 import org.doogie.liquido.testdata.LiquidoProperties;
-import org.quartz.SchedulerException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -52,7 +51,7 @@ public class LiquidoBackendSpringApplication {
    * Main entry point for Liquido Spring backend.
    * @param args command line arguments
    */
-  public static void main(String[] args) throws SchedulerException {
+  public static void main(String[] args) {
   	//This code may be executed twice: https://stackoverflow.com/questions/49527862/spring-boot-application-start-twice
 		System.out.println();
 		System.out.println("=====================================================");
@@ -97,15 +96,6 @@ public class LiquidoBackendSpringApplication {
 
 		log.info("Running some sanity checks ...");
 
-		/*
-		try {
-			Scheduler scheduler = StdSchedulerFactory.getDefaultScheduler();
-			scheduler.start();
-		} catch (SchedulerException e) {
-			log.error("Cannot start Quartz scheduler", e);
-			throw e;
-		}
-		*/
 
 		//BUGFIX: Make sure H2 driver can be loaded. Otherwise, things may break later at runtime.
 		if (env.acceptsProfiles(Profiles.of("dev"))) {
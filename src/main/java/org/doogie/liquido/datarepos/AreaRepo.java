@@ -1,12 +1,19 @@
 package org.doogie.liquido.datarepos;
 
 import org.doogie.liquido.model.AreaModel;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+/**
+ * Areas are hardly ever changed. So results of these queries are kept in hibernate's query cache.
+ */
 @RepositoryRestResource(collectionResourceRel = "areas", path = "areas", itemResourceRel = "area")
 public interface AreaRepo extends CrudRepository<AreaModel, Long> {
 
@@ -17,5 +24,10 @@ public interface AreaRepo extends CrudRepository<AreaModel, Long> {
    * @param title title of the area
    * @return one AreaModel or null if no area with that title was found
    */
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   Optional<AreaModel> findByTitle(@Param("title") String title);
+
+  @Override
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  Iterable<AreaModel> findAll();
 }
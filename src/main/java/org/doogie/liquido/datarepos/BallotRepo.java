@@ -4,7 +4,10 @@ import org.doogie.liquido.model.BallotModel;
 import org.doogie.liquido.model.PollModel;
 import org.doogie.liquido.model.RightToVoteModel;
 import org.doogie.liquido.rest.VoteRestController;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +17,9 @@ import java.util.Optional;
  *
  * Ballots are not exposed as RepositoryRestResource at all.
  * Posting a ballot (ie. cast a vote) is handled in our custom {@link VoteRestController}
+ *
+ * The voteOrder of a ballot is fetched lazily. Finders that return ballots for counting or verification
+ * load it in the same query with the {@link BallotModel#GRAPH_WITH_VOTE_ORDER} entity graph.
  */
 public interface BallotRepo extends CrudRepository<BallotModel, Long> {
 
@@ -22,7 +28,9 @@ public interface BallotRepo extends CrudRepository<BallotModel, Long> {
 	 * @param poll a poll
 	 * @return list of ballots that have been cast in this poll (so far)
 	 */
-  List<BallotModel> findByPoll(PollModel poll);
+  @EntityGraph(BallotModel.GRAPH_WITH_VOTE_ORDER)
+  @Query("SELECT DISTINCT b FROM BallotModel b WHERE b.poll = :poll")    // DISTINCT, because voteOrder is fetched in the same query
+  List<BallotModel> findByPoll(@Param("poll") PollModel poll);
 
 	/**
 	 * Find a casted ballot by its checksum
@@ -30,6 +38,7 @@ public interface BallotRepo extends CrudRepository<BallotModel, Long> {
 	 * @param poll the poll with that ballot
 	 * @return the ballot or Optional.emtpy() if not found
 	 */
+  @EntityGraph(BallotModel.GRAPH_WITH_VOTE_ORDER)
   Optional<BallotModel>  findByPollAndChecksum(PollModel poll, String checksum);
 
 	/**
@@ -55,5 +64,23 @@ public interface BallotRepo extends CrudRepository<BallotModel, Long> {
    * @return the ballot that was casted with this this (still anonymous) rightToVote or
 	 *         Optional.empty() when this voter did not cast a vote in this poll yet.
    */
+  @EntityGraph(BallotModel.GRAPH_WITH_VOTE_ORDER)
   Optional<BallotModel> findByPollAndRightToVote(PollModel poll, RightToVoteModel rightToVote);
-}
\ No newline at end of file
+
+	/**
+	 * Find all ballots in a poll with a given level.
+	 * Level 0 ballots were casted by the voters themselves.
+	 * @param poll a poll
+	 * @param level ballot level
+	 * @return the ballots with exactly that level
+	 */
+	List<BallotModel> findByPollAndLevel(PollModel poll, Integer level);
+
+	/**
+	 * Find all ballots in a poll that were casted by a proxy, ie. with a level greater than the given one.
+	 * @param poll a poll
+	 * @param level minimum level (exclusive)
+	 * @return list of delegated ballots
+	 */
+	List<BallotModel> findByPollAndLevelGreaterThan(PollModel poll, Integer level);
+}
@@ -0,0 +1,40 @@
+package org.doogie.liquido.datarepos;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.CommentModel;
+import org.doogie.liquido.services.CounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Comments are created and deleted via Spring Data REST. Keep the numComments counter of the commented proposal up to date.
+ */
+@Slf4j
+@Component
+@RepositoryEventHandler(CommentModel.class)
+public class CommentEventHandler {
+
+  @Autowired
+  CounterService counterService;
+
+  /**
+   * A comment or a reply to a comment has been added to a proposal: POST /comments
+   * @param comment the newly created comment
+   */
+  @HandleAfterCreate
+  public void handleCommentCreate(CommentModel comment) {
+    counterService.addToNumComments(comment.getProposal(), 1);
+  }
+
+  /**
+   * A comment has been deleted. Its replies are deleted with it (CascadeType.REMOVE). So the proposal's comments must be recounted.
+   * @param comment the deleted comment
+   */
+  @HandleAfterDelete
+  public void handleCommentDelete(CommentModel comment) {
+    counterService.recountNumComments(comment.getProposal());
+  }
+}
@@ -1,13 +1,59 @@
 package org.doogie.liquido.datarepos;
 
 import org.doogie.liquido.model.CommentModel;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.rest.dto.CommentThreadElem;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Paged REST resource for comments. Comments can also be loaded via {@link org.doogie.liquido.model.CommentProjection}
+ * Threads of comments of a proposal are loaded with {@link org.doogie.liquido.services.CommentService#getCommentThreads}
  */
 @RepositoryRestResource(collectionResourceRel = "comments", path = "comments", itemResourceRel = "comment")
 public interface CommentRepo extends PagingAndSortingRepository<CommentModel, Long> {
 
+  String THREAD_ELEM_SELECT = "SELECT new org.doogie.liquido.rest.dto.CommentThreadElem(c.id, c.parent.id, c.comment, c.createdBy, c.createdAt, c.updatedAt, " +
+    "(SELECT count(u) FROM CommentModel c2 JOIN c2.upVoters u WHERE c2 = c), " +
+    "(SELECT count(u) FROM CommentModel c2 JOIN c2.downVoters u WHERE c2 = c), " +
+    "CASE WHEN EXISTS (SELECT u FROM CommentModel c2 JOIN c2.upVoters u WHERE c2 = c AND u = :user) THEN true ELSE false END, " +
+    "CASE WHEN EXISTS (SELECT u FROM CommentModel c2 JOIN c2.downVoters u WHERE c2 = c AND u = :user) THEN true ELSE false END) ";
+
+  /**
+   * Load comments by their ID, e.g. one page of top level comments. Replies are linked to their parent by parentId.
+   * Only the number of up- and downvotes is loaded, not the voters themselves.
+   * @param ids IDs of comments
+   * @param currentUser the currently logged in user (may be null)
+   * @return the comments with these IDs in any order
+   */
+  @RestResource(exported = false)
+  @Query(THREAD_ELEM_SELECT + "FROM CommentModel c WHERE c.id IN :ids")
+  List<CommentThreadElem> findThreadElemsByIds(@Param("ids") Collection<Long> ids, @Param("user") UserModel currentUser);
+
+  /**
+   * Load the direct replies of some comments.
+   * @param parentIds IDs of the parent comments
+   * @param currentUser the currently logged in user (may be null)
+   * @return replies ordered by (createdAt, id), ie. oldest first. Do not rely on the order of IDs. Every node hands out its own block of IDs.
+   */
+  @RestResource(exported = false)
+  @Query(THREAD_ELEM_SELECT + "FROM CommentModel c WHERE c.parent.id IN :parentIds ORDER BY c.createdAt, c.id")
+  List<CommentThreadElem> findThreadElemsByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("user") UserModel currentUser);
+
+  /**
+   * Count the direct replies of some comments
+   * @param parentIds IDs of the parent comments
+   * @return list of [parentId, number of replies]. Comments without replies are not contained.
+   */
+  @RestResource(exported = false)
+  @Query("SELECT c.parent.id, count(c) FROM CommentModel c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+  List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
 }
@@ -3,9 +3,13 @@ package org.doogie.liquido.datarepos;
 import org.doogie.liquido.model.AreaModel;
 import org.doogie.liquido.model.DelegationModel;
 import org.doogie.liquido.model.UserModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,12 +52,33 @@ public interface DelegationRepo extends CrudRepository<DelegationModel, Long> {
   Optional<DelegationModel> findByAreaAndFromUser(AreaModel area, UserModel fromUser);
 
 
-  @Query("select d from DelegationModel d where d.area = ?1 and d.toProxy = ?2 and d.requestedDelegationFrom != null")
-  List<DelegationModel> findDelegationRequests(AreaModel area, UserModel proxy);
+  /**
+   * Find the pending delegation requests to a proxy. Expired requests are not returned.
+   * @param area area of the delegations
+   * @param proxy the proxy that the delegations are requested from
+   * @param requestedAfter only requests that have been made after this date
+   * @return the pending delegation requests
+   */
+  @Query("select d from DelegationModel d where d.area = ?1 and d.toProxy = ?2 and d.requestedDelegationFrom != null and d.requestedDelegationAt > ?3")
+  List<DelegationModel> findDelegationRequests(AreaModel area, UserModel proxy, LocalDateTime requestedAfter);
 
   @Query("select d from DelegationModel d where d.area = ?1 and d.toProxy = ?2 and d.requestedDelegationFrom = null")
   List<DelegationModel> findAcceptedDelegations(AreaModel area, UserModel proxy);
 
+  /**
+   * Keyset scan for delegation requests that have not been accepted in time. See {@link org.doogie.liquido.services.ExpirySweeperService}
+   * @param requestedBefore requests older than this are expired
+   * @param afterId only IDs greater than this
+   * @param limit max number of returned IDs
+   * @return IDs of expired delegation requests in ascending order
+   */
+  @Query("select d.id from DelegationModel d where d.requestedDelegationFrom != null and d.requestedDelegationAt < ?1 and d.id > ?2 order by d.id")
+  List<Long> findIdsOfExpiredDelegationRequests(LocalDateTime requestedBefore, Long afterId, Pageable limit);
+
+  @Modifying
+  @Query("delete from DelegationModel d where d.id in ?1")
+  int deleteByIdIn(Collection<Long> ids);
+
   /*
   //same as  @Query("select d from delegation_model where d.area_id = ?1 and d.from_user_id = ?2 and d.to_proxy_id = ?3")
   //same as  delegationRepo.findOne(Example.of(delegationModel));
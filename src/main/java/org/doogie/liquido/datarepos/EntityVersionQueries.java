@@ -0,0 +1,100 @@
+package org.doogie.liquido.datarepos;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.doogie.liquido.rest.dto.EntityVersion;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lightweight version lookups for conditional GET requests (ETag and Last-Modified).
+ *
+ * These queries only select the columns that change when the entity or its returned associations change:
+ * updatedAt, status and the counters. The counters must be included, because CounterService updates them with plain SQL
+ * and does not touch updatedAt. No entity is loaded and the second level cache is not used.
+ */
+@Component
+public class EntityVersionQueries {
+
+	static final String POLL_COLUMNS = "poll.id, poll.status, poll.numBallots, poll.updatedAt, " +
+		"p.id, p.status, p.numSupporters, p.numComments, p.updatedAt, u.updatedAt ";
+
+	static final String POLL_JOINS = "LEFT JOIN poll.proposals p LEFT JOIN p.createdBy u ";
+
+	@PersistenceContext
+	EntityManager em;
+
+	/**
+	 * Version of a poll and its proposals
+	 * @param pollId ID of a poll
+	 * @return version of the poll or Optional.empty() if there is no poll with this ID
+	 */
+	public Optional<EntityVersion> findPollVersion(Long pollId) {
+		List<?> rows = em.createQuery("SELECT " + POLL_COLUMNS + "FROM PollModel poll " + POLL_JOINS +
+			"WHERE poll.id = :pollId ORDER BY p.id")
+			.setParameter("pollId", pollId)
+			.getResultList();
+		return versionOf(rows);
+	}
+
+	/**
+	 * Version of a law (or idea or proposal)
+	 * @param lawId ID of a law
+	 * @return version of the law or Optional.empty() if there is no law with this ID
+	 */
+	public Optional<EntityVersion> findLawVersion(Long lawId) {
+		List<?> rows = em.createQuery("SELECT law.id, law.status, law.numSupporters, law.numComments, law.updatedAt, poll.id, u.updatedAt " +
+			"FROM LawModel law LEFT JOIN law.poll poll LEFT JOIN law.createdBy u WHERE law.id = :lawId")
+			.setParameter("lawId", lawId)
+			.getResultList();
+		return versionOf(rows);
+	}
+
+	/**
+	 * Version of a team, its admins, members, polls and their proposals
+	 * @param teamId ID of a team
+	 * @return version of the team or Optional.empty() if there is no team with this ID
+	 */
+	public Optional<EntityVersion> findTeamVersion(Long teamId) {
+		List<?> teamRows = em.createQuery("SELECT team.id, team.teamName, team.updatedAt, a.id, a.updatedAt " +
+			"FROM TeamModel team LEFT JOIN team.admins a WHERE team.id = :teamId ORDER BY a.id")
+			.setParameter("teamId", teamId)
+			.getResultList();
+		if (teamRows.isEmpty()) return Optional.empty();
+		List<?> memberRows = em.createQuery("SELECT m.id, m.updatedAt FROM TeamModel team JOIN team.members m WHERE team.id = :teamId ORDER BY m.id")
+			.setParameter("teamId", teamId)
+			.getResultList();
+		List<?> pollRows = em.createQuery("SELECT " + POLL_COLUMNS + "FROM PollModel poll " + POLL_JOINS +
+			"WHERE poll.team.id = :teamId ORDER BY poll.id, p.id")
+			.setParameter("teamId", teamId)
+			.getResultList();
+		return versionOf(teamRows, memberRows, pollRows);
+	}
+
+	/**
+	 * Hash all the selected version columns and find the latest updatedAt
+	 * @param rowLists results of version queries. The first one must contain the entity itself.
+	 * @return the version or Optional.empty() if the entity was not found
+	 */
+	private static Optional<EntityVersion> versionOf(List<?>... rowLists) {
+		if (rowLists[0].isEmpty()) return Optional.empty();
+		StringBuilder columns = new StringBuilder();
+		Date lastModified = null;
+		for (List<?> rows : rowLists) {
+			columns.append('#');
+			for (Object row : rows) {
+				Object[] values = row instanceof Object[] ? (Object[]) row : new Object[] { row };
+				columns.append(Arrays.toString(values));
+				for (Object value : values) {
+					if (value instanceof Date && (lastModified == null || ((Date) value).after(lastModified))) lastModified = (Date) value;
+				}
+			}
+		}
+		return Optional.of(new EntityVersion(DigestUtils.md5Hex(columns.toString()), lastModified));
+	}
+}
@@ -0,0 +1,116 @@
+package org.doogie.liquido.datarepos;
+
+import org.doogie.liquido.model.PollModel;
+import org.doogie.liquido.model.TeamModel;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Subgraph;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.PluralAttribute;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Load entities with a fetch graph that is built at runtime, e.g. from the fields that a GraphQL client selected.
+ *
+ * The named entity graphs on our models are fixed. They always load the same associations.
+ * Here only those associations are fetched whose path is selected. All other lazy associations stay unloaded.
+ *
+ * At most one collection (and the collections below it) is fetched in the same query. Fetching two sibling collections
+ * would multiply their rows in the SQL result. Other selected collections are loaded lazily in batches.
+ * See <pre>default_batch_fetch_size</pre> in application.yml
+ */
+@Component
+public class FetchGraphQueries {
+
+	/** max depth of associations in a fetch graph, e.g. team/polls/proposals */
+	public static final int MAX_DEPTH = 3;
+
+	@PersistenceContext
+	EntityManager em;
+
+	/**
+	 * Build a fetch graph for an entity
+	 * @param entityClass root entity
+	 * @param isSelected is an association path selected, e.g. "polls" or "polls/proposals"
+	 * @return the fetch graph for these paths
+	 */
+	public <T> EntityGraph<T> createFetchGraph(Class<T> entityClass, Predicate<String> isSelected) {
+		EntityGraph<T> graph = em.createEntityGraph(entityClass);
+		addAssociations(graph::addSubgraph, em.getMetamodel().managedType(entityClass), "", isSelected, 1, new String[1]);
+		return graph;
+	}
+
+	/**
+	 * All polls of a team
+	 * @param teamId ID of a team
+	 * @param graph associations to fetch, e.g. from {@link #createFetchGraph(Class, Predicate)}
+	 * @return the polls of this team, newest first
+	 */
+	public List<PollModel> findPollsOfTeam(Long teamId, EntityGraph<PollModel> graph) {
+		return em.createQuery("SELECT DISTINCT poll FROM PollModel poll WHERE poll.team.id = :teamId ORDER BY poll.createdAt DESC", PollModel.class)
+			.setParameter("teamId", teamId)
+			.setHint("javax.persistence.fetchgraph", graph)
+			.getResultList();
+	}
+
+	/**
+	 * Load one team
+	 * @param teamId ID of a team
+	 * @param graph associations to fetch, e.g. from {@link #createFetchGraph(Class, Predicate)}
+	 * @return the team or Optional.empty() if there is no team with this ID
+	 */
+	public Optional<TeamModel> findTeam(Long teamId, EntityGraph<TeamModel> graph) {
+		// Query instead of em.find(), because hibernate ignores the entity graph when the team is already in the second level cache. (Same as in PollRepo)
+		return em.createQuery("SELECT DISTINCT team FROM TeamModel team WHERE team.id = :teamId", TeamModel.class)
+			.setParameter("teamId", teamId)
+			.setHint("javax.persistence.fetchgraph", graph)
+			.getResultStream().findFirst();
+	}
+
+	/**
+	 * Recursively add the selected associations of type to a graph
+	 * @param addSubgraph adds an attribute to the graph and returns its subgraph
+	 * @param collectionChain path of the deepest collection that is already fetched. Only collections below it may be added.
+	 */
+	private void addAssociations(Function<String, Subgraph<?>> addSubgraph, ManagedType<?> type, String path, Predicate<String> isSelected, int depth, String[] collectionChain) {
+		if (type == null || depth > MAX_DEPTH) return;
+		for (Attribute<?, ?> attr : associationsOf(type)) {
+			String attrPath = path.isEmpty() ? attr.getName() : path + "/" + attr.getName();
+			if (!isSelected.test(attrPath)) continue;
+			if (attr.isCollection()) {
+				if (collectionChain[0] != null && !attrPath.startsWith(collectionChain[0] + "/")) continue;
+				collectionChain[0] = attrPath;
+			}
+			Subgraph<?> subgraph = addSubgraph.apply(attr.getName());
+			addAssociations(subgraph::addSubgraph, targetType(attr), attrPath, isSelected, depth + 1, collectionChain);
+		}
+	}
+
+	/** associations of an entity, sorted by name, so that the same collection is chosen every time */
+	private static <X> List<Attribute<? super X, ?>> associationsOf(ManagedType<X> type) {
+		List<Attribute<? super X, ?>> associations = new ArrayList<>();
+		for (Attribute<? super X, ?> attr : type.getAttributes()) {
+			if (attr.isAssociation()) associations.add(attr);
+		}
+		associations.sort(Comparator.comparing(Attribute::getName));
+		return associations;
+	}
+
+	private ManagedType<?> targetType(Attribute<?, ?> attr) {
+		Class<?> javaType = attr.isCollection() ? ((PluralAttribute<?, ?, ?>) attr).getElementType().getJavaType() : attr.getJavaType();
+		try {
+			return em.getMetamodel().managedType(javaType);
+		} catch (IllegalArgumentException e) {
+			return null;   // not an entity, e.g. an element collection of Strings
+		}
+	}
+}
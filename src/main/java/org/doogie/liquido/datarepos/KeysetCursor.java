@@ -0,0 +1,134 @@
+package org.doogie.liquido.datarepos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.doogie.liquido.model.BaseModel;
+import org.doogie.liquido.services.LiquidoException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * Cursor for keyset pagination (also known as "seek method").
+ *
+ * Instead of skipping <pre>offset</pre> rows, the next slice starts right after the last returned element:
+ * <pre>WHERE sortKey > :lastSortKey OR (sortKey = :lastSortKey AND id > :lastId) ORDER BY sortKey, id LIMIT :limit</pre>
+ * So every slice is read straight from the index, no matter how deep the client pages. And there is no count query.
+ *
+ * Clients get the cursor as an opaque token and pass it back unchanged to fetch the next slice.
+ * The token contains the sort property and direction. So it cannot be used with a different sort order.
+ * Sort properties must not be null.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+	private static final String SEPARATOR = "|";
+	/** every slice is sorted by the ID as last sort key. So the order is unique. */
+	public static final String ID = "id";
+
+	String sortProperty;
+	Sort.Direction direction;
+	long lastId;
+	/** value of sortProperty of the last element, as string */
+	String lastSortValue;
+
+	/**
+	 * Cursor that points behind the last element of this slice
+	 * @param slice a slice that was loaded with a sort order of (sortProperty, id)
+	 * @return encoded cursor token or null if there is no next slice
+	 */
+	public static String nextCursor(Slice<? extends BaseModel> slice) {
+		if (!slice.hasNext() || slice.getContent().isEmpty()) return null;
+		Sort.Order order = slice.getSort().iterator().next();
+		BaseModel last = slice.getContent().get(slice.getContent().size() - 1);
+		Object sortValue = new BeanWrapperImpl(last).getPropertyValue(order.getProperty());
+		return new KeysetCursor(order.getProperty(), order.getDirection(), last.getId(), toString(sortValue)).encode();
+	}
+
+	/**
+	 * Cursor that points behind the last ID of a slice from {@link KeysetQueries#findIds}
+	 * Use this when the entities of the slice were loaded as DTOs.
+	 * @param ids slice of IDs, sorted by (sortProperty, id)
+	 * @param sortValueOf value of the sort property of the element with that ID
+	 * @return encoded cursor token or null if there is no next slice
+	 */
+	public static String nextCursor(Slice<Long> ids, Function<Long, Object> sortValueOf) {
+		if (!ids.hasNext() || ids.getContent().isEmpty()) return null;
+		Sort.Order order = ids.getSort().iterator().next();
+		Long lastId = ids.getContent().get(ids.getContent().size() - 1);
+		return new KeysetCursor(order.getProperty(), order.getDirection(), lastId, toString(sortValueOf.apply(lastId))).encode();
+	}
+
+	public String encode() {
+		String plain = sortProperty + SEPARATOR + direction + SEPARATOR + lastId + SEPARATOR + lastSortValue;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode a cursor token and check that it matches the sort order of the query
+	 * @param token a cursor token from a previous slice
+	 * @param sortProperty sort property of the query
+	 * @param direction sort direction of the query
+	 * @return the decoded cursor
+	 * @throws LiquidoException INVALID_PARAMETER when the token is invalid or was created for a different sort order
+	 */
+	public static KeysetCursor decode(String token, String sortProperty, Sort.Direction direction) throws LiquidoException {
+		KeysetCursor cursor;
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 4);
+			cursor = new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.parseLong(parts[2]), parts[3]);
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "Invalid cursor '" + token + "'", e);
+		}
+		if (!cursor.sortProperty.equals(sortProperty) || cursor.direction != direction)
+			throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "Cursor does not match the sort order of the query. Do not change the sort order while paging.");
+		return cursor;
+	}
+
+	/**
+	 * Seek predicate: matches all elements that come after this cursor in the order of (sortProperty, id)
+	 * @param <T> any entity
+	 * @return spring data JPA specification
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public <T> Specification<T> seekPredicate() {
+		return (root, query, cb) -> {
+			Path<Long> id = root.get(ID);
+			boolean asc = direction.isAscending();
+			if (ID.equals(sortProperty)) {
+				return asc ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+			}
+			Path<Comparable> sortKey = root.get(sortProperty);
+			Comparable value = parse(lastSortValue, sortKey.getJavaType());
+			return cb.or(
+				asc ? cb.greaterThan(sortKey, value) : cb.lessThan(sortKey, value),
+				cb.and(cb.equal(sortKey, value), asc ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId))
+			);
+		};
+	}
+
+	private static String toString(Object value) {
+		if (value == null) throw new IllegalArgumentException("Sort property for keyset pagination must not be null");
+		if (value instanceof Date) return String.valueOf(((Date)value).getTime());
+		if (value instanceof Enum) return ((Enum<?>)value).name();
+		return value.toString();
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Comparable parse(String value, Class<?> type) {
+		if (Date.class.isAssignableFrom(type)) return new Date(Long.parseLong(value));
+		if (type.isEnum()) return Enum.valueOf((Class<Enum>)type, value);
+		if (type == Integer.class || type == int.class) return Integer.valueOf(value);
+		if (type == Long.class || type == long.class) return Long.valueOf(value);
+		if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+		return value;
+	}
+}
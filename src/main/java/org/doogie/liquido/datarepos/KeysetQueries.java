@@ -0,0 +1,97 @@
+package org.doogie.liquido.datarepos;
+
+import org.doogie.liquido.model.BaseModel;
+import org.doogie.liquido.services.LiquidoException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.*;
+
+/**
+ * Keyset pagination for any entity. See {@link KeysetCursor}
+ *
+ * Only the IDs of the next slice are queried here. Callers then load the entities by ID,
+ * e.g. with an entity graph, because a fetch join cannot be combined with a limit in SQL.
+ */
+@Component
+public class KeysetQueries {
+
+	@PersistenceContext
+	EntityManager em;
+
+	/**
+	 * Find the IDs of the next slice of matching entities, sorted by (sortOrder.property, id)
+	 * Loads one more row than limit to know if there is a next slice. There is no count query.
+	 *
+	 * @param entityClass the type of entity
+	 * @param spec filter criteria (may be null)
+	 * @param sortOrder sort property and direction. Sort property must not be nullable.
+	 * @param cursorToken cursor from the previous slice. Null or empty for the first slice.
+	 * @param limit max number of IDs in the slice
+	 * @return slice of IDs in sort order. The slice's sort can be used with {@link KeysetCursor#nextCursor(Slice)}
+	 * @throws LiquidoException INVALID_PARAMETER when cursorToken is invalid
+	 */
+	public <T> Slice<Long> findIds(Class<T> entityClass, Specification<T> spec, Sort.Order sortOrder, String cursorToken, int limit) throws LiquidoException {
+		if (cursorToken != null && !cursorToken.isEmpty()) {
+			KeysetCursor cursor = KeysetCursor.decode(cursorToken, sortOrder.getProperty(), sortOrder.getDirection());
+			spec = spec == null ? cursor.seekPredicate() : spec.and(cursor.seekPredicate());
+		}
+		Sort sort = KeysetCursor.ID.equals(sortOrder.getProperty())
+			? Sort.by(sortOrder)
+			: Sort.by(sortOrder, new Sort.Order(sortOrder.getDirection(), KeysetCursor.ID));
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(entityClass);
+		query.select(root.get(KeysetCursor.ID));
+		if (spec != null) query.where(spec.toPredicate(root, query, cb));
+		query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		List<Long> ids = em.createQuery(query).setMaxResults(limit + 1).getResultList();
+
+		boolean hasNext = ids.size() > limit;
+		if (hasNext) ids = ids.subList(0, limit);
+		return new SliceImpl<>(ids, PageRequest.of(0, limit, sort), hasNext);
+	}
+
+	/**
+	 * Find the IDs of all matching entities, without loading the entities.
+	 * @param entityClass the type of entity
+	 * @param spec filter criteria (may be null)
+	 * @return IDs of all matching entities in any order
+	 */
+	public <T> List<Long> findAllIds(Class<T> entityClass, Specification<T> spec) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(entityClass);
+		query.select(root.get(KeysetCursor.ID));
+		if (spec != null) query.where(spec.toPredicate(root, query, cb));
+		return em.createQuery(query).getResultList();
+	}
+
+	/**
+	 * Convert a slice of IDs into a slice of the loaded entities in the same order
+	 * @param ids slice from {@link #findIds(Class, Specification, Sort.Order, String, int)}
+	 * @param entities the entities with these IDs in any order
+	 * @return slice of entities in the order of ids
+	 */
+	public static <T extends BaseModel> Slice<T> toSlice(Slice<Long> ids, Iterable<T> entities) {
+		Map<Long, T> byId = new HashMap<>();
+		entities.forEach(entity -> byId.put(entity.getId(), entity));
+		List<T> content = new ArrayList<>();
+		for (Long id : ids) {
+			T entity = byId.get(id);
+			if (entity != null) content.add(entity);
+		}
+		return new SliceImpl<>(content, ids.getPageable(), ids.hasNext());
+	}
+}
@@ -4,9 +4,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.model.LawModel;
 import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.services.CounterService;
+import org.doogie.liquido.services.LawSearchIndex;
 import org.doogie.liquido.services.LawService;
 import org.doogie.liquido.services.LiquidoException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
 import org.springframework.data.rest.core.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
 import org.springframework.stereotype.Component;
@@ -24,6 +31,12 @@ public class LawEventHandler {
   @Autowired
   AuthUtil authUtil;
 
+  @Autowired
+  CounterService counterService;
+
+  @Autowired
+  LawSearchIndex lawSearchIndex;
+
   //BUGFIX:  All of this is only called for REST operations.   SOLUTION: Also added same logic directly into LawService.addSupporter()
   //BUGFIX 2: https://jira.spring.io/browse/DATAREST-1241
   /**
@@ -49,6 +62,37 @@ public class LawEventHandler {
     lawService.checkQuorum(idea);
   }
 
+  /**
+   * Supporters of a law have been changed via REST. Then the numSupporters counter of this law must be recounted.
+   * @param law the law whose links were changed
+   * @param linked the new linked entities
+   */
+  @HandleAfterLinkSave
+  @HandleAfterLinkDelete
+  public void handleLawLinkChanged(LawModel law, Object linked) {
+    counterService.recountNumSupporters(law);
+  }
+
+  /**
+   * An idea, proposal or law has been created or changed via REST (POST /laws, PUT or PATCH /laws/{id})
+   * Then update it in the full-text search index.
+   * @param law the saved law
+   */
+  @HandleAfterCreate
+  @HandleAfterSave
+  public void handleLawSaved(LawModel law) {
+    lawSearchIndex.update(law);
+  }
+
+  /**
+   * An idea, proposal or law has been deleted via REST. Remove it from the full-text search index.
+   * @param law the deleted law
+   */
+  @HandleAfterDelete
+  public void handleLawDeleted(LawModel law) {
+    lawSearchIndex.delete(law);
+  }
+
 
   /*
 
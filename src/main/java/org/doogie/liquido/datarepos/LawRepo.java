@@ -6,6 +6,7 @@ import org.doogie.liquido.model.LawProjection;
 import org.doogie.liquido.model.UserModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -15,6 +16,7 @@ import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -34,13 +36,42 @@ public interface LawRepo extends PagingAndSortingRepository<LawModel, Long>
 
   Optional<LawModel> findByTitle(@Param("title") String title);   // title is unique!
 
+  /**
+   * Load an idea, proposal or law together with its (lazy) supporters in one query.
+   * @param id ID of a LawModel
+   * @return the LawModel with initialized supporters
+   */
+  @RestResource(exported = false)
+  @EntityGraph(LawModel.GRAPH_WITH_SUPPORTERS)
+  Optional<LawModel> findWithSupportersById(Long id);
+
+  /**
+   * Batch query for GraphQL: Which of these laws are supported by this user?
+   * @param lawIds IDs of ideas, proposals or laws (must not be empty)
+   * @param userId a user
+   * @return the IDs of those laws that this user supports
+   */
+  @RestResource(exported = false)
+  @Query("SELECT law.id FROM LawModel law JOIN law.supporters supporter WHERE law.id IN :lawIds AND supporter.id = :userId")
+  List<Long> findIdsSupportedBy(@Param("lawIds") Collection<Long> lawIds, @Param("userId") Long userId);
+
+  /**
+   * Batch query for GraphQL: Which of these laws were created by this user?
+   * @param lawIds IDs of ideas, proposals or laws (must not be empty)
+   * @param userId a user
+   * @return the IDs of those laws that this user created
+   */
+  @RestResource(exported = false)
+  @Query("SELECT law.id FROM LawModel law WHERE law.id IN :lawIds AND law.createdBy.id = :userId")
+  List<Long> findIdsCreatedBy(@Param("lawIds") Collection<Long> lawIds, @Param("userId") Long userId);
+
   /** can for example be used to find all with status=IDEA. Supports paging */
   Page<LawModel> findByStatus(@Param("status") LawModel.LawStatus status, Pageable p);
 
   /** find a idea/proposal/law by its status in one given area */
   Page<LawModel> findByStatusAndArea(@Param("status") LawModel.LawStatus status, @Param("area") AreaModel area, Pageable p);
 
-  //See lawService.findBySearchQuery
+  //Full-text search: See lawService.findBySearchQuery and LawSearchIndex
 
   /**
    * find recently created ideas
@@ -50,27 +81,6 @@ public interface LawRepo extends PagingAndSortingRepository<LawModel, Long>
   @Query("select l from LawModel l where l.status = 0 order by l.createdAt desc")
   Page<LawModel> recentIdeas(Pageable p);
 
-  /**
-   * case insensitive full-text search for ideas, proposals or laws in their fields title, description, name or email of creator
-   * @param searchterm text that needs to be contained
-   * @param status <b>optionally</b> filter for status == IDEA|PROPOSAL|LAW   (must be uppercase!)
-   * @param p limit of one page and page number
-   * @return matching ideas, proposals and laws
-   */
-  @Deprecated   // This has been superseded by LawService#findBySearchQuery()
-  @Query("select distinct l from LawModel l where " +
-      "(:status is null OR l.status = :status) " +
-      "AND (" +
-      "UPPER(l.title) like CONCAT('%', UPPER(:s), '%') OR " +
-      "UPPER(l.description) like CONCAT('%', UPPER(:s), '%') OR " +
-      "UPPER(l.createdBy.email) like CONCAT('%', UPPER(:s), '%') OR " +
-      "UPPER(l.createdBy.name) like CONCAT('%', UPPER(:s), '%') " +
-      ")")
-  Page<LawModel> fulltextSearch(@Param("s") String searchterm, @Param("status") LawModel.LawStatus status, Pageable p);
-
-  //Or the spring data way, but this cannot search in multiple fields
-  //Page<LawModel> findByTitleContainingIgnoreCase(@Param("s") String searchterm, Pageable p);
-
   /**
    * Query for proposals that reached their quorum since a given date<br/>
    * Usage: <pre>/laws/search/reachedQuorumSince?since=2017-09-01</pre>
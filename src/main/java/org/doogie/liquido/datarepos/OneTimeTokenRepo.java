@@ -1,8 +1,13 @@
 package org.doogie.liquido.datarepos;
 
 import org.doogie.liquido.model.OneTimeToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +15,27 @@ import java.util.Optional;
 public interface OneTimeTokenRepo extends CrudRepository<OneTimeToken, Long> {
 	Optional<OneTimeToken> findByNonce(String token);
 
+	/**
+	 * Find a token that has not yet expired
+	 * @param token nonce of the token
+	 * @param now current time
+	 * @return the token or Optional.empty() if there is no such token or if it is expired
+	 */
+	Optional<OneTimeToken> findByNonceAndValidUntilAfter(String token, LocalDateTime now);
+
 	List<OneTimeToken> findByUserEmail(String email);
+
+	/**
+	 * Keyset scan for expired tokens. See {@link org.doogie.liquido.services.ExpirySweeperService}
+	 * @param now tokens that were valid until before now are expired
+	 * @param afterId only IDs greater than this
+	 * @param limit max number of returned IDs
+	 * @return IDs of expired tokens in ascending order
+	 */
+	@Query("select t.id from OneTimeToken t where t.validUntil < ?1 and t.id > ?2 order by t.id")
+	List<Long> findIdsOfExpiredTokens(LocalDateTime now, Long afterId, Pageable limit);
+
+	@Modifying
+	@Query("delete from OneTimeToken t where t.id in ?1")
+	int deleteByIdIn(Collection<Long> ids);
 }
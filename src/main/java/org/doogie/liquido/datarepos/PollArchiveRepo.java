@@ -0,0 +1,11 @@
+package org.doogie.liquido.datarepos;
+
+import org.doogie.liquido.model.PollArchiveModel;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Database abstraction for "pollArchives", the compressed ballots of old finished polls.
+ * Not exposed as REST resource. Archived ballots are read through the PollService.
+ */
+public interface PollArchiveRepo extends CrudRepository<PollArchiveModel, Long> {
+}
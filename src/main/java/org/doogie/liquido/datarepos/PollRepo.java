@@ -3,22 +3,39 @@ package org.doogie.liquido.datarepos;
 import org.doogie.liquido.model.AreaModel;
 import org.doogie.liquido.model.PollModel;
 import org.doogie.liquido.rest.PollRestController;
+import org.doogie.liquido.rest.dto.PollUpdate;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.data.rest.core.annotation.RestResource;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * <b></b>Read-only</b> database abstraction layer for "polls".
  * This RepositoryRestResouce is <b>read-only!</b>
  * Polls must not be created or edited through this @RepositoryRestResource. Instead use our custom {@link PollRestController}
+ *
+ * Proposals of a poll are fetched lazily. All finders here load them together with the poll
+ * in one query via the {@link PollModel#GRAPH_WITH_PROPOSALS} entity graph.
  */
 @RepositoryRestResource(collectionResourceRel = "polls", path = "polls", itemResourceRel = "poll")
 public interface PollRepo extends CrudRepository<PollModel, Long> {
 
+  // Query instead of em.find(), because hibernate ignores the entity graph when the poll is already in the second level cache.
+  // Proposals and their referenced areas and users are then still read from the cache.
+  @Override
+  @EntityGraph(PollModel.GRAPH_WITH_PROPOSALS)
+  @Query("SELECT poll FROM PollModel poll WHERE poll.id = :id")
+  Optional<PollModel> findById(@Param("id") Long id);
+
+  @EntityGraph(PollModel.GRAPH_WITH_PROPOSALS)
+  @Query("SELECT DISTINCT poll FROM PollModel poll WHERE poll.status = :status")    // DISTINCT, because proposals are fetched in the same query
   List<PollModel> findByStatus(@Param("status") PollModel.PollStatus status);
 
   /**
@@ -27,6 +44,7 @@ public interface PollRepo extends CrudRepository<PollModel, Long> {
    * @param area an area
    * @return list of polls
    */
+  @EntityGraph(PollModel.GRAPH_WITH_PROPOSALS)
   @Query("SELECT DISTINCT poll FROM PollModel poll JOIN LawModel prop on prop.poll = poll WHERE poll.status = :status and prop.area = :area order by poll.createdAt desc")
   List<PollModel> findByStatusAndArea(@Param("status") PollModel.PollStatus status, @Param("area")AreaModel area);
 
@@ -35,9 +53,70 @@ public interface PollRepo extends CrudRepository<PollModel, Long> {
    * @param area an area
    * @return list of polls in that rea
    */
+  @EntityGraph(PollModel.GRAPH_WITH_PROPOSALS)
   @Query("SELECT DISTINCT poll FROM PollModel poll JOIN LawModel prop on prop.poll = poll WHERE prop.area = :area order by poll.createdAt desc")
   List<PollModel> findByArea(@Param("area")AreaModel area);
 
+  /**
+   * Load polls by their IDs together with their proposals.
+   * This is the second step of keyset pagination. See {@link org.doogie.liquido.services.PollService#findPolls}
+   * @param ids IDs of polls (must not be empty)
+   * @return the polls in any order
+   */
+  @RestResource(exported = false)
+  @EntityGraph(PollModel.GRAPH_WITH_PROPOSALS)
+  @Query("SELECT DISTINCT poll FROM PollModel poll WHERE poll.id IN :ids")
+  List<PollModel> findAllWithProposalsByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Current status and number of ballots of polls for GraphQL subscribers. See {@link org.doogie.liquido.services.PollUpdatesService}
+   * This is a query and not a cache lookup, because numBallots is changed with plain SQL updates.
+   * @param ids IDs of polls (must not be empty)
+   * @return the state of these polls in any order
+   */
+  @RestResource(exported = false)
+  @Query("SELECT new org.doogie.liquido.rest.dto.PollUpdate(poll.id, poll.status, poll.numBallots) FROM PollModel poll WHERE poll.id IN :ids")
+  List<PollUpdate> findPollUpdates(@Param("ids") Collection<Long> ids);
+
+  /**
+   * @param id ID of a poll
+   * @return ID of the team of this poll. Empty if the poll does not exist or does not belong to a team.
+   */
+  @RestResource(exported = false)
+  @Query("SELECT poll.team.id FROM PollModel poll WHERE poll.id = :id")
+  Optional<Long> findTeamIdOfPoll(@Param("id") Long id);
+
+  /**
+   * Find the IDs of polls whose ballots have not yet been archived.
+   * @param status status of the polls, i.e. FINISHED
+   * @param before only polls whose voting phase ended before this date
+   * @return IDs of polls that can be archived, oldest first
+   */
+  @RestResource(exported = false)
+  @Query("SELECT poll.id FROM PollModel poll WHERE poll.status = :status AND poll.votingEndAt < :before " +
+    "AND NOT EXISTS (SELECT archive FROM PollArchiveModel archive WHERE archive.pollId = poll.id) ORDER BY poll.votingEndAt")
+  List<Long> findIdsOfPollsToArchive(@Param("status") PollModel.PollStatus status, @Param("before") LocalDateTime before);
+
+  /**
+   * Find the IDs of polls whose voting phase is scheduled to start.
+   * Polls with less than two proposals cannot be voted upon. They stay in elaboration.
+   * @param status status of the polls, i.e. ELABORATION
+   * @param now only polls whose votingStartAt is before now
+   * @return IDs of polls that can be started, oldest first
+   */
+  @RestResource(exported = false)
+  @Query("SELECT poll.id FROM PollModel poll WHERE poll.status = :status AND poll.votingStartAt <= :now AND SIZE(poll.proposals) >= 2 ORDER BY poll.votingStartAt")
+  List<Long> findIdsOfPollsToStart(@Param("status") PollModel.PollStatus status, @Param("now") LocalDateTime now);
+
+  /**
+   * Find the IDs of polls whose voting phase has ended.
+   * @param status status of the polls, i.e. VOTING
+   * @param now only polls whose votingEndAt is before now
+   * @return IDs of polls that can be finished
+   */
+  @RestResource(exported = false)
+  @Query("SELECT poll.id FROM PollModel poll WHERE poll.status = :status AND poll.votingEndAt <= :now")
+  List<Long> findIdsOfDuePolls(@Param("status") PollModel.PollStatus status, @Param("now") LocalDateTime now);
 
   // the /polls  endpoint is READ-ONLY!!  To builder a poll one must use the PollRestController
   //TODO: set @RepositoryRestResource(exported=false) and the only export  specific read-only methods!
@@ -0,0 +1,11 @@
+package org.doogie.liquido.datarepos;
+
+import org.doogie.liquido.model.PollResultModel;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Database abstraction for "pollResults", the pre-rendered results of finished polls.
+ * Not exposed as REST resource. Results are returned by the PollRestController.
+ */
+public interface PollResultRepo extends CrudRepository<PollResultModel, Long> {
+}
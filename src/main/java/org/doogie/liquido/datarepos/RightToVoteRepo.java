@@ -3,8 +3,13 @@ package org.doogie.liquido.datarepos;
 import org.doogie.liquido.model.AreaModel;
 import org.doogie.liquido.model.RightToVoteModel;
 import org.doogie.liquido.model.UserModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,15 @@ public interface RightToVoteRepo extends CrudRepository<RightToVoteModel, Long>
 	 */
 	Optional<RightToVoteModel> findByHashedVoterToken(String hashedVoterToken);
 
+	/**
+	 * Find a rightToVote that has not yet expired
+	 * @param hashedVoterToken a hashed voterToken
+	 * @param now current time
+	 * @return the rightToVote or Optional.empty() if there is none or if it is expired
+	 */
+	@Query("select r from RightToVoteModel r where r.hashedVoterToken = ?1 and (r.expiresAt is null or r.expiresAt > ?2)")
+	Optional<RightToVoteModel> findValidByHashedVoterToken(String hashedVoterToken, LocalDateTime now);
+
 	/**
 	 * Find all rightToVotes that are delegated to a given proxy.
 	 * @param proxiesRightToVote RightToVoteModel of a proxy
@@ -37,5 +51,26 @@ public interface RightToVoteRepo extends CrudRepository<RightToVoteModel, Long>
 	 */
 	Optional<RightToVoteModel> findByAreaAndPublicProxy(AreaModel area, UserModel proxy);
 
+	/**
+	 * Keyset scan for expired rightToVotes that can be deleted. See {@link org.doogie.liquido.services.ExpirySweeperService}
+	 * A rightToVote is kept as long as it is still referenced: by a casted ballot, as a public proxy,
+	 * by a delegation (in both directions) or by a delegation request.
+	 * @param now rightToVotes that expired before now
+	 * @param afterHashedVoterToken only keys greater than this
+	 * @param limit max number of returned keys
+	 * @return hashedVoterTokens of expired rightToVotes in ascending order
+	 */
+	@Query("select r.hashedVoterToken from RightToVoteModel r where r.expiresAt < ?1 and r.hashedVoterToken > ?2 " +
+		"and r.publicProxy is null and r.delegatedTo is null " +
+		"and not exists (select b.id from BallotModel b where b.rightToVote = r) " +
+		"and not exists (select d.hashedVoterToken from RightToVoteModel d where d.delegatedTo = r) " +
+		"and not exists (select dr.id from DelegationModel dr where dr.requestedDelegationFrom = r) " +
+		"order by r.hashedVoterToken")
+	List<String> findExpiredHashedVoterTokens(LocalDateTime now, String afterHashedVoterToken, Pageable limit);
+
+	@Modifying
+	@Query("delete from RightToVoteModel r where r.hashedVoterToken in ?1")
+	int deleteByHashedVoterTokenIn(Collection<String> hashedVoterTokens);
+
 
 }
@@ -0,0 +1,28 @@
+package org.doogie.liquido.datarepos;
+
+import org.doogie.liquido.model.SchedulerLeaseModel;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * Database abstraction for "schedulerLeases". Not exposed as REST resource.
+ */
+public interface SchedulerLeaseRepo extends CrudRepository<SchedulerLeaseModel, String> {
+
+	/**
+	 * Atomically renew our own lease or take over an expired lease of another node.
+	 * @param name name of the lease
+	 * @param owner ID of this node
+	 * @param now current time
+	 * @param expiresAt new expiry of the lease
+	 * @return 1 if this node now holds the lease, 0 if another node holds it (or there is no such lease yet)
+	 */
+	@Modifying
+	@Query("UPDATE SchedulerLeaseModel lease SET lease.owner = :owner, lease.expiresAt = :expiresAt " +
+		"WHERE lease.name = :name AND (lease.owner = :owner OR lease.expiresAt < :now)")
+	int renewOrTakeOver(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+}
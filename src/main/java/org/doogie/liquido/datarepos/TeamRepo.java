@@ -2,6 +2,9 @@ package org.doogie.liquido.datarepos;
 
 import org.doogie.liquido.model.TeamModel;
 import org.doogie.liquido.model.UserModel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -11,21 +14,36 @@ import java.util.Optional;
 /**
  * Interface to database for Teams.
  * with sorting, paging and advanced filtering support.
+ *
+ * Admins and members of a team are fetched lazily. Most use cases need them to check permissions.
+ * So the finders here load them in the same query with the {@link TeamModel#GRAPH_WITH_ADMINS_AND_MEMBERS} entity graph.
  */
 public interface TeamRepo extends PagingAndSortingRepository<TeamModel, Long> {
 	//TODO: Advanced filter capability for Teams:   , JpaSpecificationExecutor<TeamModel>
 
+	@Override
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
+	Optional<TeamModel> findById(Long id);
+
+	@Override
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
+	Page<TeamModel> findAll(Pageable pageable);
+
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
 	Optional<TeamModel> findByInviteCode(String inviteCode);
 
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
 	Optional<TeamModel> findByTeamName(String teamName);
 
 	/** Check if a given user is admin in a team. (A team might have more than one admin.) */
 	Optional<TeamModel> findByIdAndAdminsIdEquals(Long teamId, Long adminId);
 
 	// Did i already mention that Spring-data-jpa's query creation from interface method names is absolutely evil dark wizardry :-)
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
 	Optional<TeamModel> findByMembersEmailEquals(String email);
 
-	@Query("FROM TeamModel t WHERE :user member t.members OR :user member t.admins")
+	@EntityGraph(TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS)
+	@Query("SELECT DISTINCT t FROM TeamModel t WHERE :user member t.members OR :user member t.admins")
 	List<TeamModel> teamsOfUser(UserModel user);
 
 	/*
@@ -0,0 +1,56 @@
+package org.doogie.liquido.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Heap budget mode for tiny containers. See <pre>application-lowmem.yml</pre>
+ *
+ * Every pooled DB connection is used by one request at a time. And every such request holds its persistence context,
+ * result sets and response on the heap. So with a small heap, a big connection pool only lets more requests
+ * run out of memory at the same time. Here the pool size is derived from the max heap size:
+ * <pre>maxHeapMB / heapPerConnectionMB</pre> within <pre>minPoolSize</pre> and <pre>maxPoolSize</pre>.
+ *
+ * This applies to all Hikari pools, i.e. also to the read replica. See {@link ReadReplicaConfiguration}
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty("liquido.heap-budget.enabled")
+public class HeapBudgetConfiguration {
+
+	/**
+	 * Size Hikari pools before they are started. The pool is started lazily on the first getConnection().
+	 * Static, because a BeanPostProcessor must be available before all other beans are created.
+	 * (So LiquidoProperties cannot be injected here. They are bound from the environment instead.)
+	 * @param env spring environment
+	 * @return BeanPostProcessor for HikariDataSources
+	 */
+	@Bean
+	public static BeanPostProcessor heapBudgetPoolSizer(Environment env) {
+		LiquidoProperties.HeapBudget budget = Binder.get(env)
+			.bind("liquido.heap-budget", LiquidoProperties.HeapBudget.class)
+			.orElseGet(LiquidoProperties.HeapBudget::new);
+		long maxHeapMB = Runtime.getRuntime().maxMemory() / (1024 * 1024);
+		int poolSize = (int) Math.max(budget.minPoolSize, Math.min(budget.maxPoolSize, maxHeapMB / budget.heapPerConnectionMB));
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource) {
+					HikariDataSource pool = (HikariDataSource) bean;
+					pool.setMaximumPoolSize(poolSize);
+					if (pool.getMinimumIdle() > poolSize) pool.setMinimumIdle(poolSize);
+					log.info("Heap budget: max heap " + maxHeapMB + "MB -> " + poolSize + " connections in pool " + beanName);
+				}
+				return bean;
+			}
+		};
+	}
+}
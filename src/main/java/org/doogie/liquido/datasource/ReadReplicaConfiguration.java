@@ -0,0 +1,99 @@
+package org.doogie.liquido.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Read/write splitting between a primary DB and a read replica.
+ * This is only active when a replica is configured:
+ * <pre>
+ * liquido:
+ *   datasource:
+ *     readYourWritesMillis: 5000
+ *     replica:
+ *       jdbc-url: jdbc:postgresql://replica-host:5432/liquido
+ *       username: ...
+ *       password: ...
+ * </pre>
+ * The primary is configured as usual with <pre>spring.datasource.*</pre>
+ *
+ * Spring Boot's auto configured DataSource is replaced by a {@link ReadWriteRoutingDataSource}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty("liquido.datasource.replica.jdbc-url")
+public class ReadReplicaConfiguration {
+
+	public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		primary.setPoolName("liquido-primary");
+		return primary;
+	}
+
+	@Bean(REPLICA_DATA_SOURCE)
+	@ConfigurationProperties("liquido.datasource.replica")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource replica = new HikariDataSource();
+		replica.setPoolName("liquido-replica");
+		return replica;
+	}
+
+	@Bean
+	public ReadYourWritesGuard readYourWritesGuard(LiquidoProperties props) {
+		return new ReadYourWritesGuard(props.getDatasource().getReadYourWritesMillis());
+	}
+
+	/**
+	 * The DataSource that is used by JPA and JdbcTemplate.
+	 * Primary and replica are injected lazily. Spring Boot's DataSource initializer runs when the first DataSource bean is created,
+	 * and it needs this primary DataSource bean.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Lazy @Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Lazy @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+		ReadYourWritesGuard readYourWritesGuard
+	) {
+		log.info("Read-only transactions will use the read replica DB");
+		ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(readYourWritesGuard);
+		routingDataSource.setTargetDataSources(Map.of(
+			ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+			ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		// Fetch the physical connection only when the first statement is executed. Then the transaction is already marked read-only.
+		// Defaults are set here, so that the proxy does not need to open a connection on startup to find them out.
+		LazyConnectionDataSourceProxy lazyDataSource = new LazyConnectionDataSourceProxy();
+		lazyDataSource.setTargetDataSource(routingDataSource);
+		lazyDataSource.setDefaultAutoCommit(true);
+		lazyDataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		lazyDataSource.afterPropertiesSet();
+		return lazyDataSource;
+	}
+
+	@Bean
+	public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadYourWritesGuard readYourWritesGuard) {
+		return new FilterRegistrationBean<>(new ReadYourWritesFilter(readYourWritesGuard));
+	}
+}
@@ -0,0 +1,132 @@
+package org.doogie.liquido.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary DB.
+ *
+ * <ul>
+ *   <li><pre>@Transactional(readOnly = true)</pre> service methods and spring data repository finders read from the replica.</li>
+ *   <li>Read-write transactions and statements outside of any transaction use the primary.</li>
+ *   <li>After a write, reads of the same client also go to the primary for a while. See {@link ReadYourWritesGuard}
+ *       Only a transaction that has actually executed an INSERT, UPDATE or DELETE counts as a write.
+ *       A read-write transaction that only reads does not pin the client to the primary.</li>
+ *   <li>Read-only code that must see the latest committed state can pin itself to the primary with {@link #onPrimary(Runnable)}</li>
+ * </ul>
+ *
+ * The lookup key is determined when a physical connection is fetched. So this data source must be wrapped in a
+ * LazyConnectionDataSourceProxy. Otherwise the transaction manager would fetch the connection before the transaction is marked read-only.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route { PRIMARY, REPLICA }
+
+	/** read-only transactions of the current thread use the primary */
+	private static final ThreadLocal<Boolean> pinnedToPrimary = ThreadLocal.withInitial(() -> false);
+
+	private final ReadYourWritesGuard readYourWritesGuard;
+
+	public ReadWriteRoutingDataSource(ReadYourWritesGuard readYourWritesGuard) {
+		this.readYourWritesGuard = readYourWritesGuard;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (pinnedToPrimary.get()) return Route.PRIMARY;
+			if (!readYourWritesGuard.mustReadFromPrimary()) return Route.REPLICA;
+			log.trace("Read-only transaction uses primary DB, because this client has just written data.");
+			return Route.PRIMARY;
+		}
+		return Route.PRIMARY;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return trackWrites(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return trackWrites(super.getConnection(username, password));
+	}
+
+	/**
+	 * In a read-write transaction, watch the connection for statements that change data.
+	 * Only if there was one, the client must read from the primary after the commit.
+	 */
+	private Connection trackWrites(Connection connection) {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() ||
+			!TransactionSynchronizationManager.isActualTransactionActive() ||
+			!TransactionSynchronizationManager.isSynchronizationActive()) return connection;
+		WriteTracker tracker = new WriteTracker();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				// Following reads of this client must not see the (maybe lagging) replica.
+				if (tracker.wrote) readYourWritesGuard.wroteToPrimary();
+			}
+		});
+		return (Connection) tracker.proxy(connection, Connection.class);
+	}
+
+	/**
+	 * Run read-only code on the primary DB. The connection is fetched lazily, so this also works inside
+	 * a <pre>@Transactional(readOnly = true)</pre> method, as long as no statement has been executed before.
+	 * Without a read replica this simply runs the work.
+	 * @param work reads that must see the latest committed state
+	 */
+	public static void onPrimary(Runnable work) {
+		boolean wasPinned = pinnedToPrimary.get();
+		pinnedToPrimary.set(true);
+		try {
+			work.run();
+		} finally {
+			pinnedToPrimary.set(wasPinned);
+		}
+	}
+
+	/**
+	 * Proxies a connection and the statements created by it. Remembers when an update has been executed.
+	 * Statement.execute() returns false for updates. SELECT ... FOR UPDATE only locks rows and is not a write.
+	 */
+	private static class WriteTracker {
+		private static final Set<String> UPDATE_METHODS = Set.of("executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+		volatile boolean wrote = false;
+
+		Object proxy(Object target, Class<?> iface) {
+			return Proxy.newProxyInstance(ReadWriteRoutingDataSource.class.getClassLoader(), new Class<?>[] { iface }, (proxy, method, args) -> {
+				if (method.getName().equals("equals")) return proxy == args[0];
+				if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+				Object result;
+				try {
+					result = method.invoke(target, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+				if (isUpdate(method, result)) wrote = true;
+				Class<?> returnType = method.getReturnType();
+				if (result instanceof Statement && returnType.isInterface() && Statement.class.isAssignableFrom(returnType)) return proxy(result, returnType);
+				return result;
+			});
+		}
+
+		private static boolean isUpdate(Method method, Object result) {
+			if (!Statement.class.isAssignableFrom(method.getDeclaringClass())) return false;
+			return UPDATE_METHODS.contains(method.getName()) || (method.getName().equals("execute") && Boolean.FALSE.equals(result));
+		}
+	}
+}
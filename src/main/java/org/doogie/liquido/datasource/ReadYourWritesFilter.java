@@ -0,0 +1,32 @@
+package org.doogie.liquido.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Tell the {@link ReadYourWritesGuard} when a request starts and ends,
+ * so that clients that have just written data read from the primary DB.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	private final ReadYourWritesGuard readYourWritesGuard;
+
+	public ReadYourWritesFilter(ReadYourWritesGuard readYourWritesGuard) {
+		this.readYourWritesGuard = readYourWritesGuard;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+		readYourWritesGuard.beginRequest(request);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			readYourWritesGuard.endRequest();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package org.doogie.liquido.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replication lag guard: A client that has just written data, e.g. casted a vote, must be able to read it back.
+ * But the replica may not yet have received this change. So for readYourWritesMillis after a write,
+ * this client reads from the primary DB.
+ *
+ * A client is recognized by
+ * <ul>
+ *   <li>the current thread, e.g. reads later in the same request,</li>
+ *   <li>the logged in user (from the JWT),</li>
+ *   <li>a cookie, because voters cast their vote anonymously.</li>
+ * </ul>
+ */
+@Slf4j
+public class ReadYourWritesGuard {
+
+	public static final String COOKIE_NAME = "liquido-read-primary-until";
+
+	private final long readYourWritesMillis;
+
+	/** until when must the current thread read from the primary */
+	private final ThreadLocal<Long> primaryUntil = new ThreadLocal<>();
+
+	/** userId -> until when must this user read from the primary */
+	private final Map<Long, Long> primaryUntilByUser = new ConcurrentHashMap<>();
+
+	public ReadYourWritesGuard(long readYourWritesMillis) {
+		this.readYourWritesMillis = readYourWritesMillis;
+	}
+
+	/** @return true if the current client has written data recently and thus must read from the primary */
+	public boolean mustReadFromPrimary() {
+		long now = System.currentTimeMillis();
+		Long threadUntil = primaryUntil.get();
+		if (threadUntil != null && threadUntil > now) return true;
+		Long userId = getCurrentUserId();
+		if (userId == null) return false;
+		Long userUntil = primaryUntilByUser.get(userId);
+		if (userUntil == null) return false;
+		if (userUntil > now) return true;
+		primaryUntilByUser.remove(userId, userUntil);
+		return false;
+	}
+
+	/** Data has been committed to the primary. Stick the current client to the primary for a while. */
+	public void wroteToPrimary() {
+		long until = System.currentTimeMillis() + readYourWritesMillis;
+		primaryUntil.set(until);
+		Long userId = getCurrentUserId();
+		if (userId != null) primaryUntilByUser.put(userId, until);
+		HttpServletResponse response = getCurrentResponse();
+		if (response != null && !response.isCommitted()) {
+			Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(until));
+			cookie.setPath("/");
+			cookie.setHttpOnly(true);
+			cookie.setMaxAge((int)Math.max(1, readYourWritesMillis / 1000));
+			response.addCookie(cookie);
+		}
+		if (primaryUntilByUser.size() > 10000) purgeExpired();
+	}
+
+	/**
+	 * A new request starts. If the client sent our cookie, then it must read from the primary.
+	 * @param request the incoming HTTP request
+	 */
+	public void beginRequest(HttpServletRequest request) {
+		primaryUntil.remove();
+		if (request.getCookies() == null) return;
+		for (Cookie cookie : request.getCookies()) {
+			if (COOKIE_NAME.equals(cookie.getName())) {
+				try {
+					long until = Long.parseLong(cookie.getValue());
+					// Never trust the client for longer than readYourWritesMillis
+					primaryUntil.set(Math.min(until, System.currentTimeMillis() + readYourWritesMillis));
+				} catch (NumberFormatException ignore) {
+					// invalid cookie => use the replica
+				}
+			}
+		}
+	}
+
+	/** The request has been handled. The thread may be reused for another client. */
+	public void endRequest() {
+		primaryUntil.remove();
+	}
+
+	private void purgeExpired() {
+		long now = System.currentTimeMillis();
+		primaryUntilByUser.values().removeIf(until -> until <= now);
+	}
+
+	private Long getCurrentUserId() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		return auth instanceof LiquidoAuthentication ? ((LiquidoAuthentication)auth).getUserId() : null;
+	}
+
+	private HttpServletResponse getCurrentResponse() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes)attributes).getResponse() : null;
+	}
+}
@@ -0,0 +1,127 @@
+package org.doogie.liquido.graphql;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.language.NodeUtil;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.doogie.liquido.util.DoogiesUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed and validated GraphQL documents. Our clients only send a handful of distinct queries.
+ * So there is no need to parse and validate the same query string again on every request.
+ *
+ * This also implements automatic persisted queries (APQ) as used by Apollo clients:
+ * <ol>
+ *   <li>The client sends only the SHA-256 hash of its query in <pre>extensions.persistedQuery.sha256Hash</pre></li>
+ *   <li>If the hash is not yet known, the backend answers with the error <pre>PersistedQueryNotFound</pre></li>
+ *   <li>Then the client sends the query again, this time with the full query string <b>and</b> the hash.
+ *       The hash must match the query. Otherwise one client could register a different query under the hash of another client's query.</li>
+ * </ol>
+ * Only queries without errors are cached. That includes the max depth and max complexity checks, because graphql-java runs them
+ * during validation. The cache is bounded. The least recently used documents are evicted.
+ */
+public class GraphQLDocumentCache implements PreparsedDocumentProvider {
+
+	/** Error message that tells an APQ client to send its full query. (This exact text is expected by the clients.) */
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+	public static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
+
+	private final Map<String, PreparsedDocumentEntry> documents;
+
+	/**
+	 * @param maxSize max number of cached documents
+	 */
+	public GraphQLDocumentCache(int maxSize) {
+		this.documents = Collections.synchronizedMap(new LinkedHashMap<String, PreparsedDocumentEntry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+
+	@Override
+	public PreparsedDocumentEntry getDocument(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+		String query = executionInput.getQuery();
+		String persistedQueryHash = getPersistedQueryHash(executionInput);
+
+		// Hash only: Is this a query that we already know?
+		if (DoogiesUtil.isEmpty(query)) {
+			if (persistedQueryHash == null) return parseAndValidateFunction.apply(executionInput);   // graphql-java will complain about the empty query
+			PreparsedDocumentEntry entry = documents.get(persistedQueryHash.toLowerCase());
+			return entry != null ? entry : new PreparsedDocumentEntry(persistedQueryError(PERSISTED_QUERY_NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND"));
+		}
+
+		String queryHash = DigestUtils.sha256Hex(query);
+		if (persistedQueryHash != null && !persistedQueryHash.equalsIgnoreCase(queryHash))
+			return new PreparsedDocumentEntry(persistedQueryError(PERSISTED_QUERY_HASH_MISMATCH, "INTERNAL_SERVER_ERROR"));
+
+		PreparsedDocumentEntry entry = documents.get(queryHash);
+		if (entry == null) {
+			entry = parseAndValidateFunction.apply(executionInput);
+			if (!entry.hasErrors()) documents.put(queryHash, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Is this request a query, a mutation or a subscription? This is needed before the request is executed.
+	 * @param executionInput a GraphQL request
+	 * @return the type of the operation that will be executed. QUERY if the request is invalid. graphql-java will report the error.
+	 */
+	public OperationDefinition.Operation getOperation(ExecutionInput executionInput) {
+		return getOperationDefinition(executionInput).map(OperationDefinition::getOperation).orElse(OperationDefinition.Operation.QUERY);
+	}
+
+	/**
+	 * The operation that will be executed, before it is executed.
+	 * Known documents are not parsed again. Unknown ones are parsed here and then once more by graphql-java.
+	 * @param executionInput a GraphQL request
+	 * @return the operation or Optional.empty() if the request is invalid
+	 */
+	public Optional<OperationDefinition> getOperationDefinition(ExecutionInput executionInput) {
+		String query = executionInput.getQuery();
+		String hash = DoogiesUtil.isEmpty(query) ? getPersistedQueryHash(executionInput) : DigestUtils.sha256Hex(query);
+		PreparsedDocumentEntry entry = hash != null ? documents.get(hash.toLowerCase()) : null;
+		try {
+			Document document = entry != null ? entry.getDocument() : new Parser().parseDocument(query);
+			return Optional.of(NodeUtil.getOperation(document, executionInput.getOperationName()).operationDefinition);
+		} catch (RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	/** @return number of cached documents */
+	public int size() {
+		return documents.size();
+	}
+
+	/**
+	 * @return the hash from the request's <pre>extensions: { persistedQuery: { version: 1, sha256Hash: "..." } }</pre> or null
+	 */
+	private static String getPersistedQueryHash(ExecutionInput executionInput) {
+		Map<String, Object> extensions = executionInput.getExtensions();
+		if (extensions == null || !(extensions.get("persistedQuery") instanceof Map)) return null;
+		Object hash = ((Map<?, ?>) extensions.get("persistedQuery")).get("sha256Hash");
+		return hash instanceof String && !((String) hash).isEmpty() ? (String) hash : null;
+	}
+
+	private static GraphQLError persistedQueryError(String message, String code) {
+		Map<String, Object> extensions = new HashMap<>();
+		extensions.put("code", code);
+		return GraphqlErrorBuilder.newError().message(message).extensions(extensions).build();
+	}
+}
@@ -0,0 +1,139 @@
+package org.doogie.liquido.graphql;
+
+import graphql.ExecutionResult;
+import graphql.language.OperationDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datasource.ReadYourWritesGuard;
+import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Executes GraphQL requests on our own bounded thread pools instead of the servlet threads.
+ * The servlet thread is released as soon as the request is queued. See {@link LiquidoGraphQLController#execute}
+ *
+ * Queries and mutations have separate pools. A few slow mutations, e.g. finishing the voting phase of a large poll,
+ * can only fill the mutation pool. Cheap queries still get a thread. When a queue is full, requests are rejected with 503.
+ * Each operation has a timeout. Then its thread is interrupted.
+ *
+ * A request is executed completely on one worker thread. Everything that is bound to the servlet thread is also bound to the worker:
+ * the SecurityContext, the request attributes, the read-your-writes cookie and (as with spring.jpa.open-in-view)
+ * an EntityManager, so that lazy associations can still be loaded while the result is resolved.
+ */
+@Slf4j
+@Component
+public class GraphQLExecutor {
+
+	@Autowired
+	LiquidoProperties props;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	/** only when a read replica is configured */
+	@Autowired(required = false)
+	ReadYourWritesGuard readYourWritesGuard;
+
+	@Value("${spring.jpa.open-in-view:true}")
+	boolean openInView;
+
+	private ThreadPoolExecutor queryWorkers;
+	private ThreadPoolExecutor mutationWorkers;
+
+	@PostConstruct
+	public void init() {
+		queryWorkers = newPool(props.graphql.queryThreads, "graphql-query-");
+		mutationWorkers = newPool(props.graphql.mutationThreads, "graphql-mutation-");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		queryWorkers.shutdownNow();
+		mutationWorkers.shutdownNow();
+	}
+
+	private ThreadPoolExecutor newPool(int numThreads, String threadNamePrefix) {
+		return new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(props.graphql.queueCapacity), new CustomizableThreadFactory(threadNamePrefix));
+	}
+
+	/**
+	 * Queue the execution of a GraphQL request. Must be called in the servlet thread.
+	 * @param operation query or mutation. Selects the thread pool and the timeout.
+	 * @param request the current HTTP request
+	 * @param execution executes the request, e.g. <pre>graphQL.executeAsync(input)</pre>
+	 * @return the result. Completes exceptionally with a LiquidoException SERVICE_UNAVAILABLE when the queue is full or the operation timed out.
+	 */
+	public CompletableFuture<ExecutionResult> submit(OperationDefinition.Operation operation, HttpServletRequest request, Supplier<CompletableFuture<ExecutionResult>> execution) {
+		boolean isMutation = operation == OperationDefinition.Operation.MUTATION;
+		ThreadPoolExecutor workers = isMutation ? mutationWorkers : queryWorkers;
+		long timeoutMillis = isMutation ? props.graphql.mutationTimeoutMillis : props.graphql.queryTimeoutMillis;
+
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		CompletableFuture<ExecutionResult> result = new CompletableFuture<>();
+		Future<?> task;
+		try {
+			task = workers.submit(() -> {
+				SecurityContextHolder.setContext(securityContext);
+				RequestContextHolder.setRequestAttributes(requestAttributes);
+				if (readYourWritesGuard != null) readYourWritesGuard.beginRequest(request);
+				EntityManager em = openInView ? bindEntityManager() : null;
+				try {
+					result.complete(execution.get().join());   // the whole result is resolved on this thread, while the EntityManager is bound
+				} catch (CompletionException e) {
+					result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+				} catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				} finally {
+					if (em != null) {
+						TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+						EntityManagerFactoryUtils.closeEntityManager(em);
+					}
+					if (readYourWritesGuard != null) readYourWritesGuard.endRequest();
+					RequestContextHolder.resetRequestAttributes();
+					SecurityContextHolder.clearContext();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("Rejected GraphQL " + operation + ": " + workers.getQueue().size() + " requests are already queued");
+			result.completeExceptionally(new LiquidoException(LiquidoException.Errors.SERVICE_UNAVAILABLE, "Too many GraphQL requests. Please try again later."));
+			return result;
+		}
+
+		return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).handle((res, ex) -> {
+			if (ex instanceof TimeoutException) {
+				task.cancel(true);
+				log.warn("GraphQL " + operation + " timed out after " + timeoutMillis + "ms");
+				throw new CompletionException(new LiquidoException(LiquidoException.Errors.SERVICE_UNAVAILABLE, "GraphQL " + operation.name().toLowerCase() + " timed out after " + timeoutMillis + "ms"));
+			}
+			if (ex != null) throw ex instanceof CompletionException ? (CompletionException) ex : new CompletionException(ex);
+			return res;
+		});
+	}
+
+	/** Same as OpenEntityManagerInViewInterceptor does for the servlet threads */
+	private EntityManager bindEntityManager() {
+		EntityManager em = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(em));
+		return em;
+	}
+}
@@ -0,0 +1,339 @@
+package org.doogie.liquido.graphql;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.language.OperationDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.JwtTokenUtils;
+import org.doogie.liquido.rest.LiquidoUrlPaths;
+import org.doogie.liquido.services.LiquidoException;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.websocket.*;
+import javax.websocket.server.ServerContainer;
+import javax.websocket.server.ServerEndpointConfig;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Websocket endpoint for GraphQL subscriptions: <pre>/liquido-api/v3/subscriptions</pre>
+ *
+ * This speaks the <pre>graphql-ws</pre> sub protocol of Apollo's subscriptions-transport-ws:
+ * <ol>
+ *   <li>Client sends <pre>connection_init</pre> with its JWT in the payload: <pre>{ "Authorization": "Bearer &lt;JWT&gt;" }</pre>
+ *       The backend answers with <pre>connection_ack</pre> or <pre>connection_error</pre></li>
+ *   <li>Client sends <pre>start</pre> with an id and a GraphQL subscription, e.g. <pre>subscription { pollUpdates(pollId: 4711) { status numBallots } }</pre>
+ *       Queries and mutations are rejected. They must be sent to the HTTP endpoint, where they run on the pools of the {@link GraphQLExecutor}
+ *       with their timeouts, and not on the websocket thread.</li>
+ *   <li>The backend sends <pre>data</pre> messages with this id, until the subscription is <pre>complete</pre> or the client sends <pre>stop</pre></li>
+ * </ol>
+ *
+ * Messages are sent asynchronously. The next update of a subscription is only requested when the previous one has been sent.
+ * So a slow client does not block the thread that pushes the updates. It just skips some intermediate states.
+ *
+ * This is a plain JSR-356 endpoint. It is registered in the embedded Tomcat's ServerContainer when the servlet context starts.
+ */
+@Slf4j
+@Component
+public class GraphQLSubscriptionEndpoint extends Endpoint implements ServletContextListener {
+
+	/** websocket sub protocol of subscriptions-transport-ws */
+	public static final String SUB_PROTOCOL = "graphql-ws";
+
+	// Message types of the graphql-ws protocol
+	public static final String GQL_CONNECTION_INIT = "connection_init";
+	public static final String GQL_CONNECTION_ACK = "connection_ack";
+	public static final String GQL_CONNECTION_ERROR = "connection_error";
+	public static final String GQL_CONNECTION_TERMINATE = "connection_terminate";
+	public static final String GQL_START = "start";
+	public static final String GQL_STOP = "stop";
+	public static final String GQL_DATA = "data";
+	public static final String GQL_ERROR = "error";
+	public static final String GQL_COMPLETE = "complete";
+
+	@Value("${spring.data.rest.base-path}")
+	String basePath;
+
+	@Autowired
+	LiquidoGraphQLController graphQLController;
+
+	@Autowired
+	LiquidoDataLoaders dataLoaders;
+
+	@Autowired
+	JwtTokenUtils jwtTokenUtils;
+
+	@Autowired
+	AuthUtil authUtil;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	/**
+	 * Register this endpoint in the websocket container. There is no container in tests with a mock web environment.
+	 */
+	@Override
+	public void contextInitialized(ServletContextEvent event) {
+		ServerContainer container = (ServerContainer) event.getServletContext().getAttribute(ServerContainer.class.getName());
+		if (container == null) {
+			log.info("No websocket container. GraphQL subscriptions are not available.");
+			return;
+		}
+		String path = basePath + LiquidoUrlPaths.SUBSCRIPTIONS;
+		try {
+			container.addEndpoint(ServerEndpointConfig.Builder.create(GraphQLSubscriptionEndpoint.class, path)
+				.subprotocols(Collections.singletonList(SUB_PROTOCOL))
+				.configurator(new ServerEndpointConfig.Configurator() {
+					@Override
+					@SuppressWarnings("unchecked")
+					public <T> T getEndpointInstance(Class<T> endpointClass) {
+						return (T) GraphQLSubscriptionEndpoint.this;   // one endpoint (this spring bean) for all connections
+					}
+				})
+				.build());
+			log.info("GraphQL subscriptions endpoint at " + path);
+		} catch (DeploymentException e) {
+			throw new IllegalStateException("Cannot register GraphQL subscriptions endpoint at " + path, e);
+		}
+	}
+
+	@Override
+	public void onOpen(Session session, EndpointConfig config) {
+		Connection connection = new Connection(session);
+		session.getUserProperties().put(Connection.class.getName(), connection);
+		session.addMessageHandler(String.class, message -> connection.onMessage(message));
+	}
+
+	@Override
+	public void onClose(Session session, CloseReason closeReason) {
+		Connection connection = (Connection) session.getUserProperties().get(Connection.class.getName());
+		if (connection != null) connection.stopAll();
+	}
+
+	@Override
+	public void onError(Session session, Throwable err) {
+		log.debug("Error in GraphQL subscription websocket " + session.getId() + ": " + err);
+	}
+
+	/**
+	 * State of one websocket connection: the logged in user and the running subscriptions.
+	 */
+	class Connection {
+		final Session session;
+
+		/** set by connection_init */
+		Authentication authentication = null;
+
+		/** running subscriptions by their operation id */
+		final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+		/** messages that wait to be sent. Only one async send may be in progress per websocket. */
+		final Deque<Outgoing> outbox = new ArrayDeque<>();
+		boolean sending = false;
+
+		Connection(Session session) {
+			this.session = session;
+		}
+
+		void onMessage(String text) {
+			Map<String, Object> message;
+			try {
+				message = objectMapper.readValue(text, Map.class);
+			} catch (IOException e) {
+				send(GQL_CONNECTION_ERROR, null, Collections.singletonMap("message", "Cannot parse message"), null);
+				return;
+			}
+			String type = String.valueOf(message.get("type"));
+			String id = message.get("id") != null ? String.valueOf(message.get("id")) : null;
+			Map<String, Object> payload = message.get("payload") instanceof Map ? (Map<String, Object>) message.get("payload") : Collections.emptyMap();
+			switch (type) {
+				case GQL_CONNECTION_INIT:
+					init(payload);
+					break;
+				case GQL_START:
+					start(id, payload);
+					break;
+				case GQL_STOP:
+					stop(id);
+					break;
+				case GQL_CONNECTION_TERMINATE:
+					stopAll();
+					try { session.close(); } catch (IOException ignored) { }
+					break;
+				default:
+					send(GQL_ERROR, id, Collections.singletonMap("message", "Unknown message type " + type), null);
+			}
+		}
+
+		/** Authenticate the user with the JWT from the connection_init payload */
+		void init(Map<String, Object> payload) {
+			Object header = payload.containsKey(AuthUtil.tokenRequestHeader) ? payload.get(AuthUtil.tokenRequestHeader) : payload.get("authToken");
+			String jwt = header instanceof String ? (String) header : "";
+			if (jwt.startsWith(AuthUtil.tokenRequestHeaderPrefix)) jwt = jwt.substring(AuthUtil.tokenRequestHeaderPrefix.length());
+			try {
+				jwtTokenUtils.validateToken(jwt);
+				authentication = authUtil.authenticateInSecurityContext(jwtTokenUtils.getUserIdFromJWT(jwt), jwtTokenUtils.getTeamIdFromJWT(jwt), jwt).getAuthentication();
+				send(GQL_CONNECTION_ACK, null, null, null);
+			} catch (LiquidoException e) {
+				send(GQL_CONNECTION_ERROR, null, Collections.singletonMap("message", e.getMessage()), null);
+			} finally {
+				SecurityContextHolder.clearContext();
+			}
+		}
+
+		/** Subscribe to the results of a GraphQL subscription as the logged in user. */
+		void start(String id, Map<String, Object> payload) {
+			if (id == null || subscriptions.containsKey(id)) {
+				send(GQL_ERROR, id, Collections.singletonMap("message", "Need a new unique id to start an operation"), null);
+				return;
+			}
+			if (authentication == null) {
+				send(GQL_ERROR, id, Collections.singletonMap("message", "Must send " + GQL_CONNECTION_INIT + " with a JWT first"), null);
+				return;
+			}
+			ExecutionInput input = ExecutionInput.newExecutionInput()
+				.query(payload.get("query") != null ? (String) payload.get("query") : "")
+				.operationName((String) payload.get("operationName"))
+				.variables(payload.get("variables") instanceof Map ? (Map<String, Object>) payload.get("variables") : new HashMap<>())
+				.dataLoaderRegistry(dataLoaders.newRegistry())
+				.build();
+			// Invalid requests are passed on. graphql-java reports their errors without executing anything.
+			Optional<OperationDefinition> operation = graphQLController.getOperationDefinition(input);
+			if (operation.isPresent() && operation.get().getOperation() != OperationDefinition.Operation.SUBSCRIPTION) {
+				send(GQL_ERROR, id, Collections.singletonMap("message", "Only subscriptions can be sent via websocket. Please POST your " +
+					operation.get().getOperation().name().toLowerCase() + " to " + basePath + LiquidoUrlPaths.GRAPHQL), null);
+				return;
+			}
+
+			ExecutionResult result;
+			SecurityContextHolder.getContext().setAuthentication(authentication);
+			try {
+				result = graphQLController.getGraphQL().execute(input);   // only creates the publisher
+			} finally {
+				SecurityContextHolder.clearContext();
+			}
+
+			if (!result.getErrors().isEmpty()) {
+				send(GQL_ERROR, id, result.toSpecification().get("errors"), null);
+			} else if (result.getData() instanceof Publisher) {
+				((Publisher<ExecutionResult>) result.getData()).subscribe(new OperationSubscriber(id));
+			} else {
+				send(GQL_ERROR, id, Collections.singletonMap("message", "Subscription did not return a stream of results"), null);
+			}
+		}
+
+		void stop(String id) {
+			Subscription subscription = id != null ? subscriptions.remove(id) : null;
+			if (subscription != null) subscription.cancel();
+		}
+
+		void stopAll() {
+			new ArrayList<>(subscriptions.keySet()).forEach(this::stop);
+		}
+
+		/**
+		 * Send a message asynchronously
+		 * @param afterSent (optional) called when the message has been sent
+		 */
+		void send(String type, String id, Object payload, Runnable afterSent) {
+			Map<String, Object> message = new LinkedHashMap<>();
+			message.put("type", type);
+			if (id != null) message.put("id", id);
+			if (payload != null) message.put("payload", payload);
+			String json;
+			try {
+				json = objectMapper.writeValueAsString(message);
+			} catch (JsonProcessingException e) {
+				log.error("Cannot serialize GraphQL subscription message of type " + type, e);
+				return;
+			}
+			synchronized (this) {
+				outbox.add(new Outgoing(json, afterSent));
+				if (sending) return;
+				sending = true;
+			}
+			sendNext();
+		}
+
+		private void sendNext() {
+			Outgoing next;
+			synchronized (this) {
+				next = outbox.poll();
+				if (next == null || !session.isOpen()) {
+					outbox.clear();
+					sending = false;
+					return;
+				}
+			}
+			session.getAsyncRemote().sendText(next.json, result -> {
+				if (!result.isOK()) {
+					log.debug("Cannot send GraphQL subscription message to websocket " + session.getId() + ": " + result.getException());
+					stopAll();
+					return;
+				}
+				if (next.afterSent != null) next.afterSent.run();
+				sendNext();
+			});
+		}
+
+		/**
+		 * Receives the results of one GraphQL subscription and sends them to the client, one at a time.
+		 */
+		class OperationSubscriber implements Subscriber<ExecutionResult> {
+			final String id;
+			Subscription subscription;
+
+			OperationSubscriber(String id) {
+				this.id = id;
+			}
+
+			@Override
+			public void onSubscribe(Subscription subscription) {
+				this.subscription = subscription;
+				subscriptions.put(id, subscription);
+				subscription.request(1);
+			}
+
+			@Override
+			public void onNext(ExecutionResult result) {
+				send(GQL_DATA, id, result.toSpecification(), () -> subscription.request(1));
+			}
+
+			@Override
+			public void onError(Throwable err) {
+				subscriptions.remove(id);
+				send(GQL_ERROR, id, Collections.singletonMap("message", String.valueOf(err.getMessage())), null);
+			}
+
+			@Override
+			public void onComplete() {
+				subscriptions.remove(id);
+				send(GQL_COMPLETE, id, null, null);
+			}
+		}
+	}
+
+	/** a serialized message and what to do after it has been sent */
+	static class Outgoing {
+		final String json;
+		final Runnable afterSent;
+
+		Outgoing(String json, Runnable afterSent) {
+			this.json = json;
+			this.afterSent = afterSent;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package org.doogie.liquido.graphql;
+
+import graphql.language.*;
+import org.doogie.liquido.datarepos.EntityVersionQueries;
+import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
+import org.doogie.liquido.rest.dto.EntityVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Version of the data that a GraphQL query will return, for conditional GET requests to the GraphQL endpoint.
+ *
+ * Only queries whose top level fields are <pre>team</pre> and <pre>poll(pollId: ...)</pre> have a version.
+ * The version is looked up without executing the query. See {@link EntityVersionQueries}
+ */
+@Component
+public class GraphQLVersions {
+
+	@Autowired
+	EntityVersionQueries versionQueries;
+
+	@Autowired
+	AuthUtil authUtil;
+
+	/**
+	 * @param operation a GraphQL query
+	 * @param variables the query's variables
+	 * @return the combined version of all top level fields or Optional.empty() if the query has any other field
+	 */
+	public Optional<EntityVersion> findVersion(OperationDefinition operation, Map<String, Object> variables) {
+		if (operation.getOperation() != OperationDefinition.Operation.QUERY) return Optional.empty();
+		StringBuilder hash = new StringBuilder();
+		Date lastModified = null;
+		for (Selection<?> selection : operation.getSelectionSet().getSelections()) {
+			if (!(selection instanceof Field)) return Optional.empty();   // fragments are not supported here
+			Field field = (Field) selection;
+			if ("__typename".equals(field.getName())) continue;
+			Optional<EntityVersion> version = findVersion(field, variables);
+			if (version.isEmpty()) return Optional.empty();
+			hash.append(field.getName()).append('=').append(version.get().getHash()).append(';');
+			Date fieldModified = version.get().getLastModified();
+			if (fieldModified != null && (lastModified == null || fieldModified.after(lastModified))) lastModified = fieldModified;
+		}
+		return hash.length() == 0 ? Optional.empty() : Optional.of(new EntityVersion(hash.toString(), lastModified));
+	}
+
+	private Optional<EntityVersion> findVersion(Field field, Map<String, Object> variables) {
+		switch (field.getName()) {
+			case "team":
+				return authUtil.getLiquidoAuthentication()
+					.map(LiquidoAuthentication::getTeamId)
+					.flatMap(versionQueries::findTeamVersion);
+			case "poll":
+				return getLongArgument(field, "pollId", variables).flatMap(versionQueries::findPollVersion);
+			default:
+				return Optional.empty();
+		}
+	}
+
+	/** @return value of a literal or variable argument */
+	private Optional<Long> getLongArgument(Field field, String name, Map<String, Object> variables) {
+		Argument argument = field.getArguments().stream().filter(arg -> name.equals(arg.getName())).findFirst().orElse(null);
+		if (argument == null) return Optional.empty();
+		Object value = argument.getValue();
+		if (value instanceof IntValue) return Optional.of(((IntValue) value).getValue().longValue());
+		if (value instanceof StringValue) value = ((StringValue) value).getValue();
+		if (value instanceof VariableReference) value = variables.get(((VariableReference) value).getName());
+		if (value instanceof Number) return Optional.of(((Number) value).longValue());
+		try {
+			return value instanceof String ? Optional.of(Long.valueOf((String) value)) : Optional.empty();
+		} catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+}
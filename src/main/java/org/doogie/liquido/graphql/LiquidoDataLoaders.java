@@ -0,0 +1,65 @@
+package org.doogie.liquido.graphql;
+
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.doogie.liquido.datarepos.LawRepo;
+import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * DataLoaders for GraphQL fields that would otherwise query the DB once for every object in a list.
+ *
+ * For example <pre>polls { proposals { isLikedByCurrentUser } }</pre> with 20 polls and 10 proposals each
+ * would load the current user and the supporters of each proposal 200 times. With a DataLoader the field resolvers
+ * only collect the proposal IDs. Then all of them are resolved in one IN-query per field.
+ *
+ * A new DataLoaderRegistry is created for each GraphQL request in {@link LiquidoGraphQLController#execute}.
+ * So nothing is cached across requests or users.
+ */
+@Component
+public class LiquidoDataLoaders {
+
+	public static final String IS_LIKED_BY_CURRENT_USER = "isLikedByCurrentUser";
+	public static final String IS_CREATED_BY_CURRENT_USER = "isCreatedByCurrentUser";
+
+	@Autowired
+	LawRepo lawRepo;
+
+	@Autowired
+	AuthUtil authUtil;
+
+	/**
+	 * Create the DataLoaders for one GraphQL request.
+	 * Must be called in the request thread, because the currently logged in user is read from the security context.
+	 * @return a new registry with all our DataLoaders
+	 */
+	public DataLoaderRegistry newRegistry() {
+		// The user ID is in the JWT. No need to load the user from the DB.
+		Optional<Long> currentUserId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getUserId);
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(IS_LIKED_BY_CURRENT_USER, DataLoader.newDataLoader(lawIdsOfUser(currentUserId, lawRepo::findIdsSupportedBy)));
+		registry.register(IS_CREATED_BY_CURRENT_USER, DataLoader.newDataLoader(lawIdsOfUser(currentUserId, lawRepo::findIdsCreatedBy)));
+		return registry;
+	}
+
+	/**
+	 * Batch loader that answers a yes/no question for many laws with one query
+	 * @param userId the currently logged in user (if any)
+	 * @param query returns the subset of the passed law IDs for which the answer is yes
+	 * @return true or false for each law ID, in the same order as the IDs
+	 */
+	private BatchLoader<Long, Boolean> lawIdsOfUser(Optional<Long> userId, BiFunction<Collection<Long>, Long, List<Long>> query) {
+		return lawIds -> {
+			Set<Long> matchingIds = userId.isPresent() ? new HashSet<>(query.apply(lawIds, userId.get())) : Collections.emptySet();
+			return CompletableFuture.completedFuture(lawIds.stream().map(matchingIds::contains).collect(Collectors.toList()));
+		};
+	}
+}
@@ -1,18 +1,31 @@
 package org.doogie.liquido.graphql;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import graphql.*;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
 import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.language.OperationDefinition;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.SchemaPrinter;
 import io.leangen.graphql.GraphQLSchemaGenerator;
 import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
+import org.doogie.liquido.rest.ConditionalGetFilter;
 import org.doogie.liquido.rest.LiquidoUrlPaths;
+import org.doogie.liquido.rest.dto.EntityVersion;
 import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.doogie.liquido.util.DoogiesUtil;
+import org.doogie.liquido.util.Lson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -21,12 +34,17 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RegexRequestMatcher;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * GraphQL controller that handles POST requests to GraphQL endpoint.
@@ -38,69 +56,219 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class LiquidoGraphQLController {
 
-	private final GraphQL graphQL;
+	private final TeamsGraphQL teamsGraphQL;
+	private final PollsGraphQL pollsGraphQL;
+	private final UserGraphQL userGraphQL;
+	private final LiquidoGraphQLExceptionHandler exceptionHandler;
+	private final LiquidoDataLoaders dataLoaders;
+	private final LiquidoProperties props;
+	private final GraphQLExecutor graphQLExecutor;
+	private final GraphQLDocumentCache documentCache;
+	private final GraphQLVersions graphQLVersions;
+	private final AuthUtil authUtil;
+
+	/** created from the graphql-spqr annotations. Lazily on the first request when spring.main.lazy-initialization is enabled */
+	private volatile GraphQL graphQL;
 
 	@Autowired
 	public LiquidoGraphQLController(
 		TeamsGraphQL teamsGraphQL,
 		PollsGraphQL pollsGraphQL,
 		UserGraphQL userGraphQL,
-		LiquidoGraphQLExceptionHandler exceptionHandler
+		LiquidoGraphQLExceptionHandler exceptionHandler,
+		LiquidoDataLoaders dataLoaders,
+		LiquidoProperties props,
+		GraphQLExecutor graphQLExecutor,
+		GraphQLVersions graphQLVersions,
+		AuthUtil authUtil,
+		@Value("${spring.main.lazy-initialization:false}") boolean lazyInitialization
 	) {
-		// Automatically create GraphQL Schema from graphql-spqr annotations
-		GraphQLSchema schema = new GraphQLSchemaGenerator()
-			.withBasePackages("org.doogie.liquido") 			//not mandatory but strongly recommended to set your "root" packages
-			.withOperationsFromSingleton(teamsGraphQL, TeamsGraphQL.class)
-			.withOperationsFromSingleton(pollsGraphQL, PollsGraphQL.class)
-			.withOperationsFromSingleton(userGraphQL, UserGraphQL.class)
-			.withOutputConverters()
-			.generate();
-
-		this.graphQL = new GraphQL.Builder(schema)
-			//The default SimpleDataFetcherExceptionHandler swallows exception and logs the full stack trace. So we register our own more sophisticated exception handler here.
-			//See also https://stackoverflow.com/questions/57215323/correct-way-to-return-errors-in-graphql-spqr
-			.queryExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
-			//.mutationExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
-			.build();
+		this.teamsGraphQL = teamsGraphQL;
+		this.pollsGraphQL = pollsGraphQL;
+		this.userGraphQL = userGraphQL;
+		this.exceptionHandler = exceptionHandler;
+		this.dataLoaders = dataLoaders;
+		this.props = props;
+		this.graphQLExecutor = graphQLExecutor;
+		this.graphQLVersions = graphQLVersions;
+		this.authUtil = authUtil;
+		this.documentCache = new GraphQLDocumentCache(props.graphql.documentCacheSize);
+		// Generating the schema scans all our GraphQL classes and models. This is one of the slowest parts of the startup.
+		// The security configuration below needs this controller at startup. So the schema itself must be created lazily.
+		if (!lazyInitialization) getGraphQL();
+	}
 
-		// Print the graphQL schema that was created by graphql-spqr
-		if (log.isDebugEnabled()) {
-			String graphQLschema = new SchemaPrinter().print(schema);
-			log.debug("=============== LIQUIDO GraphQL schema ================");
-			log.debug(graphQLschema);
-		}
+	/**
+	 * Automatically create the GraphQL schema from graphql-spqr annotations
+	 * @return the GraphQL engine for our schema
+	 */
+	GraphQL getGraphQL() {
+		if (graphQL != null) return graphQL;
+		synchronized (this) {
+			if (graphQL != null) return graphQL;
+			long start = System.currentTimeMillis();
+			GraphQLSchema schema = new GraphQLSchemaGenerator()
+				.withBasePackages("org.doogie.liquido") 			//not mandatory but strongly recommended to set your "root" packages
+				.withOperationsFromSingleton(teamsGraphQL, TeamsGraphQL.class)
+				.withOperationsFromSingleton(pollsGraphQL, PollsGraphQL.class)
+				.withOperationsFromSingleton(userGraphQL, UserGraphQL.class)
+				.withOutputConverters()
+				.generate();
+
+			graphQL = new GraphQL.Builder(schema)
+				//The default SimpleDataFetcherExceptionHandler swallows exception and logs the full stack trace. So we register our own more sophisticated exception handler here.
+				//See also https://stackoverflow.com/questions/57215323/correct-way-to-return-errors-in-graphql-spqr
+				.queryExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
+				//.mutationExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
+				// Do not parse and validate the same queries again and again. This also accepts persisted queries that only contain a hash.
+				.preparsedDocumentProvider(documentCache)
+				// A single deeply nested query must not keep the backend busy. Both limits are checked during validation.
+				.instrumentation(new ChainedInstrumentation(Arrays.asList(
+					new MaxQueryDepthInstrumentation(props.graphql.maxQueryDepth),
+					new MaxQueryComplexityInstrumentation(props.graphql.maxQueryComplexity)
+				)))
+				.build();
+			log.info("Created GraphQL schema in " + (System.currentTimeMillis() - start) + "ms");
 
+			// Print the graphQL schema that was created by graphql-spqr
+			if (log.isDebugEnabled()) {
+				String graphQLschema = new SchemaPrinter().print(schema);
+				log.debug("=============== LIQUIDO GraphQL schema ================");
+				log.debug(graphQLschema);
+			}
+			return graphQL;
+		}
 	}
 
 	/**
 	 * HTTP endpoint for graphQL queries. The /graphql endpoint itself is public.
 	 * But most GraphQL query resolver will need an authenticated user (via JWT)
 	 *
-	 * @param body request body with GraphQL {query: "..."}
+	 * The request is executed asynchronously by {@link GraphQLExecutor}. This servlet thread is released immediately.
+	 *
+	 * @param body request body with GraphQL {query: "..."}. Or only the hash of a known query in {extensions: {persistedQuery: {sha256Hash: "..."}}}
 	 * @param request the raw HttpServletRequest (POST)
 	 * @return The Execution of the GraphQL query: { data:{}, errors: [] }
 	 * @throws LiquidoException for GraphQL Syntax error, unauthorized or any other exception
 	 */
 	@PostMapping(value = LiquidoUrlPaths.GRAPHQL)
-	public ExecutionResult execute(@RequestBody Map<String, Object> body, HttpServletRequest request) throws LiquidoException {
+	public CompletableFuture<ExecutionResult> execute(@RequestBody Map<String, Object> body, HttpServletRequest request) throws LiquidoException {
 		//BUGFIX: Map<String, Object> instead of Map<String, String>   https://github.com/vuejs/vue-apollo/issues/387
 
 		// The actual graphQL-query is a string in GraphQL syntax. This is not JSON.
 		// The graphQL query or mutation is wrapped in a "query" field so that the request body is valid JSON.
 		Map<String, Object> variables = body.get("variables") != null ? (Map)body.get("variables") : new HashMap<>();
-		ExecutionResult result = graphQL.execute(ExecutionInput.newExecutionInput()
-			.query((String) body.get("query"))
+		Map<String, Object> extensions = body.get("extensions") instanceof Map ? (Map)body.get("extensions") : new HashMap<>();
+		String query = body.get("query") != null ? (String) body.get("query") : "";   // may be empty for a persisted query
+		ExecutionInput input = ExecutionInput.newExecutionInput()
+			.query(query)
 			.operationName((String) body.get("operationName"))
 			.variables(variables)  // must not pass null
+			.extensions(extensions)
+			.context(request)
+			.dataLoaderRegistry(dataLoaders.newRegistry())   // new DataLoaders for every request. graphql-java dispatches them once per level of the query.
+			.build();
+
+		// The result of a subscription is a stream of results. This cannot be returned as one HTTP response.
+		OperationDefinition.Operation operation = documentCache.getOperation(input);
+		if (operation == OperationDefinition.Operation.SUBSCRIPTION)
+			throw new LiquidoException(LiquidoException.Errors.GRAPHQL_ERROR, "Subscriptions are only available via websocket at " + LiquidoUrlPaths.SUBSCRIPTIONS);
+		return executeAsync(operation, input, request);
+	}
+
+	/**
+	 * GraphQL queries via HTTP GET. Mainly for persisted queries that only contain a hash: <pre>GET /graphql?extensions={"persistedQuery":{...}}</pre>
+	 *
+	 * The <pre>team</pre> and <pre>poll</pre> queries support conditional GET. They return a weak ETag.
+	 * When the client sends it back in If-None-Match and the data has not changed, then we answer with 304 without executing the query.
+	 *
+	 * @param query (optional) GraphQL query
+	 * @param operationName (optional) name of the operation in query
+	 * @param variables (optional) JSON object with variables
+	 * @param extensions (optional) JSON object, e.g. with the hash of a persisted query
+	 * @return The Execution of the GraphQL query: { data:{}, errors: [] }. Or null when the client's data is still up to date (304)
+	 * @throws LiquidoException when this is not a query or for any error in the query
+	 */
+	@GetMapping(value = LiquidoUrlPaths.GRAPHQL)
+	public CompletableFuture<ExecutionResult> executeGet(
+		@RequestParam(name = "query", required = false) String query,
+		@RequestParam(name = "operationName", required = false) String operationName,
+		@RequestParam(name = "variables", required = false) String variables,
+		@RequestParam(name = "extensions", required = false) String extensions,
+		HttpServletRequest request,
+		HttpServletResponse response
+	) throws LiquidoException {
+		Map<String, Object> variablesMap;
+		Map<String, Object> extensionsMap;
+		try {
+			variablesMap = DoogiesUtil.isEmpty(variables) ? new HashMap<>() : new Lson(variables);
+			extensionsMap = DoogiesUtil.isEmpty(extensions) ? new HashMap<>() : new Lson(extensions);
+		} catch (JsonProcessingException e) {
+			throw new LiquidoException(LiquidoException.Errors.GRAPHQL_ERROR, "Cannot parse variables or extensions: " + e.getOriginalMessage());
+		}
+		ExecutionInput input = ExecutionInput.newExecutionInput()
+			.query(query != null ? query : "")
+			.operationName(operationName)
+			.variables(variablesMap)
+			.extensions(extensionsMap)
 			.context(request)
-			.build());
+			.dataLoaderRegistry(dataLoaders.newRegistry())
+			.build();
+
+		// GET must not change anything. (And browsers may send GET requests on their own.)
+		Optional<OperationDefinition> operation = documentCache.getOperationDefinition(input);
+		if (operation.isPresent() && operation.get().getOperation() != OperationDefinition.Operation.QUERY)
+			throw new LiquidoException(LiquidoException.Errors.GRAPHQL_ERROR, "Only queries can be sent via GET. Please POST your " + operation.get().getOperation().name().toLowerCase());
+
+		Optional<EntityVersion> version = operation.flatMap(op -> graphQLVersions.findVersion(op, variablesMap));
+		if (version.isPresent()) {
+			// The result depends on the query and on the user, e.g. isLikedByCurrentUser
+			String userId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getUserId).map(String::valueOf).orElse("");
+			String eTag = version.get().eTag(query + "|" + operationName + "|" + variables + "|" + extensions + "|" + userId);
+			response.setHeader(HttpHeaders.CACHE_CONTROL, ConditionalGetFilter.CACHE_CONTROL);
+			if (new ServletWebRequest(request, response).checkNotModified(eTag)) return null;   // 304 Not Modified
+			if (version.get().getLastModified() != null)
+				response.setDateHeader(HttpHeaders.LAST_MODIFIED, version.get().getLastModified().getTime());
+		}
+		return executeAsync(OperationDefinition.Operation.QUERY, input, request);
+	}
+
+	/**
+	 * @param input a GraphQL request
+	 * @return the operation that will be executed, or Optional.empty() if the request is invalid
+	 */
+	Optional<OperationDefinition> getOperationDefinition(ExecutionInput input) {
+		return documentCache.getOperationDefinition(input);
+	}
 
+	/**
+	 * Execute a GraphQL request asynchronously with {@link GraphQLExecutor}
+	 * @return the result without errors. Or a LiquidoException for the first error.
+	 */
+	private CompletableFuture<ExecutionResult> executeAsync(OperationDefinition.Operation operation, ExecutionInput input, HttpServletRequest request) {
+		return graphQLExecutor.submit(operation, request, () -> getGraphQL().executeAsync(input))
+			.thenApply(result -> {
+				try {
+					return unwrapErrors(result);
+				} catch (LiquidoException e) {
+					throw new CompletionException(e);   // spring unwraps this and passes the LiquidoException to our exception handler
+				}
+			});
+	}
 
-		// graphql-java swallows exceptions. Instead a list of errors is returned in result. But result.getData() would just be <null>.
-		// So we have to unwrap the errors here, because we want to return a meaningful LiquidoException to our client and not just null.
+	/**
+	 * graphql-java swallows exceptions. Instead a list of errors is returned in result. But result.getData() would just be <null>.
+	 * So we have to unwrap the errors here, because we want to return a meaningful LiquidoException to our client and not just null.
+	 * @param result result of a GraphQL request
+	 * @return the result if it has no errors
+	 * @throws LiquidoException for the first error in result
+	 */
+	private ExecutionResult unwrapErrors(ExecutionResult result) throws LiquidoException {
 		//TODO: As specified GraphQL DOES return errors like this. HTTP 200 but with error array.  (I personally don't like it! I prefer HTTP error codes). Let's see if we need to adapt....
 		for(GraphQLError err : result.getErrors()) {
 			String msg = err.getMessage();
+			// Persisted query clients expect this error as a normal GraphQL response. Then they send their full query.
+			if (GraphQLDocumentCache.PERSISTED_QUERY_NOT_FOUND.equals(msg)) return result;
 			Throwable ex = null;
 			if (err instanceof ExceptionWhileDataFetching) {
 				ex = ((ExceptionWhileDataFetching)err).getException();
@@ -115,7 +283,6 @@ public class LiquidoGraphQLController {
 			// (will be logged in LiquidoGraphQLExceptionHandler.java)
 			throw new LiquidoException(LiquidoException.Errors.GRAPHQL_ERROR, msg, ex, Collections.singletonMap("error-message", err.getMessage()));   // Be careful to not expose secrets the client.
 		}
-
 		return result;  // data: {}, errors: []
 	}
 
@@ -146,6 +313,7 @@ public class LiquidoGraphQLController {
 
 			OrRequestMatcher allowedGraphQlRequests = new OrRequestMatcher(
 				new RegexRequestMatcher(basePath + LiquidoUrlPaths.GRAPHQL, HttpMethod.POST.name(), true),
+				new AntPathRequestMatcher(basePath + LiquidoUrlPaths.GRAPHQL, HttpMethod.GET.name()),   // queries via GET, with query parameters
 				new RegexRequestMatcher(basePath + LiquidoUrlPaths.SUBSCRIPTIONS, HttpMethod.GET.name()),
 				new AntPathRequestMatcher(LiquidoUrlPaths.PLAYGROUND, HttpMethod.GET.name()),  // no base path
 				new AntPathRequestMatcher(LiquidoUrlPaths.VENDOR+"/**", HttpMethod.GET.name())
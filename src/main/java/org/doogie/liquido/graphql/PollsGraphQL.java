@@ -1,27 +1,41 @@
 package org.doogie.liquido.graphql;
 
 import io.leangen.graphql.annotations.*;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import lombok.extern.slf4j.Slf4j;
+import org.dataloader.DataLoader;
 import org.doogie.liquido.datarepos.AreaRepo;
+import org.doogie.liquido.datarepos.FetchGraphQueries;
+import org.doogie.liquido.datarepos.KeysetCursor;
 import org.doogie.liquido.datarepos.LawRepo;
 import org.doogie.liquido.datarepos.PollRepo;
 import org.doogie.liquido.datarepos.TeamRepo;
 import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
 import org.doogie.liquido.model.*;
 import org.doogie.liquido.rest.dto.CastVoteResponse;
+import org.doogie.liquido.rest.dto.PollUpdate;
+import org.doogie.liquido.rest.dto.PollsSlice;
 import org.doogie.liquido.services.CastVoteService;
 import org.doogie.liquido.services.LawService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.services.PollService;
+import org.doogie.liquido.services.PollUpdatesService;
 import org.doogie.liquido.testdata.LiquidoProperties;
 import org.doogie.liquido.util.DoogiesUtil;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityGraph;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.doogie.liquido.jwt.AuthUtil.HAS_ROLE_TEAM_ADMIN;
 import static org.doogie.liquido.jwt.AuthUtil.HAS_ROLE_USER;
@@ -61,6 +75,12 @@ public class PollsGraphQL {
 	@Autowired
 	AuthUtil authUtil;
 
+	@Autowired
+	FetchGraphQueries fetchGraphQueries;
+
+	@Autowired
+	PollUpdatesService pollUpdatesService;
+
 	/* Lazily initialized default area. */
 	AreaModel defaultArea = null;
 
@@ -71,34 +91,71 @@ public class PollsGraphQL {
 	 */
 	@GraphQLQuery(name = "poll")
 	@PreAuthorize(HAS_ROLE_USER)
+	@Transactional(readOnly = true)
 	public PollModel getPollById(@GraphQLNonNull @GraphQLArgument(name = "pollId") Long pollId) throws LiquidoException {
 		return pollRepo.findById(pollId)
 			.orElseThrow(LiquidoException.notFound("Poll.id=" + pollId + " not found."));
 	}
 
 	/**
-	 * GraphQL client can request the number of already casted ballots for a poll in voting.
-	 * This is not an attribute in PollModel, but a calculated attribute "numBallots" that can then be
-	 * returned to the GraphQL query.
-	 * @param poll the poll of the current GraphQL context
-	 * @return number of already casted ballots in this poll
+	 * Subscribe to the status and the number of ballots of a poll. The current state is sent right after subscribing.
+	 * Then at most one update per second is pushed while the poll changes. The subscription completes when the poll is FINISHED.
+	 * Subscriptions are only available via the websocket endpoint, see {@link GraphQLSubscriptionEndpoint}
+	 * @param pollId ID of a poll in the team of the currently logged in user
+	 * @return publisher of updates of this poll
+	 * @throws LiquidoException when poll does not exist or is not in the user's team
 	 */
-	@GraphQLQuery(name = "numBallots")
-	public Long getNumBallots(@GraphQLContext PollModel poll) {
-		return pollService.getNumCastedBallots(poll);
+	@GraphQLSubscription(name = "pollUpdates", description = "Live status and number of ballots of a poll")
+	@PreAuthorize(HAS_ROLE_USER)
+	public Publisher<PollUpdate> pollUpdates(@GraphQLNonNull @GraphQLArgument(name = "pollId") Long pollId) throws LiquidoException {
+		Long teamId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getTeamId)
+			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.UNAUTHORIZED, "Cannot subscribe to poll: Must be logged into a team!"));
+		Long teamIdOfPoll = pollRepo.findTeamIdOfPoll(pollId)
+			.orElseThrow(LiquidoException.notFound("Poll.id=" + pollId + " not found."));
+		if (!teamIdOfPoll.equals(teamId))
+			throw new LiquidoException(LiquidoException.Errors.UNAUTHORIZED, "Cannot subscribe to poll.id=" + pollId + ": Poll is not in your team.");
+		return pollUpdatesService.subscribe(pollId);
 	}
 
 	/**
 	 * Get all polls of currently logged in user's team.
-	 * @return Set of polls
+	 * Only the associations that the client selected are loaded, e.g. <pre>polls { id title status }</pre> does not load any proposals.
+	 * @param env GraphQL environment with the selected fields
+	 * @return Set of polls, newest first
 	 * @throws LiquidoException when no one is logged in.
 	 */
 	@GraphQLQuery(name = "polls")
 	@PreAuthorize(HAS_ROLE_USER)
-	public Set<PollModel> getPollsOfTeam() throws LiquidoException {
-		TeamModel team = authUtil.getCurrentTeamFromDB()
+	@Transactional(readOnly = true)
+	public Set<PollModel> getPollsOfTeam(@GraphQLEnvironment ResolutionEnvironment env) throws LiquidoException {
+		Long teamId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getTeamId)
 			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.UNAUTHORIZED, "Cannot get polls of team: Must be logged into a team!"));
-		return team.getPolls();
+		EntityGraph<PollModel> graph = fetchGraphQueries.createFetchGraph(PollModel.class, SelectedAssociations.of(env.dataFetchingEnvironment.getSelectionSet()));
+		return new LinkedHashSet<>(fetchGraphQueries.findPollsOfTeam(teamId, graph));
+	}
+
+	/**
+	 * Search polls of currently logged in user's team, newest first, with keyset pagination.
+	 * @param status (optional) only polls in this status
+	 * @param cursor (optional) nextCursor of the previous slice
+	 * @param limit max number of polls. Clamped to liquido.paging.maxLimit
+	 * @return slice of polls and the cursor for the next slice
+	 * @throws LiquidoException when no one is logged in or cursor is invalid
+	 */
+	@GraphQLQuery(name = "searchPolls", description = "Search polls of the team, newest first. Pass nextCursor to get the next polls.")
+	@PreAuthorize(HAS_ROLE_USER)
+	@Transactional(readOnly = true)
+	public PollsSlice searchPolls(
+		@GraphQLArgument(name = "status") PollModel.PollStatus status,
+		@GraphQLArgument(name = "cursor") String cursor,
+		@GraphQLArgument(name = "limit", defaultValue = "20") int limit
+	) throws LiquidoException {
+		TeamModel team = authUtil.getCurrentTeamFromDB()
+			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.UNAUTHORIZED, "Cannot search polls: Must be logged into a team!"));
+		Slice<PollModel> polls = pollService.findPolls(Optional.ofNullable(status), Optional.empty(), Optional.of(team), cursor, limit);
+		PollsSlice result = new PollsSlice(polls.getContent());
+		result.setNextCursor(KeysetCursor.nextCursor(polls));
+		return result;
 	}
 
 	/**
@@ -220,15 +277,18 @@ public class PollsGraphQL {
 
 	/**
 	 * Is a proposal already liked by the currently logged in user?
+	 * The proposals of one GraphQL request are collected and then checked in one query. See {@link LiquidoDataLoaders}
 	 *
 	 * @param proposal GraphQL context: the LawModel
+	 * @param env GraphQL environment with the DataLoaders of this request
 	 * @return true, if currently logged in user is already a supporter of this proposal
 	 */
 	@GraphQLQuery(name = "isLikedByCurrentUser", description = "Is a proposal already liked by the currently logged in user?")
 	@PreAuthorize(HAS_ROLE_USER)
-	public boolean isLikedByCurrentUser(@GraphQLContext LawModel proposal) {
+	public CompletableFuture<Boolean> isLikedByCurrentUser(@GraphQLContext LawModel proposal, @GraphQLEnvironment ResolutionEnvironment env) {
 		// This adds the new boolean field "likedByCurrentUser" to the GraphQL representation of a proposal(LawModel) that can now be queried by the client.  graphql-spqr I like
-		return lawService.isSupportedByCurrentUser(proposal);
+		DataLoader<Long, Boolean> loader = env.dataFetchingEnvironment.getDataLoader(LiquidoDataLoaders.IS_LIKED_BY_CURRENT_USER);
+		return loader.load(proposal.getId());
 	}
 
 	/**
@@ -236,13 +296,15 @@ public class PollsGraphQL {
 	 * This of course assumes that there is a currently logged in user. But polls and propos can only be fetched by authenticated users.
 	 *
 	 * @param proposal A proposal in a poll.
+	 * @param env GraphQL environment with the DataLoaders of this request
 	 * @return true if proposal was created by the currently logged in user.
 	 */
 	@GraphQLQuery(name = "isCreatedByCurrentUser", description = "Is a proposal created by the currently logged in user?")
 	@PreAuthorize(HAS_ROLE_USER)
-	public boolean isCreatedByCurrentUser(@GraphQLContext LawModel proposal) {
-		Optional<UserModel> user = authUtil.getCurrentUserFromDB();
-		return proposal != null && user.isPresent() && user.get().equals(proposal.getCreatedBy());
+	public CompletableFuture<Boolean> isCreatedByCurrentUser(@GraphQLContext LawModel proposal, @GraphQLEnvironment ResolutionEnvironment env) {
+		if (proposal == null) return CompletableFuture.completedFuture(false);
+		DataLoader<Long, Boolean> loader = env.dataFetchingEnvironment.getDataLoader(LiquidoDataLoaders.IS_CREATED_BY_CURRENT_USER);
+		return loader.load(proposal.getId());
 	}
 
 
@@ -311,6 +373,7 @@ public class PollsGraphQL {
 	 */
 	@GraphQLQuery(name = "ballot", description = "Get the ballot of a voter in a poll, if the voter has already casted one.")
 	@PreAuthorize(HAS_ROLE_USER)
+	@Transactional(readOnly = true)
 	public Optional<BallotModel> getBallot(
 		@GraphQLArgument(name = "voterToken") String voterToken,
 		@GraphQLArgument(name = "pollId") @GraphQLNonNull long pollId
@@ -330,6 +393,7 @@ public class PollsGraphQL {
 	 */
 	@GraphQLQuery(name= "verifyBallot", description = "Verify a ballot with its checksum.")
 	@PreAuthorize(HAS_ROLE_USER)
+	@Transactional(readOnly = true)
 	public Optional<BallotModel> verifyBallot(
 		@GraphQLArgument(name = "pollId") @GraphQLNonNull long pollId,
 		@GraphQLNonNull @GraphQLArgument(name = "checksum") String checksum
@@ -0,0 +1,40 @@
+package org.doogie.liquido.graphql;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.doogie.liquido.datarepos.FetchGraphQueries;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Which associations of an entity did the GraphQL client select?
+ * This is passed to {@link FetchGraphQueries#createFetchGraph} so that only the selected associations are loaded.
+ */
+public class SelectedAssociations {
+
+	/**
+	 * GraphQL fields that are calculated from an association, e.g. <pre>PollModel.getNumCompetingProposals()</pre> needs the proposals.
+	 * field name -&gt; association name
+	 */
+	static final Map<String, String> DERIVED_FIELDS = Collections.singletonMap("numCompetingProposals", "proposals");
+
+	private SelectedAssociations() { }
+
+	/**
+	 * @param selectionSet the fields that the client selected below the current field
+	 * @return predicate for association paths like "polls/proposals"
+	 */
+	public static Predicate<String> of(DataFetchingFieldSelectionSet selectionSet) {
+		return path -> {
+			if (selectionSet.contains(path)) return true;
+			int lastSlash = path.lastIndexOf('/');
+			String parent = path.substring(0, lastSlash + 1);
+			String association = path.substring(lastSlash + 1);
+			for (Map.Entry<String, String> derived : DERIVED_FIELDS.entrySet()) {
+				if (derived.getValue().equals(association) && selectionSet.contains(parent + derived.getKey())) return true;
+			}
+			return false;
+		};
+	}
+}
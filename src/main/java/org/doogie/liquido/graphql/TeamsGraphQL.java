@@ -1,14 +1,18 @@
 package org.doogie.liquido.graphql;
 
 import io.leangen.graphql.annotations.GraphQLArgument;
+import io.leangen.graphql.annotations.GraphQLEnvironment;
 import io.leangen.graphql.annotations.GraphQLMutation;
 import io.leangen.graphql.annotations.GraphQLNonNull;
 import io.leangen.graphql.annotations.GraphQLQuery;
+import io.leangen.graphql.execution.ResolutionEnvironment;
 import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.FetchGraphQueries;
 import org.doogie.liquido.datarepos.TeamRepo;
 import org.doogie.liquido.datarepos.UserRepo;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.jwt.JwtTokenUtils;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
 import org.doogie.liquido.model.TeamModel;
 import org.doogie.liquido.model.UserModel;
 import org.doogie.liquido.rest.dto.CreateOrJoinTeamResponse;
@@ -20,8 +24,9 @@ import org.doogie.liquido.util.Lson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityGraph;
 import java.util.Optional;
 
 import static org.doogie.liquido.jwt.AuthUtil.HAS_ROLE_USER;
@@ -46,6 +51,9 @@ public class TeamsGraphQL {
 	@Autowired
 	AuthUtil authUtil;
 
+	@Autowired
+	FetchGraphQueries fetchGraphQueries;
+
 	/**
 	 * Check if GraphQL part of backend is available.
 	 * @see org.doogie.liquido.rest.PingController  for an is-alive ping via HTTP REST
@@ -58,16 +66,20 @@ public class TeamsGraphQL {
 
 	/**
 	 * Get information about user's own team, including the team's polls.
+	 * Only the associations that the client selected are loaded, e.g. <pre>team { teamName }</pre> does not load admins, members or polls.
+	 * @param env GraphQL environment with the selected fields
 	 * @return info about user's own team.
 	 * @throws LiquidoException
 	 */
 	@PreAuthorize(HAS_ROLE_USER)
 	@GraphQLQuery(name = "team")
-	@Transactional
-	public TeamModel getOwnTeam() throws LiquidoException {
-		TeamModel team = authUtil.getCurrentTeamFromDB()
+	@Transactional(readOnly = true)
+	public TeamModel getOwnTeam(@GraphQLEnvironment ResolutionEnvironment env) throws LiquidoException {
+		Long teamId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getTeamId)
+			.orElseThrow(LiquidoException.supply(Errors.UNAUTHORIZED, "Cannot get team. User must be logged into a team!"));
+		EntityGraph<TeamModel> graph = fetchGraphQueries.createFetchGraph(TeamModel.class, SelectedAssociations.of(env.dataFetchingEnvironment.getSelectionSet()));
+		return fetchGraphQueries.findTeam(teamId, graph)
 			.orElseThrow(LiquidoException.supply(Errors.UNAUTHORIZED, "Cannot get team. User must be logged into a team!"));
-		return team;
 	}
 
 	// small side note: The loginWithJWT, createTeam or joinTeam requests all return exactly the same response format! I like!
@@ -136,6 +148,7 @@ public class TeamsGraphQL {
 	 * @return TeamModel or nothing if InviteCode is invalid
 	 */
 	@GraphQLQuery(name = "getTeamForInviteCode")
+	@Transactional(readOnly = true)
 	public Optional<TeamModel> getTeamForInviteCode(
 		@GraphQLArgument(name = "inviteCode") String inviteCode
 	) {
@@ -157,12 +157,9 @@ public class UserGraphQL {
 		@GraphQLNonNull @GraphQLArgument(name="authToken") String authToken
 	) throws LiquidoException {
 		email = LiquidoRestUtils.cleanEmail(email);
-		OneTimeToken ott = ottRepo.findByNonce(authToken)
-			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "This email token is invalid!"));
-		if (LocalDateTime.now().isAfter(ott.getValidUntil())) {
-			ottRepo.delete(ott);
-			throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "Token is expired!");
-		}
+		// Expired tokens are not found. They are deleted by the ExpirySweeperService.
+		OneTimeToken ott = ottRepo.findByNonceAndValidUntilAfter(authToken, LocalDateTime.now())
+			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "This email token is invalid or expired!"));
 		if (!DoogiesUtil.isEqual(email, ott.getUser().getEmail()))
 			throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "This token is not valid for that email!");
 
@@ -1,6 +1,8 @@
 package org.doogie.liquido.model;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedBy;
 
 import javax.persistence.*;
@@ -14,6 +16,7 @@ import javax.validation.constraints.NotNull;
 @RequiredArgsConstructor
 @Entity
 @Table(name = "areas")
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)   // Areas are hardly ever changed. (Not READ_ONLY, because they can still be updated via REST.)
 public class AreaModel extends BaseModel {
   // public fields are automatically exposed in REST endpoint
   @NotNull
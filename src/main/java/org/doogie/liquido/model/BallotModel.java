@@ -9,6 +9,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.doogie.liquido.rest.converters.PollAsLinkJsonSerializer;
+import org.hibernate.Hibernate;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -35,15 +36,21 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @RequiredArgsConstructor  //BUGFIX: https://jira.spring.io/browse/DATAREST-884
 @Table(name = "ballots", uniqueConstraints= {
-  @UniqueConstraint(columnNames = {"POLL_ID", "hashedVoterToken"} )   // a voter is only allowed to vote once per poll with his hashedVoterToken!
+  @UniqueConstraint(columnNames = {"POLL_ID", "hashedVoterToken"} )   // a voter is only allowed to vote once per poll with his hashedVoterToken! (This also is the index for findByPollAndRightToVote)
+}, indexes = {
+	@Index(name = "idx_ballots_checksum", columnList = "checksum")
 })
+@NamedEntityGraph(name = BallotModel.GRAPH_WITH_VOTE_ORDER, attributeNodes = @NamedAttributeNode("voteOrder"))
 public class BallotModel {
+
+	/** Entity graph that fetches the ballot together with its voteOrder. Used by the finders in BallotRepo. */
+	public static final String GRAPH_WITH_VOTE_ORDER = "BallotModel.voteOrder";
 	//BallotModel deliberately does NOT extend BaseModel!
 	//No @CreatedDate, No @LastModifiedDate !  This could lead to timing attacks.
 	//No @CreatedBy ! When voting it is confidential who casted this ballot and when.
 
 	@Id
-	@GeneratedValue(strategy= GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = BaseModel.ID_GENERATOR)
 	public Long id;
 
   /**
@@ -93,7 +100,7 @@ public class BallotModel {
   //BE CAREFULL: Lists are not easy to handle in hibernate: https://vladmihalcea.com/hibernate-facts-favoring-sets-vs-bags/
   @NonNull
   @NotNull
-  @ManyToMany(fetch = FetchType.EAGER)   // (cascade = CascadeType.MERGE, orphanRemoval = false)
+  @ManyToMany(fetch = FetchType.LAZY)    // (cascade = CascadeType.MERGE, orphanRemoval = false)
   @OrderColumn(name="LawModel_Order")    // keep order in DB
 	//TODO: do I need a uniqueConstraint so that lawModel.id can only appear once in voteOrder?
   public List<LawModel> voteOrder;       // proposals in voteOrder must not be duplicate! This is checked in VoteRestController.
@@ -140,7 +147,9 @@ public class BallotModel {
 
 	@Override
 	public String toString() {
-		String proposalIds = voteOrder.stream().map(law->law.getId().toString()).collect(Collectors.joining(","));
+		String proposalIds = Hibernate.isInitialized(voteOrder)
+			? voteOrder.stream().map(law->law.getId().toString()).collect(Collectors.joining(","))
+			: "?";
 		return "BallotModel{" +
 				"id=" + id +
 				", poll(id=" + poll.getId() +
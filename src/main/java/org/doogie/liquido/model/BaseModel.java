@@ -21,12 +21,18 @@ import java.util.Date;
 @EntityListeners(AuditingEntityListener.class)
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)  // BaseModels are only equal when id field is equal!
 public abstract class BaseModel {
+  /** Name of the sequence based ID generator for all entities. It is declared in package-info.java */
+  public static final String ID_GENERATOR = "liquidoIdGenerator";
+
+  /** Number of IDs that are reserved with one call to an entity's sequence. */
+  public static final int ID_BLOCK_SIZE = 50;
+
   /**
    * Internal ID of this domain object
    * Sprint Data REST will use this in its generated URLs, e.g. GET /laws/ID
    */
   @Id
-  @GeneratedValue(strategy= GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_GENERATOR)
   @EqualsAndHashCode.Include
   public Long id;
 
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.hibernate.Hibernate;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -19,13 +20,17 @@ import java.util.Set;
  * Suggest for improvement for a proposal
  */
 @Data
-@EqualsAndHashCode(callSuper = true)
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)   // compare by ID only. Must not touch lazy collections.
 @NoArgsConstructor
 //@RequiredArgsConstructor
 //@ToString(of="id, comment, parent, upVotes, downVotes, createdBy")
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+	@Index(name = "idx_comments_created_at", columnList = "createdAt"),    // recently discussed proposals
+	@Index(name = "idx_comments_proposal_created_at", columnList = "proposal_id, createdAt"),   // threads of comments of a proposal, newest first
+	@Index(name = "idx_comments_parent", columnList = "parentId")         // replies of comments
+})
 public class CommentModel extends BaseModel {
   @NonNull
 	@NotNull
@@ -55,15 +60,15 @@ public class CommentModel extends BaseModel {
 	/** list of replies to this comment */
 	// CascadeType.REMOVE => Also Delete child comments (aka "replies" when parent is deleted) https://stackoverflow.com/questions/25967935/jpa-hibernate-spring-onetomany-delete-cascade
 	// FYI: default CascadeType https://vladmihalcea.com/a-beginners-guide-to-jpa-and-hibernate-cascade-types/
-  @OneToMany(mappedBy = "parent", fetch = FetchType.EAGER, cascade = CascadeType.REMOVE)
+  @OneToMany(mappedBy = "parent", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
   public List<CommentModel> replies = new ArrayList<>();
 
   /** Users that like this comment. I need the full list of users, nut just the number of upVotes, because we need to prevent duplicate voting. */
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany(fetch = FetchType.LAZY)
 	Set<UserModel> upVoters = new HashSet<>();
 
   /** Users that dislike this comment */
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany(fetch = FetchType.LAZY)
 	Set<UserModel> downVoters = new HashSet<>();
 
   /** get the number of upvotes */
@@ -96,12 +101,16 @@ public class CommentModel extends BaseModel {
   	b.append(this.getComment());
   	b.append(", createdByID=");
   	b.append(this.getCreatedBy().getId());
-		b.append(", upVotes=");
-		b.append(this.getUpVoters() != null ? this.getUpVoters().size() : "0");
-		b.append(", downVotes=");
-		b.append(this.getDownVoters() != null ? this.getDownVoters().size() :"0");
-		b.append(", numReplies=");
-		b.append(this.getReplies() != null ? this.getReplies().size() : "0");
+		if (Hibernate.isInitialized(upVoters) && Hibernate.isInitialized(downVoters)) {   // do not trigger lazy loading in toString
+			b.append(", upVotes=");
+			b.append(this.getUpVoters() != null ? this.getUpVoters().size() : "0");
+			b.append(", downVotes=");
+			b.append(this.getDownVoters() != null ? this.getDownVoters().size() : "0");
+		}
+		if (Hibernate.isInitialized(replies)) {
+			b.append(", numReplies=");
+			b.append(this.getReplies() != null ? this.getReplies().size() : "0");
+		}
   	b.append(", parentId=");
   	b.append(this.getParent() != null ? this.getParent().getId() : "<null>");
   	b.append('}');
@@ -6,6 +6,7 @@ import javax.persistence.Entity;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
+import javax.persistence.Index;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
@@ -23,6 +24,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor  					//see also:  https://jira.spring.io/browse/DATAREST-884
 @Table(name = "delegations", uniqueConstraints= {
   @UniqueConstraint(columnNames = {"area_id", "from_user_id"})  // A user may only assign one proxy per area!
+}, indexes = {
+  @Index(name = "idx_delegations_area_to_proxy", columnList = "area_id, to_proxy_id")
 })
 //@IdClass(DelegationID.class)    //MAYBE: composite primary key.  But has issues with spring data rest: How to post composite IDs
 public class DelegationModel extends BaseModel {
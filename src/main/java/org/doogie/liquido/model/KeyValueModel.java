@@ -19,7 +19,7 @@ import javax.validation.constraints.NotNull;
 @Table(name = "keyValue")
 public class KeyValueModel {
   @Id
-  @GeneratedValue(strategy= GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = BaseModel.ID_GENERATOR)
   public Long id;
 
   @NonNull
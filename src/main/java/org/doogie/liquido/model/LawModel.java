@@ -2,8 +2,12 @@ package org.doogie.liquido.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import io.leangen.graphql.annotations.GraphQLIgnore;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.data.rest.core.annotation.RestResource;
@@ -34,10 +38,17 @@ import java.util.Set;
 @RequiredArgsConstructor     // But then @Data does not create the RequiredArgsConstructor anymore. So we need to ad this explicitly.
 @Entity                      // This is a spring JPA entity
 @EntityListeners(AuditingEntityListener.class)  // Spring can automatically set UpdatedAt and CreatedAt
-@Table(name = "laws")
+@Table(name = "laws", indexes = {
+	@Index(name = "idx_laws_status_area", columnList = "status, area_id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)     // Remember to evict a law when its counters change. See CounterService
+@NamedEntityGraph(name = LawModel.GRAPH_WITH_SUPPORTERS, attributeNodes = @NamedAttributeNode("supporters"))
 public class LawModel extends BaseModel implements Comparable<LawModel> {
 
 	//MAYBE: Rename LawModel to ProposalModel
+
+	/** Entity graph that also fetches the supporters, e.g. when a user wants to like this idea. */
+	public static final String GRAPH_WITH_SUPPORTERS = "LawModel.supporters";
 	//TODO: Add a Proposal.UUID   Clients shouldn't use our DB internal ID in castVoteRequests
 
 	/**
@@ -106,9 +117,27 @@ public class LawModel extends BaseModel implements Comparable<LawModel> {
 	 */
 	@JsonIgnore  // do not serialize when returning JSON. Only return this.getNumSupporters()
 	@RestResource(exported = false)		// supportes are not exposed as Spring Data REST resource directly.
-  @ManyToMany(fetch = FetchType.EAGER)
+  @ManyToMany(fetch = FetchType.LAZY)    // Use the GRAPH_WITH_SUPPORTERS entity graph when you need them.
   private Set<UserModel> supporters = new HashSet<>();
 
+	/**
+	 * Number of supporters. This counter column is maintained by {@link org.doogie.liquido.services.CounterService},
+	 * so that getNumSupporters() does not need to load the lazy supporters collection.
+	 * Hibernate never writes this column. It is only changed with atomic SQL updates.
+	 */
+	@Column(nullable = false, insertable = false, updatable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private int numSupporters = 0;
+
+	/**
+	 * Number of comments including all (recursive) replies. Maintained by {@link org.doogie.liquido.services.CounterService}
+	 */
+	@Column(nullable = false, insertable = false, updatable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	private int numComments = 0;
+
   /**
    * When in status ELABORATION this is the link to the poll.
    * All alternative proposals point to the same poll.
@@ -125,9 +154,15 @@ public class LawModel extends BaseModel implements Comparable<LawModel> {
 	//@JsonSerialize(using = PollAsLinkJsonSerializer.class)  // We only return an HATEOS link to the poll
   public PollModel poll = null;
 
-  /** Comments and suggestions for improvement for this proposal*/
-	@JsonIgnore  																											// To fetch comments via REST user CommentProjection of CommentModel
-  @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)  	//TODO: We should defenitely change this to FetchTypoe.EAGER for performance reasons. Check with tests if FetchType.LAZY is ok
+  /**
+   * Top level comments and suggestions for improvement for this proposal. Replies are not included.
+   * Every comment and reply references its proposal in comments.proposal_id. There is no extra join table.
+   * Clients load the threads of comments with GET /laws/{id}/comments. See CommentService.getCommentThreads
+   */
+	@JsonIgnore
+	@RestResource(exported = false)
+  @OneToMany(mappedBy = "proposal", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+	@Where(clause = "parent_id IS NULL")
 	//@Cascade(org.hibernate.annotations.CascadeType.ALL)   					// https://vladmihalcea.com/a-beginners-guide-to-jpa-and-hibernate-cascade-types/
   public Set<CommentModel> comments = new HashSet<>();							// Comments are deliberately a Set and not a List. There are no duplicates.
 
@@ -162,34 +197,10 @@ public class LawModel extends BaseModel implements Comparable<LawModel> {
   //Remember: You MUST NOT call idea.getSupporters.add(someUser) directly! Because this circumvents functional restrictions.
   //E.g. a user must not support his own idea. Call LawService.addSupporter() instead!
   public int getNumSupporters() {
-    if (this.supporters == null) return 0;
-    return this.supporters.size();
+    if (this.supporters != null && Hibernate.isInitialized(this.supporters)) return this.supporters.size();
+    return this.numSupporters;
   }
 
-  private static int getNumChildComments(CommentModel c) {
-  	int count = 0;
-  	if (c == null || c.getReplies() == null || c.getReplies().size() == 0) return 0;
-		for (CommentModel reply : c.getReplies()) {
-			count += 1 + getNumChildComments(reply);
-		}
-		return count;
-	}
-
-	/**
-	 * Number of comments and (recursive) replies.
-	 * @return overall number of comments
-	 */
-	@JsonIgnore  // prevent LazyInitialisationException for getter - comments might not be loaded
-	public int getNumComments() {
-  	if (this.comments == null || comments.size() == 0) return 0;
-  	int count = 0;
-		for (CommentModel c : comments) {
-			count += 1 + getNumChildComments(c);
-		}
-		//Optional<Integer> countStream = comments.stream().map(LawModel::getNumChildComments).reduce(Integer::sum);
-		return count;
-	}
-
 	/**
 	 * Description can only be changed when in status IDEA or PROPOSAL
 	 * @param description the new description (HTML)
@@ -224,7 +235,7 @@ public class LawModel extends BaseModel implements Comparable<LawModel> {
     buf.append(", poll.id=" + (poll != null ? poll.getId() : "<null>"));
     buf.append(", status=" + status);
     buf.append(", numSupporters=" + getNumSupporters());
-		buf.append(", numComments=" + getNumComments());					// keep in mind  that comments are loaded lazily. So toString MUST be called within a Hibernate Session
+    buf.append(", numComments=" + numComments);
     buf.append(", createdBy.email=" + (createdBy != null ? createdBy.getEmail() : "<null>"));
     buf.append(", reachedQuorumAt=" + reachedQuorumAt);
     buf.append(", updatedAt=" + updatedAt);
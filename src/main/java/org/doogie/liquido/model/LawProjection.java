@@ -52,5 +52,5 @@ public interface LawProjection {
 
   int getNumSupporters();
 
-  //MAYBE: int getNumComments();
+  int getNumComments();
 }
\ No newline at end of file
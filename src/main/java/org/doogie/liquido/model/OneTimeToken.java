@@ -4,6 +4,8 @@ import lombok.*;
 
 import javax.persistence.Entity;
 import javax.persistence.OneToOne;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
@@ -17,6 +19,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @RequiredArgsConstructor
 @EqualsAndHashCode(callSuper = true)
+@Table(indexes = @Index(name = "idx_one_time_token_nonce", columnList = "nonce"))
 public class OneTimeToken extends BaseModel {
 	/** Nonce of the token. Can for exmaple be a UUID. */
 	@NonNull
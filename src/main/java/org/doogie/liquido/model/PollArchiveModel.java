@@ -0,0 +1,48 @@
+package org.doogie.liquido.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Cold storage for the ballots of a finished poll.
+ *
+ * When a poll has been finished for a while, then all its ballots (including the delegated ones) are compressed
+ * into one blob and their rows are deleted from the ballots tables. See {@link org.doogie.liquido.services.PollArchiveService}
+ *
+ * Like BallotModel this deliberately does not extend BaseModel. There is no createdBy.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "pollArchives")
+public class PollArchiveModel {
+
+	/** ID of the archived poll */
+	@Id
+	@NonNull
+	public Long pollId;
+
+	/** number of archived ballots */
+	@NonNull
+	@NotNull
+	public Integer numBallots;
+
+	/** compressed ballots. Format: see PollArchiveService */
+	@NonNull
+	@NotNull
+	@Lob
+	@Basic(fetch = FetchType.LAZY)
+	@ToString.Exclude
+	public byte[] ballots;
+
+	@NotNull
+	public LocalDateTime archivedAt = LocalDateTime.now();
+}
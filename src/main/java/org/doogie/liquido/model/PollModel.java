@@ -2,12 +2,18 @@ package org.doogie.liquido.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import io.leangen.graphql.annotations.GraphQLIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.doogie.liquido.model.converter.MatrixConverter;
 import org.doogie.liquido.util.Matrix;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -31,9 +37,16 @@ import java.util.Set;
 @EntityListeners(AuditingEntityListener.class)  // this is necessary so that UpdatedAt and CreatedAt are handled.
 @Table(name = "polls", uniqueConstraints= {
 	@UniqueConstraint(columnNames = {"title", "team_id"})  // Poll title must be unique within team
+}, indexes = {
+	@Index(name = "idx_polls_status_voting_end", columnList = "status, votingEndAt")   // polls by status and the deadline schedulers
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)     // polls in VOTING are loaded for every castVote request
+@NamedEntityGraph(name = PollModel.GRAPH_WITH_PROPOSALS, attributeNodes = @NamedAttributeNode("proposals"))
 public class PollModel extends BaseModel {
 
+	/** Entity graph that fetches the poll together with its proposals in one query */
+	public static final String GRAPH_WITH_PROPOSALS = "PollModel.proposals";
+
 	/**
 	 * The title of a poll must be unique within the team.
 	 * It can be edited by anyone who has a proposal in this poll.
@@ -64,11 +77,12 @@ public class PollModel extends BaseModel {
      This is the ONE side of a bidirectional ManyToOne aggregation relationship.
      Keep in mind that you must not call  poll.proposals.add(prop). Because this circumvents all the restrictions that there are for adding a proposals to a poll!
      Instead use PollService.addProposalToPoll(proposals, poll) !
-	   We deliberately fetch all proposals in this poll EAGERly, so that getNumCompetingProposals can be called on the returned entity.
+	   Proposals are fetched LAZY. The finders in PollRepo load them with the GRAPH_WITH_PROPOSALS entity graph,
+	   so that getNumCompetingProposals can be called on the returned entity.
 	   When creating a new poll via POST /polls/add  , then the first proposal can be passed as URI:   {"title":"Poll created by test 1582701066468","proposals":["/laws/405"]}
 	   To make that work, the content of the HashSet, ie. the URI will be deserialized with LawModelDeserializer.class
 	*/
-  @OneToMany(cascade = CascadeType.MERGE, mappedBy="poll", fetch = FetchType.EAGER) //, orphanRemoval = true/false ?? Should a proposals be removed when the poll is deleted? => NO. Liquido Proposals may join other polls ...
+  @OneToMany(cascade = CascadeType.MERGE, mappedBy="poll", fetch = FetchType.LAZY) //, orphanRemoval = true/false ?? Should a proposals be removed when the poll is deleted? => NO. Liquido Proposals may join other polls ...
   //@JsonDeserialize(contentUsing = LawModelDeserializer.class)  //  If I do this then deserialization of LawModels does not work anymore ?????? Why ?????
 	Set<LawModel> proposals = new HashSet<>();
 
@@ -112,6 +126,15 @@ public class PollModel extends BaseModel {
 	//Implementation note: A poll does not contain a link to its BallotModels. We do not want to expose the ballots while the voting phase is still running.
 	// But clients can get the number of already casted ballots.
 
+	/**
+	 * Number of casted ballots in this poll. This counter column is maintained by {@link org.doogie.liquido.services.CounterService}
+	 * Hibernate never writes this column. It is only changed with atomic SQL updates.
+	 */
+	@Column(nullable = false, insertable = false, updatable = false)
+	@ColumnDefault("0")
+	@Setter(AccessLevel.NONE)
+	int numBallots = 0;
+
   /** return the number of competing proposals */
   public int getNumCompetingProposals() {
     if (proposals == null) return 0;
@@ -126,7 +149,7 @@ public class PollModel extends BaseModel {
 			.append(", status=").append(status)
 			.append(", title='").append(title).append("'")
 			.append(", area.id=").append(area != null ? area.id : "<null>")
-  		.append(", numProposals=").append(proposals != null ? proposals.size() : "0")
+  		.append(", numProposals=").append(proposals != null && Hibernate.isInitialized(proposals) ? proposals.size() : "?")
   		.append(']');
   	return sb.toString();
   }
@@ -0,0 +1,50 @@
+package org.doogie.liquido.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * The pre-rendered JSON result of a finished poll: its winner, number of ballots and duelMatrix.
+ *
+ * The result of a poll never changes once it is finished. So it is rendered only once, when the voting phase ends,
+ * and then returned byte by byte for every request. See {@link org.doogie.liquido.services.PollService#getPollResult(PollModel)}
+ *
+ * Like PollArchiveModel this deliberately does not extend BaseModel. There is no createdBy.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "pollResults")
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)     // the result of a finished poll is immutable
+public class PollResultModel {
+
+	/** ID of the finished poll */
+	@Id
+	@NonNull
+	public Long pollId;
+
+	/** UTF-8 encoded JSON */
+	@NonNull
+	@NotNull
+	@Lob
+	@ToString.Exclude
+	public byte[] json;
+
+	/** MD5 hex of the JSON. Used as strong ETag. */
+	@NonNull
+	@NotNull
+	public String hash;
+
+	@NotNull
+	public LocalDateTime renderedAt = LocalDateTime.now();
+}
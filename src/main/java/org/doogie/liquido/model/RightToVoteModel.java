@@ -30,6 +30,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "rightToVote", uniqueConstraints= {
 	@UniqueConstraint(columnNames = {"area_id", "public_proxy_id"})  // A proxy cannot be public proxy more than once in one area.
+}, indexes = {
+	@Index(name = "idx_right_to_vote_delegated_to", columnList = "delegated_to_hashed_voter_token")   // not every DB automatically indexes foreign keys
 })
 public class RightToVoteModel {
 
@@ -0,0 +1,40 @@
+package org.doogie.liquido.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * A lease on a background job that must only run on one backend node at a time, e.g. finishing polls.
+ * The node that holds an unexpired lease is the leader for that job. It must renew the lease before it expires.
+ * See {@link org.doogie.liquido.services.scheduler.SchedulerLeaseService}
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "schedulerLeases")
+public class SchedulerLeaseModel {
+
+	/** name of the job */
+	@Id
+	@NonNull
+	public String name;
+
+	/** ID of the node that holds the lease */
+	@NonNull
+	@NotNull
+	public String owner;
+
+	/** the lease can be taken over by another node after this time */
+	@NonNull
+	@NotNull
+	public LocalDateTime expiresAt;
+}
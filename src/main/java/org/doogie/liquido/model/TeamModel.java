@@ -6,6 +6,9 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -19,15 +22,25 @@ import java.util.stream.Stream;
  * A Team with its admin(s) and members.
  */
 @Data
-@EqualsAndHashCode(callSuper = true)    // Compare teams by their unique ID. teamName may change
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)    // Compare teams by their unique ID. teamName may change. (And do not touch lazy collections.)
 @Entity
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+	@Index(name = "idx_teams_invite_code", columnList = "inviteCode")   // joining a team
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)     // Team of current user is loaded on nearly every request
 //TODO:  uniqueConstraints= {             // A user may join a team only once, so email must be unique within one team.
 //	@UniqueConstraint(columnNames = {"email", ""})
 //})
+@NamedEntityGraph(name = TeamModel.GRAPH_WITH_ADMINS_AND_MEMBERS, attributeNodes = {
+	@NamedAttributeNode("admins"),
+	@NamedAttributeNode("members")
+})
 public class TeamModel extends BaseModel {
+
+	/** Entity graph that fetches the team together with its admins and members. Used by the finders in TeamRepo. */
+	public static final String GRAPH_WITH_ADMINS_AND_MEMBERS = "TeamModel.adminsAndMembers";
   /** Name of team. TeamName must be unique over all teams! */
 	@NotNull
   @NonNull
@@ -49,14 +62,16 @@ public class TeamModel extends BaseModel {
 	 * He may then appoint further admin colleagues.
 	 */
 	@GraphQLQuery(name = "admins")
-	@ManyToMany(cascade = CascadeType.PERSIST, fetch = FetchType.EAGER)  // when a team is loaded also load its admins
+	@ManyToMany(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)   // TeamRepo loads admins with GRAPH_WITH_ADMINS_AND_MEMBERS
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 	Set<UserModel> admins = new HashSet<>();
 
   /**
 	 * Members of this team.
 	 */
 	@GraphQLQuery(name = "members")
-	@ManyToMany(cascade = CascadeType.PERSIST, fetch = FetchType.EAGER)  // when a team is loaded also load its members
+	@ManyToMany(cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)   // TeamRepo loads members with GRAPH_WITH_ADMINS_AND_MEMBERS
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   Set<UserModel> members = new HashSet<>();
 
 	/** The polls in this team */
@@ -106,12 +121,14 @@ public class TeamModel extends BaseModel {
   @Override
   public String toString() {
   	StringBuffer buf = new StringBuffer();
-  	UserModel firstAdmin = this.getAdmins().iterator().next();
     buf.append("TeamModel[");
 		buf.append("id=" + id);
 		buf.append(", teamName='" + this.teamName + '\'');
-		buf.append(", firstAdmin='" + firstAdmin + "'");
-		buf.append(", numAdminAndMembers=" + (this.admins.size() + this.members.size()));
+		if (Hibernate.isInitialized(admins) && Hibernate.isInitialized(members)) {
+			UserModel firstAdmin = this.getAdmins().iterator().next();
+			buf.append(", firstAdmin='" + firstAdmin + "'");
+			buf.append(", numAdminAndMembers=" + (this.admins.size() + this.members.size()));
+		}
 		buf.append(']');
 		return buf.toString();
   }
@@ -5,11 +5,14 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.Table;
+import javax.persistence.Index;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
@@ -23,7 +26,11 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)  		    // Let spring automatically set UpdatedAt and CreatedAt
-@Table(name = "users")
+@Table(name = "users", indexes = {
+	@Index(name = "idx_users_email", columnList = "email"),                 // not unique: the same email may be registered in different teams
+	@Index(name = "idx_users_mobilephone", columnList = "mobilephone")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)     // Current user is loaded on nearly every request by AuthUtil
 //@GraphQLType(name="user", description = "A LiquidoUser that can be an admin or member in a team.")  // well be named "userInput" by graphql-spqr
 public class UserModel extends BaseModel {
 	/*
@@ -0,0 +1,23 @@
+/**
+ * LIQUIDO domain models, i.e. the JPA entities.
+ *
+ * IDs of all entities are generated with {@link org.doogie.liquido.model.BaseModel#ID_GENERATOR}:
+ * one DB sequence per entity, e.g. law_model_seq (named by the physical naming strategy). Each call to the sequence reserves a block of
+ * {@link org.doogie.liquido.model.BaseModel#ID_BLOCK_SIZE} IDs (pooled-lo optimizer). So the sequences
+ * in the DB MUST be created with the same INCREMENT BY value!
+ * This saves one sequence round trip per insert and lets hibernate batch inserts (hibernate.jdbc.batch_size).
+ */
+@GenericGenerator(
+	name = BaseModel.ID_GENERATOR,
+	strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+	parameters = {
+		@Parameter(name = SequenceStyleGenerator.CONFIG_PREFER_SEQUENCE_PER_ENTITY, value = "true"),
+		@Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + BaseModel.ID_BLOCK_SIZE),
+		@Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+	}
+)
+package org.doogie.liquido.model;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
@@ -0,0 +1,95 @@
+package org.doogie.liquido.rest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.EntityVersionQueries;
+import org.doogie.liquido.jwt.AuthUtil;
+import org.doogie.liquido.jwt.LiquidoAuthentication;
+import org.doogie.liquido.rest.dto.EntityVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conditional GET for polls and laws: <pre>/polls/{id}</pre> and <pre>/laws/{id}</pre>
+ *
+ * Each response gets a weak ETag and a Last-Modified header. When the client sends the ETag back in If-None-Match,
+ * and nothing has changed, then we answer with 304 after one lightweight version query. The entity is not loaded at all.
+ *
+ * Only If-None-Match is evaluated here. Last-Modified is derived from updatedAt, but the counters (e.g. numBallots) change without updatedAt.
+ * So clients should use the ETag.
+ *
+ * The result of a finished poll does not change and has its own strong ETag. See PollRestController.getPollResult
+ *
+ * This filter runs after spring security. So the user is already authenticated.
+ */
+@Slf4j
+@Component
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+	/** Responses may only be cached by the client itself, and must always be revalidated. */
+	public static final String CACHE_CONTROL = "private, no-cache";
+
+	private static final Pattern POLL_PATH = Pattern.compile("/polls/(\\d+)");
+	private static final Pattern LAW_PATH = Pattern.compile("/laws/(\\d+)");
+
+	@Value("${spring.data.rest.base-path}")
+	String basePath;
+
+	@Autowired
+	EntityVersionQueries versionQueries;
+
+	@Autowired
+	AuthUtil authUtil;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod()) || !request.getRequestURI().startsWith(request.getContextPath() + basePath);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+		String path = request.getRequestURI().substring(request.getContextPath().length() + basePath.length());
+		Optional<EntityVersion> version = findVersion(path);
+		if (version.isPresent()) {
+			String eTag = version.get().eTag(representationOf(request));
+			response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+			// Spring Data REST sets Last-Modified itself from updatedAt
+			if (new ServletWebRequest(request, response).checkNotModified(eTag)) return;   // 304 and ETag header are set
+		}
+		chain.doFilter(request, response);
+	}
+
+	/**
+	 * @param path request path after the base path
+	 * @return version of the requested resource or Optional.empty() if this is not a resource with a version
+	 */
+	private Optional<EntityVersion> findVersion(String path) {
+		Matcher m;
+		if ((m = POLL_PATH.matcher(path)).matches()) {
+			return versionQueries.findPollVersion(Long.valueOf(m.group(1)));
+		}
+		if ((m = LAW_PATH.matcher(path)).matches()) {
+			return versionQueries.findLawVersion(Long.valueOf(m.group(1)));
+		}
+		return Optional.empty();
+	}
+
+	/** The same resource may be returned differently, e.g. with ?projection=... or for another user. */
+	private String representationOf(HttpServletRequest request) {
+		String userId = authUtil.getLiquidoAuthentication().map(LiquidoAuthentication::getUserId).map(String::valueOf).orElse("");
+		return request.getRequestURI() + "?" + request.getQueryString() + "|" + userId + "|" + request.getHeader(HttpHeaders.ACCEPT);
+	}
+}
@@ -9,11 +9,15 @@ import org.doogie.liquido.model.PollModel;
 import org.doogie.liquido.model.TeamModel;
 import org.doogie.liquido.model.UserModel;
 import org.doogie.liquido.rest.dto.CreateOrJoinTeamResponse;
+import org.doogie.liquido.services.CacheService;
+import org.doogie.liquido.services.ExpirySweeperService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.services.PollService;
+import org.doogie.liquido.services.scheduler.PollDeadlineScheduler;
 import org.doogie.liquido.testdata.LiquidoProperties;
 import org.doogie.liquido.util.LiquidoRestUtils;
 import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -70,6 +74,15 @@ public class DevRestController {
 	@Autowired
 	AuthUtil authUtil;
 
+	@Autowired
+	CacheService cacheService;
+
+	@Autowired
+	PollDeadlineScheduler pollDeadlineScheduler;
+
+	@Autowired
+	ExpirySweeperService expirySweeperService;
+
 	/**
 	 * Get list of users for the quick login at the top right of the UI. Admin is first element (if configured)
 	 * This endpoint must be public, because the web app needs it during very early application start. (See main.js) But client must at least provide devLoginToken.
@@ -78,7 +91,7 @@ public class DevRestController {
 	 * @return UserModel HATEOAS resource with 10 users. Admin is first element.
 	 */
 	@RequestMapping(value = "/dev/users")
-	public @ResponseBody Lson devGetAllUsers(
+	public @ResponseBody StreamingLson devGetAllUsers(
 		@RequestParam("token") String token,
 		HttpServletRequest request
 	) throws LiquidoException {
@@ -104,7 +117,7 @@ public class DevRestController {
 		 */
 		String selfUrl = request.getRequestURL().toString() + "?token={token}";   // let's do a quick hack to to create selfUrl
 
-		return Lson.builder()
+		return StreamingLson.builder()
 			.put("_embedded.users", users)  // Always return at least an empty array! Be nice to your clients!
 			.put("_link.self.href", selfUrl);
 
@@ -205,12 +218,12 @@ public class DevRestController {
 	 */
 	@RequestMapping(value = "/dev/polls/{pollId}/startVotingPhase")
 	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
-	public @ResponseBody Lson devStartVotingPhase(@PathVariable(name="pollId") PollModel poll) throws LiquidoException {
+	public @ResponseBody StreamingLson devStartVotingPhase(@PathVariable(name="pollId") PollModel poll) throws LiquidoException {
 		if (poll == null)
 			throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, "Cannot find poll with that id");
 		log.info("DEV: Starting voting phase of "+poll);
 		pollService.startVotingPhase(poll);
-		return new Lson().put("ok", "Started voting phase of poll.id="+poll.id);
+		return StreamingLson.builder("ok", "Started voting phase of poll.id="+poll.id);
 	}
 
 	/**
@@ -221,13 +234,12 @@ public class DevRestController {
 	 */
 	@RequestMapping(value = "/dev/polls/{pollId}/finishVotingPhase")
 	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
-	public @ResponseBody Lson devFinishVotingPhase(@PathVariable(name="pollId") PollModel poll) throws LiquidoException {
+	public @ResponseBody StreamingLson devFinishVotingPhase(@PathVariable(name="pollId") PollModel poll) throws LiquidoException {
 		if (poll == null)
 			throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, "Cannot find poll with that id");
 		log.info("DEV: Finish voting phase of "+poll);
 		LawModel winner = pollService.finishVotingPhase(poll);
-		//TODO: cancel the scheduled Quartz trigger for starting the poll.
-		return new Lson()
+		return StreamingLson.builder()
 			.put("ok", "Finished voting phase of poll.id="+poll.id)
 			.put("winner", winner);
 	}
@@ -240,7 +252,7 @@ public class DevRestController {
 	 */
 	@RequestMapping(value = "/dev/polls/{pollId}", method = RequestMethod.DELETE)
 	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
-	public @ResponseBody Lson deletePoll(
+	public @ResponseBody StreamingLson deletePoll(
 		@PathVariable(name="pollId") PollModel poll,
 		@RequestParam(name="deleteProposals") boolean deleteProposals
 	) throws LiquidoException {
@@ -248,11 +260,51 @@ public class DevRestController {
 			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.UNAUTHORIZED, "Cannot delete poll. Admin must be logged in to delete a poll!"));
 		log.info("DELETE " + poll.toString() + (deleteProposals ? " and all its proposals" : "") + " by "+currentUser.toStringShort());
 		pollService.deletePoll(poll, deleteProposals);
-		return new Lson()
+		return StreamingLson.builder()
 			.put("ok", "Poll(id="+poll.id+") has been DELETED")
 			.put("deleteProposals", deleteProposals);
 	}
 
+	/**
+	 * Polls waiting for the end of their voting phase and how long tallying finished polls took
+	 * @return JSON with pending polls and tally latencies
+	 */
+	@RequestMapping(value = "/dev/polls/deadlines")
+	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
+	public @ResponseBody Lson getPollDeadlineStatistics() {
+		return pollDeadlineScheduler.getStatistics();
+	}
 
+	/**
+	 * Number of expired rows that have been deleted since startup
+	 * @return JSON with number of deleted rows per table
+	 */
+	@RequestMapping(value = "/dev/sweeper/statistics")
+	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
+	public @ResponseBody Lson getSweeperStatistics() {
+		return expirySweeperService.getStatistics();
+	}
+
+	/**
+	 * Hit rates of hibernate's second level cache and query cache
+	 * @return JSON with overall hit rates and statistics per cache region
+	 */
+	@RequestMapping(value = "/dev/cache/statistics")
+	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
+	public @ResponseBody Lson getCacheStatistics() {
+		return cacheService.getStatistics();
+	}
+
+	/**
+	 * Clear the second level cache, e.g. after the DB has been changed manually.
+	 * @return HTTP 200
+	 */
+	@RequestMapping(value = "/dev/cache", method = RequestMethod.DELETE)
+	@PreAuthorize(AuthUtil.HAS_ROLE_TEAM_ADMIN)
+	public @ResponseBody StreamingLson evictCache() {
+		log.info("DEV: Evict all entities from second level cache");
+		cacheService.evictAll();
+		return StreamingLson.builder("ok", "Second level cache has been cleared");
+	}
 
 }
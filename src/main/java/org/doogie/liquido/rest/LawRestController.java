@@ -3,17 +3,20 @@ package org.doogie.liquido.rest;
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.AreaRepo;
 import org.doogie.liquido.datarepos.DelegationRepo;
+import org.doogie.liquido.datarepos.KeysetCursor;
 import org.doogie.liquido.datarepos.LawRepo;
 import org.doogie.liquido.datarepos.OffsetLimitPageable;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.model.LawModel;
 import org.doogie.liquido.model.UserModel;
 import org.doogie.liquido.rest.dto.LawQuery;
+import org.doogie.liquido.services.CommentService;
 import org.doogie.liquido.services.LawService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.util.Lson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.rest.webmvc.RepositoryRestController;
 import org.springframework.hateoas.IanaLinkRelations;
@@ -32,6 +35,9 @@ public class LawRestController {
 	@Autowired
 	LawService lawService;
 
+	@Autowired
+	CommentService commentService;
+
 	@Autowired
 	AuthUtil authUtil;
 
@@ -65,13 +71,24 @@ public class LawRestController {
 
 	/**
 	 * Search for ideas, proposals or laws with advanced search criteria
+	 * When lawQuery contains a cursor (empty string for the first slice), then the result is paged with this cursor.
+	 * The response then contains "_page.nextCursor" instead of "_page.offset" and "_page.totalElements".
 	 * @param lawQuery search criteria
 	 * @return list of matching LawModels as HATEOAS Resource (JSON)
+	 * @throws LiquidoException when the cursor or its sort order is invalid
 	 */
 	@RequestMapping(value = "/laws/search/findByQuery", method = RequestMethod.POST)
-	public @ResponseBody Lson searchForLaw(@RequestBody LawQuery lawQuery)
+	public @ResponseBody Lson searchForLaw(@RequestBody LawQuery lawQuery) throws LiquidoException
 	{
 		if (log.isTraceEnabled()) log.trace("/laws/search/findByQuery : "+lawQuery);
+		if (lawQuery.getCursor().isPresent()) {
+			Slice<LawModel> slice = lawService.findSliceBySearchQuery(lawQuery);
+			return Lson.builder()
+				.put("_embedded.laws", slice.get())
+				.put("_page.limit", lawQuery.getLimit())
+				.put("_page.nextCursor", KeysetCursor.nextCursor(slice))		// null when there are no more results
+				.put("_query", lawQuery);
+		}
 		Page<LawModel> resultPage = lawService.findBySearchQuery(lawQuery);
 		if (log.isTraceEnabled()) log.trace("findByQuery: got "+resultPage.getTotalElements()+" LawModels");
 
@@ -89,6 +106,27 @@ public class LawRestController {
 		return result;
 	}
 
+	/**
+	 * Get the threads of comments of a proposal, newest thread first.
+	 * @param proposal id of an idea, proposal or law
+	 * @param cursor "_page.nextCursor" from the previous response. Leave empty for the first page.
+	 * @param limit max number of top level comments
+	 * @param maxDepth max levels of replies below each top level comment
+	 * @return JSON with "_embedded.comments" and "_page" information
+	 */
+	@RequestMapping(value = "/laws/{proposalId}/comments", method = RequestMethod.GET)
+	public @ResponseBody Lson getCommentThreads(
+		@PathVariable(name="proposalId") LawModel proposal,
+		@RequestParam(name="cursor", required = false) String cursor,
+		@RequestParam(name="limit", defaultValue = "10") int limit,
+		@RequestParam(name="maxDepth", defaultValue = "3") int maxDepth
+	) throws LiquidoException {
+		if (proposal == null) throw new LiquidoException(LiquidoException.Errors.CANNOT_FIND_ENTITY, "Cannot find proposal to get comments");
+		if (limit < 1 || limit > 100) throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "limit must be between 1 and 100");
+		if (maxDepth < 0) throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "maxDepth must not be negative");
+		return commentService.getCommentThreads(proposal, cursor, limit, maxDepth);
+	}
+
 	/** Build an HATEOAS Link with rel */
 	private Link buildLink(long offset, long limit, LinkRelation rel) {
 		String URI = ServletUriComponentsBuilder.fromCurrentRequest()
@@ -2,6 +2,7 @@ package org.doogie.liquido.rest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.BallotRepo;
+import org.doogie.liquido.datarepos.KeysetCursor;
 import org.doogie.liquido.datarepos.LawRepo;
 import org.doogie.liquido.datarepos.PollRepo;
 import org.doogie.liquido.datarepos.RightToVoteRepo;
@@ -12,19 +13,25 @@ import org.doogie.liquido.services.LawService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.services.PollService;
 import org.doogie.liquido.util.LiquidoRestUtils;
-import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.ArrayList;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -45,6 +52,15 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 // https://faithfull.me/overriding-spring-data-rest-repositories/
 public class PollRestController {
 
+	/** default max number of polls returned by the search endpoints. The next ones can be loaded with "_page.nextCursor". */
+	static final String DEFAULT_POLLS_LIMIT = "100";
+
+	/**
+	 * The result of a finished poll does not change. But the poll may still be deleted. So clients must revalidate with the ETag,
+	 * which is cheap: the stored hash is compared without rendering anything.
+	 */
+	static final String RESULT_CACHE_CONTROL = ConditionalGetFilter.CACHE_CONTROL;
+
 	@Autowired
   PollService pollService;
 
@@ -148,14 +164,26 @@ public class PollRestController {
 	}
 
 
+	/**
+	 * The result of a finished poll: its winner, number of ballots and duelMatrix.
+	 *
+	 * The result never changes once a poll is finished. It only contains values that are frozen at that time.
+	 * It is rendered only once, and the stored bytes are written straight to the response.
+	 * Clients may cache it privately, because a poll belongs to a team, but must revalidate it with its strong ETag.
+	 * @param poll a finished poll
+	 * @throws LiquidoException when the poll is not FINISHED
+	 */
 	@RequestMapping(value = "/polls/{pollId}/result", produces = MediaType.APPLICATION_JSON_VALUE)
-	public @ResponseBody Lson getPollResult(@PathVariable(name="pollId") PollModel poll) throws LiquidoException {
+	public void getPollResult(@PathVariable(name="pollId") PollModel poll, HttpServletRequest request, HttpServletResponse response) throws LiquidoException, IOException {
   	if (poll == null)
   		throw new LiquidoException(LiquidoException.Errors.CANNOT_FIND_ENTITY, "Cannot find poll with that id");
-  	if (!PollModel.PollStatus.FINISHED.equals(poll.getStatus()))
-			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Poll.id="+poll.getId()+" is not in status FINISHED");
-		Lson pollResultsJson = pollService.calcPollResults(poll);
-		return pollResultsJson;
+		PollResultModel result = pollService.getPollResult(poll);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, RESULT_CACHE_CONTROL);
+		long renderedAt = result.getRenderedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		if (new ServletWebRequest(request, response).checkNotModified("\"" + result.getHash() + "\"", renderedAt)) return;
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(result.getJson().length);
+		response.getOutputStream().write(result.getJson());
 	}
 
 	/**
@@ -260,24 +288,31 @@ public class PollRestController {
 	//TODO: deprecate this. Has been superseeded by findPolls below.   Need to adapt client.
 
 	@RequestMapping("/polls/search/findByStatusAndArea")
-	public @ResponseBody Lson findPollsByStatusAndArea(@RequestParam("status") String status, @RequestParam("area")AreaModel area) throws LiquidoException {
+	public @ResponseBody StreamingLson findPollsByStatusAndArea(
+			@RequestParam("status") String status,
+			@RequestParam("area") AreaModel area,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = DEFAULT_POLLS_LIMIT) int limit) throws LiquidoException {
+		limit = pollService.clampLimit(limit);
 		PollModel.PollStatus pollStatus = null;
 		try {
 			 pollStatus = PollModel.PollStatus.valueOf(status);
 		} catch (IllegalArgumentException e) {
 			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Unknown status for poll '"+status+"'. Must be one of ELABORATION, VOTING or FINISHED");
 		}
-		List<PollModel> polls = pollRepo.findByStatusAndArea(pollStatus, area);
+		Slice<PollModel> polls = pollService.findPolls(Optional.of(pollStatus), Optional.ofNullable(area), Optional.empty(), cursor, limit);
 
 		// Implementation note: PollRepo is deliberately NOT exposed as REST resource. Polls MUST be handled through this custom PollRestController.
 		// CODE: return new Resources<>(pollsInArea, linkTo(methodOn(PollRestController.class).findPollsByStatusAndArea(null, null)).withRel("self"));
 		// BUG: returning resource does not add _embedded.polls: [] when List is empty. https://stackoverflow.com/questions/30286795/how-to-force-spring-hateoas-resources-to-render-an-empty-embedded-array/30297552
 		// FIX: Doogies LSON Builder for the win once again!! :-)
 		// LEARNING:  Always fine tune the returned JSON of your API !YOURSELF!  Do NOT rely on auto generated Repos.
-		WebMvcLinkBuilder webMvcLinkBuilder = linkTo(methodOn(PollRestController.class).findPollsByStatusAndArea(null, null));
-		return new Lson()
-				.put("_embedded.polls", polls)
-				.put("_links.self.href", webMvcLinkBuilder.toUri());
+		WebMvcLinkBuilder webMvcLinkBuilder = linkTo(methodOn(PollRestController.class).findPollsByStatusAndArea(null, null, null, limit));
+		return StreamingLson.builder()
+				.put("_embedded.polls", polls.getContent())
+				.put("_links.self.href", webMvcLinkBuilder.toUri())
+				.put("_page.limit", limit)
+				.put("_page.nextCursor", KeysetCursor.nextCursor(polls));
 	}
 
 	/**
@@ -287,19 +322,25 @@ public class PollRestController {
 	 * @param status (optionally) only return polls with that status
 	 * @param area (optionally) filter by that area
 	 * @param voterToken (optionally) only return polls, that the user has a ballot in, casted with that voter token
-	 * @return list of polls
+	 * @param cursor (optionally) "_page.nextCursor" from the previous response. Not used with voterToken.
+	 * @param limit max number of returned polls. Not used with voterToken.
+	 * @return list of polls, newest first
 	 * @throws LiquidoException when no search criteria is given at all or voterToken is invalid
 	 */
 	@RequestMapping("/polls/search/find")
-	public @ResponseBody Lson findPolls(
+	public @ResponseBody StreamingLson findPolls(
 			@RequestParam("status") Optional<PollModel.PollStatus> status,
 			@RequestParam("area") Optional<AreaModel> area,
-			@RequestParam("voterToken") Optional<String> voterToken) throws LiquidoException
+			@RequestParam("voterToken") Optional<String> voterToken,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = DEFAULT_POLLS_LIMIT) int limit) throws LiquidoException
 	{
+		limit = pollService.clampLimit(limit);
 		if (!status.isPresent() && !area.isPresent() && !voterToken.isPresent())
 			throw new LiquidoException(LiquidoException.Errors.CANNOT_FIND_ENTITY, "You must pass at least one search criteria for a poll");
 
-		List<PollModel> polls = new ArrayList<>();
+		List<PollModel> polls;
+		String nextCursor = null;
 		// If voterToken is given, then first search polls with ballots created with that voter token.
 		// because this will most probably be smalles number of polls.
 		// Keep in mind that a voterToken already is per area!
@@ -311,12 +352,11 @@ public class PollRestController {
 					.map(ballot -> ballot.getPoll())
 					.filter(poll -> !status.isPresent() || poll.getStatus().equals(status.get()))  // if status is given, then filter by status
 					.collect(Collectors.toList());
-		} else if (status.isPresent() && area.isPresent()) {
-			polls = pollRepo.findByStatusAndArea(status.get(), area.get());
-		} else if (status.isPresent()) {
-			polls = pollRepo.findByStatus(status.get());
-		} else if (area.isPresent()) {
-			polls = pollRepo.findByArea(area.get());
+		} else {
+			// Keyset pagination by (createdAt, id) instead of unbounded lists
+			Slice<PollModel> slice = pollService.findPolls(status, area, Optional.empty(), cursor, limit);
+			polls = slice.getContent();
+			nextCursor = KeysetCursor.nextCursor(slice);
 		}
 
 		// Implementation note: PollRepo is deliberately NOT exposed as REST resource. Polls MUST be handled through this custom PollRestController.
@@ -324,10 +364,12 @@ public class PollRestController {
 		// BUG: returning resource does not add _embedded.polls: [] when List is empty. https://stackoverflow.com/questions/30286795/how-to-force-spring-hateoas-resources-to-render-an-empty-embedded-array/30297552
 		// FIX: Doogies LSON Builder for the win once again!! :-)
 		// LEARNING:  Always fine tune the returned JSON of your API !YOURSELF!  Do NOT rely on auto generated Repos.
-		WebMvcLinkBuilder webMvcLinkBuilder = linkTo(methodOn(PollRestController.class).findPolls(null, null, null));
-		return new Lson()
+		WebMvcLinkBuilder webMvcLinkBuilder = linkTo(methodOn(PollRestController.class).findPolls(null, null, null, null, limit));
+		return StreamingLson.builder()
 			.put("_embedded.polls", polls)
-			.put("_links.self.href", webMvcLinkBuilder.toUri());
+			.put("_links.self.href", webMvcLinkBuilder.toUri())
+			.put("_page.limit", limit)
+			.put("_page.nextCursor", nextCursor);
 	}
 
 }
@@ -8,7 +8,7 @@ import org.doogie.liquido.security.LiquidoAuditorAware;
 import org.doogie.liquido.services.*;
 import org.doogie.liquido.testdata.LiquidoProperties;
 import org.doogie.liquido.util.DoogiesUtil;
-import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
@@ -204,14 +204,11 @@ public class UserRestController {
 		if (DoogiesUtil.isEmpty(email)) throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_EMAIL_NOT_FOUND, "Need email to login!");
 		if (DoogiesUtil.isEmpty(token)) throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "Need login token!");
 
-		OneTimeToken oneTimeToken = ottRepo.findByNonce(token)
-			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "Invalid email login token."));
+		// Expired tokens are not found. They are deleted by the ExpirySweeperService.
+		OneTimeToken oneTimeToken = ottRepo.findByNonceAndValidUntilAfter(token, LocalDateTime.now())
+			.orElseThrow(LiquidoException.supply(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "Invalid or expired email login token."));
 		if (!email.equals(oneTimeToken.getUser().getEmail()))
 			throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "Email does not match token.");
-		if (LocalDateTime.now().isAfter(oneTimeToken.getValidUntil())) {
-			ottRepo.delete(oneTimeToken);
-			throw new LiquidoException(LiquidoException.Errors.CANNOT_LOGIN_TOKEN_INVALID, "This email login token is expired.");
-		}
 
 		//TODO: Do I need to check if user and team still exist?
 		UserModel user = oneTimeToken.getUser();
@@ -226,7 +223,7 @@ public class UserRestController {
 	}
 
 	@RequestMapping(path = "/my/newsfeed", produces = MediaType.APPLICATION_JSON_VALUE)
-	public Lson getMyNewsfeed(@RequestParam("voterToken") Optional<String> voterToken) throws LiquidoException {
+	public StreamingLson getMyNewsfeed(@RequestParam("voterToken") Optional<String> voterToken) throws LiquidoException {
 		UserModel currentUser = liquidoAuditorAware.getCurrentAuditor()
 				.orElseThrow(() -> new LiquidoException(LiquidoException.Errors.UNAUTHORIZED, "Must be logged in to get newsfeed!"));
 
@@ -260,10 +257,10 @@ public class UserRestController {
 		Iterable<AreaModel> areas = areaRepo.findAll();
 		List<DelegationModel> delegationRequests = new ArrayList<>();
 		for (AreaModel area: areas) {
-			delegationRequests.addAll(delegationRepo.findDelegationRequests(area, currentUser));
+			delegationRequests.addAll(proxyService.findDelegationRequests(area, currentUser));
 		}
 
-		Lson result = new Lson()
+		StreamingLson result = StreamingLson.builder()
 				.put("delegationRequests", delegationRequests)
 				.put("reachedQuorum", reachedQuorum)
 				.put("supportedByYou", supportedByYouSorted)							// This only returns the Model. No HATEOAS links! But entities are projected, with createdBy and are info expanded.
@@ -9,7 +9,7 @@ import org.doogie.liquido.rest.dto.CastVoteResponse;
 import org.doogie.liquido.services.CastVoteService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.services.ProxyService;
-import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.hateoas.Link;
@@ -63,7 +63,7 @@ public class VoteRestController {
 	 * @throws LiquidoException when not logged in
 	 */
 	@RequestMapping(value = "/my/voterToken/{areaId}")  // when you add produces = MediaType.APPLICATION_JSON_VALUE  then client MUST send accept header. Without it Json is returned by default
-	public @ResponseBody Lson getVoterToken(
+	public @ResponseBody StreamingLson getVoterToken(
 			@PathVariable("areaId") AreaModel area,
 			@RequestParam("tokenSecret") String tokenSecret,
 			@RequestParam(name = "becomePublicProxy", defaultValue = "false", required = false) Boolean becomePublicProxy
@@ -78,7 +78,7 @@ public class VoteRestController {
 		List<DelegationModel> delegationRequests = proxyService.findDelegationRequests(area, voter);
 
 		Link areaLink = entityLinks.linkToItemResource(AreaModel.class, area.getId());      // Spring HATEOAS Link rel
-		return Lson.builder()
+		return StreamingLson.builder()
 				.put("_links.area.href", areaLink.getHref())   		// return link to Area. Area Link has suffix {?projection} !
 				.put("_links.area.templated", areaLink.isTemplated())	// is true for areas
 				.put("voterToken", voterToken)
@@ -150,7 +150,7 @@ public class VoteRestController {
 	 * @see PollRestController#getOwnBallot(PollModel, String)  There we fetch a voter's ballot in one specific poll.
 	 */
 	@RequestMapping(value = "/my/ballots")
-	public @ResponseBody Lson myBallotsInArea(
+	public @ResponseBody StreamingLson myBallotsInArea(
 			@RequestParam("voterToken") String voterToken,
 			@RequestParam("poll") Optional<PollModel> poll,
 			@RequestParam("pollStatus") Optional<PollModel.PollStatus> pollStatus
@@ -175,7 +175,7 @@ public class VoteRestController {
 		//Keep in mind that BallotModel is not exposed as RepositoryRestResource! Therefore we must build our own HATEOAS response format.  new Resource(..) does not work here!
 
 		Link self = linkTo(methodOn(VoteRestController.class).myBallotsInArea("", null, null)).withRel("self");
-		return new Lson()
+		return StreamingLson.builder()
 			.put("_embedded", ballots)
 			.put("_links.self.href", self.getHref())
 		  .put("_links.self.templated", self.isTemplated());
@@ -0,0 +1,53 @@
+package org.doogie.liquido.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import org.doogie.liquido.model.UserModel;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * One comment in a thread of comments, with its replies.
+ * Contains the number of up- and downvotes instead of the sets of voters.
+ * These elements are created directly by the JPQL queries in {@link org.doogie.liquido.datarepos.CommentRepo}
+ * and are then assembled into a tree by {@link org.doogie.liquido.services.CommentService#getCommentThreads}
+ */
+@Data
+public class CommentThreadElem {
+	Long id;
+
+	/** ID of the parent comment or null for top level comments */
+	@JsonIgnore
+	Long parentId;
+
+	String comment;
+	UserModel createdBy;
+	Date createdAt;
+	Date updatedAt;
+	int upVotes;
+	int downVotes;
+	boolean upvotedByCurrentUser;
+	boolean downvotedByCurrentUser;
+
+	/** Number of direct replies. This may be larger than replies.size() when the depth of replies was capped. */
+	int numReplies = 0;
+
+	/** Replies to this comment, oldest first. */
+	List<CommentThreadElem> replies = new ArrayList<>();
+
+	public CommentThreadElem(Long id, Long parentId, String comment, UserModel createdBy, Date createdAt, Date updatedAt,
+													 Long upVotes, Long downVotes, Boolean upvotedByCurrentUser, Boolean downvotedByCurrentUser) {
+		this.id = id;
+		this.parentId = parentId;
+		this.comment = comment;
+		this.createdBy = createdBy;
+		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
+		this.upVotes = upVotes.intValue();
+		this.downVotes = downVotes.intValue();
+		this.upvotedByCurrentUser = upvotedByCurrentUser;
+		this.downvotedByCurrentUser = downvotedByCurrentUser;
+	}
+}
@@ -0,0 +1,31 @@
+package org.doogie.liquido.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.util.Date;
+
+/**
+ * Version of an entity and everything that is returned together with it, e.g. a poll and its proposals.
+ * Loaded by {@link org.doogie.liquido.datarepos.EntityVersionQueries} without loading the entities themselves.
+ */
+@Data
+@AllArgsConstructor
+public class EntityVersion {
+	/** hash over the version columns. Changes whenever the returned data may have changed. */
+	String hash;
+
+	/** latest updatedAt of all the entities */
+	Date lastModified;
+
+	/**
+	 * A weak ETag for one representation of this entity.
+	 * Weak, because the same data may be serialized differently, e.g. in another order of JSON fields.
+	 * @param representation everything else the response depends on, e.g. the URL's query string or the GraphQL query and the current user
+	 * @return ETag header value
+	 */
+	public String eTag(String representation) {
+		return "W/\"" + DigestUtils.md5Hex(hash + "|" + representation) + "\"";
+	}
+}
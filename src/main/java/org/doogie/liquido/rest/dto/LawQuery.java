@@ -30,6 +30,10 @@ public class LawQuery {
 	Optional<String> createdByEmail = Optional.empty();
 	Optional<String> supportedByEMail = Optional.empty();
 
+	// Keyset pagination: "_page.nextCursor" from the previous response. Set to an empty string for the first slice.
+	// When a cursor is given, then offset is ignored and no totalElements are counted.
+	Optional<String> cursor = Optional.empty();
+
 	long offset = 0;   // start index from where we will load data. (This of course depends on sort settings.)
 	long limit = 20;   // How many rows will be loaded and returned.  (This corresponds to one "page")
 	Sort.Direction direction = Sort.DEFAULT_DIRECTION;
@@ -63,6 +67,10 @@ public class LawQuery {
 		this.supportedByEMail = Optional.of(supportedByEMail);
 	}
 
+	public void setCursor(String cursor) {
+		this.cursor = Optional.ofNullable(cursor);
+	}
+
 	@JsonIgnore
 	public String[] getSortByPropertiesAsStringArray() {
 		return sortByProperties.toArray(new String[sortByProperties.size()]);
@@ -88,6 +96,7 @@ public class LawQuery {
 		if (areaId.isPresent()) sb.append(", areaId=").append(areaId);
 		if (createdByEmail.isPresent()) sb.append(", createdByEmail=").append(createdByEmail);
 		if (supportedByEMail.isPresent()) sb.append(", supportedByEMail=").append(supportedByEMail);
+		if (cursor.isPresent()) sb.append(", cursor=").append(cursor);
 		sb.append(", offset=").append(offset);
 		sb.append(", limit=").append(limit);
 		if (sortByProperties.size() > 0) {
@@ -0,0 +1,17 @@
+package org.doogie.liquido.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.doogie.liquido.model.PollModel;
+
+/**
+ * Current state of a poll that is pushed to GraphQL subscribers. See PollUpdatesService
+ * Only contains the few values that change while a poll is running.
+ */
+@Data
+@AllArgsConstructor
+public class PollUpdate {
+	Long pollId;
+	PollModel.PollStatus status;
+	int numBallots;
+}
@@ -0,0 +1,20 @@
+package org.doogie.liquido.rest.dto;
+
+import lombok.Data;
+import lombok.NonNull;
+import org.doogie.liquido.model.PollModel;
+
+import java.util.List;
+
+/**
+ * One slice of polls from a search with keyset pagination.
+ * Pass nextCursor to the next search to get the following polls.
+ */
+@Data
+public class PollsSlice {
+	@NonNull
+	List<PollModel> polls;
+
+	/** opaque cursor for the next slice or null if there are no more polls */
+	String nextCursor;
+}
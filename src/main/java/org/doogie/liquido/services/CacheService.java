@@ -0,0 +1,122 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.BaseModel;
+import org.doogie.liquido.util.Lson;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Access to hibernate's second level cache.
+ *
+ * Areas, teams, users, polls and laws are cached. (See @Cache annotations on these models and ehcache.xml)
+ * Hibernate keeps these caches up to date by itself, as long as the entities are changed through JPA.
+ * But some changes bypass the cache and need to be evicted here:
+ * <ul>
+ *   <li>The counter columns of laws and polls are changed with SQL updates by the {@link CounterService}.</li>
+ *   <li>The status of polls and their proposals is changed with SQL updates by the {@link PollStatusService}.</li>
+ *   <li>SQL that is run directly via JDBC, e.g. when TestDataCreator loads the sample DB.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CacheService {
+
+	@Autowired
+	EntityManagerFactory emf;
+
+	/**
+	 * Evict an entity from the second level cache.
+	 * When there is a running transaction, then the entity is evicted after the commit. Otherwise another request
+	 * could put the old state back into the cache before our changes are committed.
+	 * @param entity a cached model (nothing happens for models that are not cached)
+	 */
+	public void evict(BaseModel entity) {
+		if (entity == null || entity.getId() == null) return;
+		evict(Hibernate.getClass(entity), Collections.singletonList(entity.getId()));   // unwrap hibernate proxies
+	}
+
+	/**
+	 * Evict several entities of the same class from the second level cache, e.g. after a bulk update with SQL.
+	 * When there is a running transaction, then they are evicted after the commit.
+	 * @param entityClass class of a cached model
+	 * @param ids IDs of the changed entities
+	 */
+	public void evict(Class<?> entityClass, Collection<Long> ids) {
+		if (ids.isEmpty()) return;
+		List<Long> idList = new ArrayList<>(ids);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					idList.forEach(id -> evictNow(entityClass, id));
+				}
+			});
+		} else {
+			idList.forEach(id -> evictNow(entityClass, id));
+		}
+	}
+
+	private void evictNow(Class<?> entityClass, Long id) {
+		log.trace("Evict " + entityClass.getSimpleName() + "(id=" + id + ") from second level cache");
+		emf.getCache().evict(entityClass, id);
+	}
+
+	/** Clear all entity, collection and query caches. */
+	public void evictAll() {
+		log.debug("Evict all entities from second level cache");
+		emf.getCache().evictAll();
+		emf.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+	}
+
+	/**
+	 * Hit rates of the second level cache and of the query cache.
+	 * Needs <pre>hibernate.generate_statistics: true</pre>, which is only set in DEV and TEST. Otherwise all counts are zero.
+	 * @return JSON with overall hit rates and statistics for each cache region
+	 */
+	public Lson getStatistics() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		List<Lson> regions = new ArrayList<>();
+		for (String regionName : stats.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics regionStats = stats.getCacheRegionStatistics(regionName);
+			if (regionStats == null) continue;
+			regions.add(Lson.builder()
+				.put("region", regionName)
+				.put("hitCount", regionStats.getHitCount())
+				.put("missCount", regionStats.getMissCount())
+				.put("putCount", regionStats.getPutCount())
+				.put("hitRatio", hitRatio(regionStats.getHitCount(), regionStats.getMissCount()))
+				.put("elementCountInMemory", regionStats.getElementCountInMemory())
+			);
+		}
+		return Lson.builder()
+			.put("statisticsEnabled", stats.isStatisticsEnabled())
+			.put("secondLevelCache", Lson.builder()
+				.put("hitCount", stats.getSecondLevelCacheHitCount())
+				.put("missCount", stats.getSecondLevelCacheMissCount())
+				.put("putCount", stats.getSecondLevelCachePutCount())
+				.put("hitRatio", hitRatio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount())))
+			.put("queryCache", Lson.builder()
+				.put("hitCount", stats.getQueryCacheHitCount())
+				.put("missCount", stats.getQueryCacheMissCount())
+				.put("putCount", stats.getQueryCachePutCount())
+				.put("hitRatio", hitRatio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount())))
+			.put("regions", regions);
+	}
+
+	private double hitRatio(long hits, long misses) {
+		return hits + misses == 0 ? 0.0 : (double)hits / (hits + misses);
+	}
+}
@@ -38,6 +38,9 @@ public class CastVoteService {
 	@Autowired
 	RightToVoteRepo rightToVoteRepo;
 
+	@Autowired
+	CounterService counterService;
+
 	@Autowired
 	ProxyService proxyService;
 
@@ -156,14 +159,14 @@ public class CastVoteService {
 	 * This method will not create a new rightToVote. createVoterTokenAndStoreRightToVote() must have been called before.
 	 * @param voterToken the token to check
 	 * @return the voter's rightToVote if voterToken is valid
-	 * @throws LiquidoException when voterToken is invalid or its corresponding rightToVote is not known.
+	 * @throws LiquidoException when voterToken is invalid or its corresponding rightToVote is not known or has expired.
 	 */
 	public RightToVoteModel isVoterTokenValid(String voterToken) throws LiquidoException {
 		if (voterToken == null || !voterToken.startsWith("$2") || voterToken.length() < 10)
 			throw new LiquidoException(LiquidoException.Errors.INVALID_VOTER_TOKEN, "Voter token is empty or has wrong format");  // BCRYPT hashes start with $2$ or $2
 		String hashedVoterToken = calcHashedVoterToken(voterToken);
-		RightToVoteModel rightToVote = rightToVoteRepo.findByHashedVoterToken(hashedVoterToken)
-				.orElseThrow(() -> (new LiquidoException(LiquidoException.Errors.INVALID_VOTER_TOKEN, "Voter token is invalid. It has not right to vote.")));
+		RightToVoteModel rightToVote = rightToVoteRepo.findValidByHashedVoterToken(hashedVoterToken, LocalDateTime.now())
+				.orElseThrow(() -> (new LiquidoException(LiquidoException.Errors.INVALID_VOTER_TOKEN, "Voter token is invalid or expired. It has no right to vote.")));
 		return rightToVote;
 	}
 
@@ -268,9 +271,10 @@ public class CastVoteService {
 	 * @param newBallot the ballot that shall be stored. The ballot will be checked very thoroughly. Especially if the ballot's right to vote is valid.
 	 * @return the newly created or updated existing ballot  OR
 	 *         null if the ballot wasn't stored due to an already existing ballot with a smaller level.
+	 * @see DelegationPropagationService which also uses this method to recast delegated ballots
 	 */
 	//@Transactional   //Do not open a transaction for each recursion!
-	private CastVoteResponse castVoteRec(BallotModel newBallot) throws LiquidoException {
+	CastVoteResponse castVoteRec(BallotModel newBallot) throws LiquidoException {
 		log.debug("   castVoteRec: "+newBallot);
 
 		//----- check validity of the ballot
@@ -296,6 +300,7 @@ public class CastVoteService {
 			//----- If there is no existing ballot yet with that rightToVote, then builder a completely new one.
 			log.trace("   Saving new ballot");
 			savedBallot = ballotRepo.save(newBallot);
+			counterService.addToNumBallots(savedBallot.getPoll(), 1);
 		}
 
 		//----- When user is a proxy, then recursively cast a ballot for each delegated rightToVote
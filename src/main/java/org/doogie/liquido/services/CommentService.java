@@ -1,13 +1,24 @@
 package org.doogie.liquido.services;
 
 import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.CommentRepo;
+import org.doogie.liquido.datarepos.KeysetCursor;
+import org.doogie.liquido.datarepos.KeysetQueries;
 import org.doogie.liquido.model.CommentModel;
+import org.doogie.liquido.model.LawModel;
 import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.rest.dto.CommentThreadElem;
 import org.doogie.liquido.security.LiquidoAuditorAware;
+import org.doogie.liquido.util.Lson;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Utility methods for comments of a proposal
@@ -19,6 +30,74 @@ public class CommentService {
   @Autowired
   LiquidoAuditorAware liquidoAuditorAware;
 
+  @Autowired
+  CommentRepo commentRepo;
+
+  @Autowired
+  KeysetQueries keysetQueries;
+
+  /**
+   * Get the threads of comments of a proposal, newest thread first.
+   *
+   * Pagination is done over the top level comments, ordered by (createdAt, id), with a keyset cursor:
+   * Pass the "nextCursor" of the previous page to load the next one. See {@link KeysetCursor}
+   * Only the comments of this page are loaded. Their replies are then loaded level by level, with one query per level.
+   * Replies deeper than maxDepth are not returned. Their parent's numReplies still tells the client that there are more.
+   *
+   * The tree is assembled by parentId, not by the order of IDs. With pooled IDs a reply may have a lower ID than its parent.
+   *
+   * @param proposal a proposal
+   * @param cursor cursor token from the previous page or null for the first page
+   * @param limit max number of top level comments to return
+   * @param maxDepth max levels of replies below the top level comments. 0 returns no replies at all.
+   * @return JSON with "_embedded.comments" and "_page.nextCursor". nextCursor is null on the last page.
+   * @throws LiquidoException INVALID_PARAMETER when the cursor is invalid
+   */
+  @Transactional(readOnly = true)
+  public Lson getCommentThreads(LawModel proposal, String cursor, int limit, int maxDepth) throws LiquidoException {
+    UserModel currentUser = liquidoAuditorAware.getCurrentAuditor().orElse(null);
+    Specification<CommentModel> topLevelComments = (root, query, cb) -> cb.and(
+      cb.equal(root.get("proposal"), proposal),
+      cb.isNull(root.get("parent"))
+    );
+    Slice<Long> threadIds = keysetQueries.findIds(CommentModel.class, topLevelComments, Sort.Order.desc("createdAt"), cursor, limit);
+
+    // First index every element by its ID
+    Map<Long, CommentThreadElem> elemsById = new HashMap<>();
+    List<CommentThreadElem> level = threadIds.isEmpty() ? Collections.emptyList() : commentRepo.findThreadElemsByIds(threadIds.getContent(), currentUser);
+    level.forEach(elem -> elemsById.put(elem.getId(), elem));
+    List<CommentThreadElem> threads = threadIds.getContent().stream()
+      .map(elemsById::get)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toList());
+
+    // Then attach the replies of each level to their parent. Replies are ordered by (createdAt, id)
+    for (int depth = 1; depth <= maxDepth && !level.isEmpty(); depth++) {
+      List<Long> parentIds = level.stream().map(CommentThreadElem::getId).collect(Collectors.toList());
+      level = commentRepo.findThreadElemsByParentIds(parentIds, currentUser);
+      for (CommentThreadElem reply : level) {
+        CommentThreadElem parent = elemsById.get(reply.getParentId());
+        parent.getReplies().add(reply);
+        parent.setNumReplies(parent.getNumReplies() + 1);
+        elemsById.put(reply.getId(), reply);
+      }
+    }
+
+    // The replies of the deepest level are not loaded. Only count them.
+    if (!level.isEmpty()) {
+      List<Long> parentIds = level.stream().map(CommentThreadElem::getId).collect(Collectors.toList());
+      for (Object[] row : commentRepo.countRepliesByParentIds(parentIds)) {
+        elemsById.get((Long)row[0]).setNumReplies(((Long)row[1]).intValue());
+      }
+    }
+
+    return Lson.builder()
+      .put("_embedded.comments", threads)
+      .put("_page.limit", limit)
+      .put("_page.maxDepth", maxDepth)
+      .put("_page.nextCursor", KeysetCursor.nextCursor(threadIds, id -> elemsById.get(id).getCreatedAt()));
+  }
+
   /**
    * Check if a given comment is already upvoted by the currently logged in user.
    * @param comment a CommentModel
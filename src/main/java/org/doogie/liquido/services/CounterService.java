@@ -0,0 +1,101 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.model.PollModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Maintains the denormalized counters LawModel.numSupporters, LawModel.numComments and PollModel.numBallots.
+ *
+ * List views show these numbers for every law and poll. Counting them would need the full supporters collection,
+ * a walk through the whole tree of comments and replies or one count query per poll.
+ *
+ * The counters are changed with atomic SQL updates, e.g. <pre>SET num_ballots = num_ballots + 1</pre>
+ * So concurrent requests cannot overwrite each other's changes. Hibernate never writes these columns (insertable = false, updatable = false).
+ * The SQL runs directly via JDBC in the current transaction. A JPQL bulk update would invalidate the whole LawModel or PollModel
+ * region in the second level cache. Instead only the changed entity is evicted after the commit.
+ *
+ * Keep in mind that JDBC updates are executed immediately, while hibernate inserts and deletes are only flushed later.
+ * So inside a transaction always add or subtract. Recounting only works after the changes have been committed.
+ */
+@Slf4j
+@Service
+public class CounterService {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	CacheService cacheService;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Atomically add delta to the number of supporters of a law.
+	 * @param law an idea, proposal or law
+	 * @param delta number of added (or removed, if negative) supporters
+	 */
+	public void addToNumSupporters(LawModel law, int delta) {
+		jdbcTemplate.update("UPDATE laws SET num_supporters = num_supporters + ? WHERE id = ?", delta, law.getId());
+		cacheService.evict(law);
+	}
+
+	/**
+	 * Atomically add delta to the number of comments of a law. This includes replies to comments.
+	 * @param law the proposal that has been commented
+	 * @param delta number of added (or removed, if negative) comments
+	 */
+	public void addToNumComments(LawModel law, int delta) {
+		jdbcTemplate.update("UPDATE laws SET num_comments = num_comments + ? WHERE id = ?", delta, law.getId());
+		cacheService.evict(law);
+	}
+
+	/**
+	 * Atomically add delta to the number of casted ballots in a poll.
+	 * @param poll a poll in voting
+	 * @param delta number of added (or removed, if negative) ballots
+	 */
+	public void addToNumBallots(PollModel poll, int delta) {
+		if (delta == 0) return;
+		jdbcTemplate.update("UPDATE polls SET num_ballots = num_ballots + ? WHERE id = ?", delta, poll.getId());
+		cacheService.evict(poll);
+		eventPublisher.publishEvent(new PollChangedEvent(poll.getId()));   // turnout for subscribers
+	}
+
+	/**
+	 * Recount the supporters of one law, e.g. after its supporters were replaced via REST.
+	 * Must be called after the change has been committed.
+	 * @param law an idea, proposal or law
+	 */
+	public void recountNumSupporters(LawModel law) {
+		jdbcTemplate.update("UPDATE laws SET num_supporters = (SELECT count(*) FROM laws_supporters s WHERE s.law_model_id = laws.id) WHERE id = ?", law.getId());
+		cacheService.evict(law);
+	}
+
+	/**
+	 * Recount the comments and replies of one law, e.g. after a comment with all its replies has been deleted.
+	 * Must be called after the change has been committed.
+	 * @param law the proposal that has been commented
+	 */
+	public void recountNumComments(LawModel law) {
+		jdbcTemplate.update("UPDATE laws SET num_comments = (SELECT count(*) FROM comments c WHERE c.proposal_id = laws.id) WHERE id = ?", law.getId());
+		cacheService.evict(law);
+	}
+
+	/**
+	 * Recount all counters from scratch.
+	 * This is necessary after data has been created without this service, e.g. by the TestDataCreator, and can be used to repair the counters.
+	 */
+	public void recountAll() {
+		log.info("Recount supporters, comments and ballots of all laws and polls");
+		jdbcTemplate.update("UPDATE laws SET num_supporters = (SELECT count(*) FROM laws_supporters s WHERE s.law_model_id = laws.id)");
+		jdbcTemplate.update("UPDATE laws SET num_comments = (SELECT count(*) FROM comments c WHERE c.proposal_id = laws.id)");
+		jdbcTemplate.update("UPDATE polls SET num_ballots = (SELECT count(*) FROM ballots b WHERE b.poll_id = polls.id)");
+		cacheService.evictAll();
+	}
+}
@@ -0,0 +1,22 @@
+package org.doogie.liquido.services;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Spring application event that is published by the {@link ProxyService} whenever the anonymous
+ * delegation of a rightToVote has changed, ie. a proxy was assigned, accepted or removed.
+ *
+ * This event intentionally only contains IDs and no entities, because it is consumed
+ * asynchronously by the {@link DelegationPropagationService} in a later transaction.
+ */
+@Data
+public class DelegationChangedEvent {
+	/** ID of the area where the delegation changed */
+	@NonNull
+	Long areaId;
+
+	/** the rightToVote whose delegatedTo has changed (or was removed) */
+	@NonNull
+	String hashedVoterToken;
+}
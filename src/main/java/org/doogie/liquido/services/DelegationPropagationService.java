@@ -0,0 +1,244 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.AreaRepo;
+import org.doogie.liquido.datarepos.BallotRepo;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.datarepos.RightToVoteRepo;
+import org.doogie.liquido.model.*;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background worker that propagates delegation changes into polls that are currently in their voting phase.
+ *
+ * When a voter assigns or removes a proxy, then the {@link ProxyService} publishes a {@link DelegationChangedEvent}.
+ * This service queues these events and a scheduled worker then recalculates the delegated ballots (level &gt; 0)
+ * of that voter (and of his delegees) in all polls of that area that are in status VOTING:
+ *
+ * 1) IF the voter already voted for himself (level 0 ballot) THEN nothing changes.
+ * 2) Delete the voter's delegated ballot and all delegated ballots below it, because they were casted by the old proxy.
+ * 3) IF the voter now has a proxy and that proxy has a ballot in this poll,
+ *    THEN recast that ballot for the voter one level further down. This recursively also recasts the ballots of the delegees.
+ *
+ * Back pressure: The queue is bounded. Events for the same rightToVote are coalesced while they are waiting.
+ * When the queue is full, then the producer is blocked for a short time. If the queue is still full,
+ * then the event is dropped and the whole area is marked for a complete resync instead.
+ * The worker propagates a limited number of batches per run, with one transaction per batch.
+ */
+@Slf4j
+@Service
+public class DelegationPropagationService {
+
+	@Autowired
+	CastVoteService castVoteService;
+
+	@Autowired
+	CounterService counterService;
+
+	@Autowired
+	AreaRepo areaRepo;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	@Autowired
+	BallotRepo ballotRepo;
+
+	@Autowired
+	RightToVoteRepo rightToVoteRepo;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	LiquidoProperties props;
+
+	/** bounded queue of pending delegation changes */
+	BlockingQueue<DelegationChangedEvent> queue;
+
+	/** hashedVoterTokens that are currently waiting in the queue. Used to coalesce events. */
+	Set<String> pendingVoterTokens = ConcurrentHashMap.newKeySet();
+
+	/** IDs of areas where events had to be dropped. These areas will be completely resynced. */
+	Set<Long> areasToResync = ConcurrentHashMap.newKeySet();
+
+	TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void init() {
+		queue = new LinkedBlockingQueue<>(props.propagation.queueCapacity);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Queue a delegation change. This is called after the transaction that changed the delegation has been committed,
+	 * so that the worker will see the new delegation.
+	 * @param event the changed delegation
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDelegationChanged(DelegationChangedEvent event) {
+		if (!pendingVoterTokens.add(event.getHashedVoterToken())) {
+			log.trace("Delegation change is already queued: "+event);
+			return;
+		}
+		try {
+			if (!queue.offer(event, props.propagation.offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				log.warn("Delegation propagation queue is full. Area.id="+event.getAreaId()+" will be completely resynced.");
+				pendingVoterTokens.remove(event.getHashedVoterToken());
+				areasToResync.add(event.getAreaId());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			pendingVoterTokens.remove(event.getHashedVoterToken());
+			areasToResync.add(event.getAreaId());
+		}
+	}
+
+	/** Periodically run the propagation worker */
+	@Scheduled(fixedDelayString = "${liquido.propagation.intervalMillis:1000}")
+	public void scheduledPropagation() {
+		processPendingChanges();
+	}
+
+	/**
+	 * Process pending delegation changes in batches. At most <pre>maxBatchesPerRun</pre> batches are processed.
+	 * Any remaining changes will be processed in the next run.
+	 * @return the number of processed delegation changes
+	 */
+	public synchronized int processPendingChanges() {
+		int processed = 0;
+		for (Long areaId : new ArrayList<>(areasToResync)) {
+			areasToResync.remove(areaId);
+			resyncArea(areaId);
+		}
+
+		List<DelegationChangedEvent> batch = new ArrayList<>();
+		for (int i = 0; i < props.propagation.maxBatchesPerRun; i++) {
+			if (queue.drainTo(batch, props.propagation.batchSize) == 0) break;
+			// Remove tokens before we propagate. New changes will then be queued again.
+			batch.forEach(event -> pendingVoterTokens.remove(event.getHashedVoterToken()));
+			try {
+				transactionTemplate.execute(status -> { propagateBatch(batch); return null; });
+			} catch (RuntimeException e) {
+				log.error("Cannot propagate batch of "+batch.size()+" delegation changes. Affected areas will be resynced.", e);
+				batch.forEach(event -> areasToResync.add(event.getAreaId()));
+			}
+			processed += batch.size();
+			batch.clear();
+		}
+		if (processed > 0) log.debug("Propagated "+processed+" delegation changes. Still pending: "+queue.size());
+		return processed;
+	}
+
+	/**
+	 * Propagate a batch of delegation changes. Open polls are only loaded once per area.
+	 * Must be called inside a transaction.
+	 * @param batch list of delegation changes
+	 */
+	private void propagateBatch(List<DelegationChangedEvent> batch) {
+		Map<Long, List<PollModel>> votingPollsByArea = new HashMap<>();
+		for (DelegationChangedEvent event : batch) {
+			List<PollModel> votingPolls = votingPollsByArea.computeIfAbsent(event.getAreaId(), this::findVotingPolls);
+			if (votingPolls.isEmpty()) continue;
+			Optional<RightToVoteModel> rightToVote = rightToVoteRepo.findByHashedVoterToken(event.getHashedVoterToken());
+			if (!rightToVote.isPresent()) continue;
+			for (PollModel poll : votingPolls) {
+				propagate(poll, rightToVote.get());
+			}
+		}
+	}
+
+	/**
+	 * Recalculate the delegated ballots of one voter in one poll.
+	 * @param poll a poll in voting
+	 * @param rightToVote a voter's rightToVote whose delegation has changed
+	 */
+	private void propagate(PollModel poll, RightToVoteModel rightToVote) {
+		Optional<BallotModel> ownBallot = ballotRepo.findByPollAndRightToVote(poll, rightToVote);
+		if (ownBallot.isPresent() && ownBallot.get().getLevel() == 0) return;   // voter voted for himself. His proxy does not matter.
+
+		long deleted = deleteDelegatedBallotsRec(poll, rightToVote);
+		if (deleted > 0) log.trace("Deleted "+deleted+" outdated delegated ballots in poll.id="+poll.getId());
+		counterService.addToNumBallots(poll, (int)-deleted);
+
+		if (rightToVote.getDelegatedTo() == null) return;
+		Optional<BallotModel> proxyBallot = ballotRepo.findByPollAndRightToVote(poll, rightToVote.getDelegatedTo());
+		if (!proxyBallot.isPresent()) return;
+		List<LawModel> voteOrder = new ArrayList<>(proxyBallot.get().getVoteOrder());
+		BallotModel childBallot = new BallotModel(poll, proxyBallot.get().getLevel() + 1, voteOrder, rightToVote);
+		try {
+			castVoteService.castVoteRec(childBallot);
+		} catch (LiquidoException e) {
+			log.warn("Cannot propagate delegated ballot in poll.id="+poll.getId()+": "+e.getMessage());
+		}
+	}
+
+	/**
+	 * Delete the delegated ballot of this rightToVote and recursively all delegated ballots below it.
+	 * Recursion stops at ballots with level 0, because voters that voted for themselves are not affected.
+	 * @return number of deleted ballots
+	 */
+	private long deleteDelegatedBallotsRec(PollModel poll, RightToVoteModel rightToVote) {
+		Optional<BallotModel> ballot = ballotRepo.findByPollAndRightToVote(poll, rightToVote);
+		if (!ballot.isPresent() || ballot.get().getLevel() == 0) return 0;
+		long deleted = 0;
+		for (RightToVoteModel delegee : rightToVoteRepo.findByDelegatedTo(rightToVote)) {
+			deleted += deleteDelegatedBallotsRec(poll, delegee);
+		}
+		ballotRepo.delete(ballot.get());
+		return deleted + 1;
+	}
+
+	/**
+	 * Completely recalculate all delegated ballots in all voting polls of an area.
+	 * This is the fallback when delegation changes had to be dropped.
+	 * Each poll is resynced in its own transaction.
+	 * @param areaId ID of an area
+	 */
+	public void resyncArea(Long areaId) {
+		log.info("Resync all delegated ballots in area.id="+areaId);
+		for (PollModel poll : findVotingPolls(areaId)) {
+			try {
+				transactionTemplate.execute(status -> { resyncPoll(poll); return null; });
+			} catch (RuntimeException e) {
+				log.error("Cannot resync delegated ballots in poll.id="+poll.getId(), e);
+			}
+		}
+	}
+
+	private void resyncPoll(PollModel poll) {
+		List<BallotModel> delegatedBallots = ballotRepo.findByPollAndLevelGreaterThan(poll, 0);
+		ballotRepo.deleteAll(delegatedBallots);
+		counterService.addToNumBallots(poll, -delegatedBallots.size());
+		for (BallotModel ownBallot : ballotRepo.findByPollAndLevel(poll, 0)) {
+			for (RightToVoteModel delegee : rightToVoteRepo.findByDelegatedTo(ownBallot.getRightToVote())) {
+				BallotModel childBallot = new BallotModel(poll, 1, new ArrayList<>(ownBallot.getVoteOrder()), delegee);
+				try {
+					castVoteService.castVoteRec(childBallot);
+				} catch (LiquidoException e) {
+					log.warn("Cannot resync delegated ballot in poll.id="+poll.getId()+": "+e.getMessage());
+				}
+			}
+		}
+	}
+
+	private List<PollModel> findVotingPolls(Long areaId) {
+		Optional<AreaModel> area = areaRepo.findById(areaId);
+		if (!area.isPresent()) return Collections.emptyList();
+		return pollRepo.findByStatusAndArea(PollModel.PollStatus.VOTING, area.get());
+	}
+
+}
@@ -0,0 +1,139 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.DelegationRepo;
+import org.doogie.liquido.datarepos.OneTimeTokenRepo;
+import org.doogie.liquido.datarepos.RightToVoteRepo;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.doogie.liquido.util.Lson;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Delete expired rows that would otherwise pile up forever:
+ * <ul>
+ *   <li>OneTimeTokens after their validUntil</li>
+ *   <li>Delegation requests that the proxy did not accept within <pre>liquido.sweeper.delegationRequestExpirationDays</pre></li>
+ *   <li>RightToVotes after their expiresAt, but only when nothing references them anymore</li>
+ * </ul>
+ *
+ * Each table is scanned in chunks of <pre>liquido.sweeper.chunkSize</pre> rows, ordered by primary key.
+ * The next chunk continues after the last key of the previous one (keyset scan). Each chunk is deleted in its own short transaction.
+ * So the sweeper never locks a large part of a table.
+ *
+ * Queries that validate tokens do not return expired rows in the first place. The sweeper only frees up space.
+ */
+@Slf4j
+@Service
+public class ExpirySweeperService {
+
+	@Autowired
+	OneTimeTokenRepo ottRepo;
+
+	@Autowired
+	DelegationRepo delegationRepo;
+
+	@Autowired
+	RightToVoteRepo rightToVoteRepo;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	LiquidoProperties props;
+
+	TransactionTemplate transactionTemplate;
+
+	/** number of deleted rows per table since startup */
+	private long deletedOneTimeTokens = 0;
+	private long deletedDelegationRequests = 0;
+	private long deletedRightToVotes = 0;
+	private LocalDateTime lastRun = null;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/** Periodically delete expired rows */
+	@Scheduled(cron = "${liquido.sweeper.cron:0 15 * * * *}")
+	public void scheduledSweep() {
+		if (!props.sweeper.enabled) return;
+		sweep();
+	}
+
+	/**
+	 * Delete all expired rows.
+	 * Delegation requests are deleted before rightToVotes, because a delegation request references the voter's rightToVote.
+	 * @return number of deleted rows per table
+	 */
+	public synchronized Lson sweep() {
+		LocalDateTime now = LocalDateTime.now();
+		long tokens = sweepChunks(0L,
+			(afterId, limit) -> ottRepo.findIdsOfExpiredTokens(now, afterId, limit),
+			ottRepo::deleteByIdIn);
+		LocalDateTime requestedBefore = now.minusDays(props.sweeper.delegationRequestExpirationDays);
+		long requests = sweepChunks(0L,
+			(afterId, limit) -> delegationRepo.findIdsOfExpiredDelegationRequests(requestedBefore, afterId, limit),
+			delegationRepo::deleteByIdIn);
+		long rightToVotes = sweepChunks("",
+			(afterKey, limit) -> rightToVoteRepo.findExpiredHashedVoterTokens(now, afterKey, limit),
+			rightToVoteRepo::deleteByHashedVoterTokenIn);
+
+		deletedOneTimeTokens += tokens;
+		deletedDelegationRequests += requests;
+		deletedRightToVotes += rightToVotes;
+		lastRun = now;
+		if (tokens + requests + rightToVotes > 0)
+			log.info("Deleted expired rows: " + tokens + " oneTimeTokens, " + requests + " delegation requests, " + rightToVotes + " rightToVotes");
+		return Lson.builder()
+			.put("oneTimeTokens", tokens)
+			.put("delegationRequests", requests)
+			.put("rightToVotes", rightToVotes);
+	}
+
+	/**
+	 * Keyset scan: Find a chunk of expired keys after the last key, delete them, continue after the last key of this chunk.
+	 * @param firstKey a key that is smaller than all keys
+	 * @param findChunk query for the next chunk of expired keys after the given key, in ascending order
+	 * @param deleteChunk bulk delete by keys
+	 * @return total number of deleted rows
+	 */
+	private <K> long sweepChunks(K firstKey, BiFunction<K, PageRequest, List<K>> findChunk, Function<List<K>, Integer> deleteChunk) {
+		PageRequest limit = PageRequest.of(0, props.sweeper.chunkSize);
+		K afterKey = firstKey;
+		long deleted = 0;
+		List<K> keys;
+		do {
+			keys = findChunk.apply(afterKey, limit);
+			if (keys.isEmpty()) break;
+			List<K> chunk = keys;
+			Integer count = transactionTemplate.execute(status -> deleteChunk.apply(chunk));
+			deleted += count == null ? 0 : count;
+			afterKey = keys.get(keys.size() - 1);
+		} while (keys.size() == props.sweeper.chunkSize);
+		return deleted;
+	}
+
+	/**
+	 * How many expired rows have been deleted since startup
+	 * @return JSON with number of deleted rows per table
+	 */
+	public synchronized Lson getStatistics() {
+		return Lson.builder()
+			.put("lastRun", lastRun == null ? null : lastRun.toString())
+			.put("oneTimeTokens", deletedOneTimeTokens)
+			.put("delegationRequests", deletedDelegationRequests)
+			.put("rightToVotes", deletedRightToVotes);
+	}
+}
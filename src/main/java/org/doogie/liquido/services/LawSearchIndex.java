@@ -0,0 +1,244 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.doogie.liquido.datarepos.LawRepo;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Full-text index for ideas, proposals and laws.
+ *
+ * An embedded Lucene index contains the title and description of every LawModel and the name and email of its creator.
+ * The search then is a lookup in this inverted index instead of a <pre>LIKE '%x%'</pre> full scan over the laws table.
+ * Every word of the search text must match one of the fields. Words also match as prefix, e.g. "vot" matches "voting".
+ * Results are ranked by relevance (BM25). Matches in the title count more than matches in the description.
+ *
+ * The index is stored in <pre>liquido.search.indexDir</pre> or in memory when no directory is configured.
+ * It is rebuilt from the DB on every startup and then kept up to date by {@link org.doogie.liquido.datarepos.LawEventHandler}
+ * and the services that save or delete laws. When there is a running transaction, then the index is updated after the commit.
+ */
+@Slf4j
+@Service
+public class LawSearchIndex {
+
+	static final String ID = "id";
+	static final String TITLE = "title";
+	static final String DESCRIPTION = "description";
+	static final String CREATOR_NAME = "creatorName";
+	static final String CREATOR_EMAIL = "creatorEmail";
+
+	/** searched fields and their boost */
+	static final Map<String, Float> FIELD_BOOSTS = Map.of(
+		TITLE, 3.0f,
+		DESCRIPTION, 1.0f,
+		CREATOR_NAME, 2.0f,
+		CREATOR_EMAIL, 1.0f
+	);
+
+	/** prefix matches rank below exact matches of a word */
+	static final float PREFIX_BOOST = 0.5f;
+
+	@Autowired
+	LawRepo lawRepo;
+
+	@Autowired
+	LiquidoProperties prop;
+
+	private final Analyzer analyzer = new StandardAnalyzer();
+	private Directory directory;
+	private IndexWriter writer;
+	private SearcherManager searcherManager;
+
+	/**
+	 * Open the index and fill it with all ideas, proposals and laws from the DB.
+	 * This runs once the application is ready, i.e. after the TestDataCreator.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void rebuildIndex() throws IOException {
+		if (writer == null) {
+			String indexDir = prop.getSearch().getIndexDir();
+			directory = indexDir == null || indexDir.isEmpty()
+				? new ByteBuffersDirectory()
+				: FSDirectory.open(Paths.get(indexDir));
+			writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+			searcherManager = new SearcherManager(writer, null);
+		}
+		long start = System.currentTimeMillis();
+		writer.deleteAll();
+		int count = 0;
+		for (LawModel law : lawRepo.findAll()) {
+			writer.addDocument(toDocument(law));
+			count++;
+		}
+		writer.commit();
+		searcherManager.maybeRefresh();
+		log.info("Rebuilt full-text search index with " + count + " laws in " + (System.currentTimeMillis() - start) + "ms");
+	}
+
+	@PreDestroy
+	public synchronized void close() throws IOException {
+		if (writer == null) return;
+		searcherManager.close();
+		writer.close();
+		directory.close();
+		writer = null;
+	}
+
+	/**
+	 * Add or replace a law in the index
+	 * @param law a saved idea, proposal or law
+	 */
+	public void update(LawModel law) {
+		if (law == null || law.getId() == null) return;
+		Document doc = toDocument(law);
+		afterCommit(() -> {
+			writer.updateDocument(new Term(ID, doc.get(ID)), doc);
+			commit();
+		});
+	}
+
+	/**
+	 * Remove a law from the index
+	 * @param law a deleted idea, proposal or law
+	 */
+	public void delete(LawModel law) {
+		if (law == null || law.getId() == null) return;
+		String id = String.valueOf(law.getId());
+		afterCommit(() -> {
+			writer.deleteDocuments(new Term(ID, id));
+			commit();
+		});
+	}
+
+	/**
+	 * Search for ideas, proposals and laws. Every word in searchText must match (or be a prefix of a word)
+	 * in the title, description, name or email of the creator.
+	 * @param searchText one or more words
+	 * @param maxHits maximum number of returned IDs
+	 * @return IDs of matching LawModels, best match first. Empty list if nothing matches.
+	 */
+	public List<Long> search(String searchText, int maxHits) {
+		List<String> words = analyze(searchText);
+		if (words.isEmpty() || searcherManager == null) return Collections.emptyList();
+
+		BooleanQuery.Builder query = new BooleanQuery.Builder();
+		for (String word : words) {
+			BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+			FIELD_BOOSTS.forEach((field, boost) -> {
+				wordQuery.add(new BoostQuery(new TermQuery(new Term(field, word)), boost), BooleanClause.Occur.SHOULD);
+				wordQuery.add(new BoostQuery(new PrefixQuery(new Term(field, word)), boost * PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+			});
+			query.add(wordQuery.build(), BooleanClause.Occur.MUST);
+		}
+
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				TopDocs topDocs = searcher.search(query.build(), maxHits);
+				List<Long> ids = new ArrayList<>();
+				for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+					ids.add(Long.valueOf(searcher.doc(scoreDoc.doc).get(ID)));
+				}
+				return ids;
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot search full-text index for '" + searchText + "'", e);
+		}
+	}
+
+	private Document toDocument(LawModel law) {
+		Document doc = new Document();
+		doc.add(new StringField(ID, String.valueOf(law.getId()), Field.Store.YES));
+		addText(doc, TITLE, law.getTitle());
+		addText(doc, DESCRIPTION, law.getDescription());
+		UserModel creator = law.getCreatedBy();
+		if (creator != null) {
+			addText(doc, CREATOR_NAME, creator.getName());
+			addText(doc, CREATOR_EMAIL, creator.getEmail());
+		}
+		return doc;
+	}
+
+	private void addText(Document doc, String field, String value) {
+		if (value != null) doc.add(new TextField(field, value, Field.Store.NO));
+	}
+
+	/** split searchText into lowercase words, exactly like the indexed fields */
+	private List<String> analyze(String searchText) {
+		List<String> words = new ArrayList<>();
+		if (searchText == null) return words;
+		try (TokenStream tokens = analyzer.tokenStream(TITLE, searchText)) {
+			CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+			tokens.reset();
+			while (tokens.incrementToken()) words.add(term.toString());
+			tokens.end();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot analyze search text '" + searchText + "'", e);
+		}
+		return words;
+	}
+
+	private interface IndexChange {
+		void run() throws IOException;
+	}
+
+	/** Run change after the current transaction has been committed, or right away if there is no transaction. */
+	private void afterCommit(IndexChange change) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					applyChange(change);
+				}
+			});
+		} else {
+			applyChange(change);
+		}
+	}
+
+	private synchronized void applyChange(IndexChange change) {
+		if (writer == null) return;    // index not yet built. It will be built from the DB on startup.
+		try {
+			change.run();
+		} catch (IOException e) {
+			log.error("Cannot update full-text search index", e);
+		}
+	}
+
+	private void commit() throws IOException {
+		writer.commit();
+		searcherManager.maybeRefresh();
+	}
+}
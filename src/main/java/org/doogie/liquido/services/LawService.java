@@ -11,13 +11,14 @@ import org.doogie.liquido.security.LiquidoAuditorAware;
 import org.doogie.liquido.testdata.LiquidoProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.criteria.Join;
-import javax.persistence.criteria.JoinType;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -49,6 +50,15 @@ public class LawService {
   @Autowired
   LiquidoProperties prop;
 
+  @Autowired
+  CounterService counterService;
+
+  @Autowired
+  LawSearchIndex lawSearchIndex;
+
+  @Autowired
+  KeysetQueries keysetQueries;
+
 
   /**
    * Check if a given idea is already supported by the currently logged in user.
@@ -73,13 +83,17 @@ public class LawService {
  * @param idea the idea to add to
  * @return the saved idea
  */
+  @Transactional
   public LawModel addSupporter(@NotNull UserModel supporter, @NotNull LawModel idea) throws LiquidoException {
     if (supporter == null || idea == null) throw new IllegalArgumentException("Need idea and supporter to addSupporter to idea!");
+    idea = lawRepo.findWithSupportersById(idea.getId())     // supporters are loaded lazily
+      .orElseThrow(LiquidoException.notFound("Cannot find idea(id="+idea.getId()+") to add a supporter."));
     if (idea.getCreatedBy().equals(supporter)) throw new LiquidoException(LiquidoException.Errors.CANNOT_ADD_SUPPORTER, "You cannot support your own idea.");
     if (idea.getSupporters().contains(supporter)) return idea;  // If user already supports this idea, then return idea as is.
     log.info("addSupporter: "+supporter.toStringShort()+" now supports "+idea);
     idea.getSupporters().add(supporter);
     idea = lawRepo.save(idea);
+    counterService.addToNumSupporters(idea, 1);
     idea = checkQuorum(idea);
     return idea;
   }
@@ -123,6 +137,7 @@ public class LawService {
    * @param max maximum number of proposals to return
    * @return most discussed proposals sorted by their number of recent comments
    */
+  @Transactional(readOnly = true)
   public List<LawModel> getRecentlyDiscussed(int max) {
     // Remark: There is also a lawRepo.getRecentlyDiscussed.  This method here could be elaborated to return "trending" proposals, whatever "trending" may mean.
     Map<Long, Long> numRecentComments = new HashMap<>();
@@ -150,6 +165,7 @@ public class LawService {
 
 
   // lovely duplicate metadata :-(     This could be created automatically by code generation. But that's overkill!
+  public static final String LAW_ID = "id";
   public static final String LAW_TITLE = "title";
   public static final String LAW_DESCRIPTION = "description"; // LawModel.class.getDeclaredFields()[0].getName();
   public static final String LAW_CREATED_BY = "createdBy";
@@ -211,25 +227,22 @@ public class LawService {
   These are now provided by Spring when using Specification.
   */
 
+  /** matches LawModels whose ID is contained in the passed list of IDs */
+  public static Specification<LawModel> matchesIds(List<Long> ids) {
+    return (Specification<LawModel>) (law, query, builder) -> law.get(LAW_ID).in(ids);
+  }
+
   /**
-   * This free text search tries to match as much as possible. This specification matches if searchText is contained in
-   * proposal's title or description or email of creator or name of creator. It also matches case insensitive.
-   * @param searchText any string that may be contained in one of the fields.
-   * @return a specification that matches LawModels or null if searchText is null.
+   * This free text search tries to match as much as possible. Every word of searchText must be contained (or be the prefix of a word)
+   * in proposal's title or description or email of creator or name of creator. It also matches case insensitive.
+   * The words are looked up in the {@link LawSearchIndex}. So this does not need a full table scan.
+   * @param searchText one or more words that may be contained in one of the fields.
+   * @return a specification that matches LawModels or null if searchText is empty.
    */
-  public static Specification<LawModel> freeTextSearch(String searchText) {
-    return (Specification<LawModel>) (law, query, cb) -> {
-      if (searchText == null || searchText.length() == 0) return null;
-      String pattern = "%"+searchText.toLowerCase()+"%";
-      Join<LawModel, UserModel> creatorJoin = law.join(LAW_CREATED_BY, JoinType.LEFT);
-
-      return cb.or(
-        cb.like(cb.lower(law.get(LAW_TITLE)), pattern),
-        cb.like(cb.lower(law.get(LAW_DESCRIPTION)), pattern),
-        cb.like(cb.lower(creatorJoin.get(USER_EMAIL)), pattern),
-        cb.like(cb.lower(creatorJoin.get(USER_NAME)), pattern)
-      );
-    };
+  public Specification<LawModel> freeTextSearch(String searchText) {
+    if (searchText == null || searchText.trim().length() == 0) return null;
+    List<Long> ids = lawSearchIndex.search(searchText, prop.getSearch().getMaxHits());
+    return ids.isEmpty() ? matchesNothing() : matchesIds(ids);
   }
 
   /** This Specification returns a Predicate that never matches anything. */
@@ -247,6 +260,15 @@ public class LawService {
    * @return a Specification that matches this set of query parameters.
    */
   public Specification<LawModel> matchesQuery(LawQuery lawQuery) {
+    return matchesQuery(lawQuery, null);
+  }
+
+  /**
+   * @param lawQuery the query parameters for the search
+   * @param searchHits IDs from the search index for lawQuery.searchText, when the caller has already searched for it. Null otherwise.
+   * @return a Specification that matches this set of query parameters.
+   */
+  private Specification<LawModel> matchesQuery(LawQuery lawQuery, List<Long> searchHits) {
     List<Specification<LawModel>> specs = new ArrayList<>();
 
     // created by
@@ -269,9 +291,12 @@ public class LawService {
     );
 
     // free text search
-    lawQuery.getSearchText().ifPresent(searchText ->
-      specs.add(freeTextSearch(searchText))
-    );
+    if (searchHits != null) {
+      specs.add(searchHits.isEmpty() ? matchesNothing() : matchesIds(searchHits));
+    } else if (lawQuery.getSearchText().isPresent()) {
+      Specification<LawModel> freeTextSpec = freeTextSearch(lawQuery.getSearchText().get());
+      if (freeTextSpec != null) specs.add(freeTextSpec);
+    }
 
     // area title
     if (lawQuery.getAreaTitle().isPresent()) {
@@ -308,20 +333,69 @@ public class LawService {
   /**
    * Sever side search for ideas, proposals and laws. With advanced paging and filter capabilities.
    * This can for example be used to create an data table with automatic data fetching.
+   * When there is a search text and no explicit sort order, then the result is ranked by relevance, best match first.
    * @param lawQuery search criteria for LawModels
    * @return list of LawModels that match the given query
    */
+  @Transactional(readOnly = true)
   public Page<LawModel> findBySearchQuery(LawQuery lawQuery) {
     // Build a a spring-data-jpa Specification from lawQuery
     // Create an OffsetLimitPageable from the offset and limit data in lawQuery
     // Then find all matching LawModels from the Repo
-    Specification<LawModel> spec = matchesQuery(lawQuery);
+    boolean rankByRelevance = lawQuery.getSortByProperties().size() == 0 &&
+      lawQuery.getSearchText().isPresent() && lawQuery.getSearchText().get().trim().length() > 0;
     OffsetLimitPageable pageable = lawQuery.getSortByProperties().size() == 0
       ? new OffsetLimitPageable(lawQuery.getOffset(), lawQuery.getLimit())
       : new OffsetLimitPageable(lawQuery.getOffset(), lawQuery.getLimit(), Sort.by(lawQuery.getDirection(), lawQuery.getSortByPropertiesAsStringArray()));
-    return lawRepo.findAll(spec, pageable);
+    if (rankByRelevance) return findRankedBySearchText(lawQuery, pageable);
+    return lawRepo.findAll(matchesQuery(lawQuery), pageable);
 
     // Remark: There are extra searches, e.g. for recently discussed proposals in LawRepo
   }
+
+  /** LawModel properties that can be used as sort key for keyset pagination. None of them may be null. */
+  public static final Set<String> KEYSET_SORT_PROPERTIES = Set.of(LAW_ID, LAW_TITLE, LAW_STATUS, LAW_CREATED_AT, LAW_UPDATED_AT, "numSupporters", "numComments");
+
+  /**
+   * Server side search for ideas, proposals and laws with keyset pagination.
+   * Like {@link #findBySearchQuery(LawQuery)}, but each slice continues after lawQuery.cursor instead of skipping offset rows.
+   * This does not count the total number of matches. Results are sorted by at most one property and then by ID.
+   * Without a sort property they are sorted by ID. (Not by relevance of the search text.)
+   * @param lawQuery search criteria for LawModels with cursor
+   * @return a slice of matching LawModels. Use {@link KeysetCursor#nextCursor(Slice)} to get the cursor for the next slice.
+   * @throws LiquidoException INVALID_PARAMETER when the sort property cannot be used for keyset pagination or the cursor is invalid
+   */
+  @Transactional(readOnly = true)
+  public Slice<LawModel> findSliceBySearchQuery(LawQuery lawQuery) throws LiquidoException {
+    List<String> sortProps = lawQuery.getSortByProperties();
+    String sortProperty = sortProps.size() == 0 ? LAW_ID : sortProps.get(0);
+    if (sortProps.size() > 1 || !KEYSET_SORT_PROPERTIES.contains(sortProperty))
+      throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "Paging with a cursor can only sort by one of "+KEYSET_SORT_PROPERTIES);
+    if (lawQuery.getLimit() < 1) throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "limit must be positive");
+
+    Slice<Long> ids = keysetQueries.findIds(LawModel.class, matchesQuery(lawQuery),
+      new Sort.Order(lawQuery.getDirection(), sortProperty), lawQuery.getCursor().orElse(null), (int)lawQuery.getLimit());
+    return KeysetQueries.toSlice(ids, lawRepo.findAllById(ids.getContent()));
+  }
+
+  /**
+   * The DB cannot sort by the relevance from the search index. So the index is searched once (at most liquido.search.maxHits),
+   * the DB only returns the IDs of the hits that also match the other criteria, and the page is cut from the ranked IDs.
+   * Then only the LawModels of this page are loaded.
+   */
+  private Page<LawModel> findRankedBySearchText(LawQuery lawQuery, OffsetLimitPageable pageable) {
+    List<Long> rankedIds = lawSearchIndex.search(lawQuery.getSearchText().get(), prop.getSearch().getMaxHits());
+    if (rankedIds.isEmpty()) return new PageImpl<>(Collections.emptyList(), pageable, 0);
+    Set<Long> matchingIds = new HashSet<>(keysetQueries.findAllIds(LawModel.class, matchesQuery(lawQuery, rankedIds)));
+    List<Long> matches = rankedIds.stream().filter(matchingIds::contains).collect(Collectors.toList());
+    int from = (int)Math.min(pageable.getOffset(), matches.size());
+    int to   = (int)Math.min(pageable.getOffset() + pageable.getLimit(), matches.size());
+    List<Long> pageIds = matches.subList(from, to);
+
+    Map<Long, LawModel> lawsById = new HashMap<>();
+    lawRepo.findAllById(pageIds).forEach(law -> lawsById.put(law.getId(), law));
+    List<LawModel> page = pageIds.stream().map(lawsById::get).filter(Objects::nonNull).collect(Collectors.toList());
+    return new PageImpl<>(page, pageable, matches.size());
+  }
 }
 
@@ -72,6 +72,7 @@ public class LiquidoException extends Exception {
 		INVALID_POLL_STATUS(62, HttpStatus.BAD_REQUEST),
 		PUBLIC_CHECKSUM_NOT_FOUND(63, HttpStatus.NOT_FOUND),
 		CANNOT_ADD_SUPPORTER(64, HttpStatus.BAD_REQUEST),							// e.g. when user tries to support his own proposal
+		INVALID_PARAMETER(65, HttpStatus.BAD_REQUEST),								// e.g. a paging limit that is out of range
 
 		CANNOT_CALCULATE_UNIQUE_RANKED_PAIR_WINNER(70, HttpStatus.INTERNAL_SERVER_ERROR),		// this is only used in the exceptional situation, that no unique winner can be calculated in RankedPairVoting
 		CANNOT_VERIFY_CHECKSUM(80, HttpStatus.NOT_FOUND),							// ballot's checksum could not be verified
@@ -80,7 +81,8 @@ public class LiquidoException extends Exception {
 		GRAPHQL_ERROR(400, HttpStatus.BAD_REQUEST),											// e.g. missing required fields, invalid GraphQL query, ...
 		UNAUTHORIZED(401, HttpStatus.UNAUTHORIZED),          					  // when client tries to call something without being authenticated!
 		CANNOT_FIND_ENTITY(404, HttpStatus.NOT_FOUND),   								// 404: cannot find entity
-		INTERNAL_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR);
+		INTERNAL_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR),
+		SERVICE_UNAVAILABLE(503, HttpStatus.SERVICE_UNAVAILABLE);						// e.g. too many GraphQL requests are queued or a request timed out. Client may try again later.
 
 		int liquidoErrorCode;
 		HttpStatus httpResponseStatus;
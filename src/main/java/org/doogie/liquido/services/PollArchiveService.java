@@ -0,0 +1,416 @@
+package org.doogie.liquido.services;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.BallotRepo;
+import org.doogie.liquido.datarepos.LawRepo;
+import org.doogie.liquido.datarepos.PollArchiveRepo;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.datarepos.RightToVoteRepo;
+import org.doogie.liquido.model.*;
+import org.doogie.liquido.services.scheduler.SchedulerLeaseService;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.io.*;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archive the ballots of old finished polls.
+ *
+ * The ballots and ballots_vote_order tables would otherwise grow forever. Most of their rows are delegated ballots
+ * of long finished polls. They bloat the indexes that casting a vote depends on.
+ *
+ * A scheduled job compresses all ballots of a poll that has been finished for <pre>liquido.archive.afterDays</pre>
+ * into one {@link PollArchiveModel} and then deletes the ballot rows in bulk.
+ * For each ballot the archive contains its checksum, hashedVoterToken, level and the IDs of the proposals in its voteOrder.
+ * Everything that is needed to recalculate and verify the ballot's checksum.
+ * The ballots are streamed from the DB through a temporary file into the archive. So a poll with millions of ballots
+ * does not need to fit into memory. With more than one backend node only the node that holds the {@link #LEASE_NAME} lease archives polls.
+ *
+ * The PollService reads the archive when a voter verifies a ballot or looks up his own ballot in an archived poll.
+ * Archives never change. So decoded archives are cached, indexed by checksum and by hashedVoterToken.
+ */
+@Slf4j
+@Service
+public class PollArchiveService {
+
+	/** version of the binary format of archived ballots */
+	static final int FORMAT_VERSION = 1;
+
+	/** name of the lease in {@link SchedulerLeaseService} */
+	public static final String LEASE_NAME = "pollArchival";
+
+	/** number of rows that the JDBC driver fetches at once while ballots are streamed into the archive */
+	static final int FETCH_SIZE = 1000;
+
+	static final String COUNT_BALLOTS = "SELECT COUNT(*) FROM ballots WHERE poll_id = ?";
+
+	/** All rows of one ballot are consecutive and its proposals are in voteOrder */
+	static final String SELECT_BALLOTS_WITH_VOTE_ORDER =
+		"SELECT b.id, b.checksum, b.hashed_voter_token, b.level, vo.vote_order_id FROM ballots b " +
+		"JOIN ballots_vote_order vo ON vo.ballot_model_id = b.id WHERE b.poll_id = ? ORDER BY b.id, vo.law_model_order";
+
+	static final String INSERT_ARCHIVE = "INSERT INTO poll_archives (poll_id, num_ballots, ballots, archived_at) VALUES (?, ?, ?, ?)";
+
+	@Autowired
+	PollRepo pollRepo;
+
+	@Autowired
+	PollArchiveRepo pollArchiveRepo;
+
+	@Autowired
+	BallotRepo ballotRepo;
+
+	@Autowired
+	LawRepo lawRepo;
+
+	@Autowired
+	RightToVoteRepo rightToVoteRepo;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	SchedulerLeaseService leaseService;
+
+	@Autowired
+	LiquidoProperties props;
+
+	TransactionTemplate transactionTemplate;
+
+	/** same DataSource (and transaction) as jdbcTemplate, but fetches large results in chunks */
+	JdbcTemplate streamingJdbcTemplate;
+
+	/** decoded archives by poll.id, least recently used first. Guarded by its own monitor. */
+	private final LinkedHashMap<Long, DecodedArchive> decodedArchives = new LinkedHashMap<>(16, 0.75f, true);
+	private long numCachedBallots = 0;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+		streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+	}
+
+	/** Periodically archive old finished polls, if this node is the leader */
+	@Scheduled(cron = "${liquido.archive.cron:0 30 3 * * *}")
+	public void scheduledArchival() {
+		if (!leaseService.acquire(LEASE_NAME)) return;
+		archiveFinishedPolls(() -> leaseService.acquire(LEASE_NAME));   // renew the lease before each poll
+	}
+
+	/**
+	 * Archive the ballots of all polls that have been finished for more than <pre>liquido.archive.afterDays</pre>.
+	 * Each poll is archived in its own transaction.
+	 * @return the number of archived polls
+	 */
+	public int archiveFinishedPolls() {
+		return archiveFinishedPolls(() -> true);
+	}
+
+	/**
+	 * @param mayContinue checked before each poll. Archival stops when this returns false, e.g. when this node has lost its lease.
+	 * @return the number of archived polls
+	 */
+	private synchronized int archiveFinishedPolls(BooleanSupplier mayContinue) {
+		LocalDateTime before = LocalDateTime.now().minusDays(props.archive.afterDays);
+		List<Long> pollIds = pollRepo.findIdsOfPollsToArchive(PollModel.PollStatus.FINISHED, before);
+		int archived = 0;
+		for (Long pollId : pollIds) {
+			if (!mayContinue.getAsBoolean()) {
+				log.warn("Lost lease '" + LEASE_NAME + "'. Stopped archiving after " + archived + " of " + pollIds.size() + " polls");
+				break;
+			}
+			try {
+				transactionTemplate.execute(status -> {
+					PollModel poll = pollRepo.findById(pollId).orElseThrow(() -> new IllegalStateException("Poll.id=" + pollId + " not found"));
+					try {
+						return archivePoll(poll);
+					} catch (LiquidoException e) {
+						throw new IllegalStateException(e);
+					}
+				});
+				archived++;
+			} catch (RuntimeException e) {
+				log.error("Cannot archive ballots of poll.id=" + pollId, e);
+			}
+		}
+		if (archived > 0) log.info("Archived the ballots of " + archived + " finished polls");
+		return archived;
+	}
+
+	/**
+	 * Compress all ballots of a finished poll into one archive and delete them from the ballots tables.
+	 * @param poll a poll in status FINISHED
+	 * @return the number of archived ballots
+	 * @throws LiquidoException when poll is not yet finished or has already been archived
+	 */
+	@Transactional
+	public int archivePoll(@NonNull PollModel poll) throws LiquidoException {
+		if (!PollModel.PollStatus.FINISHED.equals(poll.getStatus()))
+			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Cannot archive poll.id=" + poll.getId() + ". Poll must be FINISHED.");
+		if (pollArchiveRepo.existsById(poll.getId()))
+			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Poll.id=" + poll.getId() + " is already archived.");
+
+		// A finished poll does not receive any more ballots. So the count stays valid while we stream them.
+		int numBallots = jdbcTemplate.queryForObject(COUNT_BALLOTS, Integer.class, poll.getId());
+		File file = null;
+		try {
+			file = File.createTempFile("liquido-poll-" + poll.getId() + "-", ".archive");
+			try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file))))) {
+				encode(poll.getId(), numBallots, out);
+			}
+			long length = file.length();
+			try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+				jdbcTemplate.update(INSERT_ARCHIVE, ps -> {
+					ps.setLong(1, poll.getId());
+					ps.setInt(2, numBallots);
+					ps.setBinaryStream(3, in, length);
+					ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+				});
+			}
+
+			// Bulk delete via SQL. Deleting every ballot through hibernate would need one statement per ballot and per voteOrder.
+			jdbcTemplate.update("DELETE FROM ballots_vote_order WHERE ballot_model_id IN (SELECT id FROM ballots WHERE poll_id = ?)", poll.getId());
+			jdbcTemplate.update("DELETE FROM ballots WHERE poll_id = ?", poll.getId());
+			log.info("Archived " + numBallots + " ballots of poll.id=" + poll.getId() + " into " + length + " bytes");
+			return numBallots;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot archive ballots of poll.id=" + poll.getId(), e);
+		} finally {
+			if (file != null && !file.delete()) log.warn("Cannot delete temporary file " + file);
+		}
+	}
+
+	/**
+	 * Get the archive of a poll
+	 * @param poll any poll
+	 * @return the archived ballots of this poll or Optional.empty() if the poll is not archived
+	 */
+	public Optional<PollArchiveModel> findArchive(@NonNull PollModel poll) {
+		if (!PollModel.PollStatus.FINISHED.equals(poll.getStatus()) || poll.getId() == null) return Optional.empty();
+		return pollArchiveRepo.findById(poll.getId());
+	}
+
+	/**
+	 * Find an archived ballot by its checksum
+	 * @param archive archive of poll
+	 * @param poll the archived poll
+	 * @param checksum checksum of a ballot
+	 * @return the verified ballot or Optional.empty() if there is no ballot with that checksum
+	 */
+	public Optional<BallotModel> findBallotByChecksum(PollArchiveModel archive, PollModel poll, String checksum) {
+		return findBallot(decode(archive).byChecksum.get(checksum), poll);
+	}
+
+	/**
+	 * Find the archived ballot that was casted with this right to vote
+	 * @param archive archive of poll
+	 * @param poll the archived poll
+	 * @param rightToVote a voter's right to vote
+	 * @return the verified ballot or Optional.empty() if there is no ballot for this right to vote
+	 */
+	public Optional<BallotModel> findBallotByRightToVote(PollArchiveModel archive, PollModel poll, RightToVoteModel rightToVote) {
+		return findBallot(decode(archive).byHashedVoterToken.get(rightToVote.getHashedVoterToken()), poll);
+	}
+
+	/**
+	 * Delete the archive of a poll, e.g. when the poll is deleted.
+	 * @param poll any poll
+	 */
+	public void deleteArchive(@NonNull PollModel poll) {
+		if (poll.getId() != null && pollArchiveRepo.existsById(poll.getId())) pollArchiveRepo.deleteById(poll.getId());
+		synchronized (decodedArchives) {
+			DecodedArchive removed = decodedArchives.remove(poll.getId());
+			if (removed != null) numCachedBallots -= removed.numBallots;
+		}
+	}
+
+	// ============= Binary format ========
+
+	/** One ballot in the archive */
+	private static class ArchivedBallot {
+		String checksum;
+		String hashedVoterToken;
+		int level;
+		List<Long> proposalIds;
+	}
+
+	/** All ballots of one archive, indexed for lookups */
+	private static class DecodedArchive {
+		final int numBallots;
+		final Map<String, ArchivedBallot> byChecksum;
+		final Map<String, ArchivedBallot> byHashedVoterToken;
+
+		DecodedArchive(int numBallots) {
+			this.numBallots = numBallots;
+			this.byChecksum = new HashMap<>(numBallots * 4 / 3 + 1);
+			this.byHashedVoterToken = new HashMap<>(numBallots * 4 / 3 + 1);
+		}
+	}
+
+	/**
+	 * Stream the ballots of a poll from the DB into a gzipped binary stream:
+	 * <pre>version, numBallots, [checksum, hashedVoterToken, level, numProposals, [proposalId]*]*</pre>
+	 * Only one ballot at a time is kept in memory.
+	 * @param numBallots the number of ballots of this poll
+	 */
+	void encode(Long pollId, int numBallots, DataOutputStream out) throws IOException {
+		out.writeInt(FORMAT_VERSION);
+		out.writeInt(numBallots);
+		BallotWriter writer = new BallotWriter(out);
+		try {
+			streamingJdbcTemplate.query(SELECT_BALLOTS_WITH_VOTE_ORDER, writer, pollId);
+			writer.flush();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		if (writer.numWritten != numBallots)
+			throw new IllegalStateException("Expected " + numBallots + " ballots of poll.id=" + pollId + ", but archived " + writer.numWritten);
+	}
+
+	/** Collects the rows of one ballot and writes it when the next ballot starts */
+	private static class BallotWriter implements RowCallbackHandler {
+		final DataOutputStream out;
+		Long ballotId = null;
+		ArchivedBallot ballot = null;
+		int numWritten = 0;
+
+		BallotWriter(DataOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			long id = rs.getLong("id");
+			if (ballotId == null || ballotId != id) {
+				flush();
+				ballotId = id;
+				ballot = new ArchivedBallot();
+				ballot.checksum = rs.getString("checksum");
+				ballot.hashedVoterToken = rs.getString("hashed_voter_token");
+				ballot.level = rs.getInt("level");
+				ballot.proposalIds = new ArrayList<>();
+			}
+			ballot.proposalIds.add(rs.getLong("vote_order_id"));
+		}
+
+		void flush() {
+			if (ballot == null) return;
+			try {
+				out.writeUTF(ballot.checksum);
+				out.writeUTF(ballot.hashedVoterToken);
+				out.writeInt(ballot.level);
+				out.writeInt(ballot.proposalIds.size());
+				for (Long proposalId : ballot.proposalIds) {
+					out.writeLong(proposalId);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			numWritten++;
+			ballot = null;
+		}
+	}
+
+	/**
+	 * Decode all ballots of an archive. Recently used archives are cached up to <pre>liquido.archive.maxCachedBallots</pre>.
+	 * Larger archives are decoded on every call.
+	 */
+	private DecodedArchive decode(PollArchiveModel archive) {
+		synchronized (decodedArchives) {
+			DecodedArchive cached = decodedArchives.get(archive.getPollId());
+			if (cached != null) return cached;
+		}
+		DecodedArchive decoded = readArchive(archive);   // outside of the lock. Two threads may decode the same archive once.
+		if (decoded.numBallots <= props.archive.maxCachedBallots) {
+			synchronized (decodedArchives) {
+				DecodedArchive previous = decodedArchives.put(archive.getPollId(), decoded);
+				numCachedBallots += decoded.numBallots - (previous != null ? previous.numBallots : 0);
+				Iterator<DecodedArchive> leastRecentlyUsed = decodedArchives.values().iterator();
+				while (numCachedBallots > props.archive.maxCachedBallots && leastRecentlyUsed.hasNext()) {
+					numCachedBallots -= leastRecentlyUsed.next().numBallots;
+					leastRecentlyUsed.remove();
+				}
+			}
+		}
+		return decoded;
+	}
+
+	/** Read all archived ballots */
+	private DecodedArchive readArchive(PollArchiveModel archive) {
+		try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(archive.getBallots())))) {
+			int version = in.readInt();
+			if (version != FORMAT_VERSION) throw new IllegalStateException("Unknown format version " + version + " of archive of poll.id=" + archive.getPollId());
+			int numBallots = in.readInt();
+			DecodedArchive decoded = new DecodedArchive(numBallots);
+			for (int i = 0; i < numBallots; i++) {
+				ArchivedBallot entry = new ArchivedBallot();
+				entry.checksum = in.readUTF();
+				entry.hashedVoterToken = in.readUTF();
+				entry.level = in.readInt();
+				int numProposals = in.readInt();
+				entry.proposalIds = new ArrayList<>(numProposals);
+				for (int j = 0; j < numProposals; j++) {
+					entry.proposalIds.add(in.readLong());
+				}
+				decoded.byChecksum.put(entry.checksum, entry);
+				decoded.byHashedVoterToken.put(entry.hashedVoterToken, entry);
+			}
+			return decoded;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot read archive of poll.id=" + archive.getPollId(), e);
+		}
+	}
+
+	/**
+	 * Rebuild an archived ballot and verify its checksum.
+	 * The returned BallotModel is not persisted. It has no ID.
+	 */
+	private Optional<BallotModel> findBallot(ArchivedBallot entry, PollModel poll) {
+		if (entry == null) return Optional.empty();
+
+		Map<Long, LawModel> proposals = new HashMap<>();
+		poll.getProposals().forEach(proposal -> proposals.put(proposal.getId(), proposal));
+		List<LawModel> voteOrder = new ArrayList<>();
+		for (Long proposalId : entry.proposalIds) {
+			LawModel proposal = proposals.get(proposalId);
+			if (proposal == null) proposal = lawRepo.findById(proposalId).orElse(null);
+			if (proposal == null) {
+				log.warn("Proposal.id=" + proposalId + " of archived ballot in poll.id=" + poll.getId() + " does not exist anymore");
+				return Optional.empty();
+			}
+			voteOrder.add(proposal);
+		}
+		String hashedVoterToken = entry.hashedVoterToken;
+		RightToVoteModel rightToVote = rightToVoteRepo.findByHashedVoterToken(hashedVoterToken)
+			.orElseGet(() -> new RightToVoteModel(hashedVoterToken, poll.getArea()));   // rightToVote may have expired in the meantime
+
+		BallotModel ballot = new BallotModel(poll, entry.level, voteOrder, rightToVote);
+		ballot.calcMD5Checksum();
+		if (!ballot.getChecksum().equals(entry.checksum)) {
+			log.error("Archived ballot in poll.id=" + poll.getId() + " does not match its checksum!");
+			return Optional.empty();
+		}
+		return Optional.of(ballot);
+	}
+}
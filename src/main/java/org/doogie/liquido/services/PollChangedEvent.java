@@ -0,0 +1,17 @@
+package org.doogie.liquido.services;
+
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Spring application event that is published whenever the status or the number of ballots of a poll has changed.
+ * It is consumed by the {@link PollUpdatesService}, which pushes the new state of the poll to GraphQL subscribers.
+ *
+ * Like the {@link DelegationChangedEvent} this only contains the ID. The current state is read from the DB later.
+ */
+@Data
+public class PollChangedEvent {
+	/** ID of the poll that has changed */
+	@NonNull
+	Long pollId;
+}
@@ -1,34 +1,41 @@
 package org.doogie.liquido.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.doogie.liquido.datarepos.*;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.model.*;
-import org.doogie.liquido.services.scheduler.FinishPollJob;
+import org.doogie.liquido.services.scheduler.PollDeadlineScheduler;
 import org.doogie.liquido.services.voting.RankedPairVoting;
 import org.doogie.liquido.testdata.LiquidoProperties;
+import org.doogie.liquido.util.LiquidoRestUtils;
 import org.doogie.liquido.util.Lson;
 import org.doogie.liquido.util.Matrix;
-import org.quartz.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
-import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
-import java.util.Date;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.TriggerBuilder.newTrigger;
-
 /**
  * This spring component implements the business logic for {@link org.doogie.liquido.model.PollModel}
  * I am trying to keep the Models as dumb as possible.
@@ -44,12 +51,18 @@ public class PollService {
   @Autowired
   PollRepo pollRepo;
 
+  @Autowired
+  PollStatusService pollStatusService;
+
   @Autowired
 	DelegationRepo delegationRepo;
 
   @Autowired
   LawRepo lawRepo;
 
+  @Autowired
+  LawSearchIndex lawSearchIndex;
+
   @Autowired
 	BallotRepo ballotRepo;
 
@@ -59,6 +72,67 @@ public class PollService {
   @Autowired
 	CastVoteService castVoteService;
 
+	@Autowired
+	KeysetQueries keysetQueries;
+
+	@Autowired
+	PollArchiveService pollArchiveService;
+
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	PollResultRepo pollResultRepo;
+
+	@Autowired
+	LiquidoRestUtils restUtils;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/** Polls are paged by their creation date, newest first */
+	public static final Sort.Order POLLS_SORT_ORDER = Sort.Order.desc("createdAt");
+
+
+	/**
+	 * Find polls with keyset pagination, newest first. All filter criteria are optional.
+	 * @param status only polls in this status
+	 * @param area only polls in this area
+	 * @param team only polls of this team
+	 * @param cursor "nextCursor" of the previous slice. Null or empty for the first slice.
+	 * @param limit max number of polls in the slice. Clamped to liquido.paging.maxLimit
+	 * @return slice of polls with their proposals. Use {@link KeysetCursor#nextCursor(Slice)} for the next slice.
+	 * @throws LiquidoException INVALID_PARAMETER when cursor is invalid
+	 */
+	@Transactional(readOnly = true)
+	public Slice<PollModel> findPolls(Optional<PollModel.PollStatus> status, Optional<AreaModel> area, Optional<TeamModel> team, String cursor, int limit) throws LiquidoException {
+		if (limit < 1) throw new LiquidoException(LiquidoException.Errors.INVALID_PARAMETER, "limit must be positive");
+		limit = clampLimit(limit);
+		Specification<PollModel> spec = (poll, query, cb) -> cb.and(
+			status.map(s -> cb.equal(poll.get("status"), s)).orElse(cb.conjunction()),
+			area.map(a -> cb.equal(poll.get("area"), a)).orElse(cb.conjunction()),
+			team.map(t -> cb.equal(poll.get("team"), t)).orElse(cb.conjunction())
+		);
+		Slice<Long> ids = keysetQueries.findIds(PollModel.class, spec, POLLS_SORT_ORDER, cursor, limit);
+		if (ids.getContent().isEmpty()) return KeysetQueries.toSlice(ids, Collections.emptyList());
+		return KeysetQueries.toSlice(ids, pollRepo.findAllWithProposalsByIdIn(ids.getContent()));
+	}
+
+	/**
+	 * A client must not be able to request an unbounded page of polls.
+	 * @param limit the limit that the client requested
+	 * @return limit, but at most liquido.paging.maxLimit
+	 */
+	public int clampLimit(int limit) {
+		return Math.min(limit, prop.getPaging().getMaxLimit());
+	}
 
 	/**
 	 * Create a new poll. Then proposals can be added to this poll.
@@ -157,7 +231,14 @@ public class PollService {
     proposal.setStatus(LawModel.LawStatus.ELABORATION);
     poll.getProposals().add(proposal);
     proposal.setPoll(poll);
-    return pollRepo.save(poll);
+    PollModel savedPoll = pollRepo.save(poll);
+
+    // A new proposal is merged into a copy when the poll is saved. Put that saved copy (with its ID) into the full-text search index.
+    savedPoll.getProposals().stream()
+      .filter(prop -> prop.getTitle().equals(proposal.getTitle()))
+      .findFirst()
+      .ifPresent(lawSearchIndex::update);
+    return savedPoll;
   }
 
   /**
@@ -173,6 +254,8 @@ public class PollService {
       throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, "Poll(id="+poll.id+") must be in status ELABORATION");
     if (poll.getProposals().size() < 2)
       throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, "Poll(id="+poll.id+") must have at least two alternative proposals");
+    if (!pollStatusService.compareAndSetStatus(poll.getId(), PollModel.PollStatus.ELABORATION, PollModel.PollStatus.VOTING))
+      throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, "Poll(id="+poll.id+") has already been started.");
 
     for (LawModel proposal : poll.getProposals()) {
       proposal.setStatus(LawModel.LawStatus.VOTING);
@@ -183,61 +266,40 @@ public class PollService {
     poll.setVotingEndAt(votingStart.truncatedTo(ChronoUnit.DAYS).plusDays(prop.durationOfVotingPhase));     //voting ends in n days at midnight
 		pollRepo.save(poll);
 
-		//----- schedule a Quartz Job that will finish the voting phase at poll.votingEndAt() date
-	  try {
-			Date votingEndAtDate = Date.from(poll.getVotingEndAt().atZone(ZoneId.systemDefault()).toInstant());
-			scheduleJobToFinishPoll(poll, votingEndAtDate);
-	  } catch (SchedulerException e) {
-	  	String msg = "Cannot start voting phase, because of scheduler error";
-		  log.error(msg, e);
-		  throw new LiquidoException(LiquidoException.Errors.CANNOT_START_VOTING_PHASE, msg, e);
-	  }
-
+		pollDeadlineScheduler.schedule(poll);   // voting phase will be finished at poll.votingEndAt
+		eventPublisher.publishEvent(new PollChangedEvent(poll.getId()));
 	  return poll;
   }
 
-  /** An auto-configured spring bean that gives us access to the Quartz scheduler */
-  @Autowired
-	SchedulerFactoryBean schedulerFactoryBean;
-
-  /**
-	 * Schedule a Quartz job that will end the voting phase of this poll
-	 * @param poll a poll in voting phase
-	 * @throws SchedulerException when job cannot be scheduled
+	/**
+	 * Start the voting phase of several polls at once, e.g. all polls whose votingStartAt has been reached.
+	 * Polls and their proposals are updated with one bulk SQL statement each. See {@link PollStatusService}
+	 * Polls that are not in ELABORATION anymore are skipped, e.g. because another node or an admin has already started them.
+	 * Only the polls that have actually been started here get a deadline and their proposals are set to VOTING.
+	 * All these polls end at the same midnight. Their deadline is registered in the {@link PollDeadlineScheduler}.
+	 * The caller must make sure that each poll has at least two proposals. See {@link PollRepo#findIdsOfPollsToStart}
+	 * @param pollIds IDs of polls in elaboration
+	 * @return number of polls whose voting phase has been started
 	 */
-	private void scheduleJobToFinishPoll(@NonNull PollModel poll, Date votingEndAtDate) throws SchedulerException {
-		JobKey finishPollJobKey = new JobKey("finishVoting_pollId="+poll.getId(), "finishPollJobGroup");
-
-		JobDetail jobDetail = newJob(FinishPollJob.class)
-				.withIdentity(finishPollJobKey)
-				.withDescription("Finish voting phase of poll.id="+poll.getId())
-				.usingJobData("poll.id", poll.getId())
-				.storeDurably()
-				.build();
-
-		Trigger trigger = newTrigger()
-				.withIdentity("finishVotingTrigger_poll.id="+poll.getId(), "finishPollTriggerGroup")
-				.withDescription("Finish voting phase of poll.id="+poll.getId())
-				.startAt(votingEndAtDate )
-				.withSchedule(SimpleScheduleBuilder.simpleSchedule()
-						.withRepeatCount(0)
-						.withIntervalInMinutes(1)
-						.withMisfireHandlingInstructionFireNow()		// If backend was down at the time when the Job would have been scheduled, then fire the job immidiately when the app is back up
-				)
-				.build();
-
-		try {
-			//Scheduler scheduler = StdSchedulerFactory.getDefaultScheduler();
-			Scheduler scheduler =  schedulerFactoryBean.getScheduler();
-			if (!scheduler.isStarted())
-				log.warn("Quartz job scheduler is not started. It should be started!");
-			scheduler.scheduleJob(jobDetail, trigger);
-		} catch (SchedulerException e) {
-			log.error("Cannot schedule task to finish poll.", e);
-			throw e;
-		}
+	@Transactional
+	public int startVotingPhase(@NonNull Collection<Long> pollIds) {
+		if (pollIds.isEmpty()) return 0;
+		LocalDateTime votingStart = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);   // is compared with the stored value. Same precision in every DB.
+		LocalDateTime votingEnd = votingStart.truncatedTo(ChronoUnit.DAYS).plusDays(prop.durationOfVotingPhase);
+		List<Long> startedIds = pollStatusService.updateStatusAndVotingDates(pollIds, PollModel.PollStatus.ELABORATION, PollModel.PollStatus.VOTING, votingStart, votingEnd);
+		if (startedIds.isEmpty()) return 0;
+		pollStatusService.updateStatusOfProposalsInPolls(startedIds, PollModel.PollStatus.VOTING, LawModel.LawStatus.VOTING);   // our polls stay locked until the commit
+		startedIds.forEach(pollId -> {
+			pollDeadlineScheduler.schedule(pollId, votingEnd);
+			eventPublisher.publishEvent(new PollChangedEvent(pollId));
+		});
+		log.info("Started voting phase of " + startedIds.size() + " polls. Voting ends at " + votingEnd);
+		return startedIds.size();
 	}
 
+  @Autowired
+	PollDeadlineScheduler pollDeadlineScheduler;
+
 	/**
 	 * Finish the voting phase of a poll and calculate the winning proposal.
 	 * @param poll A poll in voting phase
@@ -249,6 +311,9 @@ public class PollService {
 		log.debug("finishVotingPhase(poll.id="+poll.getId()+")");
     if (!PollModel.PollStatus.VOTING.equals(poll.getStatus()))
       throw new LiquidoException(LiquidoException.Errors.CANNOT_FINISH_POLL, "Cannot finishVotingPhase: Poll must be in status VOTING.");
+    // The poll object may be stale. Another node may have finished it in the meantime. Then do not tally it again.
+    if (!pollStatusService.compareAndSetStatus(poll.getId(), PollModel.PollStatus.VOTING, PollModel.PollStatus.FINISHED))
+      throw new LiquidoException(LiquidoException.Errors.CANNOT_FINISH_POLL, "Cannot finishVotingPhase: Poll(id="+poll.getId()+") has already been finished.");
 
     poll.setStatus(PollModel.PollStatus.FINISHED);
 		poll.setVotingEndAt(LocalDateTime.now());
@@ -266,6 +331,8 @@ public class PollService {
 			lawRepo.save(winningProposal);
 		}
 		pollRepo.save(poll);
+		pollResultRepo.save(renderPollResult(poll));
+		eventPublisher.publishEvent(new PollChangedEvent(poll.getId()));
     return winningProposal;
   }
 
@@ -311,20 +378,68 @@ public class PollService {
 	}
 
 
+  /**
+   * The result of a finished poll. It only contains values that are frozen when the poll is finished.
+   * The winner is a law that still changes, e.g. its numSupporters and numComments. So only its id and title are included.
+   * Clients can load the full winner from /laws/{id}.
+   * @param poll a finished poll
+   * @return JSON with winner.id, winner.title, numBallots and duelMatrix
+   */
+  @Transactional(readOnly = true)
   public Lson calcPollResults(PollModel poll) {
-	  Long ballotCount = ballotRepo.countByPoll(poll);
+	  long ballotCount = getNumCastedBallots(poll);
+	  LawModel winner = poll.getWinner();
 		return Lson.builder()
-				.put("winner", poll.getWinner())
+				.put("winner", winner == null ? null : Lson.builder()
+					.put("id", winner.getId())
+					.put("title", winner.getTitle()))
 				.put("numBallots", ballotCount)
 				.put("duelMatrix", poll.getDuelMatrix());
 	}
 
 	/**
-	 * Get the number of already casted ballots of a currently running poll in VOTING.
-	 * @param poll a poll in VOTING
-	 * @return the number of casted ballots.
+	 * The result of a finished poll never changes. So it is rendered only once, in {@link #finishVotingPhase(PollModel)}.
+	 * Polls that were finished before their results were stored are rendered on the first request.
+	 *
+	 * @param poll a finished poll
+	 * @return the pre-rendered result of this poll
+	 * @throws LiquidoException INVALID_POLL_STATUS when poll is not FINISHED
+	 */
+	public PollResultModel getPollResult(@NonNull PollModel poll) throws LiquidoException {
+		if (!PollModel.PollStatus.FINISHED.equals(poll.getStatus()))
+			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Poll.id="+poll.getId()+" is not in status FINISHED");
+		Optional<PollResultModel> result = pollResultRepo.findById(poll.getId());
+		if (result.isPresent()) return result.get();
+		try {
+			return transactionTemplate.execute(status -> pollResultRepo.save(renderPollResult(poll)));
+		} catch (DataIntegrityViolationException e) {
+			// Another request has just rendered it.
+			return pollResultRepo.findById(poll.getId()).orElseThrow(() -> e);
+		}
+	}
+
+	/**
+	 * Serialize the result of a finished poll, in exactly the same JSON format as our other REST responses, but without indentation.
+	 * @param poll a finished poll
+	 * @return the rendered result. Not yet saved.
+	 */
+	private PollResultModel renderPollResult(PollModel poll) {
+		try {
+			byte[] json = restUtils.getRestObjectMapper().writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(calcPollResults(poll));
+			return new PollResultModel(poll.getId(), json, DigestUtils.md5Hex(json));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Cannot render result of poll(id="+poll.getId()+"): "+e, e);
+		}
+	}
+
+	/**
+	 * Get the number of already casted ballots of a poll in VOTING or FINISHED.
+	 * @param poll a poll in VOTING or FINISHED
+	 * @return the number of casted ballots. Also for archived polls.
 	 */
 	public long getNumCastedBallots(PollModel poll) {
+		Optional<PollArchiveModel> archive = pollArchiveService.findArchive(poll);
+		if (archive.isPresent()) return archive.get().getNumBallots();
 		return ballotRepo.countByPoll(poll);
 	}
 
@@ -337,10 +452,13 @@ public class PollService {
 	 * @return (optionally) the ballot of voter in that poll or Optional.empty() if there is not ballot for that voterToken in that poll
 	 * @thows LiquidoException when poll is in status elaboration or voterToken is invalid.
 	 */
+	@Transactional(readOnly = true)
 	public Optional<BallotModel> getBallotForVoterToken(PollModel poll, String voterToken) throws LiquidoException {
 		if (PollModel.PollStatus.ELABORATION.equals(poll.getStatus()))
 			throw new LiquidoException(LiquidoException.Errors.INVALID_POLL_STATUS, "Cannot get ballot of poll in ELABORATION");
 		RightToVoteModel rightToVote = castVoteService.isVoterTokenValid(voterToken);
+		Optional<PollArchiveModel> archive = pollArchiveService.findArchive(poll);
+		if (archive.isPresent()) return pollArchiveService.findBallotByRightToVote(archive.get(), poll, rightToVote);
 		Optional<BallotModel> ballot = ballotRepo.findByPollAndRightToVote(poll, rightToVote);
 		return ballot;
 	}
@@ -355,7 +473,10 @@ public class PollService {
 	 * @param checksum a ballot's checksum as returned by /castVote
 	 * @return The ballot when checksum is correct or Optional.emtpy() if no ballot with that checksum could be found.
 	 */
+	@Transactional(readOnly = true)
 	public Optional<BallotModel> getBallotForChecksum(@NotNull PollModel poll, String checksum) {
+		Optional<PollArchiveModel> archive = pollArchiveService.findArchive(poll);
+		if (archive.isPresent()) return pollArchiveService.findBallotByChecksum(archive.get(), poll, checksum);
 		return ballotRepo.findByPollAndChecksum(poll, checksum);
 	}
 
@@ -460,6 +581,7 @@ public class PollService {
 			prop.setPoll(null);
 			if (deleteProposals) {
 				lawRepo.delete(prop);
+				lawSearchIndex.delete(prop);
 			} else {
 				lawRepo.save(prop);
 			}
@@ -469,6 +591,8 @@ public class PollService {
 		for (BallotModel ballot : ballotRepo.findByPoll(poll)) {
 			ballotRepo.delete(ballot);
 		}
+		pollArchiveService.deleteArchive(poll);
+		pollResultRepo.findById(poll.getId()).ifPresent(pollResultRepo::delete);
 
 		// Delete the poll
 		pollRepo.delete(poll);
@@ -0,0 +1,115 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.model.PollModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Status transitions of polls and their proposals that must be atomic across several backend nodes.
+ *
+ * These updates only change the status if the poll is still in the expected status (compare-and-set).
+ * The updated rows stay locked until the transaction commits. So concurrent transitions on other nodes wait and then update nothing.
+ *
+ * Like in the {@link CounterService} the SQL runs directly via JDBC in the current transaction.
+ * A JPQL bulk update would invalidate the whole PollModel or LawModel region in the second level cache and the query cache,
+ * on every start and finish of a poll. Instead only the changed entities are evicted after the commit.
+ *
+ * Statuses are stored by their ordinal.
+ */
+@Slf4j
+@Service
+public class PollStatusService {
+
+	public static final String COMPARE_AND_SET_POLL_STATUS =
+		"UPDATE polls SET status = :toStatus, updated_at = CURRENT_TIMESTAMP WHERE id = :id AND status = :fromStatus";
+
+	public static final String UPDATE_POLL_STATUS_AND_VOTING_DATES =
+		"UPDATE polls SET status = :toStatus, voting_start_at = :votingStartAt, voting_end_at = :votingEndAt, updated_at = CURRENT_TIMESTAMP " +
+		"WHERE id IN (:ids) AND status = :fromStatus";
+
+	public static final String FIND_POLL_IDS_WITH_VOTING_START =
+		"SELECT id FROM polls WHERE id IN (:ids) AND status = :status AND voting_start_at = :votingStartAt";
+
+	public static final String FIND_PROPOSAL_IDS_IN_POLLS =
+		"SELECT law.id FROM laws law JOIN polls poll ON law.poll_id = poll.id WHERE poll.id IN (:pollIds) AND poll.status = :pollStatus";
+
+	public static final String UPDATE_LAW_STATUS =
+		"UPDATE laws SET status = :status, updated_at = CURRENT_TIMESTAMP WHERE id IN (:ids)";
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbc;
+
+	@Autowired
+	CacheService cacheService;
+
+	/**
+	 * Compare-and-set the status of a poll. The status only changes if the poll is still in the expected status.
+	 * @param pollId ID of a poll
+	 * @param fromStatus expected current status
+	 * @param toStatus new status
+	 * @return true if the status has been changed, false if the poll was not in fromStatus (anymore)
+	 */
+	public boolean compareAndSetStatus(Long pollId, PollModel.PollStatus fromStatus, PollModel.PollStatus toStatus) {
+		int updated = jdbc.update(COMPARE_AND_SET_POLL_STATUS, new MapSqlParameterSource()
+			.addValue("id", pollId)
+			.addValue("fromStatus", fromStatus.ordinal())
+			.addValue("toStatus", toStatus.ordinal()));
+		if (updated > 0) cacheService.evict(PollModel.class, List.of(pollId));
+		return updated > 0;
+	}
+
+	/**
+	 * Bulk update: Set the status and the voting dates of several polls with one statement.
+	 * Only polls that are still in the given fromStatus are updated.
+	 * See {@link PollService#startVotingPhase(Collection)}
+	 * @param pollIds IDs of polls (must not be empty)
+	 * @param votingStartAt must be unique for this update, because it is used to find the updated polls.
+	 * @return IDs of the updated polls. Polls that were not in fromStatus (anymore) are not contained.
+	 */
+	public List<Long> updateStatusAndVotingDates(Collection<Long> pollIds, PollModel.PollStatus fromStatus, PollModel.PollStatus toStatus,
+	                                             LocalDateTime votingStartAt, LocalDateTime votingEndAt) {
+		int updated = jdbc.update(UPDATE_POLL_STATUS_AND_VOTING_DATES, new MapSqlParameterSource()
+			.addValue("ids", pollIds)
+			.addValue("fromStatus", fromStatus.ordinal())
+			.addValue("toStatus", toStatus.ordinal())
+			.addValue("votingStartAt", Timestamp.valueOf(votingStartAt))
+			.addValue("votingEndAt", Timestamp.valueOf(votingEndAt)));
+		if (updated == 0) return Collections.emptyList();
+		// Our rows are locked until the commit. So they still have exactly the values that we have just set.
+		List<Long> updatedIds = jdbc.queryForList(FIND_POLL_IDS_WITH_VOTING_START, new MapSqlParameterSource()
+			.addValue("ids", pollIds)
+			.addValue("status", toStatus.ordinal())
+			.addValue("votingStartAt", Timestamp.valueOf(votingStartAt)), Long.class);
+		cacheService.evict(PollModel.class, updatedIds);
+		return updatedIds;
+	}
+
+	/**
+	 * Bulk update: Set the status of all proposals in these polls.
+	 * @param pollIds IDs of polls (must not be empty)
+	 * @param pollStatus only update proposals in polls that are (still) in this status, e.g. VOTING
+	 * @param status new status of the proposals, e.g. VOTING
+	 * @return number of updated proposals
+	 */
+	public int updateStatusOfProposalsInPolls(Collection<Long> pollIds, PollModel.PollStatus pollStatus, LawModel.LawStatus status) {
+		List<Long> proposalIds = jdbc.queryForList(FIND_PROPOSAL_IDS_IN_POLLS, new MapSqlParameterSource()
+			.addValue("pollIds", pollIds)
+			.addValue("pollStatus", pollStatus.ordinal()), Long.class);
+		if (proposalIds.isEmpty()) return 0;
+		int updated = jdbc.update(UPDATE_LAW_STATUS, new MapSqlParameterSource()
+			.addValue("ids", proposalIds)
+			.addValue("status", status.ordinal()));
+		cacheService.evict(LawModel.class, proposalIds);
+		return updated;
+	}
+}
@@ -0,0 +1,175 @@
+package org.doogie.liquido.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.datasource.ReadWriteRoutingDataSource;
+import org.doogie.liquido.model.PollModel;
+import org.doogie.liquido.rest.dto.PollUpdate;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Push the status and the number of ballots of polls to GraphQL subscribers. See <pre>pollUpdates</pre> in PollsGraphQL
+ *
+ * Every <pre>liquido.subscriptions.intervalMillis</pre> the current state of all subscribed polls is loaded with one query
+ * (per {@link #BATCH_SIZE} polls) and pushed to their subscribers. So a poll that receives hundreds of ballots per second
+ * still only causes one update per interval. Polls are reloaded from the DB, because ballots may also be casted and polls
+ * may also be finished on other backend nodes. A subscriber only receives an update when the state of its poll has changed.
+ *
+ * Each subscription only keeps the latest update. When a client cannot keep up, it skips the older states of its poll.
+ * When a poll is FINISHED, the subscription is completed. A finished poll does not change anymore.
+ */
+@Slf4j
+@Service
+public class PollUpdatesService {
+
+	/** max number of polls that are loaded in one query */
+	static final int BATCH_SIZE = 500;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	/** subscriptions by poll.id */
+	private final Map<Long, Set<PollSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+	/** IDs of polls that have changed on this node or that have new subscribers since the last push */
+	private final Set<Long> changedPolls = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Subscribe to the changes of a poll. The current state of the poll is pushed with the next interval.
+	 * The caller must check that the user may see this poll.
+	 * @param pollId ID of a poll
+	 * @return publisher of updates of this poll
+	 */
+	public Publisher<PollUpdate> subscribe(Long pollId) {
+		return subscriber -> {
+			PollSubscription subscription = new PollSubscription(pollId, subscriber);
+			// Add inside the atomic compute. Otherwise a concurrent remove() could drop the set before we add to it.
+			subscriptions.compute(pollId, (id, set) -> {
+				if (set == null) set = ConcurrentHashMap.newKeySet();
+				set.add(subscription);
+				return set;
+			});
+			subscriber.onSubscribe(subscription);
+			changedPolls.add(pollId);
+		};
+	}
+
+	/**
+	 * Remember a changed poll. This is called after the transaction has been committed, so that we will read the new state.
+	 * @param event the changed poll
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onPollChanged(PollChangedEvent event) {
+		if (subscriptions.containsKey(event.getPollId())) changedPolls.add(event.getPollId());
+	}
+
+	/**
+	 * Push the current state of all subscribed polls to their subscribers.
+	 * Reads from the primary DB and not from a lagging read replica. Otherwise a subscriber could receive an older state after a newer one.
+	 */
+	@Scheduled(fixedDelayString = "${liquido.subscriptions.intervalMillis:1000}")
+	@Transactional(readOnly = true)
+	public void pushUpdates() {
+		changedPolls.addAll(subscriptions.keySet());
+		if (changedPolls.isEmpty()) return;
+		List<Long> pollIds = new ArrayList<>(changedPolls);
+		changedPolls.removeAll(pollIds);   // a change after this line will be pushed with the next interval
+
+		ReadWriteRoutingDataSource.onPrimary(() -> {
+			for (int i = 0; i < pollIds.size(); i += BATCH_SIZE) {
+				List<Long> batch = pollIds.subList(i, Math.min(i + BATCH_SIZE, pollIds.size()));
+				for (PollUpdate update : pollRepo.findPollUpdates(batch)) {
+					Set<PollSubscription> pollSubscriptions = subscriptions.get(update.getPollId());
+					if (pollSubscriptions == null) continue;
+					for (PollSubscription subscription : pollSubscriptions) {
+						subscription.offer(update, update.getStatus() == PollModel.PollStatus.FINISHED);
+					}
+				}
+			}
+		});
+	}
+
+	/** @return number of open subscriptions over all polls */
+	public int getNumSubscriptions() {
+		return subscriptions.values().stream().mapToInt(Set::size).sum();
+	}
+
+	private void remove(PollSubscription subscription) {
+		subscriptions.computeIfPresent(subscription.pollId, (id, set) -> {
+			set.remove(subscription);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/**
+	 * One subscriber of one poll. Only keeps the latest update until the subscriber requests it.
+	 */
+	class PollSubscription implements Subscription {
+		final Long pollId;
+		final Subscriber<? super PollUpdate> subscriber;
+		PollUpdate latest = null;
+		/** last update that was offered to this subscription. Unchanged states are not pushed again. */
+		PollUpdate lastOffered = null;
+		long demand = 0;
+		boolean completeWhenSent = false;
+		boolean done = false;
+
+		PollSubscription(Long pollId, Subscriber<? super PollUpdate> subscriber) {
+			this.pollId = pollId;
+			this.subscriber = subscriber;
+		}
+
+		synchronized void offer(PollUpdate update, boolean isLast) {
+			if (done || update.equals(lastOffered)) return;
+			lastOffered = update;
+			latest = update;
+			completeWhenSent = isLast;
+			drain();
+		}
+
+		@Override
+		public synchronized void request(long n) {
+			if (done) return;
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Must request a positive number of updates"));   // reactive streams rule 3.9
+				return;
+			}
+			demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			drain();
+		}
+
+		@Override
+		public synchronized void cancel() {
+			done = true;
+			latest = null;
+			remove(this);
+		}
+
+		private void drain() {
+			while (!done && demand > 0 && latest != null) {
+				PollUpdate next = latest;
+				latest = null;
+				demand--;
+				subscriber.onNext(next);   // may call request() again
+			}
+			if (!done && latest == null && completeWhenSent) {
+				cancel();
+				subscriber.onComplete();
+			}
+		}
+	}
+}
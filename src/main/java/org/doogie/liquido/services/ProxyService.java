@@ -7,7 +7,9 @@ import org.doogie.liquido.model.DelegationModel;
 import org.doogie.liquido.model.RightToVoteModel;
 import org.doogie.liquido.model.UserModel;
 import org.doogie.liquido.security.LiquidoAuditorAware;
+import org.doogie.liquido.testdata.LiquidoProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -60,6 +62,12 @@ public class ProxyService {
 	@Autowired
 	LiquidoAuditorAware liquidoAuditorAware;
 
+	@Autowired
+	ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	LiquidoProperties props;
+
 	/**
 	 * Get all users that could be assigned as a proxy in this area.
 	 * Assignable proxies are all users, except the current user, his already assigned proxy (if any) or
@@ -162,8 +170,8 @@ public class ProxyService {
 			rightToVote.setDelegatedTo(proxyRightToVote.get());
 
 			// Remark:
-			// Theoretically there could be some polls that are currently open for voting and fromUser did not vote in them yet, but his new proxy already did.
-			// LIQUIDO will not automatically create delegated ballots for these polls here. Only future votes of his proxy will also be counted for fromUser.
+			// There may be polls that are currently open for voting, where the new proxy already voted.
+			// The DelegationPropagationService will asynchronously (re)cast delegated ballots for fromUser in these polls.
 			// Of course fromUser may ALWAYS vote for himself in ANY poll.
 
 			log.info("assignProxy: Proxy assigned "+delegation);
@@ -184,6 +192,7 @@ public class ProxyService {
 		//----- save delegation and checksum
 		delegationRepo.save(delegation);						// Spring's #save method will automatically detect if delegation is new, depending on its ID field.
 		rightToVoteRepo.save(rightToVote);
+		eventPublisher.publishEvent(new DelegationChangedEvent(area.getId(), rightToVote.getHashedVoterToken()));
 		return delegation;
 
 	}
@@ -258,8 +267,15 @@ public class ProxyService {
 		return delegationRepo.findAcceptedDelegations(area, proxy);
 	}
 
+	/**
+	 * Pending delegation requests to this proxy. Requests expire after <pre>liquido.sweeper.delegationRequestExpirationDays</pre>
+	 * @param area area of the delegations
+	 * @param proxy a proxy
+	 * @return the delegation requests that have not yet expired
+	 */
 	public List<DelegationModel> findDelegationRequests(AreaModel area, UserModel proxy) {
-		return delegationRepo.findDelegationRequests(area, proxy);
+		LocalDateTime requestedAfter = LocalDateTime.now().minusDays(props.sweeper.delegationRequestExpirationDays);
+		return delegationRepo.findDelegationRequests(area, proxy, requestedAfter);
 	}
 
 	/**
@@ -321,7 +337,7 @@ public class ProxyService {
 	@Transactional
 	public long acceptDelegationRequests(AreaModel area, UserModel proxy, String proxyVoterToken) throws LiquidoException {
 		log.debug("=> accept delegation requests for proxy "+proxy.toStringShort()+" in area.id="+area.getId());
-		List<DelegationModel> delegationRequests = delegationRepo.findDelegationRequests(area, proxy);
+		List<DelegationModel> delegationRequests = this.findDelegationRequests(area, proxy);
 		Optional<RightToVoteModel> proxyChecksum = Optional.of(castVoteService.isVoterTokenValid(proxyVoterToken));
 		for(DelegationModel delegation: delegationRequests) {
 			log.trace("Accepting delegation request from "+delegation.getFromUser()+" to proxy "+delegation.getToProxy());
@@ -372,6 +388,7 @@ public class ProxyService {
 		if (rightToVoteModel != null) {
 			rightToVoteModel.setDelegatedTo(null);
 			rightToVoteRepo.save(rightToVoteModel);
+			eventPublisher.publishEvent(new DelegationChangedEvent(area.getId(), rightToVoteModel.getHashedVoterToken()));
 		}
 
 		//----- delete the DelegationModel
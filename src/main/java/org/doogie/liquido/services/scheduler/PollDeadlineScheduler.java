@@ -0,0 +1,246 @@
+package org.doogie.liquido.services.scheduler;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.model.PollModel;
+import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.services.PollService;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.doogie.liquido.util.Lson;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Starts and finishes the voting phase of polls when their deadlines have passed.
+ *
+ * Polls in elaboration may have a votingStartAt. Due polls are started in batches with bulk updates.
+ * See {@link #startDuePolls()}
+ *
+ * The voting phase of every poll ends at midnight. So at midnight a lot of polls are due at the same time.
+ * Polls are grouped by their deadline into the buckets of a "deadline wheel": a sorted map of deadline -&gt; poll IDs.
+ * A scheduled tick takes all buckets that are due and finishes these polls on a bounded pool of worker threads,
+ * by default one per CPU core. Each poll is tallied in its own transaction.
+ *
+ * The wheel is only kept in memory. The persistent state is the poll itself: status VOTING and its votingEndAt.
+ * On startup all polls in VOTING are put into the wheel. Polls that became due while the backend was down
+ * are finished with the first tick.
+ *
+ * With more than one backend node only the node that holds the {@link #LEASE_NAME} lease starts and finishes polls.
+ * Polls may have been started on any node. So the leader also queries the DB for due polls on every tick.
+ * PollService changes the status of a poll with compare-and-set. A poll can never be finished (and tallied) twice.
+ *
+ * The tally latency of every poll is logged and aggregated. See {@link #getStatistics()}
+ */
+@Slf4j
+@Service
+public class PollDeadlineScheduler {
+
+	/** name of the lease in {@link SchedulerLeaseService} */
+	public static final String LEASE_NAME = "pollDeadlines";
+
+	@Autowired
+	PollService pollService;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	SchedulerLeaseService leaseService;
+
+	@Autowired
+	LiquidoProperties props;
+
+	/** deadline -&gt; IDs of polls whose voting phase ends at that time */
+	private final ConcurrentSkipListMap<LocalDateTime, Set<Long>> wheel = new ConcurrentSkipListMap<>();
+
+	private ExecutorService workers;
+	private TransactionTemplate transactionTemplate;
+
+	// tally latency statistics. Workers update them while finishDuePolls() holds the monitor of this scheduler.
+	private final Object statisticsLock = new Object();
+	private long numFinishedPolls = 0;
+	private long sumTallyMillis = 0;
+	private long maxTallyMillis = 0;
+	private long lastTallyMillis = 0;
+
+	@PostConstruct
+	public void init() {
+		int numWorkers = props.deadlines.workers > 0 ? props.deadlines.workers : Runtime.getRuntime().availableProcessors();
+		workers = Executors.newFixedThreadPool(numWorkers, new CustomizableThreadFactory("finish-poll-"));
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Catch up after a restart: Put all polls that are in their voting phase into the wheel.
+	 * This runs once the application is ready, i.e. after the TestDataCreator.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void scheduleAllPollsInVoting() {
+		if (!props.deadlines.enabled) return;
+		List<PollModel> pollsInVoting = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		pollsInVoting.forEach(this::schedule);
+		log.info("Scheduled the end of the voting phase of " + pollsInVoting.size() + " polls");
+	}
+
+	/**
+	 * Finish the voting phase of this poll at poll.votingEndAt. Scheduling a poll again is harmless.
+	 * @param poll a poll in voting
+	 */
+	public void schedule(@NonNull PollModel poll) {
+		if (poll.getId() == null || poll.getVotingEndAt() == null) return;
+		schedule(poll.getId(), poll.getVotingEndAt());
+	}
+
+	/**
+	 * Finish the voting phase of a poll at the given deadline
+	 * @param pollId ID of a poll in voting
+	 * @param votingEndAt the poll's votingEndAt
+	 */
+	public void schedule(@NonNull Long pollId, @NonNull LocalDateTime votingEndAt) {
+		wheel.computeIfAbsent(votingEndAt, deadline -> ConcurrentHashMap.newKeySet()).add(pollId);
+	}
+
+	/** Periodically start and finish due polls, if this node is the leader */
+	@Scheduled(fixedDelayString = "${liquido.deadlines.tickMillis:10000}")
+	public void tick() {
+		if (!props.deadlines.enabled || !leaseService.acquire(LEASE_NAME)) return;
+		startDuePolls();
+		pollRepo.findIdsOfDuePolls(PollModel.PollStatus.VOTING, LocalDateTime.now())
+			.forEach(pollId -> schedule(pollId, LocalDateTime.now()));   // polls that have been started on other nodes
+		finishDuePolls();
+	}
+
+	/**
+	 * Start the voting phase of all polls in elaboration whose votingStartAt has passed.
+	 * Due polls are found with one query. Then each batch of polls is started in one transaction
+	 * with one bulk update for the polls and one for their proposals. See {@link PollService#startVotingPhase(Collection)}
+	 * @return number of started polls
+	 */
+	public synchronized int startDuePolls() {
+		List<Long> duePollIds = pollRepo.findIdsOfPollsToStart(PollModel.PollStatus.ELABORATION, LocalDateTime.now());
+		int started = 0;
+		for (int i = 0; i < duePollIds.size(); i += props.deadlines.batchSize) {
+			List<Long> batch = duePollIds.subList(i, Math.min(i + props.deadlines.batchSize, duePollIds.size()));
+			try {
+				started += transactionTemplate.execute(status -> pollService.startVotingPhase(batch));
+			} catch (RuntimeException e) {
+				log.error("Cannot start voting phase of polls " + batch, e);
+			}
+		}
+		return started;
+	}
+
+	/**
+	 * Finish the voting phase of all polls whose deadline has passed. Polls are tallied in parallel.
+	 * Returns when all of them are finished.
+	 * @return number of finished polls
+	 */
+	public synchronized int finishDuePolls() {
+		LocalDateTime now = LocalDateTime.now();
+		Set<Long> duePollIds = new LinkedHashSet<>();
+		Map.Entry<LocalDateTime, Set<Long>> bucket;
+		while ((bucket = wheel.firstEntry()) != null && !bucket.getKey().isAfter(now)) {
+			duePollIds.addAll(wheel.remove(bucket.getKey()));
+		}
+		if (duePollIds.isEmpty()) return 0;
+
+		log.info("Finishing the voting phase of " + duePollIds.size() + " due polls");
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		duePollIds.forEach(pollId -> tasks.add(() -> finishPoll(pollId)));
+		int finished = 0;
+		try {
+			for (Future<Boolean> result : workers.invokeAll(tasks)) {
+				try {
+					if (result.get()) finished++;
+				} catch (ExecutionException e) {
+					log.error("Cannot finish voting phase of poll", e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return finished;
+	}
+
+	/**
+	 * Tally one poll in its own transaction.
+	 * @return true if the poll has been finished. False if the poll was deleted, is already finished (also by another node) or not yet due.
+	 */
+	private boolean finishPoll(Long pollId) {
+		long start = System.currentTimeMillis();
+		Boolean finished = transactionTemplate.execute(status -> {
+			Optional<PollModel> poll = pollRepo.findById(pollId);
+			if (!poll.isPresent() || !PollModel.PollStatus.VOTING.equals(poll.get().getStatus())) return false;
+			if (poll.get().getVotingEndAt().isAfter(LocalDateTime.now())) {
+				schedule(poll.get());   // deadline has been moved
+				return false;
+			}
+			try {
+				pollService.finishVotingPhase(poll.get());
+			} catch (LiquidoException e) {
+				// Another node or request has finished this poll in the meantime. That is the expected race, not an error.
+				if (LiquidoException.Errors.CANNOT_FINISH_POLL.equals(e.getError())) {
+					log.debug("Poll.id=" + pollId + " has already been finished by someone else: " + e.getMessage());
+					return false;
+				}
+				throw new IllegalStateException("Cannot finish voting phase of poll.id=" + pollId, e);
+			}
+			long lateSeconds = ChronoUnit.SECONDS.between(poll.get().getVotingEndAt(), LocalDateTime.now());
+			log.info("Finished voting phase of poll.id=" + pollId + " " + lateSeconds + "s after its deadline");
+			return true;
+		});
+		if (!Boolean.TRUE.equals(finished)) return false;
+		long tallyMillis = System.currentTimeMillis() - start;
+		log.info("Tally of poll.id=" + pollId + " took " + tallyMillis + "ms");
+		recordTallyLatency(tallyMillis);
+		return true;
+	}
+
+	private void recordTallyLatency(long tallyMillis) {
+		synchronized (statisticsLock) {
+			numFinishedPolls++;
+			sumTallyMillis += tallyMillis;
+			maxTallyMillis = Math.max(maxTallyMillis, tallyMillis);
+			lastTallyMillis = tallyMillis;
+		}
+	}
+
+	/**
+	 * Tally latencies of the polls that have been finished by this scheduler since startup
+	 * @return JSON with number of finished and pending polls and average, max and last tally latency
+	 */
+	public Lson getStatistics() {
+		Map.Entry<LocalDateTime, Set<Long>> next = wheel.firstEntry();
+		synchronized (statisticsLock) {
+			return Lson.builder()
+				.put("pendingPolls", wheel.values().stream().mapToInt(Set::size).sum())
+				.put("nextDeadline", next == null ? null : next.getKey().toString())
+				.put("finishedPolls", numFinishedPolls)
+				.put("avgTallyMillis", numFinishedPolls == 0 ? 0 : sumTallyMillis / numFinishedPolls)
+				.put("maxTallyMillis", maxTallyMillis)
+				.put("lastTallyMillis", lastTallyMillis);
+		}
+	}
+}
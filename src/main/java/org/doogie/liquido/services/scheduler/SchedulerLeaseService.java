@@ -0,0 +1,139 @@
+package org.doogie.liquido.services.scheduler;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.SchedulerLeaseRepo;
+import org.doogie.liquido.model.SchedulerLeaseModel;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leader election for background jobs when more than one backend node runs against the same DB.
+ *
+ * Each job has a lease row in the DB. A node may run the job only while it holds an unexpired lease.
+ * The leader renews its lease on every run. When the leader dies, its lease expires and another node takes over.
+ * Renewing and taking over is one atomic UPDATE. So at most one node can hold a lease at any time.
+ *
+ * Expiry is compared with the local clock of each node. The lease duration must therefore be much longer than the clock skew between nodes.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+	@Autowired
+	SchedulerLeaseRepo leaseRepo;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	LiquidoProperties props;
+
+	/** unique ID of this backend node */
+	@Getter
+	private final String nodeId = getHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+	/** names of the leases that this node currently holds */
+	private final Set<String> heldLeases = ConcurrentHashMap.newKeySet();
+
+	private TransactionTemplate transactionTemplate;
+
+	@PostConstruct
+	public void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/** Give up all leases on shutdown, so that another node can take over immediately. */
+	@PreDestroy
+	public void releaseAll() {
+		heldLeases.forEach(this::release);
+	}
+
+	/**
+	 * Acquire or renew a lease for this node
+	 * @param name name of the job
+	 * @return true if this node holds the lease now and may run the job
+	 */
+	public boolean acquire(@NonNull String name) {
+		return acquire(name, nodeId);
+	}
+
+	/**
+	 * Acquire or renew a lease for the given owner, e.g. to simulate another node in a test.
+	 * @param name name of the job
+	 * @param owner ID of a node
+	 * @return true if the owner holds the lease now
+	 */
+	public boolean acquire(@NonNull String name, @NonNull String owner) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime expiresAt = now.plus(props.deadlines.leaseMillis, ChronoUnit.MILLIS);
+		boolean acquired;
+		try {
+			acquired = Boolean.TRUE.equals(transactionTemplate.execute(status -> leaseRepo.renewOrTakeOver(name, owner, now, expiresAt) == 1));
+			if (!acquired) acquired = create(name, owner, expiresAt);
+		} catch (RuntimeException e) {
+			log.warn("Cannot acquire lease '" + name + "': " + e.getMessage());
+			acquired = false;
+		}
+		if (owner.equals(nodeId)) {
+			if (acquired && heldLeases.add(name)) log.info("Node " + nodeId + " is now the leader for '" + name + "'");
+			if (!acquired && heldLeases.remove(name)) log.info("Node " + nodeId + " lost its lease for '" + name + "'");
+		}
+		return acquired;
+	}
+
+	/**
+	 * The very first node creates the lease row. When two nodes try this at the same time, then the primary key lets only one of them win.
+	 * @return true if the lease has been created for owner
+	 */
+	private boolean create(String name, String owner, LocalDateTime expiresAt) {
+		try {
+			return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+				if (leaseRepo.existsById(name)) return false;
+				leaseRepo.save(new SchedulerLeaseModel(name, owner, expiresAt));
+				return true;
+			}));
+		} catch (DataIntegrityViolationException e) {
+			return false;   // another node was faster
+		}
+	}
+
+	/**
+	 * Let the lease expire immediately, if this node holds it.
+	 * @param name name of the job
+	 */
+	public void release(@NonNull String name) {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			transactionTemplate.execute(status -> leaseRepo.renewOrTakeOver(name, nodeId, now, now));
+		} catch (RuntimeException e) {
+			log.warn("Cannot release lease '" + name + "': " + e.getMessage());
+		}
+		heldLeases.remove(name);
+	}
+
+	private static String getHostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "unknown";
+		}
+	}
+}
@@ -35,6 +35,129 @@ public class LiquidoProperties {
 
 	public Backend backend = new Backend();
 
+	public Propagation propagation = new Propagation();
+	@Data
+	public static class Propagation {
+		/** max number of pending delegation changes. When the queue is full, producers are throttled. */
+		public Integer queueCapacity = 1000;
+		/** how long a producer may block when the queue is full, before the whole area is marked for a resync */
+		public Long offerTimeoutMillis = 200L;
+		/** number of delegation changes that are propagated in one DB transaction */
+		public Integer batchSize = 50;
+		/** max number of batches per run of the propagation worker */
+		public Integer maxBatchesPerRun = 10;
+		/** delay between two runs of the propagation worker */
+		public Long intervalMillis = 1000L;
+	}
+
+	public Archive archive = new Archive();
+	@Data
+	public static class Archive {
+		/** ballots of polls that have been finished for this many days are archived */
+		public Integer afterDays = 30;
+		/** when to run the archival job */
+		public String cron = "0 30 3 * * *";
+		/** max number of ballots of decoded archives that are kept in memory for verifying ballots */
+		public Integer maxCachedBallots = 100000;
+	}
+
+	public Deadlines deadlines = new Deadlines();
+	@Data
+	public static class Deadlines {
+		/** automatically finish the voting phase of polls at their votingEndAt */
+		public Boolean enabled = true;
+		/** number of threads that tally polls in parallel. 0 = one per CPU core */
+		public Integer workers = 0;
+		/** how often to check for due polls */
+		public Long tickMillis = 10000L;
+		/** number of polls that are started in one transaction */
+		public Integer batchSize = 500;
+		/** with several backend nodes, another node takes over when the leader has not renewed its lease for this long. Must be longer than tickMillis. */
+		public Long leaseMillis = 60000L;
+	}
+
+	public Sweeper sweeper = new Sweeper();
+	@Data
+	public static class Sweeper {
+		/** periodically delete expired rows */
+		public Boolean enabled = true;
+		/** when to run the sweeper */
+		public String cron = "0 15 * * * *";
+		/** number of rows that are deleted in one transaction */
+		public Integer chunkSize = 500;
+		/** delegation requests that the proxy did not accept within this many days expire */
+		public Integer delegationRequestExpirationDays = 30;
+	}
+
+	public Startup startup = new Startup();
+	@Data
+	public static class Startup {
+		/** Training run for the AppCDS archive: shut down again as soon as the application is ready. See Dockerfile */
+		public Boolean exitWhenReady = false;
+	}
+
+	public HeapBudget heapBudget = new HeapBudget();
+	@Data
+	public static class HeapBudget {
+		/** derive the size of the DB connection pool from the max heap size. See HeapBudgetConfiguration */
+		public Boolean enabled = false;
+		/** heap that one pooled connection (and the request that uses it) needs */
+		public Integer heapPerConnectionMB = 16;
+		public Integer minPoolSize = 2;
+		public Integer maxPoolSize = 10;
+	}
+
+	public Datasource datasource = new Datasource();
+	@Data
+	public static class Datasource {
+		/** After a client has written data, it reads from the primary DB for this long. (Only used when a read replica is configured.) */
+		public Long readYourWritesMillis = 5000L;
+	}
+
+	public Search search = new Search();
+	@Data
+	public static class Search {
+		/** directory of the full-text search index. Empty: keep the index in memory. It is rebuilt on every startup anyway. */
+		public String indexDir;
+		/** max number of ranked matches for a search text */
+		public Integer maxHits = 1000;
+	}
+
+	public Paging paging = new Paging();
+	@Data
+	public static class Paging {
+		/** max number of items in one page (or keyset slice). Larger limits that clients request are clamped to this. */
+		public Integer maxLimit = 100;
+	}
+
+	public Graphql graphql = new Graphql();
+	@Data
+	public static class Graphql {
+		/** max number of parsed and validated GraphQL documents (and persisted queries) that are cached */
+		public Integer documentCacheSize = 200;
+		/** queries that are nested deeper are rejected */
+		public Integer maxQueryDepth = 15;
+		/** queries with more (nested) fields are rejected */
+		public Integer maxQueryComplexity = 500;
+		/** threads that execute GraphQL queries, off the servlet threads */
+		public Integer queryThreads = 4;
+		/** threads that execute GraphQL mutations. Separate from queries, so that slow mutations cannot block cheap queries. */
+		public Integer mutationThreads = 2;
+		/** max number of queries or mutations that wait for a thread. Further requests are rejected. */
+		public Integer queueCapacity = 100;
+		/** queries that take longer are cancelled */
+		public Long queryTimeoutMillis = 10000L;
+		/** mutations that take longer are cancelled, e.g. finishing the voting phase of a large poll */
+		public Long mutationTimeoutMillis = 30000L;
+	}
+
+	public Subscriptions subscriptions = new Subscriptions();
+	@Data
+	public static class Subscriptions {
+		/** changes of a poll are collected and pushed to GraphQL subscribers at most this often */
+		public Long intervalMillis = 1000L;
+	}
+
 	@Data
 	public static class Backend {
 		public String version;
@@ -3,6 +3,7 @@ package org.doogie.liquido.testdata;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.*;
+import org.doogie.liquido.datasource.ReadReplicaConfiguration;
 import org.doogie.liquido.graphql.TeamsGraphQL;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.model.*;
@@ -12,6 +13,7 @@ import org.doogie.liquido.security.LiquidoAuditorAware;
 import org.doogie.liquido.services.*;
 import org.doogie.liquido.util.DoogiesUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.ApplicationContext;
@@ -25,7 +27,11 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
 import java.io.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -93,6 +99,10 @@ public class TestDataCreator implements CommandLineRunner {
 	@Autowired
 	UserRepo userRepo;
 
+	@Autowired(required = false)
+	@Qualifier(ReadReplicaConfiguration.REPLICA_DATA_SOURCE)
+	DataSource replicaDataSource;   // only when a read replica is configured
+
 	@Autowired
 	TeamRepo teamRepo;
 
@@ -129,6 +139,12 @@ public class TestDataCreator implements CommandLineRunner {
 	@Autowired
 	DelegationRepo delegationRepo;
 
+	@Autowired
+	CacheService cacheService;
+
+	@Autowired
+	CounterService counterService;
+
 	@Autowired
 	ProxyService proxyService;
 
@@ -248,6 +264,7 @@ public class TestDataCreator implements CommandLineRunner {
 			seedPollFinished(TestFixtures.NUM_ALTERNATIVE_PROPOSALS);
 			seedLaws();
 			auditorAware.setMockAuditor(null);
+			counterService.recountAll();    // comments are saved directly via commentRepo
 
 			/* Try to dump the created data into a .sql file. But this depends on the database driver being used */
 			try {
@@ -272,6 +289,9 @@ public class TestDataCreator implements CommandLineRunner {
 				InputStreamResource resource = new InputStreamResource(fis);
 				//Resource resource = new ClassPathResource(props.test.sampleDbFile);
 				ScriptUtils.executeSqlScript(jdbcTemplate.getDataSource().getConnection(), resource);
+				refreshDelegationRequests();
+				loadSampleDbIntoLocalReplica();
+				cacheService.evictAll();    // Script was run directly via JDBC. Hibernate's second level cache does not know about it.
 
 				// Fill userMap as cache
 				util.reloadUsersCache();
@@ -317,49 +337,40 @@ public class TestDataCreator implements CommandLineRunner {
 	}
 
 	/**
-	 * We need to "massage" the DB generation script a bit:
-	 * <p>
-	 * (1) We prepend the command <pre>DROP ALL OBJECTS</pre> so that the database is cleaned completely!
-	 * <p>
-	 * (2) And we need a crude hack for nasty race condition:
-	 * <p>
-	 * My nice SQL script contains the schema (CREATE TABLE ...) and data (INSERT INTO...) That way I can
-	 * very quickly init a DB from scratch.  But TestDataCreator runs after my SpringApp has started.
-	 * Our Quartz scheduler is started earlier. It can be configured to create or not create its own
-	 * schema. But when I tell it to not create its own schema TestDataCreator runs too late to
-	 * create the schema for Quartz.
-	 * So I let Quartz create its own stuff and remove any Quarts related lines from my DB script
-	 * <p>
-	 * The alternative would be do copy the Quartz lines into schema.sql and data.sql
-	 * Then I could also recreate Quartz sample data such as jobs.
+	 * The timestamps in the sample DB file are as old as the file. Delegation requests expire after
+	 * <pre>liquido.sweeper.delegationRequestExpirationDays</pre>. Move them to now, so that the sample
+	 * requests are still shown to their proxy and are not deleted by the ExpirySweeperService.
+	 */
+	private void refreshDelegationRequests() {
+		int refreshed = jdbcTemplate.update("UPDATE delegations SET requested_delegation_at = ? WHERE requested_delegation_at IS NOT NULL", Timestamp.valueOf(LocalDateTime.now()));
+		log.info("Refreshed {} delegation requests", refreshed);
+	}
+
+	/**
+	 * A real read replica receives its data through replication. But for local tests with a second in-memory H2 DB as replica,
+	 * the replica is filled with the same sample data. It does not receive any later changes, like a replica with a huge lag.
+	 */
+	private void loadSampleDbIntoLocalReplica() throws SQLException, IOException {
+		if (replicaDataSource == null) return;
+		try (Connection con = replicaDataSource.getConnection()) {
+			if (!con.getMetaData().getURL().startsWith("jdbc:h2:mem:")) return;
+			log.info("===== TestDataCreator: Also loading sample data into local replica DB " + con.getMetaData().getURL());
+			ScriptUtils.executeSqlScript(con, new InputStreamResource(new FileInputStream(props.test.sampleDbFile)));
+		}
+	}
+
+	/**
+	 * Prepend the command <pre>DROP ALL OBJECTS</pre> to the generated DB script, so that the database is cleaned completely
+	 * before the schema and test data are loaded from it.
 	 */
 	private void adjustDbInitializationScript() {
-		log.trace("removeQartzSchema from SQL script: start");
 		try {
 			File sqlScript = new File(props.test.sampleDbFile);
 			BufferedReader reader = new BufferedReader(new FileReader(sqlScript));
 			List<String> lines = new ArrayList<>();
 			String currentLine;
-			Boolean removeBlock = false;
 			while ((currentLine = reader.readLine()) != null) {
-				currentLine = currentLine.trim();
-				//log.trace("Checking line "+currentLine);
-				if (currentLine.matches("(ALTER|CREATE).*TABLE \"PUBLIC\"\\.\"QRTZ.*\\(")) removeBlock = true;
-				if (currentLine.matches("INSERT INTO \"PUBLIC\"\\.\"QRTZ.*VALUES")) removeBlock = true;
-				if (removeBlock && currentLine.matches(".*\\); *")) {
-					//log.trace("Remove end of block      );");
-					removeBlock = false;
-					continue;
-				}
-				if (removeBlock) {
-					//log.trace("Removing line from block "+currentLine);
-					continue;
-				}
-				if (currentLine.matches("(ALTER|CREATE).*TABLE \"PUBLIC\"\\.\"QRTZ.*;")) {
-					//log.trace("Removing single line:    "+currentLine);
-					continue;
-				}
-				lines.add(currentLine);
+				lines.add(currentLine.trim());
 			}
 			reader.close();
 
@@ -373,11 +384,11 @@ public class TestDataCreator implements CommandLineRunner {
 				writer.newLine();        //  + System.getProperty("line.separator")
 			}
 			writer.close();
-			log.trace("removeQuartzSchema from SQL script successful: " + sqlScript.getAbsolutePath());
+			log.trace("adjustDbInitializationScript successful: " + sqlScript.getAbsolutePath());
 
 		} catch (Exception e) {
-			log.error("Could not remove Quarts statements from Schema: " + e.getMessage());
-			throw new RuntimeException("Could not remove Quarts statements from Schema: " + e.getMessage(), e);
+			log.error("Could not adjust DB initialization script: " + e.getMessage());
+			throw new RuntimeException("Could not adjust DB initialization script: " + e.getMessage(), e);
 		}
 	}
 
@@ -4,7 +4,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -38,6 +37,10 @@ public class DoogiesRequestLogger extends OncePerRequestFilter {
 	@Value("${liquido.debug.log.maxPayloadLength:200}")
 	private int maxPayloadLength;
 
+	/** Request bodies are buffered completely, so that they can be logged before the request is processed. Larger bodies are not logged. */
+	@Value("${liquido.debug.log.maxBufferedRequestBytes:65536}")
+	private long maxBufferedRequestBytes;
+
 	@Value("${liquido.debug.log.logRequestHeaders:false}")
   private boolean logRequestHeaders;
 
@@ -126,44 +129,51 @@ public class DoogiesRequestLogger extends OncePerRequestFilter {
     // Springs ContentCachingRequestWrapper works, but it can only log the request body AFTER the request was sent.
 
 		// So we need to apply some stronger magic on Dumbledore Level  to be able to log the REQUEST body of PUT and POST requests, BEFORE we can send the request.
-		BufferedRequestWrapper wrappedRequest = new BufferedRequestWrapper(request);
-		if (logger.isDebugEnabled()) {
-			if (wrappedRequest.getBufferedContent().length > 0) {
-				String requestBody = this.getContentAsString(wrappedRequest.getBufferedContent(), this.maxPayloadLength, request.getCharacterEncoding());
+		// But only for bodies of a known and limited size. Otherwise one large upload could fill the heap.
+		HttpServletRequest wrappedRequest = request;
+		long contentLength = request.getContentLengthLong();
+		boolean hasBody = HttpMethod.POST.matches(request.getMethod()) || HttpMethod.PUT.matches(request.getMethod());
+		if (contentLength > maxBufferedRequestBytes || contentLength < 0 && hasBody) {   // contentLength is -1 for chunked bodies of unknown size
+			this.logger.debug(" └─" + requestId + " body of " + (contentLength < 0 ? "unknown size" : contentLength + " bytes") + " is not logged");
+		} else {
+			BufferedRequestWrapper bufferedRequest = new BufferedRequestWrapper(request);
+			wrappedRequest = bufferedRequest;
+			if (bufferedRequest.getBufferedContent().length > 0) {
+				String requestBody = this.getContentAsString(bufferedRequest.getBufferedContent(), this.maxPayloadLength, request.getCharacterEncoding());
 				if (requestBody.indexOf("\n") > 0) {
 					this.logger.debug(" └─" + " body:\n" + requestBody);
 				} else {
 					this.logger.debug(" └─" + requestBody);
 				}
 			} else {
-				if (HttpMethod.POST.matches(request.getMethod()) || HttpMethod.PUT.matches(request.getMethod())) {
+				if (hasBody) {
 					this.logger.debug(" └─" + requestId + " EMPTY body in "+request.getMethod());
 				}
 			}
 		}
 
-		// Also wrap the response, so that we can log the response payload and the payload is still available
-		ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+		// Also wrap the response, so that we can log the beginning of the response payload. The response itself is not buffered.
+		PayloadSnippetResponseWrapper wrappedResponse = includeResponsePayload ? new PayloadSnippetResponseWrapper(response, this.maxPayloadLength + 1) : null;
 
 		// ======== perform the actual HTTP request ==========
-    filterChain.doFilter(wrappedRequest, wrappedResponse);
+    filterChain.doFilter(wrappedRequest, wrappedResponse != null ? wrappedResponse : response);
 		// ===================================================
 
 		// Log RESPONSE body
     long duration = System.currentTimeMillis() - startTime;
     this.logger.debug("<= " + requestId + " returned " + response.getStatus() + " in "+duration + "ms. " + reqInfo);
-    if (includeResponsePayload && wrappedResponse.getContentSize() > 0) {
-      byte[] buf = wrappedResponse.getContentAsByteArray();
-      String responseStr = getContentAsString(buf, this.maxPayloadLength, response.getCharacterEncoding());
-      if (responseStr.indexOf("\n") > 0) {
-	      this.logger.debug(" └─ server's response body:\n"+responseStr);
-      } else {
-	      this.logger.debug(" └─ server's response body: "+responseStr);
+    if (wrappedResponse != null) {
+      byte[] buf = wrappedResponse.getSnippet();   // IMPORTANT: this also flushes the response's writer
+      if (buf.length > 0) {
+        String responseStr = getContentAsString(buf, this.maxPayloadLength, response.getCharacterEncoding());
+        if (responseStr.indexOf("\n") > 0) {
+          this.logger.debug(" └─ server's response body:\n"+responseStr);
+        } else {
+          this.logger.debug(" └─ server's response body: "+responseStr);
+        }
       }
     }
 
-    wrappedResponse.copyBodyToResponse();  // IMPORTANT: copy content of response back into original response
-
   }
 
 	/* Spring own implementation is nearly ok, but it cannot log the request type and it cannot log the response body
@@ -0,0 +1,72 @@
+package org.doogie.liquido.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.testdata.LiquidoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Support for the "faststart" profile, see <pre>application-faststart.yml</pre>
+ *
+ * With <pre>spring.main.lazy-initialization: true</pre> beans are only created when they are first needed.
+ * But background jobs are never "needed" by anyone. Beans with a @Scheduled method must still be created at startup,
+ * otherwise they would never run. The same is true for our @RepositoryEventHandlers: Nobody injects them. Spring Data REST
+ * only registers the handlers of beans that already exist.
+ *
+ * The Dockerfile starts the backend once at build time to record which classes are loaded for its AppCDS archive.
+ * That training run shuts down as soon as the application is ready. See <pre>liquido.startup.exitWhenReady</pre>
+ */
+@Slf4j
+@Configuration
+public class FastStartupConfiguration {
+
+	@Autowired
+	LiquidoProperties props;
+
+	@Autowired
+	ApplicationContext appContext;
+
+	/**
+	 * Exclude beans with @Scheduled methods and @RepositoryEventHandlers from lazy initialization.
+	 * (Only takes effect when lazy initialization is enabled.)
+	 * Static, because this must be available before any other bean is created.
+	 * @return filter for the LazyInitializationBeanFactoryPostProcessor
+	 */
+	@Bean
+	public static LazyInitializationExcludeFilter eagerScheduledBeans() {
+		return (beanName, beanDefinition, beanType) -> {
+			if (beanType == null) return false;
+			if (AnnotatedElementUtils.hasAnnotation(beanType, RepositoryEventHandler.class)) return true;
+			AtomicBoolean hasScheduledMethod = new AtomicBoolean(false);
+			ReflectionUtils.doWithMethods(beanType,
+				method -> hasScheduledMethod.set(true),
+				method -> method.isAnnotationPresent(Scheduled.class));
+			return hasScheduledMethod.get();
+		};
+	}
+
+	/**
+	 * Log the boot time. When this is a training run, then shut down again.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void logStartupTime() {
+		log.info("LIQUIDO backend started in " + ManagementFactory.getRuntimeMXBean().getUptime() + "ms (JVM uptime)");
+		if (props.startup.exitWhenReady) {
+			log.info("liquido.startup.exitWhenReady=true: Training run finished. Shutting down.");
+			System.exit(SpringApplication.exit(appContext));
+		}
+	}
+}
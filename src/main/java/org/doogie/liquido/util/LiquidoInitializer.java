@@ -2,6 +2,8 @@ package org.doogie.liquido.util;
 
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.AreaRepo;
+import org.doogie.liquido.datarepos.TeamRepo;
+import org.doogie.liquido.datarepos.UserRepo;
 import org.doogie.liquido.graphql.TeamsGraphQL;
 import org.doogie.liquido.jwt.AuthUtil;
 import org.doogie.liquido.model.AreaModel;
@@ -31,6 +33,12 @@ public class LiquidoInitializer implements CommandLineRunner {
 	@Autowired
 	AreaRepo areaRepo;
 
+	@Autowired
+	TeamRepo teamRepo;
+
+	@Autowired
+	UserRepo userRepo;
+
 	@Autowired
 	AuthUtil authUtil;
 
@@ -40,16 +48,21 @@ public class LiquidoInitializer implements CommandLineRunner {
 	 */
 	@Override
 	public void run(String... args) throws LiquidoException {
-		// Create a default test user
-		authUtil.logoutOfSecurityContext();  //BUGFIX: Make sure no one is logged in before creating a new team for test.
+		// Create a default test user. On a persistent DB it has already been created by a previous startup.
 		UserModel testUser = new UserModel(props.testUser.email, props.testUser.name, props.testUser.mobilephone, props.testUser.website, props.testUser.picture);
-		try {
-			CreateOrJoinTeamResponse res = teamsGraphQL.createNewTeam(props.testUser.teamName, testUser);
-			log.info("Created default user: " + res.getTeam().toString());
-			testUser = res.getUser();  // withID
-		} catch (LiquidoException e) {
-			log.error("Cannot create default user", e.getMessage());
-			throw e;
+		Optional<UserModel> existingTestUser = userRepo.findByEmail(LiquidoRestUtils.cleanEmail(testUser.getEmail()));
+		if (existingTestUser.isPresent() && teamRepo.findByTeamName(props.testUser.teamName).isPresent()) {
+			testUser = existingTestUser.get();
+		} else {
+			authUtil.logoutOfSecurityContext();  //BUGFIX: Make sure no one is logged in before creating a new team for test.
+			try {
+				CreateOrJoinTeamResponse res = teamsGraphQL.createNewTeam(props.testUser.teamName, testUser);
+				log.info("Created default user: " + res.getTeam().toString());
+				testUser = res.getUser();  // withID
+			} catch (LiquidoException e) {
+				log.error("Cannot create default user", e.getMessage());
+				throw e;
+			}
 		}
 
 		// Create a default area.
@@ -1,8 +1,14 @@
 package org.doogie.liquido.util;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,6 +19,29 @@ public class LiquidoRestUtils {
 	public static final String TEXT_URI_LIST_VALUE = "text/uri-list";
 	public static final MediaType TEXT_URI_LIST = new MediaType("text", "uri-list");
 
+	/** Spring Data REST's message converters. They serialize the responses of our REST controllers. */
+	@Autowired
+	@Qualifier("defaultMessageConverters")
+	List<HttpMessageConverter<?>> restMessageConverters;
+
+	private ObjectMapper restObjectMapper;
+
+	/**
+	 * The ObjectMapper that writes the JSON responses of our REST controllers, e.g. an Lson or StreamingLson.
+	 * It is not exposed as a bean by Spring Data REST.
+	 * @return the mapper of Spring Data REST's JSON message converter
+	 */
+	public ObjectMapper getRestObjectMapper() {
+		if (restObjectMapper == null) {
+			restObjectMapper = restMessageConverters.stream()
+				.filter(converter -> converter instanceof MappingJackson2HttpMessageConverter && converter.canWrite(Lson.class, MediaType.APPLICATION_JSON))
+				.map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("Cannot find the JSON message converter of Spring Data REST"));
+		}
+		return restObjectMapper;
+	}
+
 	/**
 	 * Quick and dirty hack to get the entity ID from an URI.
 	 * There is no other clean way to load a HATEOAS entity from its URI.
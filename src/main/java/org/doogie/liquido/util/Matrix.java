@@ -1,5 +1,6 @@
 package org.doogie.liquido.util;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.function.Function;
 
@@ -7,8 +8,9 @@ import java.util.function.Function;
  * Two dimensional matrix of Long values.
  * This Matrix is used in  {@link org.doogie.liquido.services.voting.RankedPairVoting}.
  * It can also be stored to a DB with @{@link org.doogie.liquido.model.converter.MatrixConverter}
+ * Matrix must be Serializable, because polls with their duelMatrix are kept in hibernate's second level cache.
  */
-public class Matrix {
+public class Matrix implements Serializable {
   // Implementation note: Be careful that you do not accidentally invert the matrix!
 	// All methods with two parameters have "row" and then "col".
 	// This different than "x" and then "y" axis!  But that may only be of importance to completely fanatic geeks :-)
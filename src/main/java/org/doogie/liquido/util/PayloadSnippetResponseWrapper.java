@@ -0,0 +1,94 @@
+package org.doogie.liquido.util;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Keeps a copy of the first bytes of a response for logging.
+ *
+ * Springs {@link org.springframework.web.util.ContentCachingResponseWrapper} buffers the <b>whole</b> response
+ * until it is copied to the client at the very end. With large responses and a small heap that is a lot of memory.
+ * This wrapper writes everything straight through to the client and only keeps the first maxSnippetBytes.
+ */
+public class PayloadSnippetResponseWrapper extends HttpServletResponseWrapper {
+
+	private final int maxSnippetBytes;
+	private final ByteArrayOutputStream snippet = new ByteArrayOutputStream();
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+
+	public PayloadSnippetResponseWrapper(HttpServletResponse response, int maxSnippetBytes) {
+		super(response);
+		this.maxSnippetBytes = maxSnippetBytes;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) throw new IllegalStateException("getWriter() has already been called on this response.");
+		if (outputStream == null) outputStream = new SnippetOutputStream(super.getOutputStream());
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (outputStream != null) throw new IllegalStateException("getOutputStream() has already been called on this response.");
+		if (writer == null) writer = new PrintWriter(new OutputStreamWriter(new SnippetOutputStream(super.getOutputStream()), getCharacterEncoding()));
+		return writer;
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) writer.flush();
+		super.flushBuffer();
+	}
+
+	/**
+	 * @return the first (up to maxSnippetBytes) bytes that have been written to the response so far
+	 */
+	public byte[] getSnippet() {
+		if (writer != null) writer.flush();
+		return snippet.toByteArray();
+	}
+
+	private class SnippetOutputStream extends ServletOutputStream {
+		private final ServletOutputStream out;
+
+		SnippetOutputStream(ServletOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (snippet.size() < maxSnippetBytes) snippet.write(b);
+			out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			int remaining = maxSnippetBytes - snippet.size();
+			if (remaining > 0) snippet.write(b, off, Math.min(remaining, len));
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public boolean isReady() {
+			return out.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			out.setWriteListener(writeListener);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package org.doogie.liquido.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response builder with the same fluid API as {@link Lson}, but without building a tree of maps.
+ *
+ * Lson is a HashMap. Every put of a dotted path creates nested maps, and then the whole tree is serialized.
+ * StreamingLson only remembers the paths and values in the order they were put. When a controller returns it,
+ * then Spring's Jackson message converter writes it directly to the JsonGenerator on the response stream.
+ * Values are serialized with the converter's ObjectMapper, exactly as they were inside an Lson.
+ *
+ * <pre>return StreamingLson.builder()
+ *   .put("_embedded.polls", polls)
+ *   .put("_links.self.href", selfUri)
+ *   .put("_page.limit", limit);</pre>
+ *
+ * Because the JSON is written in one pass, all paths below the same nested object must be put one after another,
+ * e.g. "_links.self.href" and "_links.self.templated". And each path can only be put once.
+ * Use Lson when you need to read or change the JSON again.
+ */
+public class StreamingLson implements JsonSerializable {
+
+	private final List<String> paths = new ArrayList<>();
+	private final List<Object> values = new ArrayList<>();
+
+	/** Factory method.  StreamingLson.builder().put("name", someValue).... */
+	public static StreamingLson builder() {
+		return new StreamingLson();
+	}
+
+	/** Factory method - shortcut for very simple JSON:  StreamingLson.builder("key", "value") */
+	public static StreamingLson builder(String key, Object value) {
+		return new StreamingLson().put(key, value);
+	}
+
+	/**
+	 * Add a value at the given path
+	 * @param path json key or dot separated json path
+	 * @param value any java object. Will be serialized with Jackson
+	 * @return this for chaining
+	 * @throws IllegalArgumentException when this path has already been put or a nested object of this path has already been written and closed
+	 */
+	public StreamingLson put(String path, Object value) {
+		checkNotDuplicate(path);
+		checkNotClosed(path);
+		paths.add(path);
+		values.add(value);
+		return this;
+	}
+
+	/**
+	 * Put value under that path, but only if value != null.
+	 * This prevents creating attributes with empty values.
+	 */
+	public StreamingLson putIfValueIsPresent(String path, Object value) {
+		if (value == null) return this;
+		return this.put(path, value);
+	}
+
+	/** Add a json attribute with an array of strings as value. */
+	public StreamingLson putArray(String key, String... values) {
+		return this.put(key, values);
+	}
+
+	public StreamingLson putArray(String key, Iterable values) {
+		return this.put(key, values);
+	}
+
+	/**
+	 * Write all paths and values. Nested objects are opened and closed as the paths change.
+	 */
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(this);
+		String openPath = "";     // the currently open nested object is the parent of this path. "" is the root object
+		int openEnd = 0;
+		for (int i = 0; i < paths.size(); i++) {
+			String path = paths.get(i);
+			int parentEnd = parentEnd(path);
+			if (parentEnd != openEnd || !path.regionMatches(0, openPath, 0, parentEnd)) {
+				int common = commonParentLength(openPath, openEnd, path, parentEnd);
+				for (int n = numSegmentsAfter(openPath, openEnd, common); n > 0; n--) gen.writeEndObject();
+				openObjects(gen, path, common, parentEnd);
+				openPath = path;
+				openEnd = parentEnd;
+			}
+			String key = parentEnd == 0 ? path : path.substring(parentEnd + 1);
+			provider.defaultSerializeField(key, values.get(i), gen);
+		}
+		for (int n = numSegmentsAfter(openPath, openEnd, 0); n > 0; n--) gen.writeEndObject();
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+		WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+		serialize(gen, provider);
+		typeSer.writeTypeSuffix(gen, typeId);
+	}
+
+	/**
+	 * Lson would overwrite the value of a path that is put again. In one pass we cannot do that. And JSON with duplicate keys is invalid.
+	 * A key is also duplicate, when it is used for a value and for a nested object, e.g. "a" and "a.b".
+	 */
+	private void checkNotDuplicate(String path) {
+		for (String previous : paths) {
+			int shorter = Math.min(previous.length(), path.length());
+			if (!previous.regionMatches(0, path, 0, shorter)) continue;
+			if (previous.length() == path.length() || (previous.length() > shorter ? previous : path).charAt(shorter) == '.')
+				throw new IllegalArgumentException("Cannot put '" + path + "'. Key '" + path.substring(0, shorter) + "' has already been put.");
+		}
+	}
+
+	/**
+	 * A nested object is closed when a path with another parent is put. Afterwards nothing can be added to it anymore.
+	 * This is checked here, without creating any strings.
+	 */
+	private void checkNotClosed(String path) {
+		if (paths.isEmpty()) return;
+		String lastPath = paths.get(paths.size() - 1);
+		int lastParentEnd = parentEnd(lastPath);
+		int parentEnd = parentEnd(path);
+		if (parentEnd == lastParentEnd && path.regionMatches(0, lastPath, 0, parentEnd)) return;  // same parent as the previous path
+		int common = commonParentLength(lastPath, lastParentEnd, path, parentEnd);
+		// Every nested object of path after the common part will be opened now. It must not have been opened before.
+		for (int end = path.indexOf('.', common + 1); end > 0 && end <= parentEnd; end = path.indexOf('.', end + 1)) {
+			for (String previous : paths) {
+				if (previous.length() > end && previous.charAt(end) == '.' && previous.regionMatches(0, path, 0, end))
+					throw new IllegalArgumentException("Cannot put '" + path + "'. Object '" + path.substring(0, end) + "' has already been written. Put all its paths one after another.");
+			}
+		}
+	}
+
+	/** @return index of the last dot in path, or 0 if path is a top level key */
+	private static int parentEnd(String path) {
+		return Math.max(path.lastIndexOf('.'), 0);
+	}
+
+	/** @return length of the longest common prefix of both parents that ends at a segment boundary */
+	private static int commonParentLength(String path1, int parentEnd1, String path2, int parentEnd2) {
+		int max = Math.min(parentEnd1, parentEnd2);
+		int common = 0;
+		for (int j = 0; j <= max; j++) {
+			boolean boundary1 = j == parentEnd1 || path1.charAt(j) == '.';
+			boolean boundary2 = j == parentEnd2 || path2.charAt(j) == '.';
+			if (boundary1 && boundary2) common = j;
+			if (j == max || path1.charAt(j) != path2.charAt(j)) break;
+		}
+		return common;
+	}
+
+	/** @return number of nested objects in the parent of path after its first <pre>common</pre> chars */
+	private static int numSegmentsAfter(String path, int parentEnd, int common) {
+		if (common >= parentEnd) return 0;
+		int num = common == 0 ? 1 : 0;
+		for (int j = common; j < parentEnd; j++) {
+			if (path.charAt(j) == '.') num++;
+		}
+		return num;
+	}
+
+	/** Open the nested objects of path between common and parentEnd */
+	private static void openObjects(JsonGenerator gen, String path, int common, int parentEnd) throws IOException {
+		int start = common == 0 ? 0 : common + 1;
+		while (start < parentEnd) {
+			int end = path.indexOf('.', start);
+			if (end < 0 || end > parentEnd) end = parentEnd;
+			gen.writeFieldName(path.substring(start, end));
+			gen.writeStartObject();
+			start = end + 1;
+		}
+	}
+
+	public String toString() {
+		try {
+			return Lson.mapper.writeValueAsString(this);
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Cannot write out JSON: "+e, e);
+		}
+	}
+}
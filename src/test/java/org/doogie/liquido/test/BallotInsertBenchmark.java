@@ -0,0 +1,121 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.model.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: Insert a lot of ballots (each with its own RightToVote) row by row and in JDBC batches.
+ *
+ * "row by row" mimics the old setup: one round trip to the DB sequence for each new ID and no JDBC batching.
+ * "batched" uses the pooled-lo sequences and hibernate.jdbc.batch_size from application.yml.
+ *
+ * This benchmark is not run by default. Start it with
+ * <pre>mvn test -Dtest=BallotInsertBenchmark -Dliquido.benchmark=true [-Dliquido.benchmark.numBallots=100000]</pre>
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "liquido.benchmark", matches = "true")
+public class BallotInsertBenchmark extends BaseTest {
+
+	static final String TOKEN_PREFIX = "benchmark_";
+	static final int FLUSH_EVERY = 1000;
+
+	@PersistenceContext
+	EntityManager em;
+
+	@Autowired
+	EntityManagerFactory emf;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	@Test
+	public void benchmarkBallotInserts() {
+		int numBallots = Integer.parseInt(System.getProperty("liquido.benchmark.numBallots", "100000"));
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		assertTrue(polls.size() > 0, "Need a poll in VOTING for benchmarkBallotInserts");
+		PollModel poll = polls.get(0);
+
+		try {
+			long rowByRowMillis = insertBallots(poll, numBallots, false);
+			long batchedMillis  = insertBallots(poll, numBallots, true);
+			log.info("===== BallotInsertBenchmark: " + numBallots + " ballots row by row: " + rowByRowMillis + "ms, batched: " + batchedMillis + "ms");
+		} finally {
+			deleteBenchmarkBallots();
+		}
+	}
+
+	/**
+	 * Insert numBallots ballots into poll in one transaction
+	 * @return elapsed time in milliseconds
+	 */
+	private long insertBallots(PollModel poll, int numBallots, boolean batched) {
+		String mode = batched ? "batched" : "rowByRow";
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		long start = System.currentTimeMillis();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Session session = em.unwrap(Session.class);
+			session.setJdbcBatchSize(batched ? null : 1);    // null = use hibernate.jdbc.batch_size
+			for (int i = 0; i < numBallots; i++) {
+				if (i % FLUSH_EVERY == 0) {
+					em.flush();
+					em.clear();
+				}
+				if (!batched) {
+					// One sequence round trip per row, like GenerationType.AUTO with "INCREMENT BY 1" did.
+					em.createNativeQuery("SELECT NEXT VALUE FOR ballot_model_seq").getSingleResult();
+				}
+				PollModel pollRef = em.getReference(PollModel.class, poll.getId());
+				AreaModel areaRef = em.getReference(AreaModel.class, poll.getArea().getId());
+				List<LawModel> voteOrder = new ArrayList<>();
+				for (LawModel proposal : poll.getProposals()) {
+					voteOrder.add(em.getReference(LawModel.class, proposal.getId()));
+				}
+				RightToVoteModel rightToVote = new RightToVoteModel(TOKEN_PREFIX + mode + "_" + i, areaRef);
+				em.persist(rightToVote);
+				em.persist(new BallotModel(pollRef, 0, voteOrder, rightToVote));
+			}
+			em.flush();
+			em.clear();
+		});
+		long millis = System.currentTimeMillis() - start;
+		log.info("Inserted " + numBallots + " ballots " + mode + " in " + millis + "ms with " + stats.getPrepareStatementCount() + " JDBC statements");
+
+		Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM ballots WHERE hashed_voter_token LIKE ?", Long.class, TOKEN_PREFIX + mode + "%");
+		assertEquals(numBallots, count.intValue(), "Expected all " + mode + " ballots to be inserted");
+		return millis;
+	}
+
+	private void deleteBenchmarkBallots() {
+		jdbcTemplate.update("DELETE FROM ballots_vote_order WHERE ballot_model_id IN (SELECT id FROM ballots WHERE hashed_voter_token LIKE ?)", TOKEN_PREFIX + "%");
+		jdbcTemplate.update("DELETE FROM ballots WHERE hashed_voter_token LIKE ?", TOKEN_PREFIX + "%");
+		jdbcTemplate.update("DELETE FROM right_to_vote WHERE hashed_voter_token LIKE ?", TOKEN_PREFIX + "%");
+	}
+}
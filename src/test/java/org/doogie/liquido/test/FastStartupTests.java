@@ -0,0 +1,58 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.services.LawSearchIndex;
+import org.doogie.liquido.testdata.TestFixtures;
+import org.doogie.liquido.util.Lson;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Run the backend with the "faststart" profile, ie. with lazy initialization of beans.
+ * Beans that nobody injects, like our @RepositoryEventHandlers, must still do their work.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("faststart")    // in addition to "test" and "local" from BaseTest
+public class FastStartupTests extends HttpBaseTest {
+
+	@Autowired
+	LawSearchIndex lawSearchIndex;
+
+	@Test
+	public void testRestCreatedLawIsIndexed() {
+		// GIVEN a logged in user
+		this.loginUserJWT(TestFixtures.USER1_EMAIL);
+
+		// WHEN an idea with a unique word in its title is created via REST
+		String uniqueWord = "Faststart" + System.currentTimeMillis();
+		String jsonBody = Lson.builder()
+			.put("title", "Idea " + uniqueWord)
+			.put("description", "This idea was created from FastStartupTests")
+			.put("area", basePath + "/areas/" + getDefaultArea().getId())
+			.toString();
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+		ResponseEntity<LawModel> res = client.postForEntity("/laws", new HttpEntity<>(jsonBody, headers), LawModel.class);
+		assertEquals(HttpStatus.CREATED, res.getStatusCode(), "Could not create idea via REST");
+
+		// THEN LawEventHandler has put it into the full-text search index
+		List<Long> foundIds = lawSearchIndex.search(uniqueWord, 10);
+		assertEquals(1, foundIds.size(), "Idea created via REST should be in the search index, also with lazy initialization");
+		log.debug("TEST SUCCESS: Idea created via REST was indexed with profile faststart: " + foundIds);
+	}
+}
@@ -0,0 +1,120 @@
+package org.doogie.liquido.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.model.PollModel;
+import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.services.PollService;
+import org.doogie.liquido.util.LiquidoRestUtils;
+import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: Bytes allocated per JSON response when it is built as an {@link Lson} and as a {@link StreamingLson}.
+ *
+ * Each response is built and then serialized with the ObjectMapper of our REST responses, like the message converter does.
+ * Two kinds of responses are measured: a page of polls as returned by <pre>/polls/search/find</pre>
+ * and a small status response as returned by the dev endpoints. Allocations are counted per thread by the JVM.
+ * Both builders must produce the same JSON.
+ *
+ * This benchmark is not run by default. Start it with
+ * <pre>mvn test -Dtest=JsonResponseBenchmark -Dliquido.benchmark=true [-Dliquido.benchmark.iterations=5000] [-Dliquido.benchmark.numPolls=20]</pre>
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "liquido.benchmark", matches = "true")
+public class JsonResponseBenchmark extends BaseTest {
+
+	static final int WARMUP_ITERATIONS = 1000;
+	static final String SELF_HREF = "http://localhost:8080/liquido-api/v3/polls/search/find?status=VOTING";
+
+	@Autowired
+	PollService pollService;
+
+	@Autowired
+	LiquidoRestUtils restUtils;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Test
+	public void benchmarkAllocationsPerResponse() {
+		int iterations = Integer.parseInt(System.getProperty("liquido.benchmark.iterations", "5000"));
+		int numPolls = Integer.parseInt(System.getProperty("liquido.benchmark.numPolls", "20"));
+		ObjectMapper mapper = restUtils.getRestObjectMapper();
+
+		// Keep the session open, so that the lazy associations of the polls can be serialized
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			try {
+				List<PollModel> polls = pollService.findPolls(Optional.empty(), Optional.empty(), Optional.empty(), null, numPolls).getContent();
+				assertTrue(polls.size() > 0, "Need some polls for benchmarkAllocationsPerResponse");
+
+				Supplier<Object> pollsLson = () -> new Lson()
+					.put("_embedded.polls", polls)
+					.put("_links.self.href", SELF_HREF)
+					.put("_page.limit", numPolls)
+					.put("_page.nextCursor", null);
+				Supplier<Object> pollsStreaming = () -> StreamingLson.builder()
+					.put("_embedded.polls", polls)
+					.put("_links.self.href", SELF_HREF)
+					.put("_page.limit", numPolls)
+					.put("_page.nextCursor", null);
+				Supplier<Object> okLson = () -> new Lson()
+					.put("ok", "Poll(id=" + polls.get(0).getId() + ") has been DELETED")
+					.put("deleteProposals", false);
+				Supplier<Object> okStreaming = () -> StreamingLson.builder()
+					.put("ok", "Poll(id=" + polls.get(0).getId() + ") has been DELETED")
+					.put("deleteProposals", false);
+
+				assertEquals(mapper.readTree(mapper.writeValueAsString(pollsLson.get())), mapper.readTree(mapper.writeValueAsString(pollsStreaming.get())), "Lson and StreamingLson must write the same polls JSON");
+				assertEquals(mapper.readTree(mapper.writeValueAsString(okLson.get())), mapper.readTree(mapper.writeValueAsString(okStreaming.get())), "Lson and StreamingLson must write the same ok JSON");
+
+				long pollsLsonBytes      = allocatedBytesPerResponse(mapper, iterations, pollsLson);
+				long pollsStreamingBytes = allocatedBytesPerResponse(mapper, iterations, pollsStreaming);
+				long okLsonBytes         = allocatedBytesPerResponse(mapper, iterations, okLson);
+				long okStreamingBytes    = allocatedBytesPerResponse(mapper, iterations, okStreaming);
+				log.info("===== JsonResponseBenchmark: bytes allocated per response (" + iterations + " iterations)");
+				log.info("  " + polls.size() + " polls: Lson " + pollsLsonBytes + ", StreamingLson " + pollsStreamingBytes);
+				log.info("  ok message: Lson " + okLsonBytes + ", StreamingLson " + okStreamingBytes);
+
+				assertTrue(okStreamingBytes <= okLsonBytes, "StreamingLson should not allocate more than Lson for a small response");
+			} catch (LiquidoException | IOException e) {
+				throw new RuntimeException("Cannot benchmark JSON responses", e);
+			}
+		});
+	}
+
+	/**
+	 * Build and serialize a response again and again
+	 * @return average number of bytes allocated by this thread per response
+	 */
+	private long allocatedBytesPerResponse(ObjectMapper mapper, int iterations, Supplier<Object> response) throws IOException {
+		ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			mapper.writeValue(OutputStream.nullOutputStream(), response.get());
+		}
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			mapper.writeValue(OutputStream.nullOutputStream(), response.get());
+		}
+		return (threadBean.getThreadAllocatedBytes(threadId) - before) / iterations;
+	}
+}
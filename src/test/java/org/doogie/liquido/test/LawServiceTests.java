@@ -2,6 +2,7 @@ package org.doogie.liquido.test;
 
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.AreaRepo;
+import org.doogie.liquido.datarepos.KeysetCursor;
 import org.doogie.liquido.datarepos.LawRepo;
 import org.doogie.liquido.datarepos.OffsetLimitPageable;
 import org.doogie.liquido.datarepos.UserRepo;
@@ -15,11 +16,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,6 +50,9 @@ public class LawServiceTests extends BaseTest {
 	@Autowired
 	LawService lawService;
 
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
 	@Test
 	public void testFindLaw() {
 		// GIVEN
@@ -95,6 +104,72 @@ public class LawServiceTests extends BaseTest {
 	}
 
 
+	@Test
+	public void testFindBySearchTextPrefixAndRanking() {
+		// GIVEN an idea
+		LawModel idea = lawRepo.findByStatus(LawModel.LawStatus.IDEA, new OffsetLimitPageable(0, 1)).getContent().get(0);
+		String titlePrefixes = Arrays.stream(idea.getTitle().split("\\W+"))
+			.filter(word -> word.length() > 0)
+			.map(word -> word.length() > 4 ? word.substring(0, word.length() - 2) : word)
+			.collect(Collectors.joining(" "));
+
+		// WHEN searching for the beginnings of the words in its title
+		LawQuery prefixQuery = new LawQuery();
+		prefixQuery.setSearchText(titlePrefixes);
+		prefixQuery.setLimit(100);
+		Page<LawModel> prefixPage = lawService.findBySearchQuery(prefixQuery);
+
+		// THEN the idea is found
+		assertTrue(prefixPage.getContent().contains(idea), "Expected to find "+idea+" by searching for '"+titlePrefixes+"'");
+
+		// WHEN searching for its full title
+		LawQuery titleQuery = new LawQuery();
+		titleQuery.setSearchText(idea.getTitle());
+		Page<LawModel> titlePage = lawService.findBySearchQuery(titleQuery);
+
+		// THEN the idea is the best match
+		assertEquals(idea, getFirstResult(titlePage), "Expected "+idea+" to be the best match for its title");
+
+		// WHEN loading the prefix matches page by page
+		LawQuery secondPageQuery = new LawQuery();
+		secondPageQuery.setSearchText(titlePrefixes);
+		secondPageQuery.setOffset(1);
+		secondPageQuery.setLimit(1);
+		Page<LawModel> secondPage = lawService.findBySearchQuery(secondPageQuery);
+
+		// THEN each page continues the ranking
+		assertEquals(prefixPage.getTotalElements(), secondPage.getTotalElements(), "Pages should have the same total number of matches");
+		if (prefixPage.getContent().size() > 1)
+			assertEquals(prefixPage.getContent().get(1), getFirstResult(secondPage), "Second page should contain the second best match");
+	}
+
+	@Test
+	public void testFindBySearchQueryWithCursor() throws LiquidoException {
+		// GIVEN a query for all proposals sorted by title
+		LawQuery lawQuery = new LawQuery();
+		lawQuery.setStatusList(Arrays.asList(LawModel.LawStatus.PROPOSAL));
+		lawQuery.setSingleSortProperty("title");
+		lawQuery.setDirection(Sort.Direction.DESC);
+		lawQuery.setLimit(1000);
+		List<LawModel> allProposals = lawService.findBySearchQuery(lawQuery).getContent();
+		assertTrue(allProposals.size() > 3, "Need some proposals to testFindBySearchQueryWithCursor");
+
+		// WHEN paging through these proposals with a cursor
+		List<LawModel> pagedProposals = new ArrayList<>();
+		lawQuery.setLimit(3);
+		lawQuery.setCursor("");
+		Slice<LawModel> slice;
+		do {
+			slice = lawService.findSliceBySearchQuery(lawQuery);
+			assertTrue(slice.getNumberOfElements() <= 3, "Slice must not contain more than limit elements");
+			pagedProposals.addAll(slice.getContent());
+			lawQuery.setCursor(KeysetCursor.nextCursor(slice));
+		} while (slice.hasNext());
+
+		// THEN all proposals are returned in the same order
+		assertEquals(allProposals, pagedProposals, "Paging with a cursor should return the same proposals as one big page");
+	}
+
 	@Test
 	public void testFindBySearchQueryWithSorting() {
 		// GIVEN
@@ -160,7 +235,38 @@ public class LawServiceTests extends BaseTest {
 		});
 		LawModel firstLaw = getFirstResult(page);
 
-		assertTrue(firstLaw.getSupporters().contains(supporter));
+		LawModel firstLawWithSupporters = lawRepo.findWithSupportersById(firstLaw.getId()).get();   // supporters are loaded lazily
+		assertTrue(firstLawWithSupporters.getSupporters().contains(supporter));
+	}
+
+	@Test
+	public void testNumSupportersCounter() throws LiquidoException {
+		// GIVEN an idea
+		LawModel idea = getFirstResult(lawRepo.findByStatus(LawModel.LawStatus.IDEA, new OffsetLimitPageable(0,1)));
+		LawModel ideaWithSupporters = lawRepo.findWithSupportersById(idea.getId()).get();
+		int numSupportersBefore = ideaWithSupporters.getNumSupporters();
+
+		// AND a user that does not support this idea yet
+		UserModel supporter = null;
+		for (UserModel user : userRepo.findAll()) {
+			if (!user.equals(ideaWithSupporters.getCreatedBy()) && !ideaWithSupporters.getSupporters().contains(user)) {
+				supporter = user;
+				break;
+			}
+		}
+		assertTrue(supporter != null, "Need a user that does not support idea(id="+idea.getId()+") yet");
+
+		// WHEN this user supports the idea
+		lawService.addSupporter(supporter, idea);
+
+		// THEN the counter column is incremented
+		Integer numSupporters = jdbcTemplate.queryForObject("SELECT num_supporters FROM laws WHERE id = ?", Integer.class, idea.getId());
+		Integer countedSupporters = jdbcTemplate.queryForObject("SELECT count(*) FROM laws_supporters WHERE law_model_id = ?", Integer.class, idea.getId());
+		assertEquals(numSupportersBefore + 1, numSupporters.intValue(), "Expected numSupporters to be incremented");
+		assertEquals(countedSupporters, numSupporters, "Expected numSupporters to match the supporters in the DB");
+
+		// AND the law is not read from the second level cache with its old counter
+		assertEquals(numSupportersBefore + 1, lawRepo.findById(idea.getId()).get().getNumSupporters());
 	}
 
 	private LawModel getFirstResult(Page<LawModel> page) {
@@ -0,0 +1,147 @@
+package org.doogie.liquido.test;
+
+import com.jayway.jsonpath.JsonPath;
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.test.testUtils.BackendProcess;
+import org.doogie.liquido.test.testUtils.JwtAuthInterceptor;
+import org.doogie.liquido.testdata.TestFixtures;
+import org.doogie.liquido.util.Lson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Soak test for the heap budget mode: Run the backend with a fixed small heap and the "lowmem" profile.
+ * Then several clients browse polls and cast votes in parallel for a while.
+ *
+ * The backend must not run out of memory. (It is started with -XX:+ExitOnOutOfMemoryError.)
+ * And it must not spend more than <pre>liquido.benchmark.maxGcPercent</pre> of the time in GC pauses.
+ * GC pauses are read from the backend's GC log.
+ *
+ * The default heap is 128MB. The framework alone (Spring, Hibernate metadata, Spring Data REST mappings) keeps
+ * about 47MB alive. With a 64MB heap the GC therefore runs nearly all the time (~20% GC pauses on one CPU).
+ * With 128MB it was below 1%.
+ *
+ * This test is not run by default. Start it with
+ * <pre>mvn test -Dtest=LowMemorySoakTest -Dliquido.benchmark=true [-Dliquido.benchmark.heap=128m] [-Dliquido.benchmark.maxGcPercent=10] [-Dliquido.benchmark.soakSeconds=60]</pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "liquido.benchmark", matches = "true")
+public class LowMemorySoakTest {
+
+	static final String DEV_LOGIN_TOKEN = "soak" + System.currentTimeMillis();
+	static final int NUM_CLIENTS = 8;
+	static final Pattern GC_PAUSE = Pattern.compile("Pause .* ([0-9.]+)ms$");
+
+	@Test
+	public void soakTestVoteAndBrowseWithFixedHeap() throws Exception {
+		String heap = System.getProperty("liquido.benchmark.heap", "128m");
+		long soakMillis = Long.parseLong(System.getProperty("liquido.benchmark.soakSeconds", "60")) * 1000;
+		double maxGcPercent = Double.parseDouble(System.getProperty("liquido.benchmark.maxGcPercent", "10"));
+		Path gcLog = Paths.get("target", "backend-lowmem-soak-gc.log");
+		Files.deleteIfExists(gcLog);
+
+		try (BackendProcess backend = BackendProcess.start("lowmem-soak",
+			Arrays.asList("-Xms" + heap, "-Xmx" + heap, "-XX:+ExitOnOutOfMemoryError", "-Xlog:gc:file=" + gcLog),
+			"--spring.profiles.active=test,local,faststart,lowmem",
+			"--liquido.test.devLoginToken=" + DEV_LOGIN_TOKEN,
+			"--liquido.search.indexDir=target/backend-lowmem-soak-index")) {
+			backend.waitForPing(180000);
+
+			RestTemplate anonymousClient = new RestTemplateBuilder().rootUri(backend.getRootUri()).build();
+			String loginJson = anonymousClient.getForObject("/dev/getJWT?email={email}&teamName={teamName}&token={token}", String.class,
+				TestFixtures.TEAM1_ADMIN_EMAIL, TestFixtures.TEAM1_NAME, DEV_LOGIN_TOKEN);
+			RestTemplate client = new RestTemplateBuilder().rootUri(backend.getRootUri())
+				.additionalInterceptors(new JwtAuthInterceptor(JsonPath.read(loginJson, "$.jwt")))
+				.build();
+
+			// A poll in voting that the clients can vote in
+			String pollsJson = client.getForObject("/polls/search/find?status=VOTING", String.class);
+			List<Integer> pollIds = JsonPath.read(pollsJson, "$._embedded.polls[*].id");
+			assertTrue(pollIds.size() > 0, "Need a poll in VOTING for soak test");
+			Integer pollId = pollIds.get(0);
+			List<Integer> proposalIds = JsonPath.read(pollsJson, "$._embedded.polls[0].proposals[*].id");
+			Integer areaId = JsonPath.read(pollsJson, "$._embedded.polls[0].area.id");
+
+			// Each client votes with its own voterToken. (Parallel votes with the same voterToken would overwrite each others ballot.)
+			List<String> voterTokens = new ArrayList<>();
+			for (int c = 0; c < NUM_CLIENTS; c++) {
+				voterTokens.add(JsonPath.read(client.getForObject("/my/voterToken/{areaId}?tokenSecret={tokenSecret}", String.class,
+					areaId, TestFixtures.USER_TOKEN_SECRET + c), "$.voterToken"));
+			}
+
+			// Warm up single threaded. Spring Data REST fills some of its internal mapping caches lazily and not thread safe.
+			client.getForObject("/polls/search/find?status=VOTING", String.class);
+			client.getForObject("/polls/search/find?status=FINISHED", String.class);
+			client.getForObject("/polls/{pollId}", String.class, pollId);
+
+			double gcMillisBefore = sumGcPauses(gcLog);
+			long soakStart = System.currentTimeMillis();
+			AtomicLong numRequests = new AtomicLong();
+			ExecutorService clients = Executors.newFixedThreadPool(NUM_CLIENTS);
+			List<Future<?>> results = new ArrayList<>();
+			for (String voterToken : voterTokens) {
+				results.add(clients.submit(() -> {
+					Random rand = new Random();
+					while (System.currentTimeMillis() - soakStart < soakMillis && backend.isAlive()) {
+						// browse
+						client.getForObject("/polls/search/find?status=VOTING", String.class);
+						client.getForObject("/polls/search/find?status=FINISHED", String.class);
+						client.getForObject("/polls/{pollId}", String.class, pollId);
+						// vote
+						List<Integer> voteOrderIds = new ArrayList<>(proposalIds);
+						Collections.shuffle(voteOrderIds, rand);
+						anonymousClient.postForObject("/castVote", Lson.builder()
+							.put("poll", "/polls/" + pollId)
+							.put("voterToken", voterToken)
+							.putArray("voteOrderIds", voteOrderIds)
+							.toJsonHttpEntity(), String.class);
+						numRequests.addAndGet(4);
+					}
+					return null;
+				}));
+			}
+			clients.shutdown();
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					if (!backend.isAlive()) throw new AssertionError("Backend died during the soak test with exit code " + backend.exitValue() + " (3 = out of memory). See " + backend.logFile, e);
+					throw e;   // request failed
+				}
+			}
+			long elapsedMillis = System.currentTimeMillis() - soakStart;
+			assertTrue(backend.isAlive(), "Backend ran out of memory. See " + backend.logFile);
+
+			double gcMillis = sumGcPauses(gcLog) - gcMillisBefore;
+			double gcPercent = 100.0 * gcMillis / elapsedMillis;
+			log.info(String.format("===== LowMemorySoakTest: %d requests in %dms (%.1f req/s) with -Xmx%s. GC pauses: %.0fms = %.2f%% of the time",
+				numRequests.get(), elapsedMillis, numRequests.get() * 1000.0 / elapsedMillis, heap, gcMillis, gcPercent));
+			assertTrue(gcPercent <= maxGcPercent, "Backend spent " + gcPercent + "% of the time in GC pauses. Should be at most " + maxGcPercent + "%");
+		}
+	}
+
+	/** Sum of all GC pauses in the GC log of the backend */
+	private double sumGcPauses(Path gcLog) throws IOException {
+		if (!Files.exists(gcLog)) return 0;
+		double sum = 0;
+		for (String line : Files.readAllLines(gcLog)) {
+			Matcher m = GC_PAUSE.matcher(line);
+			if (m.find()) sum += Double.parseDouble(m.group(1));
+		}
+		return sum;
+	}
+}
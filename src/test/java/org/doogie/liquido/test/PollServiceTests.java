@@ -8,7 +8,11 @@ import org.doogie.liquido.model.*;
 import org.doogie.liquido.rest.dto.CastVoteRequest;
 import org.doogie.liquido.services.CastVoteService;
 import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.services.PollArchiveService;
 import org.doogie.liquido.services.PollService;
+import org.doogie.liquido.services.PollStatusService;
+import org.doogie.liquido.services.scheduler.PollDeadlineScheduler;
+import org.doogie.liquido.services.scheduler.SchedulerLeaseService;
 import org.doogie.liquido.services.voting.SchulzeMethod;
 import org.doogie.liquido.testdata.TestDataCreator;
 import org.doogie.liquido.testdata.TestDataUtils;
@@ -19,7 +23,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,6 +49,24 @@ public class PollServiceTests extends BaseTest {
 	@Autowired
 	CastVoteService castVoteService;
 
+	@Autowired
+	PollArchiveService pollArchiveService;
+
+	@Autowired
+	PollDeadlineScheduler pollDeadlineScheduler;
+
+	@Autowired
+	PollStatusService pollStatusService;
+
+	@Autowired
+	EntityManagerFactory emf;
+
+	@Autowired
+	SchedulerLeaseService schedulerLeaseService;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
 	@Autowired
 	TestDataCreator testDataCreator;
 
@@ -368,6 +394,163 @@ public class PollServiceTests extends BaseTest {
 	}
 
 
+	/**
+	 * Test {@link PollArchiveService}: Ballots of an archived poll are removed from the ballots table,
+	 * but they can still be verified with their checksum.
+	 */
+	@Test
+	public void testArchiveFinishedPoll() throws LiquidoException {
+		this.dummyLoginInSecurityContext();
+		// GIVEN a finished poll with some ballots
+		PollModel poll = testDataCreator.seedPollInVotingPhase(3);
+		int[][] voteOrderIndexes = new int[][] { {0, 1, 2}, {2, 0} };
+		List<BallotModel> ballots = seedBallotsQuickly(poll, voteOrderIndexes, new int[] { 3, 2 });
+		pollService.finishVotingPhase(poll);
+		poll = pollRepo.findById(poll.getId()).orElseThrow();
+
+		// WHEN the poll is archived
+		pollArchiveService.archivePoll(poll);
+
+		// THEN its ballots are deleted from the ballots table
+		assertEquals("Archived ballots should be deleted", 0L, ballotRepo.countByPoll(poll));
+		//  AND results and ballots are read from the archive
+		assertEquals("Number of ballots should be read from the archive", (long)ballots.size(), pollService.getNumCastedBallots(poll));
+		for (BallotModel ballot : ballots) {
+			BallotModel archived = pollService.getBallotForChecksum(poll, ballot.getChecksum())
+				.orElseThrow(() -> new RuntimeException("Archived ballot should be verifiable with its checksum"));
+			assertEquals("Archived ballot should have the same voteOrder", ballot.getVoteOrder(), archived.getVoteOrder());
+			assertEquals("Archived ballot should have the same level", ballot.getLevel(), archived.getLevel());
+		}
+		assertFalse("Unknown checksum should not match any archived ballot", pollService.getBallotForChecksum(poll, "invalidChecksum").isPresent());
+	}
+
+	/**
+	 * Test {@link PollDeadlineScheduler}: A poll is finished when its voting phase has ended.
+	 */
+	@Test
+	public void testFinishDuePolls() throws LiquidoException {
+		this.dummyLoginInSecurityContext();
+		// GIVEN a poll in voting whose deadline has passed
+		PollModel poll = testDataCreator.seedPollInVotingPhase(2);
+		poll.setVotingEndAt(LocalDateTime.now().minusMinutes(1));
+		poll = pollRepo.save(poll);
+		pollDeadlineScheduler.schedule(poll);
+
+		// WHEN due polls are finished
+		int finished = pollDeadlineScheduler.finishDuePolls();
+
+		// THEN the poll is finished
+		assertTrue("At least our poll should have been finished", finished >= 1);
+		poll = pollRepo.findById(poll.getId()).orElseThrow();
+		assertEquals("Poll should be finished", PollModel.PollStatus.FINISHED, poll.getStatus());
+		//  AND finishing it again does nothing
+		pollDeadlineScheduler.schedule(poll);
+		assertEquals("Finished poll should not be finished again", 0, pollDeadlineScheduler.finishDuePolls());
+	}
+
+	/**
+	 * Test {@link PollDeadlineScheduler#startDuePolls()}: The voting phase of a poll starts at its votingStartAt.
+	 */
+	@Test
+	public void testStartDuePolls() throws LiquidoException {
+		// GIVEN a poll in elaboration whose voting phase should have started
+		PollModel poll = new TransactionTemplate(transactionManager).execute(status -> {
+			try {
+				PollModel pollInElaboration = testDataCreator.seedPollInElaborationInTeam(teamRepo.findById(this.team.getId()).orElseThrow(), null, 2);
+				pollInElaboration.setVotingStartAt(LocalDateTime.now().minusMinutes(1));
+				return pollRepo.save(pollInElaboration);
+			} catch (LiquidoException e) {
+				throw new RuntimeException("Cannot seed poll in elaboration", e);
+			}
+		});
+
+		// WHEN due polls are started
+		int started = pollDeadlineScheduler.startDuePolls();
+
+		// THEN the poll and its proposals are in voting
+		assertTrue("At least our poll should have been started", started >= 1);
+		poll = pollRepo.findById(poll.getId()).orElseThrow();
+		assertEquals("Poll should be in voting", PollModel.PollStatus.VOTING, poll.getStatus());
+		assertTrue("Voting phase should end in the future", poll.getVotingEndAt().isAfter(LocalDateTime.now()));
+		for (LawModel proposal : poll.getProposals()) {
+			assertEquals("Proposal should be in voting", LawModel.LawStatus.VOTING, proposal.getStatus());
+		}
+	}
+
+	/**
+	 * Polls that have already been started, e.g. by another node, are skipped. They do not get a second deadline.
+	 */
+	@Test
+	public void testStartVotingPhaseSkipsStartedPolls() {
+		// GIVEN a poll that is already in voting
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0);
+		int pendingPolls = (int) pollDeadlineScheduler.getStatistics().get("pendingPolls");
+
+		// WHEN it is started again in a bulk start
+		int started = pollService.startVotingPhase(Collections.singletonList(poll.getId()));
+
+		// THEN nothing is started
+		assertEquals("Poll in voting should not be started again", 0, started);
+		//  AND its deadline is unchanged and not scheduled again
+		PollModel reloaded = pollRepo.findById(poll.getId()).orElseThrow();
+		assertEquals("votingEndAt should not have changed", poll.getVotingEndAt(), reloaded.getVotingEndAt());
+		assertEquals("No deadline should have been scheduled", pendingPolls, (int) pollDeadlineScheduler.getStatistics().get("pendingPolls"));
+	}
+
+	/**
+	 * Two nodes try to finish the same poll. Only the first one tallies it.
+	 * The second one has a stale copy of the poll that is still in VOTING.
+	 */
+	@Test
+	public void testFinishPollOnlyOnce() throws LiquidoException {
+		this.dummyLoginInSecurityContext();
+		PollModel poll = testDataCreator.seedPollInVotingPhase(2);
+		PollModel stalePoll = pollRepo.findById(poll.getId()).orElseThrow();
+
+		pollService.finishVotingPhase(poll);
+		try {
+			pollService.finishVotingPhase(stalePoll);
+			fail("Finishing a poll twice should have thrown a LiquidoException");
+		} catch (LiquidoException e) {
+			assertEquals("Expected CANNOT_FINISH_POLL", LiquidoException.Errors.CANNOT_FINISH_POLL, e.getError());
+		}
+	}
+
+	/**
+	 * A status change via {@link PollStatusService} only evicts the changed poll from the second level cache, not the whole region.
+	 */
+	@Test
+	public void testStatusUpdateOnlyEvictsChangedPoll() {
+		// GIVEN two cached polls in voting
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		assertTrue("Need at least two polls in voting", polls.size() >= 2);
+		Long changedId = polls.get(0).getId();
+		Long otherId = polls.get(1).getId();
+		pollRepo.findById(changedId);
+		pollRepo.findById(otherId);
+		assertTrue("Poll should be cached", emf.getCache().contains(PollModel.class, otherId));
+
+		// WHEN the status of one poll is set (to the same value)
+		assertTrue("Compare-and-set should have updated the poll", pollStatusService.compareAndSetStatus(changedId, PollModel.PollStatus.VOTING, PollModel.PollStatus.VOTING));
+
+		// THEN only this poll is evicted
+		assertFalse("Changed poll should have been evicted", emf.getCache().contains(PollModel.class, changedId));
+		assertTrue("Other poll should still be cached", emf.getCache().contains(PollModel.class, otherId));
+		//  AND a compare-and-set from the wrong status does nothing
+		assertFalse("Compare-and-set from the wrong status should not update the poll", pollStatusService.compareAndSetStatus(changedId, PollModel.PollStatus.ELABORATION, PollModel.PollStatus.VOTING));
+	}
+
+	/**
+	 * Only one node can hold the lease of the {@link PollDeadlineScheduler}
+	 */
+	@Test
+	public void testSchedulerLease() {
+		String leaseName = "testLease" + System.currentTimeMillis();
+		assertTrue("First node should get the lease", schedulerLeaseService.acquire(leaseName, "nodeA"));
+		assertTrue("First node should be able to renew its lease", schedulerLeaseService.acquire(leaseName, "nodeA"));
+		assertFalse("Second node should not get the lease while it is held by the first node", schedulerLeaseService.acquire(leaseName, "nodeB"));
+	}
+
 	//TODO: test deletion of polls (Shall proposals stay to join other polls? Maybe throw away this use case, now that we have teams.)
 	/**
 	 * Test for {@link PollService#deletePoll(PollModel, boolean)} that a poll can be deleted.
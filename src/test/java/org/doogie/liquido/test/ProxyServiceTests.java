@@ -1,15 +1,10 @@
 package org.doogie.liquido.test;
 
 import lombok.extern.slf4j.Slf4j;
-import org.doogie.liquido.datarepos.AreaRepo;
-import org.doogie.liquido.datarepos.DelegationRepo;
-import org.doogie.liquido.datarepos.RightToVoteRepo;
-import org.doogie.liquido.datarepos.UserRepo;
-import org.doogie.liquido.model.AreaModel;
-import org.doogie.liquido.model.DelegationModel;
-import org.doogie.liquido.model.RightToVoteModel;
-import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.datarepos.*;
+import org.doogie.liquido.model.*;
 import org.doogie.liquido.services.CastVoteService;
+import org.doogie.liquido.services.DelegationPropagationService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.services.ProxyService;
 import org.doogie.liquido.test.testUtils.WithMockTeamUser;
@@ -21,10 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.doogie.liquido.testdata.TestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 
 @Slf4j
@@ -48,6 +45,15 @@ public class ProxyServiceTests extends BaseTest {
 	@Autowired
 	RightToVoteRepo rightToVoteRepo;
 
+	@Autowired
+	PollRepo pollRepo;
+
+	@Autowired
+	BallotRepo ballotRepo;
+
+	@Autowired
+	DelegationPropagationService delegationPropagationService;
+
 	@Autowired
 	LiquidoProperties props;
 
@@ -212,4 +218,44 @@ public class ProxyServiceTests extends BaseTest {
 		//Cleanup
 		proxyService.assignProxy(area, fromUser, toProxy, userVoterToken);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * GIVEN a poll in voting
+	 *   AND a public proxy P that already voted in this poll
+	 *  WHEN voter V assigns P as his proxy
+	 *  THEN the propagation worker casts a delegated ballot for V
+	 *  WHEN V removes his proxy again
+	 *  THEN the delegated ballot of V is deleted.
+	 */
+	@Test
+	public void testPropagateDelegationIntoOpenPoll() throws LiquidoException {
+		//GIVEN
+		AreaModel area = getDefaultArea();
+		List<PollModel> polls = pollRepo.findByStatusAndArea(PollModel.PollStatus.VOTING, area);
+		assumeFalse(polls.isEmpty(), "Need a poll in voting in default area");
+		PollModel poll = polls.get(0);
+		UserModel proxy = userRepo.findByEmail(MAIL_PREFIX+"50@"+EMAIL_DOMAIN).get();
+		UserModel voter = userRepo.findByEmail(MAIL_PREFIX+"51@"+EMAIL_DOMAIN).get();
+		String proxyVoterToken = castVoteService.createVoterTokenAndStoreRightToVote(proxy, area, USER_TOKEN_SECRET, true);
+		String voterToken      = castVoteService.createVoterTokenAndStoreRightToVote(voter, area, USER_TOKEN_SECRET, false);
+		RightToVoteModel voterRightToVote = castVoteService.isVoterTokenValid(voterToken);
+		assumeFalse(ballotRepo.findByPollAndRightToVote(poll, voterRightToVote).isPresent(), "Voter must not have voted yet");
+		BallotModel proxyBallot = castVoteService.castVote(proxyVoterToken, poll, TestDataUtils.randVoteOrderIds(poll)).getBallot();
+
+		//WHEN
+		proxyService.assignProxy(area, voter, proxy, voterToken);
+		delegationPropagationService.processPendingChanges();
+
+		//THEN
+		Optional<BallotModel> delegatedBallot = ballotRepo.findByPollAndRightToVote(poll, voterRightToVote);
+		assertTrue(delegatedBallot.isPresent(), "Proxy's ballot should have been propagated to the voter");
+		assertEquals(proxyBallot.getLevel() + 1, delegatedBallot.get().getLevel(), "Delegated ballot should be one level below the proxy");
+
+		//WHEN
+		proxyService.removeProxy(area, voter, voterToken);
+		delegationPropagationService.processPendingChanges();
+
+		//THEN
+		assertFalse(ballotRepo.findByPollAndRightToVote(poll, voterRightToVote).isPresent(), "Delegated ballot should have been deleted");
+	}
+}
@@ -0,0 +1,213 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.*;
+import org.doogie.liquido.model.*;
+import org.doogie.liquido.services.PollStatusService;
+import org.doogie.liquido.test.testUtils.RecordingStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.doogie.liquido.testdata.TestFixtures.USER1_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query plan regression tests for frequent lookups.
+ *
+ * Each test calls one repository method, takes the SQL that hibernate generated for it and lets H2 EXPLAIN it.
+ * The test fails when H2 has to scan a whole table. This happens when somebody removes one of the indexes
+ * from the models (and from the SQL scripts) or changes a query so that it cannot use them anymore.
+ *
+ * Every repository query is covered, except for the ones that read a whole table by design (e.g. findAll)
+ * and TeamRepo.teamsOfUser, whose OR over two join tables cannot use one index. The teams table is small.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.doogie.liquido.test.testUtils.RecordingStatementInspector")
+@Transactional
+public class QueryPlanTests extends BaseTest {
+
+	/** H2 marks full table scans like this in its query plan */
+	private static final String TABLE_SCAN = "tableScan";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	OneTimeTokenRepo oneTimeTokenRepo;
+
+	@Autowired
+	BallotRepo ballotRepo;
+
+	@Autowired
+	RightToVoteRepo rightToVoteRepo;
+
+	@Autowired
+	DelegationRepo delegationRepo;
+
+	@Autowired
+	LawRepo lawRepo;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	@Autowired
+	CommentRepo commentRepo;
+
+	@Autowired
+	SchedulerLeaseRepo schedulerLeaseRepo;
+
+	UserModel user;
+	AreaModel area;
+	PollModel poll;
+	LawModel proposal;
+	RightToVoteModel rightToVote;
+
+	@BeforeEach
+	public void loadEntities() {
+		user = userRepo.findByEmail(USER1_EMAIL).orElseThrow(() -> new RuntimeException("Need " + USER1_EMAIL + " for QueryPlanTests"));
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		assertTrue(polls.size() > 0, "Need a poll in VOTING for QueryPlanTests");
+		poll = polls.get(0);
+		proposal = poll.getProposals().iterator().next();
+		area = getDefaultArea();    // load it here, so that its query is not recorded by assertNoTableScan
+		rightToVote = rightToVoteRepo.findAll().iterator().next();
+		RecordingStatementInspector.clear();
+	}
+
+	@Test
+	public void testUserLookups() {
+		assertNoTableScan(() -> userRepo.findByEmail(USER1_EMAIL));
+		assertNoTableScan(() -> userRepo.findByMobilephone("+4912345"));
+	}
+
+	@Test
+	public void testOneTimeTokenLookups() {
+		assertNoTableScan(() -> oneTimeTokenRepo.findByNonce("dummyNonce"));
+		assertNoTableScan(() -> oneTimeTokenRepo.findByNonceAndValidUntilAfter("dummyNonce", LocalDateTime.now()));
+		assertNoTableScan(() -> oneTimeTokenRepo.findIdsOfExpiredTokens(LocalDateTime.now(), 0L, PageRequest.of(0, 100)));
+	}
+
+	@Test
+	public void testBallotLookups() {
+		assertNoTableScan(() -> ballotRepo.findByPoll(poll));
+		assertNoTableScan(() -> ballotRepo.findByPollAndChecksum(poll, "dummyChecksum"));
+		assertNoTableScan(() -> ballotRepo.findByPollAndRightToVote(poll, rightToVote));
+		assertNoTableScan(() -> ballotRepo.findByRightToVote(rightToVote));
+		assertNoTableScan(() -> ballotRepo.findByPollAndLevel(poll, 0));
+	}
+
+	@Test
+	public void testRightToVoteLookups() {
+		assertNoTableScan(() -> rightToVoteRepo.findValidByHashedVoterToken("dummyHash", LocalDateTime.now()));
+		assertNoTableScan(() -> rightToVoteRepo.findByDelegatedTo(rightToVote));
+		assertNoTableScan(() -> rightToVoteRepo.findByAreaAndPublicProxy(area, user));
+		assertNoTableScan(() -> rightToVoteRepo.findExpiredHashedVoterTokens(LocalDateTime.now(), "", PageRequest.of(0, 100)));
+	}
+
+	@Test
+	public void testDelegationLookups() {
+		assertNoTableScan(() -> delegationRepo.findByFromUser(user));
+		assertNoTableScan(() -> delegationRepo.findByAreaAndToProxy(area, user));
+		assertNoTableScan(() -> delegationRepo.findByAreaAndFromUser(area, user));
+		assertNoTableScan(() -> delegationRepo.findDelegationRequests(area, user, LocalDateTime.now().minusDays(30)));
+		assertNoTableScan(() -> delegationRepo.findAcceptedDelegations(area, user));
+		assertNoTableScan(() -> delegationRepo.findIdsOfExpiredDelegationRequests(LocalDateTime.now(), 0L, PageRequest.of(0, 100)));
+	}
+
+	@Test
+	public void testLawLookups() {
+		assertNoTableScan(() -> lawRepo.findByStatus(LawModel.LawStatus.IDEA, PageRequest.of(0, 10)));
+		assertNoTableScan(() -> lawRepo.findByStatusAndArea(LawModel.LawStatus.PROPOSAL, area, PageRequest.of(0, 10)));
+		assertNoTableScan(() -> lawRepo.recentIdeas(PageRequest.of(0, 10)));
+		assertNoTableScan(() -> lawRepo.reachedQuorumSince(LocalDateTime.now().minusDays(14)));
+		assertNoTableScan(() -> lawRepo.findByReachedQuorumAtGreaterThanEqualAndCreatedBy(LocalDateTime.now().minusDays(14), user));
+		assertNoTableScan(() -> lawRepo.findDistinctByStatusAndCreatedBy(LawModel.LawStatus.VOTING, user));
+		assertNoTableScan(() -> lawRepo.findDistinctByStatusAndSupportersContains(LawModel.LawStatus.IDEA, user));
+		assertNoTableScan(() -> lawRepo.getRecentlyDiscussed(new Date(System.currentTimeMillis() - 24*3600*1000)));
+		assertNoTableScan(() -> lawRepo.getRecentlyDiscussed(new Date(System.currentTimeMillis() - 24*3600*1000), user));
+		assertNoTableScan(() -> lawRepo.findIdsSupportedBy(Collections.singletonList(proposal.getId()), user.getId()));
+		assertNoTableScan(() -> lawRepo.findIdsCreatedBy(Collections.singletonList(proposal.getId()), user.getId()));
+	}
+
+	@Test
+	public void testCommentLookups() {
+		assertNoTableScan(() -> commentRepo.findThreadElemsByIds(Collections.singletonList(-1L), user));
+		assertNoTableScan(() -> commentRepo.findThreadElemsByParentIds(Collections.singletonList(-1L), user));
+		assertNoTableScan(() -> commentRepo.countRepliesByParentIds(Collections.singletonList(-1L)));
+	}
+
+	@Test
+	public void testPollLookups() {
+		assertNoTableScan(() -> pollRepo.findById(poll.getId()));
+		assertNoTableScan(() -> pollRepo.findByStatus(PollModel.PollStatus.VOTING));
+		assertNoTableScan(() -> pollRepo.findByStatusAndArea(PollModel.PollStatus.VOTING, area));
+		assertNoTableScan(() -> pollRepo.findByArea(area));
+		assertNoTableScan(() -> pollRepo.findAllWithProposalsByIdIn(Collections.singletonList(poll.getId())));
+		assertNoTableScan(() -> pollRepo.findPollUpdates(Collections.singletonList(poll.getId())));
+		assertNoTableScan(() -> pollRepo.findTeamIdOfPoll(poll.getId()));
+		assertNoTableScan(() -> pollRepo.findIdsOfPollsToStart(PollModel.PollStatus.ELABORATION, LocalDateTime.now()));
+		assertNoTableScan(() -> pollRepo.findIdsOfDuePolls(PollModel.PollStatus.VOTING, LocalDateTime.now()));
+		assertNoTableScan(() -> pollRepo.findIdsOfPollsToArchive(PollModel.PollStatus.FINISHED, LocalDateTime.now()));
+	}
+
+	/** These status updates run via JDBC. See PollStatusService */
+	@Test
+	public void testPollStatusUpdates() {
+		assertNoTableScan(PollStatusService.COMPARE_AND_SET_POLL_STATUS);
+		assertNoTableScan(PollStatusService.UPDATE_POLL_STATUS_AND_VOTING_DATES);
+		assertNoTableScan(PollStatusService.FIND_POLL_IDS_WITH_VOTING_START);
+		assertNoTableScan(PollStatusService.FIND_PROPOSAL_IDS_IN_POLLS);
+		assertNoTableScan(PollStatusService.UPDATE_LAW_STATUS);
+	}
+
+	@Test
+	public void testTeamLookups() {
+		assertNoTableScan(() -> teamRepo.findByInviteCode("dummyInviteCode"));
+		assertNoTableScan(() -> teamRepo.findByTeamName("dummyTeamName"));
+		assertNoTableScan(() -> teamRepo.findByIdAndAdminsIdEquals(team.getId(), user.getId()));
+	}
+
+	@Test
+	public void testSchedulerLeaseLookups() {
+		assertNoTableScan(() -> schedulerLeaseRepo.renewOrTakeOver("dummyLease", "dummyOwner", LocalDateTime.now(), LocalDateTime.now().plusMinutes(1)));
+	}
+
+	/**
+	 * Run a repository query and EXPLAIN the first SQL statement that hibernate prepared for it.
+	 * The query plan does not depend on the parameter values. So all parameters are simply set to NULL.
+	 * @param repoCall the call to a repository method
+	 */
+	private void assertNoTableScan(Runnable repoCall) {
+		RecordingStatementInspector.clear();
+		repoCall.run();
+		List<String> statements = RecordingStatementInspector.getStatements();
+		assertFalse(statements.isEmpty(), "Repository call did not run any SQL");
+		assertNoTableScan(statements.get(0));
+	}
+
+	/**
+	 * EXPLAIN an SQL statement. Named parameters like <pre>:id</pre> are replaced with <pre>?</pre> and set to NULL.
+	 * @param sqlWithNamedParams SQL statement
+	 */
+	private void assertNoTableScan(String sqlWithNamedParams) {
+		String sql = sqlWithNamedParams.replaceAll(":\\w+", "?");
+		long numParams = sql.chars().filter(c -> c == '?').count();
+		List<String> plan = jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+			for (int i = 1; i <= numParams; i++) ps.setObject(i, null);
+		}, (rs, rowNum) -> rs.getString(1));
+		String planStr = String.join("\n", plan);
+		log.debug("Query plan for " + sql + "\n" + planStr);
+		assertFalse(planStr.contains(TABLE_SCAN), "Query does a full table scan:\n" + planStr);
+	}
+}
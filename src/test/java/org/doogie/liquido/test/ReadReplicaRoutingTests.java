@@ -0,0 +1,94 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datasource.ReadWriteRoutingDataSource;
+import org.doogie.liquido.datasource.ReadYourWritesGuard;
+import org.doogie.liquido.model.AreaModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Read-only transactions go to the read replica, everything else to the primary DB.
+ * The replica is a second in-memory H2 DB. It is filled with the same sample data on startup, but never receives any changes.
+ */
+@Slf4j
+@SpringBootTest(properties = "liquido.datasource.replica.jdbc-url=jdbc:h2:mem:liquido-replica-test;DB_CLOSE_DELAY=-1")
+public class ReadReplicaRoutingTests extends BaseTest {
+
+	private static final String REPLICA_DB = "liquido-replica-test";
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	ReadYourWritesGuard readYourWritesGuard;
+
+	TransactionTemplate readOnlyTx;
+	TransactionTemplate readWriteTx;
+
+	@BeforeEach
+	public void setup() {
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+		readWriteTx = new TransactionTemplate(transactionManager);
+		readYourWritesGuard.endRequest();   // like a new request without cookie
+	}
+
+	@Test
+	public void testReadOnlyTransactionUsesReplica() {
+		assertTrue(readOnlyTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-only transaction should use the replica");
+		assertFalse(readWriteTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-write transaction should use the primary");
+	}
+
+	@Test
+	public void testReadOnlyTransactionPinnedToPrimary() {
+		String[] url = new String[1];
+		readOnlyTx.executeWithoutResult(status -> ReadWriteRoutingDataSource.onPrimary(() -> url[0] = currentDbUrl()));
+		assertFalse(url[0].contains(REPLICA_DB), "Read-only transaction pinned to the primary should not use the replica");
+		assertTrue(readOnlyTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-only transaction should use the replica again afterwards");
+	}
+
+	@Test
+	public void testReadWriteTransactionWithoutWritesDoesNotPinToPrimary() {
+		// GIVEN a read-write transaction that only reads
+		assertEquals(Integer.valueOf(1), readWriteTx.execute(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class)));
+
+		// THEN the following reads of this client still use the replica
+		assertTrue(readOnlyTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-write transaction without writes should not pin the client to the primary");
+	}
+
+	@Test
+	public void testReadYourWritesAfterCommit() {
+		AreaModel area = this.getDefaultArea();
+		String newDescription = "Changed on primary " + System.currentTimeMillis();
+		readWriteTx.execute(status -> jdbcTemplate.update("UPDATE areas SET description = ? WHERE id = ?", newDescription, area.getId()));
+
+		// Right after the write, this client reads from the primary and sees its own change
+		assertFalse(readOnlyTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-only transaction right after a write should use the primary");
+		assertEquals(newDescription, readOnlyTx.execute(status -> loadDescription(area.getId())));
+
+		// Another request (without cookie) reads from the replica, which has not (yet) received the change.
+		readYourWritesGuard.endRequest();
+		assertTrue(readOnlyTx.execute(status -> currentDbUrl()).contains(REPLICA_DB), "Read-only transaction of another request should use the replica");
+		assertNotEquals(newDescription, readOnlyTx.execute(status -> loadDescription(area.getId())));
+	}
+
+	private String currentDbUrl() {
+		return jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getURL());
+	}
+
+	private String loadDescription(Long areaId) {
+		return jdbcTemplate.queryForObject("SELECT description FROM areas WHERE id = ?", String.class, areaId);
+	}
+}
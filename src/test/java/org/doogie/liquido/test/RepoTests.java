@@ -2,18 +2,25 @@ package org.doogie.liquido.test;
 
 import lombok.extern.slf4j.Slf4j;
 import org.doogie.liquido.datarepos.AreaRepo;
+import org.doogie.liquido.datarepos.DelegationRepo;
 import org.doogie.liquido.datarepos.LawRepo;
+import org.doogie.liquido.datarepos.OneTimeTokenRepo;
+import org.doogie.liquido.datarepos.RightToVoteRepo;
 import org.doogie.liquido.datarepos.UserRepo;
-import org.doogie.liquido.model.AreaModel;
-import org.doogie.liquido.model.LawModel;
-import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.model.*;
 import org.doogie.liquido.security.LiquidoAuditorAware;
+import org.doogie.liquido.services.CacheService;
+import org.doogie.liquido.services.ExpirySweeperService;
 import org.doogie.liquido.test.testUtils.WithMockTeamUser;
 import org.doogie.liquido.testdata.TestFixtures;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +46,24 @@ public class RepoTests extends BaseTest {
   @Autowired
   AreaRepo areaRepo;
 
+  @Autowired
+  CacheService cacheService;
+
+  @Autowired
+  EntityManagerFactory emf;
+
+  @Autowired
+  OneTimeTokenRepo ottRepo;
+
+  @Autowired
+  RightToVoteRepo rightToVoteRepo;
+
+  @Autowired
+  DelegationRepo delegationRepo;
+
+  @Autowired
+  ExpirySweeperService expirySweeperService;
+
   @Test
   public void findUserByEmail() {
     Optional<UserModel> foundUser = userRepo.findByEmail(TestFixtures.USER1_EMAIL);
@@ -105,4 +130,60 @@ public class RepoTests extends BaseTest {
     log.debug("User "+supporter.getEmail()+" supports "+supportedLaws.size()+" proposals.");
   }
 
+  @Test
+  public void testSecondLevelCache() {
+    // GIVEN a user that is not yet in the second level cache
+    UserModel user = userRepo.findByEmail(TestFixtures.USER1_EMAIL).get();
+    cacheService.evict(user);
+    Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+    long hitsBefore = stats.getSecondLevelCacheHitCount();
+
+    // WHEN this user is loaded twice (each time in its own session)
+    userRepo.findById(user.getId());
+    userRepo.findById(user.getId());
+
+    // THEN the second load is served from the cache
+    assertTrue(stats.getSecondLevelCacheHitCount() > hitsBefore, "Expected a hit in the second level cache");
+    log.debug("Cache statistics: "+cacheService.getStatistics());
+  }
+
+  @Test
+  public void testSweepExpiredRows() {
+    // GIVEN an expired one time token and an expired rightToVote
+    LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+    UserModel user = userRepo.findByEmail(TestFixtures.USER1_EMAIL).get();
+    OneTimeToken ott = ottRepo.save(new OneTimeToken("expiredNonce" + System.currentTimeMillis(), user, yesterday));
+    RightToVoteModel rightToVote = new RightToVoteModel("$2expiredHashedVoterToken" + System.currentTimeMillis(), getDefaultArea());
+    rightToVote.setExpiresAt(yesterday);
+    rightToVoteRepo.save(rightToVote);
+
+    // AND a fresh and an expired delegation request in a new area
+    UserModel proxy = userRepo.findByEmail(TestFixtures.USER2_EMAIL).get();
+    UserModel otherUser = userRepo.findByEmail(TestFixtures.USER3_EMAIL).get();
+    AreaModel area = areaRepo.save(new AreaModel("Sweeper area " + System.currentTimeMillis(), "Area for testSweepExpiredRows", user));
+    RightToVoteModel validRightToVote = new RightToVoteModel("$2validHashedVoterToken" + System.currentTimeMillis(), area);
+    validRightToVote.setExpiresAt(LocalDateTime.now().plusDays(1));
+    rightToVoteRepo.save(validRightToVote);
+    DelegationModel freshRequest = delegationRepo.save(DelegationModel.buildDelegationRequest(area, user, proxy, false, validRightToVote));
+    DelegationModel expiredRequest = DelegationModel.buildDelegationRequest(area, otherUser, proxy, false, validRightToVote);
+    expiredRequest.setRequestedDelegationAt(LocalDateTime.now().minusYears(1));
+    expiredRequest = delegationRepo.save(expiredRequest);
+
+    // THEN they cannot be used anymore
+    assertFalse(ottRepo.findByNonceAndValidUntilAfter(ott.getNonce(), LocalDateTime.now()).isPresent(), "Expired token should not be valid");
+    assertFalse(rightToVoteRepo.findValidByHashedVoterToken(rightToVote.getHashedVoterToken(), LocalDateTime.now()).isPresent(), "Expired rightToVote should not be valid");
+
+    // WHEN the sweeper runs
+    log.debug("Deleted expired rows: " + expirySweeperService.sweep());
+
+    // THEN they are deleted
+    assertFalse(ottRepo.findByNonce(ott.getNonce()).isPresent(), "Expired token should have been deleted");
+    assertFalse(rightToVoteRepo.findByHashedVoterToken(rightToVote.getHashedVoterToken()).isPresent(), "Expired rightToVote should have been deleted");
+    assertFalse(delegationRepo.findById(expiredRequest.getId()).isPresent(), "Expired delegation request should have been deleted");
+
+    // AND the fresh delegation request survives the sweep
+    assertTrue(delegationRepo.findById(freshRequest.getId()).isPresent(), "Fresh delegation request should not have been deleted");
+    assertTrue(rightToVoteRepo.findByHashedVoterToken(validRightToVote.getHashedVoterToken()).isPresent(), "Valid rightToVote should not have been deleted");
+  }
+
 }
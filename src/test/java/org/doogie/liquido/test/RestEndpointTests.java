@@ -10,6 +10,7 @@ import net.minidev.json.JSONArray;
 import org.doogie.liquido.datarepos.*;
 import org.doogie.liquido.model.*;
 import org.doogie.liquido.services.CastVoteService;
+import org.doogie.liquido.services.CounterService;
 import org.doogie.liquido.services.LiquidoException;
 import org.doogie.liquido.testdata.LiquidoProperties;
 import org.doogie.liquido.testdata.TestDataUtils;
@@ -20,12 +21,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 
 import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -61,15 +67,30 @@ public class RestEndpointTests extends HttpBaseTest {
   @Autowired
   PollRepo pollRepo;
 
+  @Autowired
+  PollResultRepo pollResultRepo;
+
   @Autowired
 	RightToVoteRepo rightToVoteRepo;
 
   @Autowired
 	BallotRepo ballotRepo;
 
+  @Autowired
+  CommentRepo commentRepo;
+
   @Autowired
   CastVoteService castVoteService;
 
+  @Autowired
+  CounterService counterService;
+
+  @Autowired
+  JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  EntityManagerFactory emf;
+
   @Autowired
 	LiquidoProperties prop;
 
@@ -412,6 +433,68 @@ public class RestEndpointTests extends HttpBaseTest {
 
 	}
 
+	@Test
+	public void testGetCommentThreads() {
+		// GIVEN a proposal with comments
+		CommentModel anyComment = commentRepo.findAll(PageRequest.of(0, 1)).iterator().next();
+		Long proposalId = anyComment.getProposal().getId();
+
+		// WHEN fetching the first page with only one thread and without any replies
+		ResponseEntity<String> res = client.getForEntity("/laws/"+proposalId+"/comments?limit=1&maxDepth=0", String.class);
+
+		// THEN exactly one top level comment is returned
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		DocumentContext ctx = JsonPath.parse(res.getBody());
+		JSONArray comments = ctx.read("$._embedded.comments");
+		assertEquals(1, comments.size(), "Expected exactly one thread of comments");
+		JSONArray replies = ctx.read("$._embedded.comments[0].replies");
+		assertEquals(0, replies.size(), "Expected no replies with maxDepth=0");
+		assertNotNull(ctx.read("$._embedded.comments[0].upVotes"), "Expected number of upVotes");
+		Long firstThreadId = ctx.read("$._embedded.comments[0].id", Long.class);
+
+		// AND when there is a next page, then it starts with an older thread
+		String nextCursor = ctx.read("$._page.nextCursor", String.class);
+		if (nextCursor != null) {
+			res = client.getForEntity("/laws/"+proposalId+"/comments?limit=1&maxDepth=0&cursor="+nextCursor, String.class);
+			Long secondThreadId = JsonPath.parse(res.getBody()).read("$._embedded.comments[0].id", Long.class);
+			assertNotEquals(firstThreadId, secondThreadId, "Expected next page to contain another thread");
+			CommentModel firstThread = commentRepo.findById(firstThreadId).get();
+			CommentModel secondThread = commentRepo.findById(secondThreadId).get();
+			assertFalse(secondThread.getCreatedAt().after(firstThread.getCreatedAt()), "Expected next page to contain an older thread");
+		}
+
+		// AND with replies, the tree contains all comments of this proposal
+		res = client.getForEntity("/laws/"+proposalId+"/comments?limit=100&maxDepth=100", String.class);
+		JSONArray allComments = JsonPath.read(res.getBody(), "$._embedded.comments..comment");
+		LawModel proposal = lawRepo.findById(proposalId).get();
+		assertEquals(proposal.getNumComments(), allComments.size(), "Expected all comments and replies of proposal(id="+proposalId+")");
+	}
+
+	@Test
+	public void testReplyWithLowerIdThanItsParent() {
+		// GIVEN a comment with a reply that has a lower ID than its parent. This happens with pooled IDs on several backend nodes.
+		CommentModel parent = commentRepo.findAll(PageRequest.of(0, 1)).iterator().next();
+		Long proposalId = parent.getProposal().getId();
+		long replyId = -parent.getId();
+		jdbcTemplate.update("INSERT INTO comments (id, created_at, updated_at, comment, created_by_id, parent_id, proposal_id) VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?, ?, ?, ?)",
+			replyId, "Reply with lower ID", parent.getCreatedBy().getId(), parent.getId(), proposalId);
+		try {
+			// WHEN loading all threads of the proposal
+			ResponseEntity<String> res = client.getForEntity("/laws/"+proposalId+"/comments?limit=100&maxDepth=100", String.class);
+			assertEquals(HttpStatus.OK, res.getStatusCode());
+
+			// THEN the reply is not shown as a top level comment
+			JSONArray topLevelIds = JsonPath.read(res.getBody(), "$._embedded.comments[*].id");
+			assertFalse(topLevelIds.contains(replyId) || topLevelIds.contains((int) replyId), "Reply must not be shown as a thread");
+
+			//  AND it is found exactly once in the tree
+			JSONArray foundReplies = JsonPath.read(res.getBody(), "$._embedded.comments..[?(@.comment == 'Reply with lower ID')].id");
+			assertEquals(1, foundReplies.size(), "Reply with lower ID than its parent should be in the tree of comments");
+		} finally {
+			jdbcTemplate.update("DELETE FROM comments WHERE id = ?", replyId);
+		}
+	}
+
 	/**
 	 * This tests the deserialization from a proposal URI to the actual entity class.
 	 */
@@ -772,6 +855,189 @@ public class RestEndpointTests extends HttpBaseTest {
 		ballotRepo.findByPollAndChecksum(poll, user4Checksum).ifPresent(ballot -> ballotRepo.delete(ballot));
 	}
 
+	@Test
+	public void testConditionalGetOfPollAndLaw() {
+		// GIVEN a poll in voting and one of its proposals
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0);
+		LawModel proposal = pollRepo.findAllWithProposalsByIdIn(Collections.singletonList(poll.getId())).get(0).getProposals().iterator().next();
+
+		for (String url : new String[] { "/polls/" + poll.getId(), "/laws/" + proposal.getId() }) {
+			// WHEN loading the resource
+			ResponseEntity<String> res = client.getForEntity(url, String.class);
+
+			// THEN it has a weak ETag and a Last-Modified date
+			assertEquals(HttpStatus.OK, res.getStatusCode());
+			String eTag = res.getHeaders().getETag();
+			assertNotNull(eTag, "Expected an ETag for " + url);
+			assertTrue(eTag.startsWith("W/"), "ETag should be weak: " + eTag);
+			assertTrue(res.getHeaders().getLastModified() > 0, "Expected Last-Modified for " + url);
+
+			// WHEN loading it again with this ETag
+			// THEN nothing has changed
+			assertEquals(HttpStatus.NOT_MODIFIED, getIfNoneMatch(url, eTag).getStatusCode(), url + " should not have been modified");
+
+			// WHEN a counter changes (this does not touch updatedAt)
+			counterService.addToNumBallots(poll, 1);
+			counterService.addToNumSupporters(proposal, 1);
+			try {
+				// THEN the resource is returned again with a new ETag
+				res = getIfNoneMatch(url, eTag);
+				assertEquals(HttpStatus.OK, res.getStatusCode(), url + " should have been modified");
+				assertNotEquals(eTag, res.getHeaders().getETag());
+			} finally {
+				counterService.addToNumBallots(poll, -1);
+				counterService.addToNumSupporters(proposal, -1);
+			}
+		}
+	}
+
+	@Test
+	public void testConditionalGetOfPollResult() {
+		// GIVEN a finished poll
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.FINISHED).get(0);
+		String url = "/polls/" + poll.getId() + "/result";
+
+		// WHEN loading its result
+		ResponseEntity<String> res = client.getForEntity(url, String.class);
+
+		// THEN it has an ETag and a Last-Modified date
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		String eTag = res.getHeaders().getETag();
+		assertNotNull(eTag, "Expected an ETag for " + url);
+		assertTrue(res.getHeaders().getLastModified() > 0, "Expected Last-Modified for " + url);
+
+		// WHEN loading it again with this ETag
+		// THEN nothing has changed
+		assertEquals(HttpStatus.NOT_MODIFIED, getIfNoneMatch(url, eTag).getStatusCode(), url + " should not have been modified");
+
+		// WHEN loading the result of a poll that is not finished yet
+		PollModel votingPoll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0);
+		res = client.getForEntity("/polls/" + votingPoll.getId() + "/result", String.class);
+
+		// THEN the error response has no ETag
+		assertNotEquals(HttpStatus.OK, res.getStatusCode());
+		assertNull(res.getHeaders().getETag(), "Error response must not have an ETag");
+	}
+
+	@Test
+	public void testPreRenderedPollResult() {
+		// GIVEN a finished poll
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.FINISHED).get(0);
+		String url = "/polls/" + poll.getId() + "/result";
+
+		// WHEN loading its result
+		ResponseEntity<String> res = client.getForEntity(url, String.class);
+
+		// THEN the pre-rendered result is returned with a strong ETag and must be revalidated, because the poll may be deleted
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		assertFalse(res.getHeaders().getCacheControl().contains("immutable"), "Result must not be immutable: " + res.getHeaders().getCacheControl());
+		assertTrue(res.getHeaders().getCacheControl().contains("no-cache"), "Result must be revalidated: " + res.getHeaders().getCacheControl());
+		String eTag = res.getHeaders().getETag();
+		assertNotNull(eTag, "Expected an ETag");
+		assertFalse(eTag.startsWith("W/"), "ETag should be strong: " + eTag);
+		DocumentContext ctx = JsonPath.parse(res.getBody());
+		assertNotNull(ctx.read("$.numBallots"), "Result should contain numBallots");
+		assertNotNull(ctx.read("$.duelMatrix"), "Result should contain the duelMatrix");
+		//  AND it only contains values that are frozen when the poll is finished
+		Map<String, Object> winner = ctx.read("$.winner");
+		if (winner != null) {
+			assertEquals(poll.getWinner().getId(), Long.valueOf(String.valueOf(winner.get("id"))), "Result should contain the id of the winner");
+			assertFalse(winner.containsKey("numSupporters"), "Result must not contain the changing numSupporters of the winner");
+		}
+		assertTrue(pollResultRepo.findById(poll.getId()).isPresent(), "Result should have been stored");
+
+		// WHEN loading it again with this ETag, even after a counter changed
+		counterService.addToNumBallots(poll, 1);
+		try {
+			// THEN it has not been modified
+			assertEquals(HttpStatus.NOT_MODIFIED, getIfNoneMatch(url, eTag).getStatusCode());
+		} finally {
+			counterService.addToNumBallots(poll, -1);
+		}
+	}
+
+	@Test
+	public void testFindPollsLimitIsClamped() {
+		// WHEN a client requests a huge page of polls
+		ResponseEntity<String> res = client.getForEntity("/polls/search/find?status=VOTING&limit=1000000", String.class);
+
+		// THEN the limit is clamped to liquido.paging.maxLimit
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		int limit = JsonPath.read(res.getBody(), "$._page.limit");
+		assertEquals(prop.getPaging().getMaxLimit().intValue(), limit, "limit should have been clamped");
+	}
+
+	@Test
+	public void testNumCommentsCounter() {
+		// GIVEN a proposal in a poll that is cached in the second level cache
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0);
+		LawModel proposal = pollRepo.findAllWithProposalsByIdIn(Collections.singletonList(poll.getId())).get(0).getProposals().iterator().next();
+		int numCommentsBefore = findCached(LawModel.class, proposal.getId()).getNumComments();
+
+		// WHEN a comment is posted via REST
+		HttpEntity<String> entity = new Lson()
+			.put("comment", "Comment from testNumCommentsCounter")
+			.put("proposal", basePath + "/laws/" + proposal.getId())
+			.toJsonHttpEntity();
+		ResponseEntity<String> res = client.postForEntity("/comments", entity, String.class);
+		assertEquals(HttpStatus.CREATED, res.getStatusCode(), "Could not post comment");
+		URI commentUri = res.getHeaders().getLocation();
+		assertNotNull(commentUri, "Expected the URI of the new comment");
+
+		// THEN the counter column is incremented
+		Integer numComments = jdbcTemplate.queryForObject("SELECT num_comments FROM laws WHERE id = ?", Integer.class, proposal.getId());
+		assertEquals(numCommentsBefore + 1, numComments.intValue(), "Expected numComments to be incremented");
+
+		// AND the proposal has been evicted from the second level cache
+		assertEquals(numCommentsBefore + 1, findCached(LawModel.class, proposal.getId()).getNumComments(), "Proposal should not be read from the cache with its old numComments");
+
+		// WHEN the comment is deleted again
+		client.delete(commentUri);
+
+		// THEN the comments are recounted
+		assertEquals(numCommentsBefore, findCached(LawModel.class, proposal.getId()).getNumComments(), "Expected numComments to be recounted");
+	}
+
+	@Test
+	public void testNumBallotsCounter() {
+		// GIVEN a poll in voting that is cached in the second level cache
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		assertTrue(polls.size() > 1, "Need two polls in voting for testNumBallotsCounter");
+		PollModel poll = polls.get(polls.size() - 1);    // testCastVote votes in the first one
+		int numBallotsBefore = findCached(PollModel.class, poll.getId()).getNumBallots();
+
+		// WHEN user4 casts a vote via REST
+		loginUserJWT(TestFixtures.USER4_EMAIL);
+		String voterToken = getVoterToken(poll.getArea().getId());
+		ResponseEntity<String> res = castVoteRest(poll, voterToken, TestDataUtils.randVoteOrderIds(poll));
+		assertEquals(HttpStatus.CREATED, res.getStatusCode(), "Could not cast vote");
+
+		// THEN the counter column matches the ballots in the DB (user4 may have voted in this poll before)
+		Integer numBallots = jdbcTemplate.queryForObject("SELECT num_ballots FROM polls WHERE id = ?", Integer.class, poll.getId());
+		Integer countedBallots = jdbcTemplate.queryForObject("SELECT count(*) FROM ballots WHERE poll_id = ?", Integer.class, poll.getId());
+		assertEquals(countedBallots, numBallots, "Expected numBallots to match the ballots in the DB");
+		assertTrue(numBallots >= numBallotsBefore, "numBallots must not decrease");
+
+		// AND the poll is not read from the second level cache with its old counter
+		assertEquals(numBallots.intValue(), findCached(PollModel.class, poll.getId()).getNumBallots(), "Poll should not be read from the cache with its old numBallots");
+	}
+
+	/** Load an entity by its ID in a new EntityManager. This reads the second level cache, if the entity is cached. */
+	private <T> T findCached(Class<T> entityClass, Long id) {
+		EntityManager em = emf.createEntityManager();
+		try {
+			return em.find(entityClass, id);
+		} finally {
+			em.close();
+		}
+	}
+
+	private ResponseEntity<String> getIfNoneMatch(String url, String eTag) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(eTag);
+		return client.exchange(url, GET, new HttpEntity<>(headers), String.class);
+	}
+
 	/**
 	 * Cast a vote with the given voterToken
 	 * @param poll a poll in VOTING
@@ -789,4 +1055,5 @@ public class RestEndpointTests extends HttpBaseTest {
 	}
 
 
+
 }
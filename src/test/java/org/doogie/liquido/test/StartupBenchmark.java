@@ -0,0 +1,55 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.test.testUtils.BackendProcess;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: Time from starting a new JVM until the backend answers its first <pre>/_ping</pre>.
+ *
+ * Each startup runs in its own JVM, so that nothing is already loaded or warmed up.
+ * Like the AppCDS training run in the Dockerfile the backend starts with an empty in memory DB. (Loading the sample DB
+ * would take longer than the startup itself.)
+ * The backend is started once with the default settings and once with the "faststart" profile.
+ * Only the fast startup is asserted to be below <pre>liquido.benchmark.maxStartupMillis</pre>.
+ *
+ * This benchmark is not run by default. Start it with
+ * <pre>mvn test -Dtest=StartupBenchmark -Dliquido.benchmark=true [-Dliquido.benchmark.maxStartupMillis=30000]</pre>
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "liquido.benchmark", matches = "true")
+public class StartupBenchmark {
+
+	static final long TIMEOUT_MILLIS = 180000;
+
+	@Test
+	public void benchmarkTimeToFirstPing() throws Exception {
+		long maxStartupMillis = Long.parseLong(System.getProperty("liquido.benchmark.maxStartupMillis", "30000"));
+
+		long defaultMillis = timeToFirstPing("local");
+		long fastMillis    = timeToFirstPing("local,faststart");
+		log.info("===== StartupBenchmark: time to first ping with default settings: " + defaultMillis + "ms, with faststart profile: " + fastMillis + "ms");
+
+		assertTrue(fastMillis <= maxStartupMillis, "Backend with faststart profile should answer its first ping within " + maxStartupMillis + "ms, but took " + fastMillis + "ms");
+	}
+
+	/**
+	 * Start the backend in a new JVM and poll /_ping until it answers
+	 * @param profiles active spring profiles
+	 * @return milliseconds from starting the JVM until the first successful ping
+	 */
+	private long timeToFirstPing(String profiles) throws IOException, InterruptedException {
+		try (BackendProcess backend = BackendProcess.start("startup-" + profiles.replace(',', '-'), Collections.emptyList(),
+			"--spring.profiles.active=" + profiles,
+			"--spring.jpa.hibernate.ddl-auto=create",
+			"--liquido.test.loadTestData=false")) {
+			return backend.waitForPing(TIMEOUT_MILLIS);
+		}
+	}
+}
@@ -0,0 +1,220 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.datarepos.PollRepo;
+import org.doogie.liquido.model.LawModel;
+import org.doogie.liquido.model.PollModel;
+import org.doogie.liquido.model.TeamModel;
+import org.doogie.liquido.util.Lson;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guard against N+1 selects. Each test calls an endpoint and then checks how many SQL statements hibernate had to prepare.
+ * The limits are deliberately a bit above the currently measured values. When one of these tests fails,
+ * then most likely somebody added an eagerly loaded association or a finder without an entity graph.
+ *
+ * Needs <pre>hibernate.generate_statistics: true</pre> in application-test.yml
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class StatementCountTests extends HttpBaseTest {
+
+	@Autowired
+	EntityManagerFactory emf;
+
+	@Autowired
+	PollRepo pollRepo;
+
+	Statistics stats;
+
+	@BeforeEach
+	public void initStatistics() {
+		stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.setStatisticsEnabled(true);
+	}
+
+	@Test
+	public void testGetPollStatementCount() {
+		//GIVEN a poll in voting
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.VOTING);
+		assertTrue(polls.size() > 0, "Need a poll in VOTING for testGetPollStatementCount");
+		PollModel poll = polls.get(0);
+
+		//WHEN fetching that poll via REST
+		this.loginTeamMemberWithJWT();
+		stats.clear();
+		ResponseEntity<String> res = client.getForEntity("/polls/" + poll.getId(), String.class);
+
+		//THEN only a few statements are necessary
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		long count = stats.getPrepareStatementCount();
+		log.info("GET /polls/" + poll.getId() + " needed " + count + " SQL statements");
+		assertTrue(count <= 10, "GET /polls/{id} needed too many SQL statements: " + count);
+	}
+
+	@Test
+	public void testFindPollsByStatusStatementCount() {
+		//WHEN searching for all polls in voting
+		this.loginTeamMemberWithJWT();
+		stats.clear();
+		ResponseEntity<String> res = client.getForEntity("/polls/search/findByStatus?status=VOTING", String.class);
+
+		//THEN the number of statements does not grow with the number of polls and proposals
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		long count = stats.getPrepareStatementCount();
+		log.info("GET /polls/search/findByStatus?status=VOTING needed " + count + " SQL statements");
+		assertTrue(count <= 15, "findByStatus needed too many SQL statements: " + count);
+	}
+
+	@Test
+	public void testGraphQLTeamPollsStatementCount() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+		String graphQL = "{ polls { id title status proposals { id title numSupporters } } }";
+
+		//WHEN querying for the polls of this team
+		stats.clear();
+		Lson entity = new Lson("query", graphQL);
+		ResponseEntity<String> res = client.exchange("/graphql", HttpMethod.POST, entity.toJsonHttpEntity(), String.class);
+
+		//THEN the number of statements stays small
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		long count = stats.getPrepareStatementCount();
+		log.info("GraphQL query for team polls needed " + count + " SQL statements");
+		assertTrue(count <= 15, "GraphQL polls query needed too many SQL statements: " + count);
+	}
+
+	@Test
+	public void testGraphQLProposalFlagsAreBatched() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+
+		//WHEN querying the polls of the team with and without the flags of the current user
+		long countWithoutFlags = countGraphQLStatements("{ polls { id proposals { id } } }");
+		long countWithFlags = countGraphQLStatements("{ polls { id proposals { id isLikedByCurrentUser isCreatedByCurrentUser } } }");
+
+		//THEN each flag only needs one more statement, no matter how many proposals there are. See LiquidoDataLoaders
+		log.info("GraphQL team polls needed " + countWithoutFlags + " SQL statements, with proposal flags " + countWithFlags);
+		assertTrue(countWithFlags - countWithoutFlags <= 2, "Proposal flags are not batched. Needed " + (countWithFlags - countWithoutFlags) + " additional SQL statements");
+	}
+
+	@Test
+	public void testGraphQLOnlyLoadsSelectedAssociations() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+
+		//WHEN querying only simple fields of the team and its polls
+		countGraphQLStatements("{ polls { id title status } team { teamName inviteCode } }");
+
+		//THEN no proposals, supporters, comments, admins or members are loaded
+		for (String role : Arrays.asList(PollModel.class.getName() + ".proposals", LawModel.class.getName() + ".supporters",
+			LawModel.class.getName() + ".comments", TeamModel.class.getName() + ".admins", TeamModel.class.getName() + ".members")) {
+			CollectionStatistics collectionStats = stats.getCollectionStatistics(role);
+			assertEquals(0, collectionStats.getLoadCount() + collectionStats.getFetchCount(), role + " should not have been loaded");
+		}
+
+		//WHEN also selecting the proposals
+		long count = countGraphQLStatements("{ polls { id title proposals { id title } } }");
+
+		//THEN they are fetched in the same query as the polls
+		assertEquals(0, stats.getCollectionStatistics(PollModel.class.getName() + ".proposals").getFetchCount(), "Proposals should be fetched together with the polls");
+		log.info("GraphQL polls with proposals needed " + count + " SQL statements");
+	}
+
+	@Test
+	public void testListLawsStatementCount() {
+		//WHEN loading a page of laws and the recent ideas
+		this.loginTeamMemberWithJWT();
+		long countLaws = countRestStatements("/laws?page=0&size=20");
+		long countRecentIdeas = countRestStatements("/laws/search/recentIdeas?page=0&size=20");
+
+		//THEN the number of statements does not grow with the number of laws, supporters and comments
+		assertTrue(countLaws <= 15, "GET /laws needed too many SQL statements: " + countLaws);
+		assertTrue(countRecentIdeas <= 15, "GET /laws/search/recentIdeas needed too many SQL statements: " + countRecentIdeas);
+	}
+
+	@Test
+	public void testFindPollsStatementCount() {
+		//GIVEN the area of a poll in voting
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0);
+
+		//WHEN searching for polls with the custom PollRestController endpoints
+		this.loginTeamMemberWithJWT();
+		long countFind = countRestStatements("/polls/search/find?status=VOTING");
+		long countFindByStatusAndArea = countRestStatements("/polls/search/findByStatusAndArea?status=VOTING&area=" + poll.getArea().getId());
+
+		//THEN polls and their proposals are loaded with a few statements
+		assertTrue(countFind <= 15, "GET /polls/search/find needed too many SQL statements: " + countFind);
+		assertTrue(countFindByStatusAndArea <= 15, "GET /polls/search/findByStatusAndArea needed too many SQL statements: " + countFindByStatusAndArea);
+	}
+
+	@Test
+	public void testCommentsStatementCount() {
+		//GIVEN a proposal in a poll
+		PollModel poll = pollRepo.findAllWithProposalsByIdIn(Collections.singletonList(pollRepo.findByStatus(PollModel.PollStatus.VOTING).get(0).getId())).get(0);
+		LawModel proposal = poll.getProposals().iterator().next();
+
+		//WHEN loading all comments of this proposal with their replies
+		this.loginTeamMemberWithJWT();
+		long count = countRestStatements("/laws/" + proposal.getId() + "/comments?limit=100&maxDepth=100");
+
+		//THEN one page of threads is loaded with one query per level of replies. See CommentService.getCommentThreads
+		assertTrue(count <= 15, "GET /laws/{id}/comments needed too many SQL statements: " + count);
+	}
+
+	@Test
+	public void testNewsfeedStatementCount() {
+		//WHEN loading the newsfeed of the current user
+		this.loginTeamMemberWithJWT();
+		long count = countRestStatements("/my/newsfeed");
+
+		//THEN each section of the newsfeed only needs a few statements
+		assertTrue(count <= 30, "GET /my/newsfeed needed too many SQL statements: " + count);
+	}
+
+	@Test
+	public void testGraphQLTeamStatementCount() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+
+		//WHEN querying the team with its admins and members
+		long count = countGraphQLStatements("{ team { id teamName inviteCode admins { id email } members { id email name } } }");
+
+		//THEN admins and members are not loaded one by one
+		log.info("GraphQL team with admins and members needed " + count + " SQL statements");
+		assertTrue(count <= 10, "GraphQL team query needed too many SQL statements: " + count);
+	}
+
+	private long countRestStatements(String url) {
+		stats.clear();
+		ResponseEntity<String> res = client.getForEntity(url, String.class);
+		assertEquals(HttpStatus.OK, res.getStatusCode(), "GET " + url);
+		long count = stats.getPrepareStatementCount();
+		log.info("GET " + url + " needed " + count + " SQL statements");
+		return count;
+	}
+
+	private long countGraphQLStatements(String graphQL) {
+		stats.clear();
+		ResponseEntity<String> res = client.exchange("/graphql", HttpMethod.POST, new Lson("query", graphQL).toJsonHttpEntity(), String.class);
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		return stats.getPrepareStatementCount();
+	}
+}
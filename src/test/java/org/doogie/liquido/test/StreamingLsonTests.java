@@ -0,0 +1,96 @@
+package org.doogie.liquido.test;
+
+import lombok.extern.slf4j.Slf4j;
+import org.doogie.liquido.util.Lson;
+import org.doogie.liquido.util.StreamingLson;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StreamingLson}. These do not need a spring context.
+ */
+@Slf4j
+public class StreamingLsonTests {
+
+	@Test
+	public void testSiblingPaths() {
+		StreamingLson json = StreamingLson.builder()
+			.put("_links.self.href", "/self")
+			.put("_links.self.templated", true)
+			.put("_links.next.href", "/next")
+			.put("_page.limit", 5);
+		assertEquals("{\"_links\":{\"self\":{\"href\":\"/self\",\"templated\":true},\"next\":{\"href\":\"/next\"}},\"_page\":{\"limit\":5}}", json.toString());
+	}
+
+	@Test
+	public void testDeeperToShallowerPaths() {
+		StreamingLson json = StreamingLson.builder()
+			.put("a.b.c", 1)
+			.put("a.d", 2)
+			.put("e", 3);
+		assertEquals("{\"a\":{\"b\":{\"c\":1},\"d\":2},\"e\":3}", json.toString());
+	}
+
+	@Test
+	public void testTopLevelKeyAfterNestedOnes() {
+		StreamingLson json = StreamingLson.builder()
+			.put("first", 0)
+			.put("x.y.z", 1)
+			.put("top", 2);
+		assertEquals("{\"first\":0,\"x\":{\"y\":{\"z\":1}},\"top\":2}", json.toString());
+	}
+
+	@Test
+	public void testPrefixLookAlikes() {
+		// "ab" and "a" start with the same character, but they are different objects
+		assertEquals("{\"ab\":{\"c\":1},\"a\":{\"d\":2}}", StreamingLson.builder().put("ab.c", 1).put("a.d", 2).toString());
+		assertEquals("{\"a\":{\"d\":1},\"ab\":{\"c\":2}}", StreamingLson.builder().put("a.d", 1).put("ab.c", 2).toString());
+		assertEquals("{\"a\":{\"bc\":1,\"b\":2}}", StreamingLson.builder().put("a.bc", 1).put("a.b", 2).toString());
+	}
+
+	@Test
+	public void testNullValues() {
+		StreamingLson json = StreamingLson.builder()
+			.put("a", null)
+			.put("b.c", null)
+			.put("b.d", 1)
+			.putIfValueIsPresent("e", null);
+		assertEquals("{\"a\":null,\"b\":{\"c\":null,\"d\":1}}", json.toString());
+	}
+
+	@Test
+	public void testSameJsonAsLson() {
+		StreamingLson streamingLson = StreamingLson.builder()
+			.put("_embedded.polls", new String[] { "poll1", "poll2" })
+			.put("_links.self.href", "/polls")
+			.put("_page.limit", 10);
+		Lson lson = Lson.builder()
+			.put("_embedded.polls", new String[] { "poll1", "poll2" })
+			.put("_links.self.href", "/polls")
+			.put("_page.limit", 10);
+		assertEquals(Lson.mapper.valueToTree(lson), Lson.mapper.valueToTree(streamingLson), "StreamingLson should create the same JSON as Lson");
+	}
+
+	@Test
+	public void testReopenClosedObject() {
+		StreamingLson json = StreamingLson.builder()
+			.put("a.b", 1)
+			.put("c", 2);
+		assertThrows(IllegalArgumentException.class, () -> json.put("a.d", 3), "Object 'a' is closed. It must not be opened again.");
+
+		StreamingLson nested = StreamingLson.builder()
+			.put("a.b.c", 1)
+			.put("a.d", 2);
+		assertThrows(IllegalArgumentException.class, () -> nested.put("a.b.e", 3), "Object 'a.b' is closed. It must not be opened again.");
+	}
+
+	@Test
+	public void testDuplicateKey() {
+		assertThrows(IllegalArgumentException.class, () -> StreamingLson.builder().put("a", 1).put("a", 2));
+		assertThrows(IllegalArgumentException.class, () -> StreamingLson.builder().put("a.b", 1).put("a.b", 2));
+		assertThrows(IllegalArgumentException.class, () -> StreamingLson.builder().put("a", 1).put("a.b", 2), "'a' cannot be a value and an object");
+		assertThrows(IllegalArgumentException.class, () -> StreamingLson.builder().put("a.b", 1).put("a", 2), "'a' cannot be an object and a value");
+		assertDoesNotThrow(() -> StreamingLson.builder().put("ab", 1).put("a", 2));
+	}
+}
@@ -1,16 +1,32 @@
 package org.doogie.liquido.test.graphql;
 
 import com.jayway.jsonpath.JsonPath;
+import graphql.introspection.IntrospectionQuery;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.doogie.liquido.datarepos.LawRepo;
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+import graphql.language.OperationDefinition;
+import org.doogie.liquido.graphql.GraphQLDocumentCache;
+import org.doogie.liquido.graphql.GraphQLExecutor;
+import org.doogie.liquido.graphql.GraphQLSubscriptionEndpoint;
 import org.doogie.liquido.datarepos.OffsetLimitPageable;
 import org.doogie.liquido.datarepos.PollRepo;
 import org.doogie.liquido.datarepos.TeamRepo;
+import org.doogie.liquido.jwt.JwtTokenUtils;
+import org.doogie.liquido.model.LawModel;
 import org.doogie.liquido.model.PollModel;
 import org.doogie.liquido.model.TeamModel;
 import org.doogie.liquido.model.UserModel;
+import org.doogie.liquido.services.CounterService;
+import org.doogie.liquido.services.LawSearchIndex;
 import org.doogie.liquido.services.LawService;
 import org.doogie.liquido.services.LiquidoException;
+import org.doogie.liquido.services.PollUpdatesService;
+import org.doogie.liquido.rest.LiquidoUrlPaths;
 import org.doogie.liquido.test.HttpBaseTest;
+import org.doogie.liquido.testdata.LiquidoProperties;
 import org.doogie.liquido.testdata.TestFixtures;
 import org.doogie.liquido.util.DoogiesUtil;
 import org.doogie.liquido.util.Lson;
@@ -18,12 +34,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.client.HttpClientErrorException;
 
+import javax.websocket.*;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.ArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.util.AssertionErrors.assertNotNull;
@@ -42,6 +73,27 @@ public class GraphQLTests extends HttpBaseTest {
 	@Autowired
 	PollRepo pollRepo;
 
+	@Autowired
+	LawRepo lawRepo;
+
+	@Autowired
+	JwtTokenUtils jwtTokenUtils;
+
+	@Autowired
+	CounterService counterService;
+
+	@Autowired
+	PollUpdatesService pollUpdatesService;
+
+	@Autowired
+	GraphQLExecutor graphQLExecutor;
+
+	@Autowired
+	LiquidoProperties liquidoProps;
+
+	@Autowired
+	LawSearchIndex lawSearchIndex;
+
 
 	private final String GraphQLPath = "/graphql";
 
@@ -243,6 +295,31 @@ public class GraphQLTests extends HttpBaseTest {
 	}
 
 
+	@Test
+	public void testAddedProposalIsSearchable() {
+		//GIVEN a logged in Admin
+		this.loginTeamAdminWithJWT();
+
+		//  AND a poll in ELABORATION
+		List<PollModel> polls = pollRepo.findByStatus(PollModel.PollStatus.ELABORATION);
+		assertTrue(polls.size() > 0, "Need at least one poll in elaboration to testAddedProposalIsSearchable");
+		PollModel poll = polls.get(0);
+
+		//WHEN a proposal with a unique word in its title is added via GraphQL
+		String uniqueWord = "Searchable" + System.currentTimeMillis();
+		String addProposalGraphQL = String.format(
+			"mutation { addProposal(pollId: \"%s\", title: \"Proposal %s\", description: \"%s\", icon: \"atom\") { id, proposals { id, title } } }",
+			poll.getId(), uniqueWord, getLoremIpsum(100, 200)
+		);
+		String json = executeGraphQlForJson(addProposalGraphQL);
+		List<Object> proposalIds = JsonPath.read(json, "$.data.addProposal.proposals[?(@.title == 'Proposal " + uniqueWord + "')].id");
+		assertEquals(1, proposalIds.size(), "Proposal should have been added");
+
+		//THEN the new proposal can be found in the full-text search index
+		List<Long> foundIds = lawSearchIndex.search(uniqueWord, 10);
+		assertEquals(Collections.singletonList(Long.valueOf(String.valueOf(proposalIds.get(0)))), foundIds, "Proposal added via GraphQL should be in the search index");
+	}
+
 	// ========================= private utility methods ======================
 
 	/**
@@ -251,6 +328,250 @@ public class GraphQLTests extends HttpBaseTest {
 	 * @param resJsonPath A JsonPath path
 	 * @return the String result of your JsonPath expression. Result must be a string value
 	 */
+	@Test
+	public void testSearchPollsWithCursor() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+
+		//WHEN paging through the polls of the team one by one
+		Set<Integer> pollIds = new HashSet<>();
+		String cursor = null;
+		int numSlices = 0;
+		do {
+			String cursorArg = cursor == null ? "" : String.format(", cursor: \"%s\"", cursor);
+			String json = executeGraphQlForJson("{ searchPolls(limit: 1" + cursorArg + ") { nextCursor polls { id title } } }");
+			List<Integer> ids = JsonPath.read(json, "$.data.searchPolls.polls[*].id");
+			assertTrue(ids.size() <= 1, "Expected at most one poll per slice");
+			for (Integer id : ids) assertTrue(pollIds.add(id), "Poll(id=" + id + ") was returned twice");
+			cursor = JsonPath.read(json, "$.data.searchPolls.nextCursor");
+			numSlices++;
+		} while (cursor != null && numSlices < 100);
+
+		//THEN all polls of the team are returned
+		assertTrue(pollIds.size() > 0, "Expected to find polls of team");
+		assertEquals(pollIds.size(), numSlices, "Expected one poll per slice");
+		log.info("testSearchPollsWithCursor: found " + pollIds.size() + " polls with cursor");
+	}
+
+	@Test
+	public void testProposalFlagsOfCurrentUser() {
+		//GIVEN a logged in team member
+		UserModel member = this.loginTeamMemberWithJWT();
+
+		//WHEN querying the flags of all proposals in the polls of the team (these are batched by LiquidoDataLoaders)
+		String json = executeGraphQlForJson("{ polls { proposals { id isLikedByCurrentUser isCreatedByCurrentUser } } }");
+		List<Map<String, Object>> proposals = JsonPath.read(json, "$.data.polls[*].proposals[*]");
+		assertTrue(proposals.size() > 0, "Expected proposals in the polls of the team");
+
+		//THEN each flag matches the DB
+		for (Map<String, Object> proposal : proposals) {
+			Long proposalId = ((Number) proposal.get("id")).longValue();
+			LawModel law = lawRepo.findWithSupportersById(proposalId).orElseThrow();
+			assertEquals(law.getSupporters().contains(member), proposal.get("isLikedByCurrentUser"), "isLikedByCurrentUser of proposal(id=" + proposalId + ")");
+			assertEquals(member.equals(law.getCreatedBy()), proposal.get("isCreatedByCurrentUser"), "isCreatedByCurrentUser of proposal(id=" + proposalId + ")");
+		}
+	}
+
+	@Test
+	public void testPersistedQuery() {
+		//GIVEN a logged in team member and a query that the backend does not know yet
+		this.loginTeamMemberWithJWT();
+		String query = "{ polls { id title } team { teamName } }  # testPersistedQuery " + System.currentTimeMillis();
+		Lson extensions = Lson.builder().put("persistedQuery", Lson.builder("version", 1).put("sha256Hash", DigestUtils.sha256Hex(query)));
+
+		//WHEN sending only the hash
+		String json = postGraphQl(Lson.builder("extensions", extensions));
+
+		//THEN the backend asks for the full query
+		assertEquals(GraphQLDocumentCache.PERSISTED_QUERY_NOT_FOUND, JsonPath.read(json, "$.errors[0].message"));
+
+		//WHEN sending the full query together with its hash
+		json = postGraphQl(Lson.builder("query", query).put("extensions", extensions));
+		String teamName = JsonPath.read(json, "$.data.team.teamName");
+
+		//THEN the hash alone is enough from now on
+		json = postGraphQl(Lson.builder("extensions", extensions));
+		assertEquals(teamName, JsonPath.read(json, "$.data.team.teamName"));
+	}
+
+	@Test
+	public void testPersistedQueryWithWrongHash() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+		Lson extensions = Lson.builder().put("persistedQuery", Lson.builder("version", 1).put("sha256Hash", DigestUtils.sha256Hex("{ team { teamName } }")));
+
+		//WHEN registering a different query under this hash
+		//THEN the query is rejected
+		HttpClientErrorException ex = assertThrows(HttpClientErrorException.class,
+			() -> postGraphQl(Lson.builder("query", "{ polls { id } }").put("extensions", extensions)));
+		assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+	}
+
+	@Test
+	public void testMaxQueryDepth() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+
+		//WHEN the playground loads the schema, THEN this is not too deep or complex
+		postGraphQl(Lson.builder("query", IntrospectionQuery.INTROSPECTION_QUERY));
+
+		//WHEN sending a query that is nested too deeply
+		StringBuilder query = new StringBuilder("{ __schema { types { fields { type { name ");
+		for (int i = 0; i < 20; i++) query.append("ofType { name ");
+		for (int i = 0; i < 20 + 4; i++) query.append("} ");
+		query.append("}");
+
+		//THEN it is rejected
+		HttpClientErrorException ex = assertThrows(HttpClientErrorException.class, () -> postGraphQl(Lson.builder("query", query.toString())));
+		assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+		log.info("testMaxQueryDepth: deeply nested query was rejected: " + ex.getResponseBodyAsString());
+	}
+
+	@Test
+	public void testConditionalGetOfTeam() {
+		//GIVEN a logged in team member
+		this.loginTeamMemberWithJWT();
+		String query = "{ team { teamName members { name } polls { id numBallots } } }";
+
+		//WHEN querying the team via GET
+		ResponseEntity<String> res = this.client.exchange(this.GraphQLPath + "?query={query}", HttpMethod.GET, null, String.class, query);
+
+		//THEN the result has an ETag
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		assertEquals(team.getTeamName(), JsonPath.read(res.getBody(), "$.data.team.teamName"));
+		String eTag = res.getHeaders().getETag();
+		assertNotNull("Expected an ETag", eTag);
+
+		//WHEN querying again with this ETag
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(eTag);
+		res = this.client.exchange(this.GraphQLPath + "?query={query}", HttpMethod.GET, new HttpEntity<>(headers), String.class, query);
+
+		//THEN the team has not changed
+		assertEquals(HttpStatus.NOT_MODIFIED, res.getStatusCode());
+
+		//WHEN sending a mutation via GET
+		//THEN it is rejected
+		HttpClientErrorException ex = assertThrows(HttpClientErrorException.class,
+			() -> this.client.exchange(this.GraphQLPath + "?query={query}", HttpMethod.GET, null, String.class, "mutation { likeProposal(pollId: 1, proposalId: 2) { id } }"));
+		assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+	}
+
+	@Test
+	public void testSlowMutationsDoNotBlockQueries() throws Exception {
+		//GIVEN slow mutations that keep all mutation threads busy
+		this.loginTeamMemberWithJWT();
+		CountDownLatch release = new CountDownLatch(1);
+		List<CompletableFuture<ExecutionResult>> mutations = new ArrayList<>();
+		for (int i = 0; i < liquidoProps.graphql.mutationThreads; i++) {
+			mutations.add(graphQLExecutor.submit(OperationDefinition.Operation.MUTATION, new MockHttpServletRequest(), () -> CompletableFuture.supplyAsync(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return ExecutionResultImpl.newExecutionResult().build();
+			})));
+		}
+		try {
+			//WHEN querying the team
+			long start = System.currentTimeMillis();
+			String teamName = executeGraphQl("{ team { teamName } }", "$.data.team.teamName");
+
+			//THEN the query is answered right away
+			assertEquals(team.getTeamName(), teamName);
+			assertTrue(System.currentTimeMillis() - start < liquidoProps.graphql.queryTimeoutMillis, "Query should not have waited for the mutations");
+			assertTrue(mutations.stream().noneMatch(CompletableFuture::isDone), "Mutations should still be running");
+		} finally {
+			release.countDown();
+		}
+		for (CompletableFuture<ExecutionResult> mutation : mutations) mutation.get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testPollUpdatesSubscription() throws Exception {
+		//GIVEN a member of the team and a poll of this team that is not yet finished
+		UserModel member = this.loginTeamMemberWithJWT();
+		String jwt = jwtTokenUtils.generateToken(member.getId(), team.getId());
+		PollModel poll = pollRepo.findByStatus(PollModel.PollStatus.VOTING).stream()
+			.filter(p -> p.getTeam() != null && p.getTeam().getId().equals(team.getId()))
+			.findFirst().orElseThrow(() -> new RuntimeException("Need a poll in VOTING in team " + team.getTeamName()));
+
+		//  AND a websocket connection to the subscriptions endpoint
+		BlockingQueue<String> received = new LinkedBlockingQueue<>();
+		ClientEndpointConfig config = ClientEndpointConfig.Builder.create()
+			.preferredSubprotocols(Collections.singletonList(GraphQLSubscriptionEndpoint.SUB_PROTOCOL)).build();
+		URI uri = URI.create(this.rootUri.replaceFirst("^http", "ws") + LiquidoUrlPaths.SUBSCRIPTIONS);
+		Session session = ContainerProvider.getWebSocketContainer().connectToServer(new Endpoint() {
+			@Override
+			public void onOpen(Session session, EndpointConfig config) {
+				session.addMessageHandler(String.class, received::add);
+			}
+		}, config, uri);
+		try {
+			session.getBasicRemote().sendText(Lson.builder("type", "connection_init").put("payload", Lson.builder("Authorization", "Bearer " + jwt)).toString());
+			assertEquals("connection_ack", JsonPath.read(nextMessage(received), "$.type"));
+
+			//WHEN sending a query via websocket
+			String query = "{ poll(pollId: " + poll.getId() + ") { id } }";
+			session.getBasicRemote().sendText(Lson.builder("type", "start").put("id", "0").put("payload", Lson.builder("query", query)).toString());
+
+			//THEN it is rejected. Queries must be sent via HTTP.
+			String error = nextMessage(received);
+			assertEquals("error", JsonPath.read(error, "$.type"), "Query via websocket should be rejected: " + error);
+
+			//WHEN subscribing to the poll
+			String subscription = "subscription { pollUpdates(pollId: " + poll.getId() + ") { pollId status numBallots } }";
+			session.getBasicRemote().sendText(Lson.builder("type", "start").put("id", "1").put("payload", Lson.builder("query", subscription)).toString());
+
+			//THEN the current state of the poll is pushed
+			String json = nextMessage(received);
+			assertEquals("data", JsonPath.read(json, "$.type"), "Expected data message: " + json);
+			assertEquals(PollModel.PollStatus.VOTING.name(), JsonPath.read(json, "$.payload.data.pollUpdates.status"));
+			int numBallots = JsonPath.read(json, "$.payload.data.pollUpdates.numBallots");
+
+			//WHEN the number of ballots changes
+			counterService.addToNumBallots(poll, 1);
+
+			//THEN the new number of ballots is pushed
+			json = nextMessage(received);
+			assertEquals(numBallots + 1, (int) JsonPath.read(json, "$.payload.data.pollUpdates.numBallots"), "Expected updated numBallots: " + json);
+
+			//WHEN the client stops the subscription
+			session.getBasicRemote().sendText(Lson.builder("type", "stop").put("id", "1").toString());
+
+			//THEN the backend forgets about it
+			long timeout = System.currentTimeMillis() + 5000;
+			while (pollUpdatesService.getNumSubscriptions() > 0 && System.currentTimeMillis() < timeout) Thread.sleep(50);
+			assertEquals(0, pollUpdatesService.getNumSubscriptions(), "Subscription should have been cancelled");
+		} finally {
+			counterService.addToNumBallots(poll, -1);
+			session.close();
+		}
+	}
+
+	private String nextMessage(BlockingQueue<String> received) throws InterruptedException {
+		String message = received.poll(10, TimeUnit.SECONDS);
+		assertNotNull("Expected a websocket message", message);
+		return message;
+	}
+
+	/** POST a GraphQL request and return the response body. The response may contain GraphQL errors. */
+	private String postGraphQl(Lson body) {
+		ResponseEntity<String> res = this.client.exchange(this.GraphQLPath, HttpMethod.POST, body.toJsonHttpEntity(), String.class);
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		return res.getBody();
+	}
+
+	private String executeGraphQlForJson(String graphQL) {
+		Lson entity = new Lson("query", graphQL);
+		ResponseEntity<String> res = this.client.exchange(this.GraphQLPath, HttpMethod.POST, entity.toJsonHttpEntity(), String.class);
+		assertEquals(HttpStatus.OK, res.getStatusCode());
+		List<Object> errors = JsonPath.read(res.getBody(), "$.errors");
+		assertTrue(errors.isEmpty(), "GraphQL error: " + res.getBody());
+		return res.getBody();
+	}
+
 	private String executeGraphQl(String graphQL, String resJsonPath) {
 		Lson entity = new Lson("query", graphQL);
 		ResponseEntity<String> res = this.client.exchange(this.GraphQLPath, HttpMethod.POST, entity.toJsonHttpEntity(), String.class);
@@ -0,0 +1,124 @@
+package org.doogie.liquido.test.testUtils;
+
+import org.doogie.liquido.LiquidoBackendSpringApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The LIQUIDO backend running in its own JVM, e.g. with its own heap size.
+ * Benchmarks use this to measure a backend that has not already been warmed up by other tests.
+ *
+ * The backend is started with the classpath of the tests. Its output is written to <pre>target/backend-{name}.log</pre>
+ */
+public class BackendProcess implements AutoCloseable {
+
+	public static final String BASE_PATH = "/liquido-api/v3";
+
+	/** random free port of this backend */
+	public final int port;
+	/** stdout and stderr of the backend */
+	public final File logFile;
+	/** System.currentTimeMillis() when the JVM was started */
+	public final long startedAt;
+
+	private final Process process;
+
+	private BackendProcess(int port, File logFile, long startedAt, Process process) {
+		this.port = port;
+		this.logFile = logFile;
+		this.startedAt = startedAt;
+		this.process = process;
+	}
+
+	/**
+	 * Start the backend in a new JVM
+	 * @param name name of the log file
+	 * @param jvmArgs additional JVM options, e.g. -Xmx64m
+	 * @param springArgs spring arguments, e.g. --spring.profiles.active=...
+	 * @return the running backend. Call waitForPing() before sending requests.
+	 */
+	public static BackendProcess start(String name, List<String> jvmArgs, String... springArgs) throws IOException {
+		int port = findFreePort();
+		List<String> cmd = new ArrayList<>();
+		cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+		cmd.addAll(jvmArgs);
+		String additionalConfig = System.getProperty("spring.config.additional-location");
+		if (additionalConfig != null) cmd.add("-Dspring.config.additional-location=" + additionalConfig);
+		cmd.add("-cp");
+		cmd.add(System.getProperty("java.class.path"));
+		cmd.add(LiquidoBackendSpringApplication.class.getName());
+		cmd.add("--server.port=" + port);
+		cmd.addAll(Arrays.asList(springArgs));
+
+		File logFile = new File("target/backend-" + name + ".log");
+		long startedAt = System.currentTimeMillis();
+		Process process = new ProcessBuilder(cmd).redirectErrorStream(true).redirectOutput(logFile).start();
+		return new BackendProcess(port, logFile, startedAt, process);
+	}
+
+	/** @return http://localhost:{port}/liquido-api/v3 */
+	public String getRootUri() {
+		return "http://localhost:" + port + BASE_PATH;
+	}
+
+	public boolean isAlive() {
+		return process.isAlive();
+	}
+
+	/** @return exit code of the backend. Only call this when the backend is not alive anymore. */
+	public int exitValue() {
+		return process.exitValue();
+	}
+
+	/**
+	 * Poll <pre>/_ping</pre> until the backend answers
+	 * @param timeoutMillis max time to wait after the JVM has been started
+	 * @return milliseconds from starting the JVM until the first successful ping
+	 * @throws AssertionError when the backend stopped or did not answer in time
+	 */
+	public long waitForPing(long timeoutMillis) throws IOException, InterruptedException {
+		URL pingUrl = new URL(getRootUri() + "/_ping");
+		while (System.currentTimeMillis() - startedAt < timeoutMillis) {
+			if (!isAlive()) throw new AssertionError("Backend did not start. See " + logFile);
+			if (ping(pingUrl)) return System.currentTimeMillis() - startedAt;
+			Thread.sleep(50);
+		}
+		throw new AssertionError("Backend did not answer a ping within " + timeoutMillis + "ms. See " + logFile);
+	}
+
+	/** Stop the backend */
+	@Override
+	public void close() throws InterruptedException {
+		process.destroy();
+		process.waitFor();
+	}
+
+	private static boolean ping(URL pingUrl) {
+		try {
+			HttpURLConnection con = (HttpURLConnection) pingUrl.openConnection();
+			con.setConnectTimeout(1000);
+			con.setReadTimeout(5000);
+			try {
+				return con.getResponseCode() == 200;
+			} finally {
+				con.disconnect();
+			}
+		} catch (IOException e) {
+			return false;  // not yet listening
+		}
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
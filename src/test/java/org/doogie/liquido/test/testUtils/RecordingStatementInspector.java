@@ -0,0 +1,38 @@
+package org.doogie.liquido.test.testUtils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Remembers every SQL statement that hibernate prepares.
+ * Register it in a test with
+ * <pre>@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.doogie.liquido.test.testUtils.RecordingStatementInspector")</pre>
+ * Hibernate creates its own instance of this class. That's why the recorded statements are static.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+	private static final List<String> statements = new ArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		synchronized (statements) {
+			statements.add(sql);
+		}
+		return sql;   // do not change the SQL
+	}
+
+	public static void clear() {
+		synchronized (statements) {
+			statements.clear();
+		}
+	}
+
+	/** @return a copy of all statements recorded since the last call to clear() */
+	public static List<String> getStatements() {
+		synchronized (statements) {
+			return new ArrayList<>(statements);
+		}
+	}
+}